@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -20,9 +20,14 @@ package org.wso2.carbon.identity.organization.application.resource.hierarchy.tra
 
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.osgi.annotation.bundle.Capability;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
+import org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.cache.OrgAppHierarchyCache;
+import org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.cache.OrgAppHierarchyCacheEntry;
+import org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.cache.OrgAppHierarchyCacheKey;
 import org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.internal.OrgAppResourceHierarchyTraverseServiceDataHolder;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
@@ -38,6 +43,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
 
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+
 /**
  * Implementation of the OrgAppResourceResolverService interface.
  * This class provides methods to resolve resources from the organization and application hierarchy.
@@ -52,6 +59,8 @@ import java.util.function.BiFunction;
 )
 public class OrgAppResourceResolverServiceImpl implements OrgAppResourceResolverService {
 
+    private static final Log LOG = LogFactory.getLog(OrgAppResourceResolverServiceImpl.class);
+
     /**
      * Retrieves resources by traversing the hierarchy of a given organization and application.
      *
@@ -74,23 +83,66 @@ public class OrgAppResourceResolverServiceImpl implements OrgAppResourceResolver
                                               AggregationStrategy<T> aggregationStrategy)
             throws OrgResourceHierarchyTraverseException {
 
-        try {
-            List<String> organizationIds = getAncestorOrganizationsIds(organizationId);
+        List<String> organizationIds;
+        Map<String, String> ancestorAppIds = Collections.emptyMap();
+        if (applicationId != null) {
+            OrgAppHierarchyCacheEntry orgAppHierarchy = getAncestorOrgAppHierarchy(organizationId, applicationId);
+            organizationIds = orgAppHierarchy.getAncestorOrganizationIds();
+            ancestorAppIds = orgAppHierarchy.getAncestorApplicationIds();
+        } else {
+            organizationIds = getAncestorOrganizationsIds(organizationId);
+        }
+
+        return aggregationStrategy.aggregate(organizationIds, ancestorAppIds, resourceRetriever);
+    }
+
+    /**
+     * Resolve the ancestor organizations of the given organization together with the ancestor applications of the
+     * given application. The resolved hierarchy is served from the organization application hierarchy cache when
+     * available.
+     *
+     * @param organizationId The unique identifier of the organization.
+     * @param applicationId  The unique identifier of the application within the organization.
+     * @return The ancestor organization and application hierarchy.
+     * @throws OrgResourceHierarchyTraverseServerException If an error occurs while resolving the hierarchy.
+     */
+    private OrgAppHierarchyCacheEntry getAncestorOrgAppHierarchy(String organizationId, String applicationId)
+            throws OrgResourceHierarchyTraverseServerException {
+
+        if (StringUtils.isBlank(organizationId)) {
+            throw OrgResourceHierarchyTraverseUtil.handleServerException(
+                    OrgResourceHierarchyTraverseConstants.ErrorMessages.ERROR_CODE_EMPTY_ORGANIZATION_ID);
+        }
+
+        OrgAppHierarchyCache orgAppHierarchyCache = OrgAppHierarchyCache.getInstance();
+        OrgAppHierarchyCacheKey cacheKey = new OrgAppHierarchyCacheKey(organizationId, applicationId);
+        OrgAppHierarchyCacheEntry orgAppHierarchy =
+                orgAppHierarchyCache.getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN_NAME);
+        if (orgAppHierarchy != null) {
+            return orgAppHierarchy;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Organization application hierarchy cache miss for the application: %s in the " +
+                            "organization: %s. Cache hits: %d, misses: %d.", applicationId, organizationId,
+                    orgAppHierarchyCache.getHitCount(), orgAppHierarchyCache.getMissCount()));
+        }
 
+        List<String> organizationIds = getAncestorOrganizationsIds(organizationId);
+        try {
             ApplicationManagementService applicationManagementService =
                     OrgAppResourceHierarchyTraverseServiceDataHolder.getInstance().getApplicationManagementService();
-            Map<String, String> ancestorAppIds = Collections.emptyMap();
-            if (applicationId != null) {
-                ancestorAppIds = applicationManagementService.getAncestorAppIds(applicationId, organizationId);
-            }
-
-            return aggregationStrategy.aggregate(organizationIds, ancestorAppIds, resourceRetriever);
+            Map<String, String> ancestorAppIds =
+                    applicationManagementService.getAncestorAppIds(applicationId, organizationId);
+            orgAppHierarchy = new OrgAppHierarchyCacheEntry(organizationIds,
+                    ancestorAppIds != null ? ancestorAppIds : Collections.emptyMap());
         } catch (IdentityApplicationManagementException e) {
             throw OrgResourceHierarchyTraverseUtil.handleServerException(
                     OrgResourceHierarchyTraverseConstants.ErrorMessages
                             .ERROR_CODE_SERVER_ERROR_WHILE_RESOLVING_ANCESTOR_APPLICATIONS,
                     e, organizationId, applicationId);
         }
+        orgAppHierarchyCache.addToCache(cacheKey, orgAppHierarchy, SUPER_TENANT_DOMAIN_NAME);
+        return orgAppHierarchy;
     }
 
     private List<String> getAncestorOrganizationsIds(String organizationId)
@@ -101,6 +153,12 @@ public class OrgAppResourceResolverServiceImpl implements OrgAppResourceResolver
                     OrgResourceHierarchyTraverseConstants.ErrorMessages.ERROR_CODE_EMPTY_ORGANIZATION_ID);
         }
 
+        List<String> cachedOrganizationIds =
+                OrgResourceHierarchyTraverseUtil.getAncestorOrganizationIdsFromCache(organizationId);
+        if (CollectionUtils.isNotEmpty(cachedOrganizationIds)) {
+            return cachedOrganizationIds;
+        }
+
         try {
             OrganizationManager organizationManager = OrgAppResourceHierarchyTraverseServiceDataHolder.getInstance()
                     .getOrganizationManager();
@@ -110,6 +168,7 @@ public class OrgAppResourceResolverServiceImpl implements OrgAppResourceResolver
                                 .ErrorMessages.ERROR_CODE_INVALID_ANCESTOR_ORGANIZATION_ID_LIST,
                         organizationId);
             }
+            OrgResourceHierarchyTraverseUtil.addAncestorOrganizationIdsToCache(organizationIds);
             return organizationIds;
         } catch (OrganizationManagementServerException e) {
             throw OrgResourceHierarchyTraverseUtil.handleServerException(
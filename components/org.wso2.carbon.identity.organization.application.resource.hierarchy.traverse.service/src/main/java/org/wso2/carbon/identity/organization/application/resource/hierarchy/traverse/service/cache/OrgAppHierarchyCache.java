@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache which holds the resolved ancestor organization and application hierarchy of an application in an
+ * organization, so that the resources of an application can be resolved from the hierarchy without looking up the
+ * hierarchy on every invocation. The number of cache hits and misses are recorded to observe the effectiveness
+ * of the cache.
+ * <p>
+ * Size, expiry and cluster wide invalidation of this cache are governed by the carbon caching configuration.
+ */
+public class OrgAppHierarchyCache extends BaseCache<OrgAppHierarchyCacheKey, OrgAppHierarchyCacheEntry> {
+
+    private static final String CACHE_NAME = "OrgAppHierarchyCache";
+    private static final OrgAppHierarchyCache INSTANCE = new OrgAppHierarchyCache();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    private OrgAppHierarchyCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the organization application hierarchy cache.
+     *
+     * @return The {@link OrgAppHierarchyCache} instance.
+     */
+    public static OrgAppHierarchyCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    @Override
+    public OrgAppHierarchyCacheEntry getValueFromCache(OrgAppHierarchyCacheKey key, String tenantDomain) {
+
+        OrgAppHierarchyCacheEntry entry = super.getValueFromCache(key, tenantDomain);
+        if (entry == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return entry;
+    }
+
+    /**
+     * Get the number of lookups which were served from the cache.
+     *
+     * @return The number of cache hits.
+     */
+    public long getHitCount() {
+
+        return hitCount.sum();
+    }
+
+    /**
+     * Get the number of lookups which were not served from the cache.
+     *
+     * @return The number of cache misses.
+     */
+    public long getMissCount() {
+
+        return missCount.sum();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache entry for the organization application hierarchy cache. Holds the ancestor organization IDs of an
+ * organization, starting from the organization itself, together with the IDs of the application in each of those
+ * organizations.
+ */
+public class OrgAppHierarchyCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -2850316651786305126L;
+
+    private final ArrayList<String> ancestorOrganizationIds;
+    private final HashMap<String, String> ancestorApplicationIds;
+
+    public OrgAppHierarchyCacheEntry(List<String> ancestorOrganizationIds, Map<String, String> ancestorApplicationIds) {
+
+        this.ancestorOrganizationIds = new ArrayList<>(ancestorOrganizationIds);
+        this.ancestorApplicationIds = new HashMap<>(ancestorApplicationIds);
+    }
+
+    public List<String> getAncestorOrganizationIds() {
+
+        return Collections.unmodifiableList(ancestorOrganizationIds);
+    }
+
+    public Map<String, String> getAncestorApplicationIds() {
+
+        return Collections.unmodifiableMap(ancestorApplicationIds);
+    }
+}
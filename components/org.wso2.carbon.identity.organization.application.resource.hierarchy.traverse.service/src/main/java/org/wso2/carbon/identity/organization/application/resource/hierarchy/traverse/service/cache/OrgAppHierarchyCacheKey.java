@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.Objects;
+
+/**
+ * Cache key for the organization application hierarchy cache. The key is the pair of the organization ID and the
+ * ID of the application in that organization, whose ancestor hierarchy is cached.
+ */
+public class OrgAppHierarchyCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 4517783096128430147L;
+
+    private final String organizationId;
+    private final String applicationId;
+
+    public OrgAppHierarchyCacheKey(String organizationId, String applicationId) {
+
+        this.organizationId = organizationId;
+        this.applicationId = applicationId;
+    }
+
+    public String getOrganizationId() {
+
+        return organizationId;
+    }
+
+    public String getApplicationId() {
+
+        return applicationId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OrgAppHierarchyCacheKey)) {
+            return false;
+        }
+        OrgAppHierarchyCacheKey that = (OrgAppHierarchyCacheKey) o;
+        return organizationId.equals(that.getOrganizationId()) && applicationId.equals(that.getApplicationId());
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(organizationId, applicationId);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.handler;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.cache.OrgAppHierarchyCache;
+import org.wso2.carbon.identity.organization.management.ext.Constants;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.EVENT_POST_DELETE_ALL_SHARED_APPLICATIONS;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.EVENT_POST_DELETE_SHARED_APPLICATION;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.EVENT_POST_SHARE_APPLICATION;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+
+/**
+ * Event handler which clears the organization application hierarchy cache when an application is shared with or
+ * unshared from an organization, or when an organization is deleted.
+ * <p>
+ * Sharing or unsharing an application with an organization changes the ancestor applications of the application in
+ * all the descendant organizations as well. Hence, the whole cache is cleared on these events.
+ */
+public class OrgAppHierarchyCacheInvalidationHandler extends AbstractEventHandler {
+
+    private static final Log LOG = LogFactory.getLog(OrgAppHierarchyCacheInvalidationHandler.class);
+
+    private static final Set<String> INVALIDATING_EVENTS = new HashSet<>(Arrays.asList(EVENT_POST_SHARE_APPLICATION,
+            EVENT_POST_DELETE_SHARED_APPLICATION, EVENT_POST_DELETE_ALL_SHARED_APPLICATIONS,
+            Constants.EVENT_POST_DELETE_ORGANIZATION));
+
+    @Override
+    public String getName() {
+
+        return "OrgAppHierarchyCacheInvalidationHandler";
+    }
+
+    @Override
+    public int getPriority(MessageContext messageContext) {
+
+        return 10;
+    }
+
+    @Override
+    public boolean canHandle(MessageContext messageContext) throws IdentityRuntimeException {
+
+        String eventName = ((IdentityEventMessageContext) messageContext).getEvent().getEventName();
+        return INVALIDATING_EVENTS.contains(eventName);
+    }
+
+    @Override
+    public void handleEvent(Event event) throws IdentityEventException {
+
+        if (!INVALIDATING_EVENTS.contains(event.getEventName())) {
+            return;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Clearing the organization application hierarchy cache on the event: " + event.getEventName());
+        }
+        OrgAppHierarchyCache.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+    }
+}
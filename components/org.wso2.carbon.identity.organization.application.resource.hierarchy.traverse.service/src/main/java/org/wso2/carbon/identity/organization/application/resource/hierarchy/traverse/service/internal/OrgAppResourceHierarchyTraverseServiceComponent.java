@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -29,8 +29,10 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.OrgAppResourceResolverService;
 import org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.OrgAppResourceResolverServiceImpl;
+import org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.handler.OrgAppHierarchyCacheInvalidationHandler;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 
 /**
@@ -57,6 +59,8 @@ public class OrgAppResourceHierarchyTraverseServiceComponent {
             BundleContext bundleContext = context.getBundleContext();
             bundleContext.registerService(OrgAppResourceResolverService.class.getName(),
                     new OrgAppResourceResolverServiceImpl(), null);
+            bundleContext.registerService(AbstractEventHandler.class.getName(),
+                    new OrgAppHierarchyCacheInvalidationHandler(), null);
             if (LOG.isDebugEnabled()) {
                 LOG.debug("OrgAppResourceResolverService bundle is activated successfully.");
             }
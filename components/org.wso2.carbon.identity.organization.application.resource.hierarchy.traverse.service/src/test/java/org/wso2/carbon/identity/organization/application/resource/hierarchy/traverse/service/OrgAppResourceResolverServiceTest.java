@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -26,9 +26,15 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.cache.OrgAppHierarchyCache;
+import org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.handler.OrgAppHierarchyCacheInvalidationHandler;
 import org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.internal.OrgAppResourceHierarchyTraverseServiceDataHolder;
 import org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.mock.resource.impl.MockResourceManagementService;
 import org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.mock.resource.impl.model.MockResource;
+import org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants;
+import org.wso2.carbon.identity.organization.management.ext.Constants;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
@@ -38,6 +44,7 @@ import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.AggregationStrategy;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.FirstFoundAggregationStrategy;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.MergeAllAggregationStrategy;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util.OrgResourceHierarchyTraverseUtil;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -49,16 +56,20 @@ import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertThrows;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
 
 /**
  * Unit tests for the OrgAppResourceResolverService.
  */
+@WithCarbonHome
 public class OrgAppResourceResolverServiceTest {
 
     private static final String ROOT_ORG_ID = "10084a8d-113f-4211-a0d5-efe36b082211";
@@ -138,6 +149,10 @@ public class OrgAppResourceResolverServiceTest {
         // Reset the mock services to their default state after each test.
         reset(organizationManager);
         reset(applicationManagementService);
+
+        // Clear the cached hierarchies to avoid leaking them across tests.
+        OrgAppHierarchyCache.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+        OrgResourceHierarchyTraverseUtil.clearOrgHierarchyCache();
     }
 
     @DataProvider(name = "AggregationStrategyDataProvider")
@@ -382,6 +397,61 @@ public class OrgAppResourceResolverServiceTest {
                 () -> invokeAppLevelResourceResolver(aggregationStrategy, L2_ORG_ID, L2_APP_ID));
     }
 
+    /**
+     * Tests that the organization and application hierarchy is resolved only once for repeated resolutions of the
+     * same application in the same organization, and that the subsequent resolutions are served from the cache.
+     *
+     * @param aggregationStrategy The aggregation strategy used for resolving resources.
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test(dataProvider = "AggregationStrategyDataProvider")
+    public void testGetAppLevelResourcesFromOrgHierarchyWithCachedHierarchy(
+            AggregationStrategy<MockResource> aggregationStrategy) throws Exception {
+
+        List<MockResource> createdAppResources = addAppResources(Arrays.asList(ROOT_ORG_ID, L1_ORG_ID),
+                Arrays.asList(ROOT_APP_ID, L1_APP_ID));
+        long hitCount = OrgAppHierarchyCache.getInstance().getHitCount();
+        long missCount = OrgAppHierarchyCache.getInstance().getMissCount();
+
+        for (int i = 0; i < 3; i++) {
+            assertResolvedResponse(invokeAppLevelResourceResolver(aggregationStrategy, L2_ORG_ID, L2_APP_ID),
+                    createdAppResources.get(1));
+        }
+
+        verify(organizationManager, times(1)).getAncestorOrganizationIds(L2_ORG_ID);
+        verify(applicationManagementService, times(1)).getAncestorAppIds(L2_APP_ID, L2_ORG_ID);
+        assertEquals(OrgAppHierarchyCache.getInstance().getHitCount() - hitCount, 2);
+        assertEquals(OrgAppHierarchyCache.getInstance().getMissCount() - missCount, 1);
+    }
+
+    @DataProvider(name = "orgAppHierarchyCacheInvalidatingEvents")
+    public Object[][] provideOrgAppHierarchyCacheInvalidatingEvents() {
+
+        return new Object[][]{
+                {OrgApplicationMgtConstants.EVENT_POST_SHARE_APPLICATION},
+                {OrgApplicationMgtConstants.EVENT_POST_DELETE_SHARED_APPLICATION},
+                {OrgApplicationMgtConstants.EVENT_POST_DELETE_ALL_SHARED_APPLICATIONS},
+                {Constants.EVENT_POST_DELETE_ORGANIZATION}
+        };
+    }
+
+    /**
+     * Tests that the cached organization and application hierarchies are cleared when an application is shared
+     * or unshared, or when an organization is deleted.
+     *
+     * @param eventName The name of the event which should clear the cache.
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test(dataProvider = "orgAppHierarchyCacheInvalidatingEvents")
+    public void testOrgAppHierarchyCacheInvalidation(String eventName) throws Exception {
+
+        invokeAppLevelResourceResolver(firstFoundAggregationStrategy, L2_ORG_ID, L2_APP_ID);
+        new OrgAppHierarchyCacheInvalidationHandler().handleEvent(new Event(eventName, new HashMap<>()));
+        invokeAppLevelResourceResolver(firstFoundAggregationStrategy, L2_ORG_ID, L2_APP_ID);
+
+        verify(applicationManagementService, times(2)).getAncestorAppIds(L2_APP_ID, L2_ORG_ID);
+    }
+
     /**
      * Mock the retrieval of ancestor organization IDs.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -19,10 +19,14 @@
 package org.wso2.carbon.identity.organization.config.service;
 
 import org.osgi.annotation.bundle.Capability;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementException;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Attribute;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resource;
+import org.wso2.carbon.identity.organization.config.service.cache.DiscoveryConfigCache;
+import org.wso2.carbon.identity.organization.config.service.cache.DiscoveryConfigCacheEntry;
+import org.wso2.carbon.identity.organization.config.service.cache.DiscoveryConfigCacheKey;
 import org.wso2.carbon.identity.organization.config.service.exception.OrganizationConfigClientException;
 import org.wso2.carbon.identity.organization.config.service.exception.OrganizationConfigException;
 import org.wso2.carbon.identity.organization.config.service.internal.OrganizationConfigServiceHolder;
@@ -31,8 +35,9 @@ import org.wso2.carbon.identity.organization.config.service.model.DiscoveryConfi
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -60,6 +65,7 @@ import static org.wso2.carbon.identity.organization.config.service.constant.Orga
 import static org.wso2.carbon.identity.organization.config.service.util.Utils.handleClientException;
 import static org.wso2.carbon.identity.organization.config.service.util.Utils.handleServerException;
 import static org.wso2.carbon.identity.organization.management.service.util.Utils.getOrganizationId;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
 
 /**
  * Implementation of Organization Configuration Manager Interface.
@@ -86,6 +92,7 @@ public class OrganizationConfigManagerImpl implements OrganizationConfigManager
             }
             Resource resource = buildResourceFromValidationConfig(discoveryConfig);
             getConfigurationManager().addResource(RESOURCE_TYPE_NAME, resource);
+            clearDiscoveryConfigCacheEntry(getTenantId());
         } catch (ConfigurationManagementException | OrganizationManagementServerException e) {
             throw handleServerException(ERROR_CODE_ERROR_ADDING_DISCOVERY_CONFIG, e, getOrganizationId());
         }
@@ -105,6 +112,7 @@ public class OrganizationConfigManagerImpl implements OrganizationConfigManager
             } else {
                 getConfigurationManager().replaceResource(RESOURCE_TYPE_NAME, resource);
             }
+            clearDiscoveryConfigCacheEntry(getTenantId());
         } catch (ConfigurationManagementException | OrganizationManagementServerException e) {
             throw handleServerException(ERROR_CODE_ERROR_ADDING_DISCOVERY_CONFIG, e, getOrganizationId());
         }
@@ -113,7 +121,12 @@ public class OrganizationConfigManagerImpl implements OrganizationConfigManager
     @Override
     public DiscoveryConfig getDiscoveryConfiguration() throws OrganizationConfigException {
 
-        return getDiscoveryConfiguration(getDiscoveryResource());
+        int tenantId = getTenantId();
+        DiscoveryConfigCacheEntry cacheEntry = getDiscoveryConfigFromCache(tenantId);
+        if (cacheEntry == null) {
+            cacheEntry = addDiscoveryConfigToCache(tenantId, getDiscoveryResource());
+        }
+        return buildDiscoveryConfig(cacheEntry);
     }
 
     @Override
@@ -127,6 +140,7 @@ public class OrganizationConfigManagerImpl implements OrganizationConfigManager
             if (resourceOptional.isPresent()) {
                 getConfigurationManager().deleteResource(RESOURCE_TYPE_NAME, RESOURCE_NAME);
             }
+            clearDiscoveryConfigCacheEntry(getTenantId());
         } catch (ConfigurationManagementException | OrganizationManagementServerException e) {
             throw handleServerException(ERROR_CODE_ERROR_DELETING_DISCOVERY_CONFIG, e, getOrganizationId());
         }
@@ -135,23 +149,68 @@ public class OrganizationConfigManagerImpl implements OrganizationConfigManager
     @Override
     public DiscoveryConfig getDiscoveryConfigurationByTenantId(int tenantId) throws OrganizationConfigException {
 
-        return getDiscoveryConfiguration(getDiscoveryResourceByTenantId(tenantId));
+        DiscoveryConfigCacheEntry cacheEntry = getDiscoveryConfigFromCache(tenantId);
+        if (cacheEntry == null) {
+            cacheEntry = addDiscoveryConfigToCache(tenantId, getDiscoveryResourceByTenantId(tenantId));
+        }
+        return buildDiscoveryConfig(cacheEntry);
     }
 
-    private DiscoveryConfig getDiscoveryConfiguration(Optional<Resource> resourceOptional)
-            throws OrganizationConfigException {
+    private DiscoveryConfig buildDiscoveryConfig(DiscoveryConfigCacheEntry cacheEntry)
+            throws OrganizationConfigClientException {
 
-        if (!resourceOptional.isPresent()) {
+        if (!cacheEntry.isConfigExists()) {
             throw handleClientException(ERROR_CODE_DISCOVERY_CONFIG_NOT_EXIST, getOrganizationId());
         }
 
-        List<ConfigProperty> configProperties = resourceOptional.map(resource -> resource.getAttributes().stream()
-                .map(attribute -> new ConfigProperty(attribute.getKey(), attribute.getValue()))
-                .collect(Collectors.toList())).orElse(Collections.emptyList());
-
+        // A new list is built for every invocation as callers are free to modify the returned configuration.
+        List<ConfigProperty> configProperties = new ArrayList<>();
+        for (Map.Entry<String, String> property : cacheEntry.getConfigProperties().entrySet()) {
+            configProperties.add(new ConfigProperty(property.getKey(), property.getValue()));
+        }
         return new DiscoveryConfig(configProperties);
     }
 
+    private DiscoveryConfigCacheEntry getDiscoveryConfigFromCache(int tenantId) {
+
+        return DiscoveryConfigCache.getInstance().getValueFromCache(new DiscoveryConfigCacheKey(tenantId),
+                SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    /**
+     * Add the discovery configuration of the given tenant to the cache. A tenant without a discovery configuration
+     * is cached as well, as discovery is looked up on every login even when it is not configured.
+     *
+     * @param tenantId         The tenant ID.
+     * @param resourceOptional The discovery configuration resource of the tenant, if exists.
+     * @return The added cache entry.
+     */
+    private DiscoveryConfigCacheEntry addDiscoveryConfigToCache(int tenantId, Optional<Resource> resourceOptional) {
+
+        Map<String, String> configProperties = resourceOptional.map(resource -> {
+            Map<String, String> properties = new LinkedHashMap<>();
+            for (Attribute attribute : resource.getAttributes()) {
+                properties.put(attribute.getKey(), attribute.getValue());
+            }
+            return properties;
+        }).orElse(null);
+        DiscoveryConfigCacheEntry cacheEntry = new DiscoveryConfigCacheEntry(configProperties);
+        DiscoveryConfigCache.getInstance().addToCache(new DiscoveryConfigCacheKey(tenantId), cacheEntry,
+                SUPER_TENANT_DOMAIN_NAME);
+        return cacheEntry;
+    }
+
+    private void clearDiscoveryConfigCacheEntry(int tenantId) {
+
+        DiscoveryConfigCache.getInstance().clearCacheEntry(new DiscoveryConfigCacheKey(tenantId),
+                SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    private int getTenantId() {
+
+        return PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+    }
+
     private Optional<Resource> getDiscoveryResource() throws OrganizationConfigException {
 
         try {
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.config.service.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache which holds the organization discovery configuration of tenants, so that discovery based logins and self
+ * sign up validations do not have to fetch the configuration resource on every invocation.
+ * <p>
+ * Size, expiry and cluster wide invalidation of this cache are governed by the carbon caching configuration.
+ */
+public class DiscoveryConfigCache extends BaseCache<DiscoveryConfigCacheKey, DiscoveryConfigCacheEntry> {
+
+    private static final String CACHE_NAME = "OrganizationDiscoveryConfigCache";
+    private static final DiscoveryConfigCache INSTANCE = new DiscoveryConfigCache();
+
+    private DiscoveryConfigCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the discovery configuration cache.
+     *
+     * @return The {@link DiscoveryConfigCache} instance.
+     */
+    public static DiscoveryConfigCache getInstance() {
+
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.config.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache entry for the discovery configuration cache. Holds the configuration properties of a tenant in the order
+ * they were stored. An entry without properties denotes a tenant which does not have a discovery configuration.
+ */
+public class DiscoveryConfigCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -3308127461255904819L;
+
+    private final LinkedHashMap<String, String> configProperties;
+
+    public DiscoveryConfigCacheEntry(Map<String, String> configProperties) {
+
+        this.configProperties = configProperties == null ? null : new LinkedHashMap<>(configProperties);
+    }
+
+    public Map<String, String> getConfigProperties() {
+
+        return configProperties == null ? null : Collections.unmodifiableMap(configProperties);
+    }
+
+    public boolean isConfigExists() {
+
+        return configProperties != null;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.config.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+/**
+ * Cache key for the discovery configuration cache, which is the tenant ID.
+ */
+public class DiscoveryConfigCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 5521380946718262054L;
+
+    private final int tenantId;
+
+    public DiscoveryConfigCacheKey(int tenantId) {
+
+        this.tenantId = tenantId;
+    }
+
+    public int getTenantId() {
+
+        return tenantId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DiscoveryConfigCacheKey)) {
+            return false;
+        }
+        return tenantId == ((DiscoveryConfigCacheKey) o).getTenantId();
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Integer.hashCode(tenantId);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2024-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -35,6 +35,7 @@ import org.wso2.carbon.identity.configuration.mgt.core.internal.ConfigurationMan
 import org.wso2.carbon.identity.configuration.mgt.core.model.ConfigurationManagerConfigurationHolder;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.organization.config.service.cache.DiscoveryConfigCache;
 import org.wso2.carbon.identity.organization.config.service.exception.OrganizationConfigClientException;
 import org.wso2.carbon.identity.organization.config.service.internal.OrganizationConfigServiceHolder;
 import org.wso2.carbon.identity.organization.config.service.model.ConfigProperty;
@@ -187,9 +188,28 @@ public class OrganizationConfigManagerImplTest {
         Assert.assertEquals(returnedConfigProperties.get(1).getValue(), TRUE);
     }
 
+    @Test(priority = 6)
+    public void testGetDiscoveryConfigurationFromCache() throws Exception {
+
+        List<ConfigProperty> configProperties =
+                organizationConfigManagerImpl.getDiscoveryConfigurationByTenantId(SUPER_TENANT_ID)
+                        .getConfigProperties();
+        Assert.assertEquals(configProperties.size(), 2);
+
+        // Modifying a returned configuration should not affect the cached configuration.
+        configProperties.clear();
+        List<ConfigProperty> returnedConfigProperties =
+                organizationConfigManagerImpl.getDiscoveryConfiguration().getConfigProperties();
+        Assert.assertEquals(returnedConfigProperties.size(), 2);
+        Assert.assertEquals(returnedConfigProperties.get(0).getKey(), EMAIL_DOMAIN_ENABLE);
+        Assert.assertEquals(returnedConfigProperties.get(1).getKey(), "custom.enable");
+    }
+
     @AfterClass
     public void tearDown() throws Exception {
 
+        DiscoveryConfigCache.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+
         TestUtils.closeH2Base();
         mocks.close();
         identityDatabaseUtil.close();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -117,6 +117,22 @@ public interface OrganizationDiscoveryManager {
     DiscoveryOrganizationsResult getOrganizationsDiscoveryAttributes(Integer limit, Integer offset, String filter)
             throws OrganizationManagementException;
 
+    /**
+     * List the discovery attributes of all the organizations under the root organization with keyset pagination.
+     * Unlike offset based listing, the cost of retrieving a page does not depend on how deep the page is.
+     *
+     * @param limit             The maximum number of records to be returned.
+     * @param after             The cursor returned with the previous page. Null for the first page.
+     * @param filter            The filter to be applied.
+     * @param includeTotalCount Whether the total number of matching organizations should be counted.
+     * @return The discovery attributes of the organizations, together with the cursor of the next page.
+     * @throws OrganizationManagementException The exception thrown when listing discovery attributes of the
+     *                                         organizations.
+     */
+    DiscoveryOrganizationsResult getOrganizationsDiscoveryAttributes(Integer limit, String after, String filter,
+                                                                     boolean includeTotalCount)
+            throws OrganizationManagementException;
+
     /**
      * Get attribute based organization discovery handlers.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -20,12 +20,18 @@ package org.wso2.carbon.identity.organization.discovery.service;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.osgi.annotation.bundle.Capability;
 import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.organization.discovery.service.cache.OrganizationDiscoveryIndexCache;
+import org.wso2.carbon.identity.organization.discovery.service.cache.OrganizationDiscoveryIndexCacheEntry;
+import org.wso2.carbon.identity.organization.discovery.service.cache.OrganizationDiscoveryIndexCacheKey;
 import org.wso2.carbon.identity.organization.discovery.service.dao.OrganizationDiscoveryDAO;
 import org.wso2.carbon.identity.organization.discovery.service.dao.OrganizationDiscoveryDAOImpl;
 import org.wso2.carbon.identity.organization.discovery.service.internal.OrganizationDiscoveryServiceHolder;
+import org.wso2.carbon.identity.organization.discovery.service.model.DiscoveryOrganizationsCursor;
 import org.wso2.carbon.identity.organization.discovery.service.model.DiscoveryOrganizationsResult;
 import org.wso2.carbon.identity.organization.discovery.service.model.OrgDiscoveryAttribute;
 import org.wso2.carbon.identity.organization.discovery.service.model.OrganizationDiscovery;
@@ -54,6 +60,7 @@ import static org.wso2.carbon.identity.organization.management.service.constant.
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_DISCOVERY_CONFIG_DISABLED;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_DUPLICATE_DISCOVERY_ATTRIBUTE_TYPES;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_EMPTY_DISCOVERY_ATTRIBUTES;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_INVALID_CURSOR_FOR_PAGINATION;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_INVALID_DISCOVERY_ATTRIBUTE_VALUE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_INVALID_FILTER_FORMAT;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_INVALID_LIMIT;
@@ -66,6 +73,7 @@ import static org.wso2.carbon.identity.organization.management.service.constant.
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_UNSUPPORTED_FILTER_OPERATION_FOR_ATTRIBUTE;
 import static org.wso2.carbon.identity.organization.management.service.util.Utils.getOrganizationId;
 import static org.wso2.carbon.identity.organization.management.service.util.Utils.handleClientException;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
 
 /**
  * Implementation of Organization Discovery Manager Interface.
@@ -79,6 +87,8 @@ import static org.wso2.carbon.identity.organization.management.service.util.Util
 )
 public class OrganizationDiscoveryManagerImpl implements OrganizationDiscoveryManager {
 
+    private static final Log LOG = LogFactory.getLog(OrganizationDiscoveryManagerImpl.class);
+    private static final int MAX_INDEXED_DISCOVERY_ATTRIBUTE_VALUES = 10000;
     private static final OrganizationDiscoveryDAO organizationDiscoveryDAO = new OrganizationDiscoveryDAOImpl();
 
     @Override
@@ -100,6 +110,7 @@ public class OrganizationDiscoveryManagerImpl implements OrganizationDiscoveryMa
         validateOrganizationDiscoveryAttributes(false, rootOrganizationId, null, discoveryAttributes);
 
         organizationDiscoveryDAO.addOrganizationDiscoveryAttributes(organizationId, discoveryAttributes);
+        clearDiscoveryAttributeIndex(rootOrganizationId);
         return discoveryAttributes;
     }
 
@@ -121,8 +132,12 @@ public class OrganizationDiscoveryManagerImpl implements OrganizationDiscoveryMa
         if (validateRootOrgAccess) {
             String rootOrganizationId = getOrganizationManager().getPrimaryOrganizationId(organizationId);
             validateRootOrganization(rootOrganizationId, organizationId);
+            organizationDiscoveryDAO.deleteOrganizationDiscoveryAttributes(organizationId);
+            clearDiscoveryAttributeIndex(rootOrganizationId);
+            return;
         }
         organizationDiscoveryDAO.deleteOrganizationDiscoveryAttributes(organizationId);
+        clearDiscoveryAttributeIndexOfOrganization(organizationId);
     }
 
     @Override
@@ -138,6 +153,7 @@ public class OrganizationDiscoveryManagerImpl implements OrganizationDiscoveryMa
         }
         validateOrganizationDiscoveryAttributes(true, rootOrganizationId, organizationId, discoveryAttributes);
         organizationDiscoveryDAO.updateOrganizationDiscoveryAttributes(organizationId, discoveryAttributes);
+        clearDiscoveryAttributeIndex(rootOrganizationId);
         return discoveryAttributes;
     }
 
@@ -179,6 +195,28 @@ public class OrganizationDiscoveryManagerImpl implements OrganizationDiscoveryMa
         return discoveryOrganizationsResult;
     }
 
+    @Override
+    public DiscoveryOrganizationsResult getOrganizationsDiscoveryAttributes(Integer limit, String after,
+                                                                            String filter, boolean includeTotalCount)
+            throws OrganizationManagementException {
+
+        limit = validateLimit(limit);
+        DiscoveryOrganizationsCursor cursor = decodeCursor(after);
+        List<ExpressionNode> expressionNodes = getExpressionNodes(filter);
+        DiscoveryOrganizationsResult discoveryOrganizationsResult = organizationDiscoveryDAO
+                .getOrganizationsDiscoveryAttributes(limit, cursor, getOrganizationId(), expressionNodes,
+                        includeTotalCount);
+
+        // The organization handles are resolved by the listing query, unless the tenant is not yet resolvable.
+        for (OrganizationDiscovery organization : discoveryOrganizationsResult.getOrganizations()) {
+            if (StringUtils.isBlank(organization.getOrganizationHandle())) {
+                organization.setOrganizationHandle(getOrganizationManager()
+                        .resolveTenantDomain(organization.getOrganizationId()));
+            }
+        }
+        return discoveryOrganizationsResult;
+    }
+
     @Override
     public Map<String, AttributeBasedOrganizationDiscoveryHandler> getAttributeBasedOrganizationDiscoveryHandlers() {
 
@@ -194,8 +232,7 @@ public class OrganizationDiscoveryManagerImpl implements OrganizationDiscoveryMa
                 .get(attributeType);
         String attributeValue = handler.extractAttributeValue(discoveryInput);
         if (StringUtils.isNotBlank(attributeValue)) {
-            return organizationDiscoveryDAO.getOrganizationIdByDiscoveryAttribute(attributeType, attributeValue,
-                    rootOrganizationId);
+            return getOrganizationIdFromDiscoveryAttributeIndex(attributeType, attributeValue, rootOrganizationId);
         }
         return null;
     }
@@ -209,10 +246,79 @@ public class OrganizationDiscoveryManagerImpl implements OrganizationDiscoveryMa
                 .get(attributeType);
         String attributeValue = handler.extractAttributeValue(discoveryInput, context);
         if (StringUtils.isNotBlank(attributeValue)) {
+            return getOrganizationIdFromDiscoveryAttributeIndex(attributeType, attributeValue, rootOrganizationId);
+        }
+        return null;
+    }
+
+    /**
+     * Clear the discovery attribute index of the given root organization. The index of the organization in the
+     * context is cleared as well, as the discovery attributes are persisted against it.
+     *
+     * @param rootOrganizationId The root organization ID.
+     */
+    private void clearDiscoveryAttributeIndex(String rootOrganizationId) {
+
+        Set<String> rootOrganizationIds = new HashSet<>();
+        rootOrganizationIds.add(rootOrganizationId);
+        rootOrganizationIds.add(getOrganizationId());
+        for (String organizationId : rootOrganizationIds) {
+            if (StringUtils.isNotBlank(organizationId)) {
+                OrganizationDiscoveryIndexCache.getInstance().clearCacheEntry(
+                        new OrganizationDiscoveryIndexCacheKey(organizationId), SUPER_TENANT_DOMAIN_NAME);
+            }
+        }
+    }
+
+    /**
+     * Clear the discovery attribute index of the root organization of the given organization. The whole index cache
+     * is cleared if the root organization cannot be resolved, e.g. when the organization is being deleted.
+     *
+     * @param organizationId The organization ID.
+     */
+    private void clearDiscoveryAttributeIndexOfOrganization(String organizationId) {
+
+        String rootOrganizationId = null;
+        try {
+            rootOrganizationId = getOrganizationManager().getPrimaryOrganizationId(organizationId);
+        } catch (OrganizationManagementException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Unable to resolve the root organization of the organization: " + organizationId +
+                        ". Clearing the discovery attribute index of all root organizations.", e);
+            }
+        }
+        if (StringUtils.isBlank(rootOrganizationId)) {
+            OrganizationDiscoveryIndexCache.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+            return;
+        }
+        clearDiscoveryAttributeIndex(rootOrganizationId);
+    }
+
+    private String getOrganizationIdFromDiscoveryAttributeIndex(String attributeType, String attributeValue,
+                                                                String rootOrganizationId)
+            throws OrganizationManagementException {
+
+        OrganizationDiscoveryIndexCacheKey cacheKey = new OrganizationDiscoveryIndexCacheKey(rootOrganizationId);
+        OrganizationDiscoveryIndexCacheEntry discoveryAttributeIndex =
+                OrganizationDiscoveryIndexCache.getInstance().getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN_NAME);
+        if (discoveryAttributeIndex == null) {
+            discoveryAttributeIndex = new OrganizationDiscoveryIndexCacheEntry(
+                    organizationDiscoveryDAO.getDiscoveryAttributesUnderRootOrganization(rootOrganizationId),
+                    MAX_INDEXED_DISCOVERY_ATTRIBUTE_VALUES);
+            OrganizationDiscoveryIndexCache.getInstance().addToCache(cacheKey, discoveryAttributeIndex,
+                    SUPER_TENANT_DOMAIN_NAME);
+        }
+        if (!discoveryAttributeIndex.isIndexed()) {
             return organizationDiscoveryDAO.getOrganizationIdByDiscoveryAttribute(attributeType, attributeValue,
                     rootOrganizationId);
         }
-        return null;
+        String organizationId = discoveryAttributeIndex.getOrganizationId(attributeType, attributeValue);
+        if (organizationId != null || !discoveryAttributeIndex.containsIgnoreCase(attributeType, attributeValue)) {
+            return organizationId;
+        }
+        // The value only differs by case from an indexed value, hence the collation of the database decides a match.
+        return organizationDiscoveryDAO.getOrganizationIdByDiscoveryAttribute(attributeType, attributeValue,
+                rootOrganizationId);
     }
 
     private void validateRootOrganization(String rootOrganizationId, String organizationId)
@@ -361,6 +467,25 @@ public class OrganizationDiscoveryManagerImpl implements OrganizationDiscoveryMa
         return offset;
     }
 
+    /**
+     * Decode the cursor of the keyset pagination.
+     *
+     * @param after The cursor returned with the previous page.
+     * @return The decoded cursor, or null for the first page.
+     * @throws OrganizationManagementClientException Exception thrown for an invalid cursor.
+     */
+    private DiscoveryOrganizationsCursor decodeCursor(String after) throws OrganizationManagementClientException {
+
+        if (StringUtils.isBlank(after)) {
+            return null;
+        }
+        try {
+            return DiscoveryOrganizationsCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            throw handleClientException(ERROR_CODE_INVALID_CURSOR_FOR_PAGINATION);
+        }
+    }
+
     private OrganizationManager getOrganizationManager() {
 
         return OrganizationDiscoveryServiceHolder.getInstance().getOrganizationManager();
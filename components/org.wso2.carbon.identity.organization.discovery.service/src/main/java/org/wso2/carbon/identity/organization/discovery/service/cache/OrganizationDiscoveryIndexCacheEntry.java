@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.discovery.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+import org.wso2.carbon.identity.organization.discovery.service.model.OrgDiscoveryAttribute;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Cache entry for the organization discovery index cache. Maps each (attribute type, attribute value) pair under a
+ * root organization to the organization which owns it.
+ * <p>
+ * The attribute values are also indexed case-insensitively, so that a caller can tell apart an attribute value which
+ * is certainly not taken from one which may still match under the collation of the database.
+ * <p>
+ * The number of indexed attribute values is bounded. The index of a root organization with more attribute values is
+ * left empty and marked as not indexed, so that callers resolve those attribute values from the database instead.
+ */
+public class OrganizationDiscoveryIndexCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -1548307727245109662L;
+    private static final String KEY_SEPARATOR = ":";
+
+    private final HashMap<String, String> organizationIdsByAttribute = new HashMap<>();
+    private final HashSet<String> caseInsensitiveAttributes = new HashSet<>();
+    private final boolean indexed;
+
+    public OrganizationDiscoveryIndexCacheEntry(Map<String, List<OrgDiscoveryAttribute>> discoveryAttributes,
+                                                int maxIndexedAttributeValues) {
+
+        int attributeValueCount = 0;
+        for (List<OrgDiscoveryAttribute> attributes : discoveryAttributes.values()) {
+            for (OrgDiscoveryAttribute attribute : attributes) {
+                attributeValueCount += attribute.getValues().size();
+            }
+        }
+        indexed = attributeValueCount <= maxIndexedAttributeValues;
+        if (!indexed) {
+            return;
+        }
+        discoveryAttributes.forEach((organizationId, attributes) -> {
+            for (OrgDiscoveryAttribute attribute : attributes) {
+                for (String value : attribute.getValues()) {
+                    organizationIdsByAttribute.put(buildKey(attribute.getType(), value), organizationId);
+                    caseInsensitiveAttributes.add(buildCaseInsensitiveKey(attribute.getType(), value));
+                }
+            }
+        });
+    }
+
+    /**
+     * Check whether the discovery attributes of the root organization are indexed.
+     *
+     * @return False if the root organization has more attribute values than the index can hold.
+     */
+    public boolean isIndexed() {
+
+        return indexed;
+    }
+
+    /**
+     * Get the ID of the organization which owns the given discovery attribute value.
+     *
+     * @param attributeType  The discovery attribute type.
+     * @param attributeValue The discovery attribute value.
+     * @return The organization ID, or null if the value is not indexed as it is.
+     */
+    public String getOrganizationId(String attributeType, String attributeValue) {
+
+        return organizationIdsByAttribute.get(buildKey(attributeType, attributeValue));
+    }
+
+    /**
+     * Check whether a discovery attribute value which differs from the given value only by case is indexed.
+     *
+     * @param attributeType  The discovery attribute type.
+     * @param attributeValue The discovery attribute value.
+     * @return True if the value is indexed when case is ignored.
+     */
+    public boolean containsIgnoreCase(String attributeType, String attributeValue) {
+
+        return caseInsensitiveAttributes.contains(buildCaseInsensitiveKey(attributeType, attributeValue));
+    }
+
+    private static String buildKey(String attributeType, String attributeValue) {
+
+        return attributeType + KEY_SEPARATOR + attributeValue;
+    }
+
+    private static String buildCaseInsensitiveKey(String attributeType, String attributeValue) {
+
+        return buildKey(attributeType, attributeValue.toLowerCase(Locale.ENGLISH));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.discovery.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+/**
+ * Cache key for the organization discovery index cache, which is the root organization ID.
+ */
+public class OrganizationDiscoveryIndexCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 7402185624337086140L;
+
+    private final String rootOrganizationId;
+
+    public OrganizationDiscoveryIndexCacheKey(String rootOrganizationId) {
+
+        this.rootOrganizationId = rootOrganizationId;
+    }
+
+    public String getRootOrganizationId() {
+
+        return rootOrganizationId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OrganizationDiscoveryIndexCacheKey)) {
+            return false;
+        }
+        return rootOrganizationId.equals(((OrganizationDiscoveryIndexCacheKey) o).getRootOrganizationId());
+    }
+
+    @Override
+    public int hashCode() {
+
+        return rootOrganizationId.hashCode();
+    }
+}
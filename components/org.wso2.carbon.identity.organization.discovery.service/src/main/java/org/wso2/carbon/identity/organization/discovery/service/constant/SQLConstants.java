@@ -71,6 +71,10 @@ public class SQLConstants {
             + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_VALUE + "; AND UM_ROOT_ORG_ID = :" +
             SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ROOT_ID + ";";
     
+    public static final String GET_DISCOVERY_ATTRIBUTES_UNDER_ROOT_ORGANIZATION = "SELECT UM_ORG_ID, " +
+            "UM_DISCOVERY_TYPE, UM_DISCOVERY_VALUE FROM UM_ORG_DISCOVERY WHERE UM_ROOT_ORG_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ROOT_ID + ";";
+
     public static final String GET_DISCOVERY_ORGANIZATION_IDS_SORTED_BY_CREATED_TIME = "SELECT DISTINCT UM_ORG_ID, " + 
             "UM_ORG.UM_CREATED_TIME FROM UM_ORG_DISCOVERY JOIN UM_ORG ON UM_ORG.UM_ID = UM_ORG_ID WHERE %s " + 
             "UM_ROOT_ORG_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ROOT_ID + "; ORDER BY " + 
@@ -88,6 +92,27 @@ public class SQLConstants {
             "UM_ORG.UM_ID = UM_ORG_ID WHERE UM_ORG_ID IN (" + SQLPlaceholders.ORGS_LIST_PLACEHOLDER + ") " + 
             "ORDER BY UM_ORG.UM_CREATED_TIME DESC";
 
+    public static final String DISCOVERY_ORGANIZATIONS_KEYSET_CONDITION = " AND (UM_ORG.UM_CREATED_TIME < :" +
+            SQLPlaceholders.DB_AFTER_CREATED_TIME + "; OR (UM_ORG.UM_CREATED_TIME = :" +
+            SQLPlaceholders.DB_AFTER_CREATED_TIME + "; AND UM_ORG_ID < :" + SQLPlaceholders.DB_AFTER + ";))";
+
+    public static final String GET_DISCOVERY_ORGANIZATIONS_PAGE_WITH_ATTRIBUTES = "SELECT D.UM_ORG_ID, " +
+            "D.UM_DISCOVERY_TYPE, D.UM_DISCOVERY_VALUE, O.UM_ORG_NAME, T.UM_DOMAIN_NAME, P.UM_CREATED_TIME FROM " +
+            "(SELECT DISTINCT UM_ORG_ID, UM_ORG.UM_CREATED_TIME FROM UM_ORG_DISCOVERY JOIN UM_ORG ON UM_ORG.UM_ID = " +
+            "UM_ORG_ID WHERE %s UM_ROOT_ORG_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ROOT_ID + ";%s ORDER BY " +
+            "UM_ORG.UM_CREATED_TIME DESC, UM_ORG_ID DESC LIMIT :" + SQLPlaceholders.DB_LIMIT + ";) P JOIN " +
+            "UM_ORG_DISCOVERY D ON D.UM_ORG_ID = P.UM_ORG_ID JOIN UM_ORG O ON O.UM_ID = P.UM_ORG_ID LEFT JOIN " +
+            "UM_TENANT T ON T.UM_ORG_UUID = P.UM_ORG_ID ORDER BY P.UM_CREATED_TIME DESC, P.UM_ORG_ID DESC";
+
+    public static final String GET_DISCOVERY_ORGANIZATIONS_PAGE_WITH_ATTRIBUTES_MSSQL = "SELECT D.UM_ORG_ID, " +
+            "D.UM_DISCOVERY_TYPE, D.UM_DISCOVERY_VALUE, O.UM_ORG_NAME, T.UM_DOMAIN_NAME, P.UM_CREATED_TIME FROM " +
+            "(SELECT DISTINCT UM_ORG_ID, UM_ORG.UM_CREATED_TIME FROM UM_ORG_DISCOVERY JOIN UM_ORG ON UM_ORG.UM_ID = " +
+            "UM_ORG_ID WHERE %s UM_ROOT_ORG_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ROOT_ID + ";%s ORDER BY " +
+            "UM_ORG.UM_CREATED_TIME DESC, UM_ORG_ID DESC OFFSET 0 ROWS FETCH NEXT :" + SQLPlaceholders.DB_LIMIT +
+            "; ROWS ONLY) P JOIN UM_ORG_DISCOVERY D ON D.UM_ORG_ID = P.UM_ORG_ID JOIN UM_ORG O ON " +
+            "O.UM_ID = P.UM_ORG_ID LEFT JOIN UM_TENANT T ON T.UM_ORG_UUID = P.UM_ORG_ID ORDER BY " +
+            "P.UM_CREATED_TIME DESC, P.UM_ORG_ID DESC";
+
     /**
      * SQL placeholders related to organization discovery management SQL operations.
      */
@@ -99,6 +124,8 @@ public class SQLConstants {
         public static final String DB_SCHEMA_COLUMN_NAME_ROOT_ID = "ROOT_ID";
         public static final String DB_LIMIT = "LIMIT";
         public static final String DB_OFFSET = "OFFSET";
+        public static final String DB_AFTER = "AFTER";
+        public static final String DB_AFTER_CREATED_TIME = "AFTER_CREATED_TIME";
         public static final String ORGS_LIST_PLACEHOLDER = "_ORGS_LIST_";
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -18,12 +18,14 @@
 
 package org.wso2.carbon.identity.organization.discovery.service.dao;
 
+import org.wso2.carbon.identity.organization.discovery.service.model.DiscoveryOrganizationsCursor;
 import org.wso2.carbon.identity.organization.discovery.service.model.DiscoveryOrganizationsResult;
 import org.wso2.carbon.identity.organization.discovery.service.model.OrgDiscoveryAttribute;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
 import org.wso2.carbon.identity.organization.management.service.filter.ExpressionNode;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * This interface performs CRUD operations for organization discovery.
@@ -114,6 +116,26 @@ public interface OrganizationDiscoveryDAO {
                                                                      List<ExpressionNode> expressionNodes)
             throws OrganizationManagementServerException;
 
+    /**
+     * List the discovery attributes of the organizations under the given root organization with keyset pagination.
+     * The organizations are ordered by the created time, newest first, and the organization handles are resolved
+     * within the same query.
+     *
+     * @param limit              The maximum number of organizations to be returned.
+     * @param after              The cursor of the last organization of the previous page. Null for the first page.
+     * @param rootOrganizationId The root organization ID.
+     * @param expressionNodes    The list of filters.
+     * @param includeTotalCount  Whether the total number of matching organizations should be counted.
+     * @return The discovery attributes of the organizations, together with the cursor of the next page.
+     * @throws OrganizationManagementServerException The server exception thrown when listing discovery attributes of
+     *                                               the organizations.
+     */
+    DiscoveryOrganizationsResult getOrganizationsDiscoveryAttributes(int limit, DiscoveryOrganizationsCursor after,
+                                                                     String rootOrganizationId,
+                                                                     List<ExpressionNode> expressionNodes,
+                                                                     boolean includeTotalCount)
+            throws OrganizationManagementServerException;
+
     /**
      * Get the organization ID by discovery attribute in the hierarchy.
      *
@@ -125,4 +147,15 @@ public interface OrganizationDiscoveryDAO {
      */
     String getOrganizationIdByDiscoveryAttribute(String attributeType, String attributeValue, String rootOrganizationId)
             throws OrganizationManagementServerException;
+
+    /**
+     * Get the discovery attributes of all the organizations under the given root organization.
+     *
+     * @param rootOrganizationId The root organization ID.
+     * @return The discovery attributes mapped by the organization ID.
+     * @throws OrganizationManagementServerException The server exception thrown when fetching the discovery
+     *                                               attributes.
+     */
+    Map<String, List<OrgDiscoveryAttribute>> getDiscoveryAttributesUnderRootOrganization(String rootOrganizationId)
+            throws OrganizationManagementServerException;
 }
@@ -23,6 +23,7 @@ import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.database.utils.jdbc.NamedJdbcTemplate;
 import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
 import org.wso2.carbon.database.utils.jdbc.exceptions.TransactionException;
+import org.wso2.carbon.identity.organization.discovery.service.model.DiscoveryOrganizationsCursor;
 import org.wso2.carbon.identity.organization.discovery.service.model.DiscoveryOrganizationsResult;
 import org.wso2.carbon.identity.organization.discovery.service.model.OrgDiscoveryAttribute;
 import org.wso2.carbon.identity.organization.discovery.service.model.OrganizationDiscovery;
@@ -42,14 +43,20 @@ import static org.wso2.carbon.identity.organization.discovery.service.constant.S
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.CHECK_DISCOVERY_ATTRIBUTE_EXIST_IN_HIERARCHY;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.DELETE_ORGANIZATION_DISCOVERY_ATTRIBUTES;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.DISCOVERY_ATTRIBUTE_VALUE_LIST_PLACEHOLDER;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.DISCOVERY_ORGANIZATIONS_KEYSET_CONDITION;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.DISCOVERY_ORGANIZATIONS_TOTAL_COUNT;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.EXCLUDE_CURRENT_ORGANIZATION_FROM_CHECK_DISCOVERY_ATTRIBUTE_EXIST;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.GET_DISCOVERY_ATTRIBUTES_UNDER_ROOT_ORGANIZATION;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.GET_DISCOVERY_ORGANIZATIONS_ATTRIBUTES_SORTED_BY_CREATED_TIME;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.GET_DISCOVERY_ORGANIZATIONS_PAGE_WITH_ATTRIBUTES;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.GET_DISCOVERY_ORGANIZATIONS_PAGE_WITH_ATTRIBUTES_MSSQL;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.GET_DISCOVERY_ORGANIZATION_IDS_MSSQL_SORTED_BY_CREATED_TIME;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.GET_DISCOVERY_ORGANIZATION_IDS_SORTED_BY_CREATED_TIME;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.GET_ORGANIZATION_DISCOVERY_ATTRIBUTES;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.GET_ORGANIZATION_ID_BY_DISCOVERY_ATTRIBUTE;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.INSERT_ORGANIZATION_DISCOVERY_ATTRIBUTES;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.SQLPlaceholders.DB_AFTER;
+import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.SQLPlaceholders.DB_AFTER_CREATED_TIME;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.SQLPlaceholders.DB_LIMIT;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.SQLPlaceholders.DB_OFFSET;
 import static org.wso2.carbon.identity.organization.discovery.service.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ID;
@@ -280,6 +287,83 @@ public class OrganizationDiscoveryDAOImpl implements OrganizationDiscoveryDAO {
         return discoveryOrganizationsResult;
     }
 
+    @Override
+    public DiscoveryOrganizationsResult getOrganizationsDiscoveryAttributes(int limit,
+                                                                            DiscoveryOrganizationsCursor after,
+                                                                            String rootOrganizationId,
+                                                                            List<ExpressionNode> expressionNodes,
+                                                                            boolean includeTotalCount)
+            throws OrganizationManagementServerException {
+
+        DiscoveryOrganizationsResult discoveryOrganizationsResult = new DiscoveryOrganizationsResult();
+        discoveryOrganizationsResult.setLimit(limit);
+
+        FilterQueryBuilder filterQueryBuilder = new FilterQueryBuilder();
+        appendFilterQuery(expressionNodes, filterQueryBuilder);
+        Map<String, String> filterAttributeValue = filterQueryBuilder.getFilterAttributeValue();
+        String filterQuery = filterQueryBuilder.getFilterQuery();
+
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        if (includeTotalCount) {
+            discoveryOrganizationsResult.setTotalResults(getDiscoveryOrganizationsTotalCount(rootOrganizationId,
+                    filterQuery, filterAttributeValue, namedJdbcTemplate));
+        }
+        if (limit == 0) {
+            discoveryOrganizationsResult.setOrganizations(new ArrayList<>());
+            return discoveryOrganizationsResult;
+        }
+
+        String pageQuery = isMSSqlDB() || isOracleDB() ? GET_DISCOVERY_ORGANIZATIONS_PAGE_WITH_ATTRIBUTES_MSSQL :
+                GET_DISCOVERY_ORGANIZATIONS_PAGE_WITH_ATTRIBUTES;
+        pageQuery = String.format(pageQuery, filterQuery,
+                after == null ? StringUtils.EMPTY : DISCOVERY_ORGANIZATIONS_KEYSET_CONDITION);
+        List<OrganizationDiscoveryRowDataCollector> rowDataCollectors;
+        try {
+            // One organization more than the limit is fetched to find out whether there is a next page.
+            rowDataCollectors = namedJdbcTemplate.executeQuery(pageQuery,
+                    (resultSet, rowNumber) -> {
+                        OrganizationDiscoveryRowDataCollector collector =
+                                new OrganizationDiscoveryRowDataCollector();
+                        collector.setId(resultSet.getString(1));
+                        collector.setAttributeType(resultSet.getString(2));
+                        collector.setAttributeValue(resultSet.getString(3));
+                        collector.setOrganizationName(resultSet.getString(4));
+                        collector.setOrganizationHandle(resultSet.getString(5));
+                        collector.setCreatedTime(resultSet.getTimestamp(6));
+                        return collector;
+                    },
+                    namedPreparedStatement -> {
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ROOT_ID, rootOrganizationId);
+                        namedPreparedStatement.setInt(DB_LIMIT, limit + 1);
+                        if (after != null) {
+                            namedPreparedStatement.setTimeStamp(DB_AFTER_CREATED_TIME, after.getCreatedTime(), null);
+                            namedPreparedStatement.setString(DB_AFTER, after.getOrganizationId());
+                        }
+                        for (Map.Entry<String, String> entry : filterAttributeValue.entrySet()) {
+                            namedPreparedStatement.setString(entry.getKey(), entry.getValue());
+                        }
+                    });
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_LISTING_ORGANIZATIONS_DISCOVERY_ATTRIBUTES, e,
+                    rootOrganizationId);
+        }
+
+        List<OrganizationDiscovery> discoveryList = buildOrganizationsDiscoveryFromRawData(rowDataCollectors);
+        if (discoveryList.size() > limit) {
+            discoveryList = new ArrayList<>(discoveryList.subList(0, limit));
+            String lastOrganizationId = discoveryList.get(limit - 1).getOrganizationId();
+            for (OrganizationDiscoveryRowDataCollector collector : rowDataCollectors) {
+                if (StringUtils.equals(collector.getId(), lastOrganizationId)) {
+                    discoveryOrganizationsResult.setNextCursor(new DiscoveryOrganizationsCursor(
+                            collector.getCreatedTime(), lastOrganizationId).encode());
+                    break;
+                }
+            }
+        }
+        discoveryOrganizationsResult.setOrganizations(discoveryList);
+        return discoveryOrganizationsResult;
+    }
+
     @Override
     public String getOrganizationIdByDiscoveryAttribute(String attributeType, String attributeValue,
                                                         String rootOrganizationId)
@@ -299,6 +383,41 @@ public class OrganizationDiscoveryDAOImpl implements OrganizationDiscoveryDAO {
         }
     }
 
+    @Override
+    public Map<String, List<OrgDiscoveryAttribute>> getDiscoveryAttributesUnderRootOrganization(
+            String rootOrganizationId) throws OrganizationManagementServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        Map<String, Map<String, List<String>>> rowDataCollector = new HashMap<>();
+        try {
+            namedJdbcTemplate.executeQuery(GET_DISCOVERY_ATTRIBUTES_UNDER_ROOT_ORGANIZATION,
+                    (resultSet, rowNumber) -> {
+                        rowDataCollector.computeIfAbsent(resultSet.getString(1), key -> new HashMap<>())
+                                .computeIfAbsent(resultSet.getString(2), key -> new ArrayList<>())
+                                .add(resultSet.getString(3));
+                        return null;
+                    },
+                    namedPreparedStatement ->
+                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ROOT_ID, rootOrganizationId));
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_RETRIEVING_ORGANIZATION_DISCOVERY_ATTRIBUTE, e,
+                    rootOrganizationId);
+        }
+
+        Map<String, List<OrgDiscoveryAttribute>> discoveryAttributes = new HashMap<>();
+        rowDataCollector.forEach((organizationId, attributeValues) -> {
+            List<OrgDiscoveryAttribute> organizationDiscoveryAttributes = new ArrayList<>();
+            attributeValues.forEach((type, values) -> {
+                OrgDiscoveryAttribute attribute = new OrgDiscoveryAttribute();
+                attribute.setType(type);
+                attribute.setValues(values);
+                organizationDiscoveryAttributes.add(attribute);
+            });
+            discoveryAttributes.put(organizationId, organizationDiscoveryAttributes);
+        });
+        return discoveryAttributes;
+    }
+
     private List<OrganizationDiscovery> buildOrganizationsDiscoveryFromRawData(
             List<OrganizationDiscoveryRowDataCollector> organizationRowDataCollectors) {
 
@@ -328,6 +447,7 @@ public class OrganizationDiscoveryDAOImpl implements OrganizationDiscoveryDAO {
                 OrganizationDiscovery organizationDiscovery = new OrganizationDiscovery();
                 organizationDiscovery.setOrganizationId(organizationId);
                 organizationDiscovery.setOrganizationName(organizationName);
+                organizationDiscovery.setOrganizationHandle(collector.getOrganizationHandle());
                 organizationDiscovery.setDiscoveryAttributes(orgDiscoveryAttributeList);
 
                 discoveryList.add(organizationDiscovery);
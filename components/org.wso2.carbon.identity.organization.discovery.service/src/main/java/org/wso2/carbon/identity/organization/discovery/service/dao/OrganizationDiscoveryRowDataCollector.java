@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -18,6 +18,8 @@
 
 package org.wso2.carbon.identity.organization.discovery.service.dao;
 
+import java.sql.Timestamp;
+
 /**
  * This class represents a row of data from the database to retrieve an organization discovery attribute.
  */
@@ -27,6 +29,8 @@ public class OrganizationDiscoveryRowDataCollector {
     private String attributeType;
     private String attributeValue;
     private String organizationName;
+    private String organizationHandle;
+    private Timestamp createdTime;
 
     public String getId() {
 
@@ -67,4 +71,24 @@ public class OrganizationDiscoveryRowDataCollector {
 
         this.organizationName = organizationName;
     }
+
+    public String getOrganizationHandle() {
+
+        return organizationHandle;
+    }
+
+    public void setOrganizationHandle(String organizationHandle) {
+
+        this.organizationHandle = organizationHandle;
+    }
+
+    public Timestamp getCreatedTime() {
+
+        return createdTime;
+    }
+
+    public void setCreatedTime(Timestamp createdTime) {
+
+        this.createdTime = createdTime;
+    }
 }
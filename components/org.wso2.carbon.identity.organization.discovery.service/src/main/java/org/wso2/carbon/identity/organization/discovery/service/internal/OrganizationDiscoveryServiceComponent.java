@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -30,6 +30,7 @@ import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.application.authentication.framework.handler.orgdiscovery.OrganizationDiscoveryHandler;
 import org.wso2.carbon.identity.application.authentication.framework.handler.request.PostAuthenticationHandler;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.organization.config.service.OrganizationConfigManager;
 import org.wso2.carbon.identity.organization.discovery.service.AttributeBasedOrganizationDiscoveryHandler;
 import org.wso2.carbon.identity.organization.discovery.service.EmailDomainBasedDiscoveryHandler;
@@ -37,6 +38,7 @@ import org.wso2.carbon.identity.organization.discovery.service.OrganizationDisco
 import org.wso2.carbon.identity.organization.discovery.service.OrganizationDiscoveryManager;
 import org.wso2.carbon.identity.organization.discovery.service.OrganizationDiscoveryManagerImpl;
 import org.wso2.carbon.identity.organization.discovery.service.listener.EmailDomainValidationHandler;
+import org.wso2.carbon.identity.organization.discovery.service.listener.OrganizationDiscoveryIndexCacheInvalidationHandler;
 import org.wso2.carbon.identity.organization.discovery.service.listener.OrganizationDiscoveryUserOperationListener;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.user.core.listener.UserOperationEventListener;
@@ -67,6 +69,8 @@ public class OrganizationDiscoveryServiceComponent {
         bundleContext.registerService(PostAuthenticationHandler.class.getName(), emailDomainValidationHandler, null);
         bundleContext.registerService(
                 OrganizationDiscoveryHandler.class.getName(), new OrganizationDiscoveryHandlerImpl(), null);
+        bundleContext.registerService(AbstractEventHandler.class.getName(),
+                new OrganizationDiscoveryIndexCacheInvalidationHandler(), null);
         OrganizationDiscoveryServiceHolder.getInstance()
                 .setOrganizationDiscoveryManager(organizationDiscoveryManagerImpl);
         LOG.debug("Organization discovery service component activated successfully.");
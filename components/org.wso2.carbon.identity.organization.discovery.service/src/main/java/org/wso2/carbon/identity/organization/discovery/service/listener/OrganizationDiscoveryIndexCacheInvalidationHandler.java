@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.discovery.service.listener;
+
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.organization.discovery.service.cache.OrganizationDiscoveryIndexCache;
+import org.wso2.carbon.identity.organization.management.ext.Constants;
+
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+
+/**
+ * Event handler which clears the organization discovery index when an organization is deleted, as the discovery
+ * attributes of the deleted organization are removed along with it.
+ */
+public class OrganizationDiscoveryIndexCacheInvalidationHandler extends AbstractEventHandler {
+
+    @Override
+    public String getName() {
+
+        return "OrganizationDiscoveryIndexCacheInvalidationHandler";
+    }
+
+    @Override
+    public int getPriority(MessageContext messageContext) {
+
+        return 10;
+    }
+
+    @Override
+    public boolean canHandle(MessageContext messageContext) throws IdentityRuntimeException {
+
+        String eventName = ((IdentityEventMessageContext) messageContext).getEvent().getEventName();
+        return Constants.EVENT_POST_DELETE_ORGANIZATION.equals(eventName);
+    }
+
+    @Override
+    public void handleEvent(Event event) throws IdentityEventException {
+
+        // The root organization of a deleted organization can no longer be resolved, hence the whole index is cleared.
+        OrganizationDiscoveryIndexCache.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+    }
+}
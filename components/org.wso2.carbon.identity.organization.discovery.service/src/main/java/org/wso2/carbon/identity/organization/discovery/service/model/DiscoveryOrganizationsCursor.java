@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.discovery.service.model;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+
+/**
+ * Cursor of the keyset pagination of the organization discovery listing. The cursor carries the sort values of the
+ * last organization of a page, i.e. the created time and the ID of the organization, so that the next page can be
+ * selected even if that organization is deleted in the meantime.
+ */
+public class DiscoveryOrganizationsCursor {
+
+    private static final String SEPARATOR = ",";
+
+    private final Timestamp createdTime;
+    private final String organizationId;
+
+    public DiscoveryOrganizationsCursor(Timestamp createdTime, String organizationId) {
+
+        this.createdTime = createdTime;
+        this.organizationId = organizationId;
+    }
+
+    public Timestamp getCreatedTime() {
+
+        return createdTime;
+    }
+
+    public String getOrganizationId() {
+
+        return organizationId;
+    }
+
+    /**
+     * Encode the cursor to the opaque string returned to the clients.
+     *
+     * @return The encoded cursor.
+     */
+    public String encode() {
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((createdTime + SEPARATOR + organizationId)
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor returned to the clients.
+     *
+     * @param cursor The encoded cursor.
+     * @return The decoded cursor.
+     * @throws IllegalArgumentException If the cursor is not a valid cursor.
+     */
+    public static DiscoveryOrganizationsCursor decode(String cursor) {
+
+        String[] sortValues = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split(SEPARATOR, 2);
+        if (sortValues.length != 2 || StringUtils.isBlank(sortValues[1])) {
+            throw new IllegalArgumentException("Invalid organization discovery cursor: " + cursor);
+        }
+        return new DiscoveryOrganizationsCursor(Timestamp.valueOf(sortValues[0]), sortValues[1]);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -29,6 +29,7 @@ public class DiscoveryOrganizationsResult {
     private int limit;
     private int offset;
     private int totalResults;
+    private String nextCursor;
 
     public List<OrganizationDiscovery> getOrganizations() {
 
@@ -69,4 +70,20 @@ public class DiscoveryOrganizationsResult {
 
         this.totalResults = totalResults;
     }
+
+    /**
+     * Get the cursor to retrieve the next page with keyset pagination. The cursor encodes the created time and the ID
+     * of the last organization of the current page, and is null when there are no more organizations to be listed.
+     *
+     * @return The cursor of the next page.
+     */
+    public String getNextCursor() {
+
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+
+        this.nextCursor = nextCursor;
+    }
 }
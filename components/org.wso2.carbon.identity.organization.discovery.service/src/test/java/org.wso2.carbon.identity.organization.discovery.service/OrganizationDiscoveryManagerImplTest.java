@@ -29,6 +29,8 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
 import org.wso2.carbon.identity.organization.config.service.OrganizationConfigManager;
+import org.wso2.carbon.identity.organization.discovery.service.cache.OrganizationDiscoveryIndexCache;
+import org.wso2.carbon.identity.organization.discovery.service.cache.OrganizationDiscoveryIndexCacheEntry;
 import org.wso2.carbon.identity.organization.discovery.service.dao.OrganizationDiscoveryDAO;
 import org.wso2.carbon.identity.organization.discovery.service.dao.OrganizationDiscoveryDAOImpl;
 import org.wso2.carbon.identity.organization.discovery.service.internal.OrganizationDiscoveryServiceHolder;
@@ -38,12 +40,16 @@ import org.wso2.carbon.identity.organization.discovery.service.model.Organizatio
 import org.wso2.carbon.identity.organization.discovery.service.util.TestUtils;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementClientException;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
 
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -52,6 +58,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.SUPER_ORG_ID;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
 
 /**
  * Unit tests for Organization Discovery Manager.
@@ -113,6 +120,7 @@ public class OrganizationDiscoveryManagerImplTest {
     @AfterMethod
     public void tearDown() throws Exception {
 
+        OrganizationDiscoveryIndexCache.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
         TestUtils.closeH2Base();
     }
 
@@ -354,6 +362,60 @@ public class OrganizationDiscoveryManagerImplTest {
         Assert.assertEquals(discoveryOrganizationsResult.getOrganizations().size(), 1);
     }
 
+    @Test
+    public void testGetOrganizationsDiscoveryAttributesWithKeysetPagination() throws Exception {
+
+        DiscoveryOrganizationsResult firstPage = organizationDiscoveryManager
+                .getOrganizationsDiscoveryAttributes(1, null, null, true);
+        Assert.assertEquals(firstPage.getOrganizations().size(), 1);
+        Assert.assertEquals(firstPage.getTotalResults(), 2);
+        Assert.assertNotNull(firstPage.getNextCursor());
+
+        DiscoveryOrganizationsResult secondPage = organizationDiscoveryManager
+                .getOrganizationsDiscoveryAttributes(1, firstPage.getNextCursor(), null, false);
+        Assert.assertEquals(secondPage.getOrganizations().size(), 1);
+        Assert.assertEquals(secondPage.getTotalResults(), 0);
+        Assert.assertNull(secondPage.getNextCursor());
+
+        List<OrganizationDiscovery> organizations = new ArrayList<>(firstPage.getOrganizations());
+        organizations.addAll(secondPage.getOrganizations());
+        for (OrganizationDiscovery organization : organizations) {
+            Assert.assertEquals(organization.getDiscoveryAttributes().get(0).getValues().size(), 2);
+            if (WSO2_ORG_ID.equals(organization.getOrganizationId())) {
+                // The organization handle should be resolved by the listing query.
+                Assert.assertEquals(organization.getOrganizationHandle(), "wso2.com");
+            } else {
+                Assert.assertEquals(organization.getOrganizationId(), ABC_ORG_ID);
+            }
+        }
+    }
+
+    @Test
+    public void testGetOrganizationsDiscoveryAttributesAfterCursorOrganizationDeleted() throws Exception {
+
+        DiscoveryOrganizationsResult firstPage = organizationDiscoveryManager
+                .getOrganizationsDiscoveryAttributes(1, null, null, false);
+        String deletedOrganizationId = firstPage.getOrganizations().get(0).getOrganizationId();
+        try (Connection connection = TestUtils.dataSourceMap.get(TestUtils.DB_NAME).getConnection();
+             PreparedStatement statement = connection.prepareStatement("DELETE FROM UM_ORG WHERE UM_ID = ?")) {
+            statement.setString(1, deletedOrganizationId);
+            statement.executeUpdate();
+        }
+
+        // The cursor carries the sort values of the deleted organization, hence the next page is still listed.
+        DiscoveryOrganizationsResult secondPage = organizationDiscoveryManager
+                .getOrganizationsDiscoveryAttributes(1, firstPage.getNextCursor(), null, false);
+        Assert.assertEquals(secondPage.getOrganizations().size(), 1);
+        Assert.assertEquals(secondPage.getOrganizations().get(0).getOrganizationId(),
+                WSO2_ORG_ID.equals(deletedOrganizationId) ? ABC_ORG_ID : WSO2_ORG_ID);
+    }
+
+    @Test(expectedExceptions = OrganizationManagementClientException.class)
+    public void testGetOrganizationsDiscoveryAttributesWithInvalidCursor() throws Exception {
+
+        organizationDiscoveryManager.getOrganizationsDiscoveryAttributes(1, "invalid-cursor", null, false);
+    }
+
     @Test(expectedExceptions = OrganizationManagementClientException.class)
     public void testGetOrganizationsDiscoveryAttributesWithInvalidComplexFilterQuery() throws Exception {
 
@@ -419,6 +481,71 @@ public class OrganizationDiscoveryManagerImplTest {
         Assert.assertNull(organizationId);
     }
 
+    @Test
+    public void testGetOrganizationIdByDiscoveryAttributeAfterUpdate() throws Exception {
+
+        when(organizationManager.getPrimaryOrganizationId(WSO2_ORG_ID)).thenReturn(SUPER_ORG_ID);
+        when(attributeBasedOrganizationDiscoveryHandler.isDiscoveryConfigurationEnabled(SUPER_ORG_ID)).thenReturn(true);
+        when(attributeBasedOrganizationDiscoveryHandler.areAttributeValuesInValidFormat(anyList())).thenReturn(true);
+        when(attributeBasedOrganizationDiscoveryHandler.extractAttributeValue(anyString()))
+                .thenReturn(DISCOVERY_ATTRIBUTE_VALUE);
+
+        // Loads the discovery attribute index of the root organization.
+        Assert.assertEquals(organizationDiscoveryManager.getOrganizationIdByDiscoveryAttribute(
+                DISCOVERY_ATTRIBUTE_TYPE, DISCOVERY_INPUT, SUPER_ORG_ID), WSO2_ORG_ID);
+
+        List<OrgDiscoveryAttribute> discoveryAttributes = new ArrayList<>();
+        OrgDiscoveryAttribute orgDiscoveryAttribute = new OrgDiscoveryAttribute();
+        orgDiscoveryAttribute.setType(DISCOVERY_ATTRIBUTE_TYPE);
+        orgDiscoveryAttribute.setValues(Collections.singletonList("wso2.new"));
+        discoveryAttributes.add(orgDiscoveryAttribute);
+        organizationDiscoveryManager.updateOrganizationDiscoveryAttributes(WSO2_ORG_ID, discoveryAttributes, true);
+
+        // The index should reflect the updated discovery attributes.
+        Assert.assertNull(organizationDiscoveryManager.getOrganizationIdByDiscoveryAttribute(
+                DISCOVERY_ATTRIBUTE_TYPE, DISCOVERY_INPUT, SUPER_ORG_ID));
+        when(attributeBasedOrganizationDiscoveryHandler.extractAttributeValue(anyString())).thenReturn("wso2.new");
+        Assert.assertEquals(organizationDiscoveryManager.getOrganizationIdByDiscoveryAttribute(
+                DISCOVERY_ATTRIBUTE_TYPE, "dewni@wso2.new", SUPER_ORG_ID), WSO2_ORG_ID);
+        when(attributeBasedOrganizationDiscoveryHandler.extractAttributeValue(anyString())).thenReturn("abc.com");
+        Assert.assertEquals(organizationDiscoveryManager.getOrganizationIdByDiscoveryAttribute(
+                DISCOVERY_ATTRIBUTE_TYPE, "dewni@abc.com", SUPER_ORG_ID), ABC_ORG_ID);
+    }
+
+    @Test
+    public void testGetOrganizationIdByDiscoveryAttributeAfterDeleteWithoutRootOrganization() throws Exception {
+
+        when(attributeBasedOrganizationDiscoveryHandler.extractAttributeValue(anyString()))
+                .thenReturn(DISCOVERY_ATTRIBUTE_VALUE);
+        // Loads the discovery attribute index of the root organization.
+        Assert.assertEquals(organizationDiscoveryManager.getOrganizationIdByDiscoveryAttribute(
+                DISCOVERY_ATTRIBUTE_TYPE, DISCOVERY_INPUT, SUPER_ORG_ID), WSO2_ORG_ID);
+
+        // The root organization cannot be resolved while the organization is being deleted.
+        when(organizationManager.getPrimaryOrganizationId(WSO2_ORG_ID))
+                .thenThrow(OrganizationManagementServerException.class);
+        organizationDiscoveryManager.deleteOrganizationDiscoveryAttributes(WSO2_ORG_ID, false);
+
+        Assert.assertNull(organizationDiscoveryManager.getOrganizationIdByDiscoveryAttribute(
+                DISCOVERY_ATTRIBUTE_TYPE, DISCOVERY_INPUT, SUPER_ORG_ID));
+    }
+
+    @Test
+    public void testDiscoveryAttributeIndexIsBounded() throws Exception {
+
+        Map<String, List<OrgDiscoveryAttribute>> discoveryAttributes =
+                organizationDiscoveryDAO.getDiscoveryAttributesUnderRootOrganization(SUPER_ORG_ID);
+
+        OrganizationDiscoveryIndexCacheEntry discoveryAttributeIndex =
+                new OrganizationDiscoveryIndexCacheEntry(discoveryAttributes, 4);
+        Assert.assertTrue(discoveryAttributeIndex.isIndexed());
+        Assert.assertEquals(discoveryAttributeIndex.getOrganizationId(DISCOVERY_ATTRIBUTE_TYPE, "abc.io"), ABC_ORG_ID);
+
+        discoveryAttributeIndex = new OrganizationDiscoveryIndexCacheEntry(discoveryAttributes, 3);
+        Assert.assertFalse(discoveryAttributeIndex.isIndexed());
+        Assert.assertNull(discoveryAttributeIndex.getOrganizationId(DISCOVERY_ATTRIBUTE_TYPE, "abc.io"));
+    }
+
     @Test
     public void testGetOrganizationsDiscoveryAttributesSortedByCreatedTime() throws Exception {
 
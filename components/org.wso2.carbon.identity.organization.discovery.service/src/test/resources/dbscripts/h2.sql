@@ -66,6 +66,17 @@ SELECT UM_ID, UM_ORG_NAME, UM_ORG_DESCRIPTION, UM_CREATED_TIME, UM_LAST_MODIFIED
 ) S
 WHERE NOT EXISTS (SELECT * FROM UM_ORG org WHERE org.UM_ID = S.UM_ID);
 
+CREATE TABLE IF NOT EXISTS UM_TENANT (
+            UM_ID INTEGER NOT NULL AUTO_INCREMENT,
+            UM_DOMAIN_NAME VARCHAR(255) NOT NULL,
+            UM_ORG_UUID VARCHAR(36) DEFAULT NULL,
+            PRIMARY KEY (UM_ID),
+            UNIQUE (UM_DOMAIN_NAME),
+            UNIQUE (UM_ORG_UUID)
+);
+
+INSERT INTO UM_TENANT (UM_DOMAIN_NAME, UM_ORG_UUID) VALUES ('wso2.com', '20084a8d-113f-4211-a0d5-efe36b082212');
+
 CREATE TABLE IF NOT EXISTS UM_ORG_DISCOVERY (
             UM_ID INTEGER NOT NULL AUTO_INCREMENT,
             UM_ORG_ID VARCHAR(36) NOT NULL,
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -72,6 +72,7 @@ import org.wso2.carbon.identity.organization.management.application.dao.OrgAppli
 import org.wso2.carbon.identity.organization.management.application.internal.OrgApplicationMgtDataHolder;
 import org.wso2.carbon.identity.organization.management.application.listener.ApplicationSharingManagerListener;
 import org.wso2.carbon.identity.organization.management.application.model.MainApplicationDO;
+import org.wso2.carbon.identity.organization.management.application.model.OrganizationTypeDO;
 import org.wso2.carbon.identity.organization.management.application.model.RoleWithAudienceDO;
 import org.wso2.carbon.identity.organization.management.application.model.SharedApplication;
 import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationDO;
@@ -84,6 +85,7 @@ import org.wso2.carbon.identity.organization.management.application.model.operat
 import org.wso2.carbon.identity.organization.management.application.model.operation.SelectiveShareApplicationOperation;
 import org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil;
 import org.wso2.carbon.identity.organization.management.application.util.OrgApplicationScimFilterParser;
+import org.wso2.carbon.identity.organization.management.application.util.OrgApplicationShareScheduler;
 import org.wso2.carbon.identity.organization.management.ext.Constants;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants;
@@ -127,6 +129,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -169,6 +172,7 @@ import static org.wso2.carbon.identity.organization.management.application.const
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ORGANIZATION_LOGIN_AUTHENTICATOR;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.PARENT_ORGANIZATION_ID;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ROLE_SHARING_MODE;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.SHARED_APP_CACHE_KEYS_OF_DELETED_FRAGMENT;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.SHARE_WITH_ALL_CHILDREN;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.SKIP_ORGANIZATION_HIERARCHY_VALIDATION;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.SP_SHARED_ROLE_EXCLUDED_KEY;
@@ -187,7 +191,8 @@ import static org.wso2.carbon.identity.organization.management.application.util.
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil.setIsAppSharedProperty;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil.setShareWithAllChildrenProperty;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationScimFilterParser.parseFilter;
-import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationShareProcessor.getAllOrganizationIdsInBfsOrder;
+import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationShareProcessor.getAllOrganizationIdsInBfsLevels;
+import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationShareProcessor.getOrganizationDepths;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationShareProcessor.getOrganizationIdsInBfsOrder;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationShareProcessor.getValidOrganizationsInReverseBfsOrder;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationShareProcessor.processAndSortOrganizationShares;
@@ -382,7 +387,18 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
         String userID = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUserId();
         String sharePolicy = OrgApplicationMgtConstants.SharePolicy.SELECTIVE_SHARE.getValue();
         String operationId = getOperationId(mainApplicationId, mainApplicationId, userID, sharePolicy);
-        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        /*
+         * Organizations at the same depth are shared in parallel, while a depth is shared only after its parent
+         * depth is completed, as sharing with an organization requires the application to be shared with its parent.
+         */
+        Map<String, Integer> organizationDepths = getOrganizationDepths(childOrganizationGraph);
+        Map<Integer, List<Runnable>> shareTasksByDepth = new TreeMap<>();
+        // Resolve the types of all the organizations to share with at once, instead of loading each organization.
+        Map<String, OrganizationTypeDO> organizationTypes = getOrgApplicationMgtDAO().getOrganizationTypes(
+                selectiveShareApplicationOperations.stream()
+                        .map(SelectiveShareApplicationOperation::getOrganizationId)
+                        .filter(StringUtils::isNotBlank)
+                        .collect(Collectors.toList()));
 
         List<String> orgIdsToShare = new ArrayList<>();
         // Share the application with each valid child organization as per the config.
@@ -392,12 +408,11 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
                 throw handleClientException(ERROR_CODE_INVALID_ORGANIZATION, mainApplicationId);
             }
 
-            Organization sharingChildOrg = getOrganizationManager().getOrganization(childOrgId, false, false);
+            OrganizationTypeDO sharingChildOrg = organizationTypes.get(childOrgId);
             // Only share with organizations of type TENANT.
-            if (TENANT.equalsIgnoreCase(sharingChildOrg.getType())) {
-                orgIdsToShare.add(sharingChildOrg.getId());
-                CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-
+            if (sharingChildOrg != null && TENANT.equalsIgnoreCase(sharingChildOrg.getType())) {
+                orgIdsToShare.add(childOrgId);
+                Runnable shareTask = () -> {
                     try {
                         if (skipOrganizationHierarchyValidation) {
                             IdentityUtil.threadLocalProperties.get().put(SKIP_ORGANIZATION_HIERARCHY_VALIDATION, true);
@@ -405,36 +420,27 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
                         shareApplicationWithPolicy(
                                 mainOrganizationId,
                                 mainApplication,
-                                sharingChildOrg.getId(),
+                                childOrgId,
                                 selectiveShareApplication.getPolicy(),
                                 selectiveShareApplication.getRoleSharing(),
                                 operationId
                         );
                     } catch (OrganizationManagementException e) {
                         LOG.error(String.format("Error in sharing application: %s to sharingChildOrg: %s",
-                                mainApplication.getApplicationResourceId(), sharingChildOrg.getId()), e);
+                                mainApplication.getApplicationResourceId(), childOrgId), e);
                     } finally {
                         if (skipOrganizationHierarchyValidation) {
                             IdentityUtil.threadLocalProperties.get().remove(SKIP_ORGANIZATION_HIERARCHY_VALIDATION);
                         }
                     }
-                }, executorService);
-                futures.add(future);
+                };
+                shareTasksByDepth.computeIfAbsent(organizationDepths.get(childOrgId), depth -> new ArrayList<>())
+                        .add(shareTask);
             }
         }
-        if (StringUtils.isNotBlank(operationId)) {
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenRun(() -> {
-                try {
-                    getAsyncStatusMgtService().updateOperationStatus(operationId, getOperationStatus(operationId));
-                } catch (AsyncOperationStatusMgtException e) {
-                    try {
-                        throw handleServerException(ERROR_CODE_ERROR_RETRIEVING_APPLICATION_SHARED_ACCESS_STATUS, e);
-                    } catch (OrganizationManagementServerException ex) {
-                        throw new RuntimeException(ex);
-                    }
-                }
-            }).join();
-        }
+        List<List<Runnable>> shareLevels = new ArrayList<>(shareTasksByDepth.values());
+        CompletableFuture<Void> shareFuture = OrgApplicationShareScheduler.schedule(shareLevels);
+        updateOperationStatusOnCompletion(shareFuture, operationId);
         if (LoggerUtils.isEnableV2AuditLogs()) {
             String username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
             AuditLog.AuditLogBuilder auditLogBuilder = new AuditLog.AuditLogBuilder(
@@ -445,6 +451,27 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
         }
     }
 
+    private void updateOperationStatusOnCompletion(CompletableFuture<Void> shareFuture, String operationId) {
+
+        if (StringUtils.isBlank(operationId)) {
+            return;
+        }
+        // The share request is not blocked on the share completion, hence the status is updated by the scheduler.
+        shareFuture.whenComplete((result, throwable) -> {
+            OperationStatus operationStatus = getOperationStatus(operationId);
+            if (throwable != null) {
+                // The shares are not completed, such as when the scheduler is shut down while sharing.
+                LOG.error("The application share operation: " + operationId + " is not completed.", throwable);
+                operationStatus = OperationStatus.FAILED;
+            }
+            try {
+                getAsyncStatusMgtService().updateOperationStatus(operationId, operationStatus);
+            } catch (AsyncOperationStatusMgtException e) {
+                LOG.error("Error while updating the status of the application share operation: " + operationId, e);
+            }
+        });
+    }
+
     private Map<String, String> buildShareAppAuditData(String mainApplicationId, List<String> sharedTenantDomainList) {
 
         Map<String, String> auditData = new HashMap<>();
@@ -560,61 +587,56 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
             return;
         }
 
-        List<String> allOrganizationIdsInBfsOrder = getAllOrganizationIdsInBfsOrder(mainOrganizationId);
+        List<List<String>> allOrganizationIdsInBfsLevels = getAllOrganizationIdsInBfsLevels(mainOrganizationId);
         if (PolicyEnum.ALL_EXISTING_AND_FUTURE_ORGS.ordinal() == applicationSharingPolicy.ordinal() ||
-                !allOrganizationIdsInBfsOrder.isEmpty()) {
+                !allOrganizationIdsInBfsLevels.isEmpty()) {
             setIsAppSharedProperty(mainApplication, true);
             // If there are valid orgs to share with, update the root application with the org login IDP.
             modifyRootApplication(mainApplication, ownerTenantDomain);
         }
 
-        if (allOrganizationIdsInBfsOrder.isEmpty()) {
+        if (allOrganizationIdsInBfsLevels.isEmpty()) {
             return;
         }
 
         String userID = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUserId();
         String sharePolicy = applicationSharingPolicy.getValue();
         String operationId = getOperationId(mainApplicationId, mainApplicationId, userID, sharePolicy);
-        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        List<List<Runnable>> shareLevels = new ArrayList<>();
+        // Resolve the types of all the organizations to share with at once, instead of loading each organization.
+        Map<String, OrganizationTypeDO> organizationTypes = getOrgApplicationMgtDAO().getOrganizationTypes(
+                allOrganizationIdsInBfsLevels.stream().flatMap(List::stream).collect(Collectors.toList()));
 
         List<String> orgIdsToShare = new ArrayList<>();
-        // Share the application with each valid child organization as per the config.
-        for (String childOrgId : allOrganizationIdsInBfsOrder) {
-            Organization sharingChildOrg = getOrganizationManager().getOrganization(childOrgId, false, false);
-            // Only share with organizations of type TENANT.
-            if (TENANT.equalsIgnoreCase(sharingChildOrg.getType())) {
-                orgIdsToShare.add(sharingChildOrg.getId());
-                CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                    try {
-                        shareApplicationWithPolicy(
-                                mainOrganizationId,
-                                mainApplication,
-                                sharingChildOrg.getId(),
-                                PolicyEnum.SELECTED_ORG_ONLY,
-                                generalApplicationShare.getRoleSharing(),
-                                operationId
-                        );
-                    } catch (OrganizationManagementException e) {
-                        LOG.error(String.format("Error in sharing application: %s to sharingChildOrg: %s",
-                                mainApplication.getApplicationResourceId(), sharingChildOrg.getId()), e);
-                    }
-                }, executorService);
-                futures.add(future);
-            }
-        }
-        if (StringUtils.isNotBlank(operationId)) {
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenRun(() -> {
-                try {
-                    getAsyncStatusMgtService().updateOperationStatus(operationId, getOperationStatus(operationId));
-                } catch (AsyncOperationStatusMgtException e) {
-                    try {
-                        throw handleServerException(ERROR_CODE_ERROR_RETRIEVING_APPLICATION_SHARED_ACCESS_STATUS, e);
-                    } catch (OrganizationManagementServerException ex) {
-                        throw new RuntimeException(ex);
-                    }
+        // Share the application with each valid child organization, level by level.
+        for (List<String> organizationIdsInLevel : allOrganizationIdsInBfsLevels) {
+            List<Runnable> shareTasks = new ArrayList<>();
+            for (String childOrgId : organizationIdsInLevel) {
+                OrganizationTypeDO sharingChildOrg = organizationTypes.get(childOrgId);
+                // Only share with organizations of type TENANT.
+                if (sharingChildOrg != null && TENANT.equalsIgnoreCase(sharingChildOrg.getType())) {
+                    orgIdsToShare.add(childOrgId);
+                    shareTasks.add(() -> {
+                        try {
+                            shareApplicationWithPolicy(
+                                    mainOrganizationId,
+                                    mainApplication,
+                                    childOrgId,
+                                    PolicyEnum.SELECTED_ORG_ONLY,
+                                    generalApplicationShare.getRoleSharing(),
+                                    operationId
+                            );
+                        } catch (OrganizationManagementException e) {
+                            LOG.error(String.format("Error in sharing application: %s to sharingChildOrg: %s",
+                                    mainApplication.getApplicationResourceId(), childOrgId), e);
+                        }
+                    });
                 }
-            }).join();
+            }
+            shareLevels.add(shareTasks);
         }
+        CompletableFuture<Void> shareFuture = OrgApplicationShareScheduler.schedule(shareLevels);
+        updateOperationStatusOnCompletion(shareFuture, operationId);
         if (LoggerUtils.isEnableV2AuditLogs()) {
             String username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
             AuditLog.AuditLogBuilder auditLogBuilder = new AuditLog.AuditLogBuilder(
@@ -1003,6 +1025,7 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
         } finally {
             IdentityUtil.threadLocalProperties.get().remove(DELETE_FRAGMENT_APPLICATION);
             IdentityUtil.threadLocalProperties.get().remove(DELETE_SHARE_FOR_MAIN_APPLICATION);
+            IdentityUtil.threadLocalProperties.get().remove(SHARED_APP_CACHE_KEYS_OF_DELETED_FRAGMENT);
         }
     }
 
@@ -1067,13 +1090,6 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
             parentOrgId = mainOrganizationId;
         }
 
-        List<String> organizationIds;
-        if (StringUtils.isNotBlank(parentOrgId)) {
-            organizationIds = getOrganizationManager().getChildOrganizationsIds(parentOrgId, recursive);
-        } else {
-            organizationIds = new ArrayList<>();
-        }
-
         List<String> includedAttributesList = getIncludedAttributes(attributes);
         String mainOrgHandle = getOrganizationManager().resolveTenantDomain(mainOrganizationId);
         SharingModeDO sharingModeDO = null;
@@ -1084,8 +1100,10 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
         // Fetch one more item than requested to determine if there are more items.
         // Limit == 0 means no limit has been set. So we should get all items.
         int fetchLimit = limit == 0 ? limit : limit + 1;
-        List<SharedApplicationDO> sharedApplications = getOrgApplicationMgtDAO().getSharedApplications(
-                mainOrganizationId, mainApplicationId, organizationIds, expressionNodeList, sortOrder, fetchLimit);
+        // The descendant organizations are resolved from the organization hierarchy by the DAO.
+        List<SharedApplicationDO> sharedApplications = getOrgApplicationMgtDAO().getSharedApplicationsInOrgHierarchy(
+                mainOrganizationId, mainApplicationId, parentOrgId, recursive, expressionNodeList, sortOrder,
+                fetchLimit);
 
         if (CollectionUtils.isEmpty(sharedApplications)) {
             return new SharedApplicationOrganizationNodePage(Collections.emptyList(), sharingModeDO, 0, 0);
@@ -1110,7 +1128,8 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
         List<String> excludedAttributesList = getExcludedAttributes(excludedAttributes);
         for (SharedApplicationDO sharedApplicationDO : sharedApplications) {
             applicationSharedOrganizationsList.add(getApplicationSharedOrganizationNode(sharedApplicationDO,
-                    mainOrganizationId, mainApplicationId, excludedAttributesList, includedAttributesList));
+                    mainOrganizationId, mainOrgHandle, mainApplicationId, excludedAttributesList,
+                    includedAttributesList));
         }
 
         // Calculate next and previous tokens.
@@ -1176,12 +1195,11 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
     }
 
     private SharedApplicationOrganizationNode getApplicationSharedOrganizationNode(
-            SharedApplicationDO sharedApplicationDO, String mainOrgId, String mainApplicationId,
-            List<String> excludedAttributesList, List<String> includedAttributesList)
+            SharedApplicationDO sharedApplicationDO, String mainOrgId, String mainOrgHandle,
+            String mainApplicationId, List<String> excludedAttributesList, List<String> includedAttributesList)
             throws OrganizationManagementException {
 
         // 1. Get the sub organization ID and the handle.
-        String mainOrgHandle = getOrganizationManager().resolveTenantDomain(mainOrgId);
         String subOrgId = sharedApplicationDO.getOrganizationId();
         String subOrgHandle = getOrganizationManager().resolveTenantDomain(subOrgId);
         String sharedAppResourceId = sharedApplicationDO.getFragmentApplicationId();
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache which holds the configurations fragment applications inherit from their main applications, so that reading
+ * a fragment application does not have to load the main application and rebuild those configurations every time.
+ * <p>
+ * Size, expiry and cluster wide invalidation of this cache are governed by the carbon caching configuration.
+ */
+public class FragmentApplicationConfigCache
+        extends BaseCache<FragmentApplicationConfigCacheKey, FragmentApplicationConfigCacheEntry> {
+
+    private static final String CACHE_NAME = "FragmentApplicationConfigCache";
+    private static final FragmentApplicationConfigCache INSTANCE = new FragmentApplicationConfigCache();
+
+    private FragmentApplicationConfigCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the fragment application config cache.
+     *
+     * @return The {@link FragmentApplicationConfigCache} instance.
+     */
+    public static FragmentApplicationConfigCache getInstance() {
+
+        return INSTANCE;
+    }
+}
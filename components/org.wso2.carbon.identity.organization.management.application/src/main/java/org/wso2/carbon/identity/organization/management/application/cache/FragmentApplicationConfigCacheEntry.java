@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.cache;
+
+import org.wso2.carbon.identity.application.common.model.AssociatedRolesConfig;
+import org.wso2.carbon.identity.application.common.model.ClaimConfig;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.application.common.model.RoleV2;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.Arrays;
+
+import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.IS_API_BASED_AUTHENTICATION_ENABLED_PROPERTY_NAME;
+
+/**
+ * Cache entry for the fragment application config cache. Holds the configurations a fragment application inherits
+ * from its main application, with the claim mappings and the associated roles already resolved for the organization
+ * the application is shared with.
+ */
+public class FragmentApplicationConfigCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -2716408351934728105L;
+
+    private final ClaimMapping[] claimMappings;
+    private final boolean alwaysSendMappedLocalSubjectId;
+    private final boolean mappedLocalSubjectMandatory;
+    private final boolean hasAssociatedRoles;
+    private final String allowedAudience;
+    private final RoleV2[] associatedRoles;
+    private final boolean apiBasedAuthenticationPropertyEnabled;
+    private final boolean apiBasedAuthenticationEnabled;
+    private final boolean applicationEnabled;
+    private final boolean discoverable;
+    private final String accessUrl;
+    private final String applicationVersion;
+
+    /**
+     * Create a cache entry from the main application and the configurations resolved for the shared organization.
+     *
+     * @param mainApplication       The main application.
+     * @param claimConfig           The claim configuration of the fragment application.
+     * @param associatedRolesConfig The associated roles of the fragment application, or null if the main application
+     *                              has no associated roles configured.
+     */
+    public FragmentApplicationConfigCacheEntry(ServiceProvider mainApplication, ClaimConfig claimConfig,
+                                               AssociatedRolesConfig associatedRolesConfig) {
+
+        this.claimMappings = claimConfig.getClaimMappings();
+        this.alwaysSendMappedLocalSubjectId = claimConfig.isAlwaysSendMappedLocalSubjectId();
+        this.mappedLocalSubjectMandatory = claimConfig.isMappedLocalSubjectMandatory();
+        this.hasAssociatedRoles = associatedRolesConfig != null;
+        this.allowedAudience = hasAssociatedRoles ? associatedRolesConfig.getAllowedAudience() : null;
+        this.associatedRoles = hasAssociatedRoles ? associatedRolesConfig.getRoles() : null;
+        this.apiBasedAuthenticationPropertyEnabled = Arrays.stream(mainApplication.getSpProperties())
+                .anyMatch(p -> IS_API_BASED_AUTHENTICATION_ENABLED_PROPERTY_NAME.equalsIgnoreCase(p.getName()) &&
+                        Boolean.parseBoolean(p.getValue()));
+        this.apiBasedAuthenticationEnabled = mainApplication.isAPIBasedAuthenticationEnabled();
+        this.applicationEnabled = mainApplication.isApplicationEnabled();
+        this.discoverable = mainApplication.isDiscoverable();
+        this.accessUrl = mainApplication.getAccessUrl();
+        this.applicationVersion = mainApplication.getApplicationVersion();
+    }
+
+    /**
+     * Get the claim configuration of the fragment application. A new instance is returned on every invocation, so
+     * that the cached configuration is not modified through the fragment application.
+     *
+     * @return The claim configuration.
+     */
+    public ClaimConfig getClaimConfig() {
+
+        ClaimConfig claimConfig = new ClaimConfig();
+        claimConfig.setClaimMappings(claimMappings == null ? null : Arrays.copyOf(claimMappings,
+                claimMappings.length));
+        claimConfig.setAlwaysSendMappedLocalSubjectId(alwaysSendMappedLocalSubjectId);
+        claimConfig.setMappedLocalSubjectMandatory(mappedLocalSubjectMandatory);
+        return claimConfig;
+    }
+
+    /**
+     * Get the associated roles of the fragment application. A new instance is returned on every invocation.
+     *
+     * @return The associated roles configuration, or null if the main application has no associated roles configured.
+     */
+    public AssociatedRolesConfig getAssociatedRolesConfig() {
+
+        if (!hasAssociatedRoles) {
+            return null;
+        }
+        AssociatedRolesConfig associatedRolesConfig = new AssociatedRolesConfig();
+        associatedRolesConfig.setAllowedAudience(allowedAudience);
+        associatedRolesConfig.setRoles(associatedRoles == null ? null : Arrays.copyOf(associatedRoles,
+                associatedRoles.length));
+        return associatedRolesConfig;
+    }
+
+    public boolean isAPIBasedAuthenticationPropertyEnabled() {
+
+        return apiBasedAuthenticationPropertyEnabled;
+    }
+
+    public boolean isAPIBasedAuthenticationEnabled() {
+
+        return apiBasedAuthenticationEnabled;
+    }
+
+    public boolean isApplicationEnabled() {
+
+        return applicationEnabled;
+    }
+
+    public boolean isDiscoverable() {
+
+        return discoverable;
+    }
+
+    public String getAccessUrl() {
+
+        return accessUrl;
+    }
+
+    public String getApplicationVersion() {
+
+        return applicationVersion;
+    }
+}
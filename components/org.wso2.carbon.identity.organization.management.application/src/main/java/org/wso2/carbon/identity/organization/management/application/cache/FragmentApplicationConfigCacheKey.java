@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.Objects;
+
+/**
+ * Cache key for the fragment application config cache. The key is the ID of the main application together with the
+ * ID of the organization the application is shared with.
+ */
+public class FragmentApplicationConfigCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 5820163947725301846L;
+
+    private final String mainApplicationId;
+    private final String sharedOrganizationId;
+
+    public FragmentApplicationConfigCacheKey(String mainApplicationId, String sharedOrganizationId) {
+
+        this.mainApplicationId = mainApplicationId;
+        this.sharedOrganizationId = sharedOrganizationId;
+    }
+
+    public String getMainApplicationId() {
+
+        return mainApplicationId;
+    }
+
+    public String getSharedOrganizationId() {
+
+        return sharedOrganizationId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FragmentApplicationConfigCacheKey)) {
+            return false;
+        }
+        FragmentApplicationConfigCacheKey that = (FragmentApplicationConfigCacheKey) o;
+        return Objects.equals(mainApplicationId, that.mainApplicationId) &&
+                Objects.equals(sharedOrganizationId, that.sharedOrganizationId);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(mainApplicationId, sharedOrganizationId);
+    }
+}
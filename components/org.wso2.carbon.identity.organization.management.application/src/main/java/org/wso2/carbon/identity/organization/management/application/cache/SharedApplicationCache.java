@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.organization.management.application.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache which holds the links between main applications and their shared applications, so that resolving the shared
+ * application of an organization login, or the main application of a shared application, does not have to query the
+ * database on every request. Links which do not exist are cached as well.
+ * <p>
+ * Size, expiry and cluster wide invalidation of this cache are governed by the carbon caching configuration.
+ */
+public class SharedApplicationCache extends BaseCache<SharedApplicationCacheKey, SharedApplicationCacheEntry> {
+
+    private static final String CACHE_NAME = "SharedApplicationCache";
+    private static final SharedApplicationCache INSTANCE = new SharedApplicationCache();
+
+    private SharedApplicationCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the shared application cache.
+     *
+     * @return The {@link SharedApplicationCache} instance.
+     */
+    public static SharedApplicationCache getInstance() {
+
+        return INSTANCE;
+    }
+}
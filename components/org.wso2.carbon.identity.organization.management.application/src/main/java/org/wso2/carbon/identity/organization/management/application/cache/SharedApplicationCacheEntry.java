@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.organization.management.application.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+/**
+ * Cache entry for the shared application cache. Holds the link between a main application and its shared
+ * application. When there is no such link, the side which was looked up for is null.
+ */
+public class SharedApplicationCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 6308174925519247763L;
+
+    private final String mainApplicationId;
+    private final String ownerOrganizationId;
+    private final String sharedApplicationId;
+
+    public SharedApplicationCacheEntry(String mainApplicationId, String ownerOrganizationId,
+                                       String sharedApplicationId) {
+
+        this.mainApplicationId = mainApplicationId;
+        this.ownerOrganizationId = ownerOrganizationId;
+        this.sharedApplicationId = sharedApplicationId;
+    }
+
+    public String getMainApplicationId() {
+
+        return mainApplicationId;
+    }
+
+    public String getOwnerOrganizationId() {
+
+        return ownerOrganizationId;
+    }
+
+    public String getSharedApplicationId() {
+
+        return sharedApplicationId;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.organization.management.application.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.Objects;
+
+/**
+ * Cache key for the shared application cache. A link is cached under two keys: the ID of the main application with
+ * the IDs of its owner organization and the shared organization, and the ID of the shared application with the ID of
+ * the shared organization.
+ */
+public class SharedApplicationCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = -4172035981736284210L;
+
+    private final String applicationId;
+    private final String ownerOrganizationId;
+    private final String sharedOrganizationId;
+
+    private SharedApplicationCacheKey(String applicationId, String ownerOrganizationId, String sharedOrganizationId) {
+
+        this.applicationId = applicationId;
+        this.ownerOrganizationId = ownerOrganizationId;
+        this.sharedOrganizationId = sharedOrganizationId;
+    }
+
+    /**
+     * Create the key to look up the shared application of a main application.
+     *
+     * @param mainApplicationId    The ID of the main application.
+     * @param ownerOrganizationId  The ID of the organization which owns the main application.
+     * @param sharedOrganizationId The ID of the organization the application is shared with.
+     * @return The cache key.
+     */
+    public static SharedApplicationCacheKey forMainApplication(String mainApplicationId, String ownerOrganizationId,
+                                                               String sharedOrganizationId) {
+
+        return new SharedApplicationCacheKey(mainApplicationId, ownerOrganizationId, sharedOrganizationId);
+    }
+
+    /**
+     * Create the key to look up the main application of a shared application.
+     *
+     * @param sharedApplicationId  The ID of the shared application.
+     * @param sharedOrganizationId The ID of the organization the shared application resides in.
+     * @return The cache key.
+     */
+    public static SharedApplicationCacheKey forSharedApplication(String sharedApplicationId,
+                                                                 String sharedOrganizationId) {
+
+        return new SharedApplicationCacheKey(sharedApplicationId, null, sharedOrganizationId);
+    }
+
+    public String getApplicationId() {
+
+        return applicationId;
+    }
+
+    public String getOwnerOrganizationId() {
+
+        return ownerOrganizationId;
+    }
+
+    public String getSharedOrganizationId() {
+
+        return sharedOrganizationId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SharedApplicationCacheKey)) {
+            return false;
+        }
+        SharedApplicationCacheKey that = (SharedApplicationCacheKey) o;
+        return Objects.equals(applicationId, that.applicationId) &&
+                Objects.equals(ownerOrganizationId, that.ownerOrganizationId) &&
+                Objects.equals(sharedOrganizationId, that.sharedOrganizationId);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(applicationId, ownerOrganizationId, sharedOrganizationId);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2025, WSO2 LLC. (https://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 LLC. (https://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -63,6 +63,7 @@ public class OrgApplicationMgtConstants {
     public static final String ORGANIZATION_IDENTIFIER_HANDLER = "OrganizationIdentifierHandler";
     public static final String DELETE_FRAGMENT_APPLICATION = "deleteFragmentApplication";
     public static final String DELETE_MAIN_APPLICATION = "deleteMainApplication";
+    public static final String SHARED_APP_CACHE_KEYS_OF_DELETED_FRAGMENT = "sharedAppCacheKeysOfDeletedFragment";
     public static final String UPDATE_SP_METADATA_SHARE_WITH_ALL_CHILDREN = "updateShareWithAllChildren";
     /* This constant is used to skip the organization hierarchy validation when sharing an application. This is just
      keep the backward compatibility for existing application share endpoint. DO NOT use this in any new features. */
@@ -197,7 +198,9 @@ public class OrgApplicationMgtConstants {
         ERROR_CODE_ERROR_RETRIEVING_APP_ROLE_ALLOWED_AUDIENCE("65003",
                 "Unable to retrieve application allowed audience for role association.",
                 "An error occurred while retrieving allowed audience for role association " +
-                        "for the application: %s.");
+                        "for the application: %s."),
+        ERROR_CODE_ERROR_RETRIEVING_ORGANIZATION_TYPES("65004", "Unable to retrieve organization types.",
+                "An error occurred while retrieving the types of the organizations to share the application with.");
 
         private final String code;
         private final String message;
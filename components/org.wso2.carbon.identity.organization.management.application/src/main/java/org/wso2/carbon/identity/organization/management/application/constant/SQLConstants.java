@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -93,6 +93,21 @@ public class SQLConstants {
     public static final String GET_SHARED_APPLICATIONS_BY_FILTERING_TAIL = " SHARED_ORG_ID IN (" +
             SQLPlaceholders.SHARED_ORG_ID_LIST_PLACEHOLDER + ") ORDER BY ID %s";
 
+    public static final String GET_DESCENDANT_ORG_IDS_FROM_ORG_HIERARCHY = "SELECT UM_ID FROM UM_ORG_HIERARCHY " +
+            "WHERE UM_PARENT_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_UM_PARENT_ID + "; AND DEPTH > 0";
+
+    public static final String GET_CHILD_ORG_IDS_FROM_ORG_HIERARCHY = "SELECT UM_ID FROM UM_ORG_HIERARCHY " +
+            "WHERE UM_PARENT_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_UM_PARENT_ID + "; AND DEPTH = 1";
+
+    public static final String ORG_HIERARCHY_KEYSET_CONDITION = " AND UM_ID > :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_UM_ID + ";";
+
+    public static final String ORG_HIERARCHY_PAGE_TAIL = " ORDER BY UM_ID LIMIT %d";
+
+    public static final String ORG_HIERARCHY_PAGE_TAIL_MSSQL = " ORDER BY UM_ID OFFSET 0 ROWS FETCH NEXT %d ROWS ONLY";
+
+    public static final String ORG_HIERARCHY_PAGE_TAIL_ORACLE = " ORDER BY UM_ID FETCH FIRST %d ROWS ONLY";
+
     public static final String LOAD_DISCOVERABLE_SHARED_APPS_BY_TENANT_MYSQL =
             "SELECT DISTINCT sa_shared.ID, sa_shared.APP_NAME, sa_shared.DESCRIPTION, sa_shared.UUID, " +
             "sa_shared.IMAGE_URL, CASE WHEN sa_shared.ACCESS_URL IS NOT NULL THEN sa_shared.ACCESS_URL ELSE " +
@@ -218,6 +233,14 @@ public class SQLConstants {
     public static final String DELETE_SHARED_APP_LINKS_OF_ORG = "DELETE FROM SP_SHARED_APP WHERE SHARED_ORG_ID = :" +
             SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_SHARED_ORG_ID + ";";
 
+    public static final String GET_SHARED_APP_LINKS_OF_ORG = "SELECT MAIN_APP_ID, SHARED_ORG_ID FROM SP_SHARED_APP " +
+            "WHERE OWNER_ORG_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_OWNER_ORG_ID + "; OR SHARED_ORG_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_SHARED_ORG_ID + ";";
+
+    public static final String GET_ORGANIZATION_TYPES = "SELECT O.UM_ID, O.UM_ORG_TYPE, O.UM_STATUS, " +
+            "T.UM_DOMAIN_NAME FROM UM_ORG O LEFT JOIN UM_TENANT T ON T.UM_ORG_UUID = O.UM_ID WHERE O.UM_ID IN (" +
+            SQLPlaceholders.ORG_ID_LIST_PLACEHOLDER + ")";
+
     private SQLConstants() {
 
     }
@@ -241,6 +264,17 @@ public class SQLConstants {
         public static final String SHARED_ORG_ID_LIST_PLACEHOLDER = "_SHARED_ORG_ID_LIST_";
         public static final String SHARED_ORG_ID_PLACEHOLDER_PREFIX = "SHARED_ORG_ID_";
 
+        // Related to UM_ORG table.
+        public static final String DB_SCHEMA_COLUMN_NAME_UM_ID = "UM_ID";
+        public static final String DB_SCHEMA_COLUMN_NAME_UM_ORG_TYPE = "UM_ORG_TYPE";
+        public static final String DB_SCHEMA_COLUMN_NAME_UM_STATUS = "UM_STATUS";
+        public static final String DB_SCHEMA_COLUMN_NAME_UM_DOMAIN_NAME = "UM_DOMAIN_NAME";
+        public static final String ORG_ID_LIST_PLACEHOLDER = "_ORG_ID_LIST_";
+        public static final String ORG_ID_PLACEHOLDER_PREFIX = "ORG_ID_";
+
+        // Related to UM_ORG_HIERARCHY table.
+        public static final String DB_SCHEMA_COLUMN_NAME_UM_PARENT_ID = "UM_PARENT_ID";
+
         // Related to APP_GROUP_ASSOCIATION table.
         public static final String GROUP_ID_CONDITION_PLACEHOLDER = "_GROUP_ID_CONDITION_";
         public static final String GROUP_ID_LIST_PLACEHOLDER = "_GROUP_ID_LIST_";
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2024, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -21,11 +21,13 @@ package org.wso2.carbon.identity.organization.management.application.dao;
 import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.organization.management.application.model.MainApplicationDO;
+import org.wso2.carbon.identity.organization.management.application.model.OrganizationTypeDO;
 import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationDO;
 import org.wso2.carbon.identity.organization.management.service.exception.NotImplementedException;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -181,6 +183,34 @@ public interface OrgApplicationMgtDAO {
                 "getSharedApplications method is not implemented in " + this.getClass().getName());
     }
 
+    /**
+     * Returns the shared applications of the given main application within the descendant organizations of the given
+     * parent organization. The organization scope is resolved from the organization hierarchy within the query, so
+     * that the cost of a page depends on the page size rather than on the number of descendant organizations. When the
+     * organization hierarchy resides in a different database, it is read page by page instead.
+     *
+     * @param ownerOrgId        The main organizationId that the original application belongs to.
+     * @param mainApplicationId The app resource ID of the main application.
+     * @param parentOrgId       The ID of the organization whose descendant organizations define the search scope.
+     * @param recursive         Whether to include all the descendant organizations or only the immediate children.
+     * @param expressionNodes   The list of expression nodes to filter the results.
+     * @param sortOrder         The order in which to sort the results.
+     * @param limit             The maximum number of results to return.
+     * @return The list of shared applications within the descendant organizations of the parent organization.
+     * @throws OrganizationManagementException The server exception is thrown in a failure
+     *                                         when retrieving the shared apps.
+     */
+    default List<SharedApplicationDO> getSharedApplicationsInOrgHierarchy(String ownerOrgId,
+                                                                          String mainApplicationId,
+                                                                          String parentOrgId, boolean recursive,
+                                                                          List<ExpressionNode> expressionNodes,
+                                                                          String sortOrder, int limit)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException(
+                "getSharedApplicationsInOrgHierarchy method is not implemented in " + this.getClass().getName());
+    }
+
     /**
      * Returns the basic information of the discoverable shared applications
      *
@@ -224,4 +254,35 @@ public interface OrgApplicationMgtDAO {
 
         return;
     }
+
+    /**
+     * Returns the type, status and tenant domain of the given organizations in bulk.
+     *
+     * @param organizationIds The list of organization IDs.
+     * @return The map of organization IDs to their type details. Organizations that do not exist are not included.
+     * @throws OrganizationManagementException The server exception is thrown in a failure when retrieving the
+     *                                         organization types.
+     */
+    default Map<String, OrganizationTypeDO> getOrganizationTypes(List<String> organizationIds)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException(
+                "getOrganizationTypes method is not implemented in " + this.getClass().getName());
+    }
+
+    /**
+     * Returns the links of the applications owned by the given organization, and of the applications shared with
+     * the given organization.
+     *
+     * @param organizationId The unique ID of the organization.
+     * @return The map of main application IDs to the IDs of the organizations they are shared with.
+     * @throws OrganizationManagementException The server exception is thrown in a failure when retrieving the
+     *                                         shared application links.
+     */
+    default Map<String, List<String>> getSharedApplicationLinksOfOrganization(String organizationId)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException(
+                "getSharedApplicationLinksOfOrganization method is not implemented in " + this.getClass().getName());
+    }
 }
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.organization.management.application.dao.impl;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
+import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.organization.management.application.cache.SharedApplicationCache;
+import org.wso2.carbon.identity.organization.management.application.cache.SharedApplicationCacheEntry;
+import org.wso2.carbon.identity.organization.management.application.cache.SharedApplicationCacheKey;
+import org.wso2.carbon.identity.organization.management.application.dao.OrgApplicationMgtDAO;
+import org.wso2.carbon.identity.organization.management.application.model.MainApplicationDO;
+import org.wso2.carbon.identity.organization.management.application.model.OrganizationTypeDO;
+import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationDO;
+import org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+
+/**
+ * Cache backed implementation of {@link OrgApplicationMgtDAO}. The links between main applications and their shared
+ * applications, which are resolved on every organization login, are served from the {@link SharedApplicationCache}.
+ * All the other operations are delegated to the underlying DAO.
+ */
+public class CacheBackedOrgApplicationMgtDAO implements OrgApplicationMgtDAO {
+
+    private static final Log LOG = LogFactory.getLog(CacheBackedOrgApplicationMgtDAO.class);
+
+    private final OrgApplicationMgtDAO orgApplicationMgtDAO;
+    private final SharedApplicationCache sharedApplicationCache;
+
+    public CacheBackedOrgApplicationMgtDAO(OrgApplicationMgtDAO orgApplicationMgtDAO) {
+
+        this.orgApplicationMgtDAO = orgApplicationMgtDAO;
+        this.sharedApplicationCache = SharedApplicationCache.getInstance();
+    }
+
+    @Override
+    public void addSharedApplication(String mainAppId, String ownerOrgId, String sharedAppId, String sharedOrgId,
+                                     boolean shareWithAllChildren) throws OrganizationManagementException {
+
+        orgApplicationMgtDAO.addSharedApplication(mainAppId, ownerOrgId, sharedAppId, sharedOrgId,
+                shareWithAllChildren);
+        // Both keys may hold the absence of the link, which has been resolved before the link was added.
+        OrgApplicationManagerUtil.clearSharedApplicationCacheEntries(mainAppId, ownerOrgId, sharedAppId, sharedOrgId);
+    }
+
+    @Override
+    public List<SharedApplicationDO> getSharedApplications(String organizationId, String applicationId)
+            throws OrganizationManagementException {
+
+        return orgApplicationMgtDAO.getSharedApplications(organizationId, applicationId);
+    }
+
+    @Override
+    public Optional<MainApplicationDO> getMainApplication(String sharedAppId, String sharedOrgId)
+            throws OrganizationManagementException {
+
+        SharedApplicationCacheKey cacheKey = SharedApplicationCacheKey.forSharedApplication(sharedAppId, sharedOrgId);
+        SharedApplicationCacheEntry cacheEntry =
+                sharedApplicationCache.getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN_NAME);
+        if (cacheEntry != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Main application of the shared application: " + sharedAppId + " in the organization: " +
+                        sharedOrgId + " is resolved from the cache.");
+            }
+            return cacheEntry.getMainApplicationId() == null ? Optional.empty() : Optional.of(
+                    new MainApplicationDO(cacheEntry.getOwnerOrganizationId(), cacheEntry.getMainApplicationId()));
+        }
+
+        Optional<MainApplicationDO> mainApplication = orgApplicationMgtDAO.getMainApplication(sharedAppId,
+                sharedOrgId);
+        if (mainApplication.isPresent()) {
+            addLinkToCache(mainApplication.get().getMainApplicationId(), mainApplication.get().getOrganizationId(),
+                    sharedAppId, sharedOrgId);
+        } else {
+            sharedApplicationCache.addToCache(cacheKey, new SharedApplicationCacheEntry(null, null, sharedAppId),
+                    SUPER_TENANT_DOMAIN_NAME);
+        }
+        return mainApplication;
+    }
+
+    @Override
+    public Optional<SharedApplicationDO> getSharedApplication(int sharedAppId, String sharedOrgId)
+            throws OrganizationManagementException {
+
+        return orgApplicationMgtDAO.getSharedApplication(sharedAppId, sharedOrgId);
+    }
+
+    @Override
+    public Optional<String> getSharedApplicationResourceId(String mainAppId, String ownerOrgId, String sharedOrgId)
+            throws OrganizationManagementException {
+
+        SharedApplicationCacheKey cacheKey =
+                SharedApplicationCacheKey.forMainApplication(mainAppId, ownerOrgId, sharedOrgId);
+        SharedApplicationCacheEntry cacheEntry =
+                sharedApplicationCache.getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN_NAME);
+        if (cacheEntry != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Shared application of the main application: " + mainAppId + " in the organization: " +
+                        sharedOrgId + " is resolved from the cache.");
+            }
+            return Optional.ofNullable(cacheEntry.getSharedApplicationId());
+        }
+
+        Optional<String> sharedApplicationId = orgApplicationMgtDAO.getSharedApplicationResourceId(mainAppId,
+                ownerOrgId, sharedOrgId);
+        if (sharedApplicationId.isPresent()) {
+            addLinkToCache(mainAppId, ownerOrgId, sharedApplicationId.get(), sharedOrgId);
+        } else {
+            sharedApplicationCache.addToCache(cacheKey, new SharedApplicationCacheEntry(mainAppId, ownerOrgId, null),
+                    SUPER_TENANT_DOMAIN_NAME);
+        }
+        return sharedApplicationId;
+    }
+
+    @Override
+    public boolean hasFragments(String applicationId) throws OrganizationManagementException {
+
+        return orgApplicationMgtDAO.hasFragments(applicationId);
+    }
+
+    @Override
+    public boolean isFragmentApplication(int applicationId) throws OrganizationManagementException {
+
+        return orgApplicationMgtDAO.isFragmentApplication(applicationId);
+    }
+
+    @Override
+    public void updateShareWithAllChildren(String mainApplicationId, String ownerOrganizationId,
+                                           boolean shareWithAllChildren) throws OrganizationManagementException {
+
+        orgApplicationMgtDAO.updateShareWithAllChildren(mainApplicationId, ownerOrganizationId, shareWithAllChildren);
+    }
+
+    @Override
+    public List<SharedApplicationDO> getSharedApplications(String mainAppId, String ownerOrgId,
+                                                           List<String> sharedOrgIds)
+            throws OrganizationManagementException {
+
+        return orgApplicationMgtDAO.getSharedApplications(mainAppId, ownerOrgId, sharedOrgIds);
+    }
+
+    @Override
+    public List<SharedApplicationDO> getSharedApplications(String ownerOrgId, String mainApplicationId,
+                                                           List<String> sharedOrgIds,
+                                                           List<ExpressionNode> expressionNodes,
+                                                           String sortOder, int limit)
+            throws OrganizationManagementException {
+
+        return orgApplicationMgtDAO.getSharedApplications(ownerOrgId, mainApplicationId, sharedOrgIds,
+                expressionNodes, sortOder, limit);
+    }
+
+    @Override
+    public List<SharedApplicationDO> getSharedApplicationsInOrgHierarchy(String ownerOrgId, String mainApplicationId,
+                                                                         String parentOrgId, boolean recursive,
+                                                                         List<ExpressionNode> expressionNodes,
+                                                                         String sortOrder, int limit)
+            throws OrganizationManagementException {
+
+        return orgApplicationMgtDAO.getSharedApplicationsInOrgHierarchy(ownerOrgId, mainApplicationId, parentOrgId,
+                recursive, expressionNodes, sortOrder, limit);
+    }
+
+    @Override
+    public List<ApplicationBasicInfo> getDiscoverableSharedApplicationBasicInfo(int limit, int offset, String filter,
+                                                                                  String sortOrder, String sortBy,
+                                                                                  String tenantDomain,
+                                                                                  String rootOrgId)
+            throws OrganizationManagementException {
+
+        return orgApplicationMgtDAO.getDiscoverableSharedApplicationBasicInfo(limit, offset, filter, sortOrder,
+                sortBy, tenantDomain, rootOrgId);
+    }
+
+    @Override
+    public int getCountOfDiscoverableSharedApplications(String filter, String tenantDomain, String rootOrgId)
+            throws OrganizationManagementException {
+
+        return orgApplicationMgtDAO.getCountOfDiscoverableSharedApplications(filter, tenantDomain, rootOrgId);
+    }
+
+    @Override
+    public void deleteSharedAppLinks(String organizationId) throws OrganizationManagementException {
+
+        orgApplicationMgtDAO.deleteSharedAppLinks(organizationId);
+        // The cache is not indexed by the shared organization, hence all the links are cleared.
+        OrgApplicationManagerUtil.clearSharedApplicationCache();
+    }
+
+    @Override
+    public Map<String, OrganizationTypeDO> getOrganizationTypes(List<String> organizationIds)
+            throws OrganizationManagementException {
+
+        return orgApplicationMgtDAO.getOrganizationTypes(organizationIds);
+    }
+
+    @Override
+    public Map<String, List<String>> getSharedApplicationLinksOfOrganization(String organizationId)
+            throws OrganizationManagementException {
+
+        return orgApplicationMgtDAO.getSharedApplicationLinksOfOrganization(organizationId);
+    }
+
+    private void addLinkToCache(String mainAppId, String ownerOrgId, String sharedAppId, String sharedOrgId) {
+
+        SharedApplicationCacheEntry cacheEntry = new SharedApplicationCacheEntry(mainAppId, ownerOrgId, sharedAppId);
+        sharedApplicationCache.addToCache(SharedApplicationCacheKey.forMainApplication(mainAppId, ownerOrgId,
+                sharedOrgId), cacheEntry, SUPER_TENANT_DOMAIN_NAME);
+        sharedApplicationCache.addToCache(SharedApplicationCacheKey.forSharedApplication(sharedAppId, sharedOrgId),
+                cacheEntry, SUPER_TENANT_DOMAIN_NAME);
+    }
+}
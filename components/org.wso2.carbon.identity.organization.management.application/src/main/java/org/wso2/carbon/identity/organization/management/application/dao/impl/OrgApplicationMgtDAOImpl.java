@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -33,6 +33,7 @@ import org.wso2.carbon.identity.application.mgt.ApplicationConstants;
 import org.wso2.carbon.identity.application.mgt.ApplicationMgtUtil;
 import org.wso2.carbon.identity.core.URLBuilderException;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.core.persistence.UmPersistenceManager;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.JdbcUtils;
@@ -40,33 +41,46 @@ import org.wso2.carbon.identity.organization.management.application.constant.SQL
 import org.wso2.carbon.identity.organization.management.application.dao.OrgApplicationMgtDAO;
 import org.wso2.carbon.identity.organization.management.application.internal.OrgApplicationMgtDataHolder;
 import org.wso2.carbon.identity.organization.management.application.model.MainApplicationDO;
+import org.wso2.carbon.identity.organization.management.application.model.OrganizationTypeDO;
 import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationDO;
 import org.wso2.carbon.identity.organization.management.application.util.FilterQueriesUtil;
+import org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementClientException;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
 import org.wso2.carbon.identity.organization.management.service.model.FilterQueryBuilder;
+import org.wso2.carbon.identity.organization.management.service.util.Utils;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import javax.sql.DataSource;
+
 import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.Error.INVALID_OFFSET;
 import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.Error.SORTING_NOT_IMPLEMENTED;
 import static org.wso2.carbon.identity.application.mgt.ApplicationMgtUtil.getConsoleAccessUrlFromServerConfig;
 import static org.wso2.carbon.identity.application.mgt.ApplicationMgtUtil.getMyAccountAccessUrlFromServerConfig;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_ORGANIZATION_TYPES;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_SHARED_APP;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.IS_FRAGMENT_APP;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.DELETE_SHARED_APP_LINKS_OF_ORG;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_CHILD_ORG_IDS_FROM_ORG_HIERARCHY;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_DESCENDANT_ORG_IDS_FROM_ORG_HIERARCHY;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_FILTERED_SHARED_APPLICATIONS;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_MAIN_APPLICATION;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_ORGANIZATION_TYPES;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APPLICATION;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APPLICATIONS;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APPLICATIONS_BY_FILTERING_HEAD;
@@ -75,6 +89,7 @@ import static org.wso2.carbon.identity.organization.management.application.const
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APPLICATIONS_BY_FILTERING_TAIL_WITH_LIMIT_MSSQL;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APPLICATIONS_BY_FILTERING_TAIL_WITH_LIMIT_ORACLE;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APP_ID;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APP_LINKS_OF_ORG;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.HAS_FRAGMENT_APPS;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.INSERT_SHARED_APP;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.IS_FRAGMENT_APPLICATION;
@@ -91,6 +106,10 @@ import static org.wso2.carbon.identity.organization.management.application.const
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.LOAD_DISCOVERABLE_SHARED_APPS_BY_TENANT_POSTGRES;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.LOAD_DISCOVERABLE_SHARED_APP_COUNT_BY_APP_NAME_AND_TENANT;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.LOAD_DISCOVERABLE_SHARED_APP_COUNT_BY_TENANT;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.ORG_HIERARCHY_KEYSET_CONDITION;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.ORG_HIERARCHY_PAGE_TAIL;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.ORG_HIERARCHY_PAGE_TAIL_MSSQL;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.ORG_HIERARCHY_PAGE_TAIL_ORACLE;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_MAIN_APP_ID;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_METADATA_NAME;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_METADATA_VALUE;
@@ -101,10 +120,18 @@ import static org.wso2.carbon.identity.organization.management.application.const
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_SP_APP_ID;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_SP_ID;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_SP_SHARED_APP_ID;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_UM_DOMAIN_NAME;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_UM_ID;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_UM_ORG_TYPE;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_UM_PARENT_ID;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_UM_STATUS;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.ORG_ID_LIST_PLACEHOLDER;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.ORG_ID_PLACEHOLDER_PREFIX;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.SHARED_ORG_ID_LIST_PLACEHOLDER;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.SHARED_ORG_ID_PLACEHOLDER_PREFIX;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.UPDATE_SHARE_WITH_ALL_CHILDREN;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil.getNewTemplate;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.DESC_SORT_ORDER;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_CHECKING_APPLICATION_HAS_FRAGMENTS;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_CHECKING_APPLICATION_IS_A_FRAGMENT;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_DELETING_SHARED_APPLICATION_LINK;
@@ -124,6 +151,10 @@ public class OrgApplicationMgtDAOImpl implements OrgApplicationMgtDAO {
 
     private static final Log log = LogFactory.getLog(OrgApplicationMgtDAOImpl.class);
     private static final String ASTERISK = "*";
+    // Keeps the number of IN clause parameters of a query within the limits of all the supported databases.
+    private static final int ORGANIZATION_ID_BATCH_SIZE = 500;
+    // The data sources do not change at runtime, hence the outcome of comparing them is kept.
+    private volatile Boolean orgHierarchyInIdentityDataSource;
 
     @Override
     public void addSharedApplication(String mainAppId, String ownerOrgId, String sharedAppId, String sharedOrgId,
@@ -329,20 +360,78 @@ public class OrgApplicationMgtDAOImpl implements OrgApplicationMgtDAO {
         if (CollectionUtils.isEmpty(sharedOrgIds)) {
             return Collections.emptyList();
         }
-        FilterQueryBuilder filterQueryBuilder = FilterQueriesUtil.getSharedAppOrgsFilterQueryBuilder(expressionNodes);
-        String filterQuery = filterQueryBuilder.getFilterQuery();
-        Map<String, String> filterAttributeValue = filterQueryBuilder.getFilterAttributeValue();
         String placeholders = IntStream.range(0, sharedOrgIds.size())
                 .mapToObj(i -> ":" + SHARED_ORG_ID_PLACEHOLDER_PREFIX + i + ";")
                 .collect(Collectors.joining(", "));
+        Map<String, String> orgScopeAttributeValue = new HashMap<>();
+        for (int i = 0; i < sharedOrgIds.size(); i++) {
+            orgScopeAttributeValue.put(SHARED_ORG_ID_PLACEHOLDER_PREFIX + i, sharedOrgIds.get(i));
+        }
+        return getSharedApplications(ownerOrgId, mainApplicationId, placeholders, orgScopeAttributeValue,
+                expressionNodes, sortOrder, limit);
+    }
+
+    @Override
+    public List<SharedApplicationDO> getSharedApplicationsInOrgHierarchy(String ownerOrgId, String mainApplicationId,
+                                                                         String parentOrgId, boolean recursive,
+                                                                         List<ExpressionNode> expressionNodes,
+                                                                         String sortOrder, int limit)
+            throws OrganizationManagementException {
+
+        String orgScopeQuery = recursive ? GET_DESCENDANT_ORG_IDS_FROM_ORG_HIERARCHY :
+                GET_CHILD_ORG_IDS_FROM_ORG_HIERARCHY;
+        if (isOrgHierarchyInIdentityDataSource()) {
+            // The organization scope is a sub query on the organization hierarchy, so that the cost of a page depends
+            // on the page size rather than on the number of organizations in the scope.
+            return getSharedApplications(ownerOrgId, mainApplicationId, orgScopeQuery,
+                    Collections.singletonMap(DB_SCHEMA_COLUMN_NAME_UM_PARENT_ID, parentOrgId), expressionNodes,
+                    sortOrder, limit);
+        }
+
+        /*
+        The organization hierarchy resides in a different database, hence it can not be part of the query. The
+        organizations in the scope are read page by page, and the shared applications of each page of organizations
+        are merged into a single page of shared applications.
+         */
+        Comparator<SharedApplicationDO> comparator = Comparator.comparing(SharedApplicationDO::getAppId);
+        if (DESC_SORT_ORDER.equalsIgnoreCase(sortOrder)) {
+            comparator = comparator.reversed();
+        }
+        List<SharedApplicationDO> sharedApplications = new ArrayList<>();
+        String lastOrganizationId = null;
+        List<String> organizationIds;
+        do {
+            organizationIds = getOrganizationIdsInHierarchy(orgScopeQuery, parentOrgId, lastOrganizationId);
+            if (organizationIds.isEmpty()) {
+                break;
+            }
+            sharedApplications.addAll(getSharedApplications(ownerOrgId, mainApplicationId, organizationIds,
+                    expressionNodes, sortOrder, limit));
+            sharedApplications.sort(comparator);
+            if (limit > 0 && sharedApplications.size() > limit) {
+                sharedApplications = new ArrayList<>(sharedApplications.subList(0, limit));
+            }
+            lastOrganizationId = organizationIds.get(organizationIds.size() - 1);
+        } while (organizationIds.size() == ORGANIZATION_ID_BATCH_SIZE);
+        return sharedApplications;
+    }
+
+    private List<SharedApplicationDO> getSharedApplications(String ownerOrgId, String mainApplicationId,
+                                                            String orgScope, Map<String, String> orgScopeAttributeValue,
+                                                            List<ExpressionNode> expressionNodes, String sortOrder,
+                                                            int limit) throws OrganizationManagementException {
+
+        FilterQueryBuilder filterQueryBuilder = FilterQueriesUtil.getSharedAppOrgsFilterQueryBuilder(expressionNodes);
+        String filterQuery = filterQueryBuilder.getFilterQuery();
+        Map<String, String> filterAttributeValue = filterQueryBuilder.getFilterAttributeValue();
         String sqlStmtHead = GET_SHARED_APPLICATIONS_BY_FILTERING_HEAD + filterQuery;
         String sqlStmtTail;
         if (limit == 0) {
             sqlStmtTail = String.format(GET_SHARED_APPLICATIONS_BY_FILTERING_TAIL, sortOrder).replace(
-                    SHARED_ORG_ID_LIST_PLACEHOLDER, placeholders);
+                    SHARED_ORG_ID_LIST_PLACEHOLDER, orgScope);
         } else {
             sqlStmtTail = getSharedApplicationsByFilteringTailWithLimit(sortOrder, limit)
-                    .replace(SHARED_ORG_ID_LIST_PLACEHOLDER, placeholders);
+                    .replace(SHARED_ORG_ID_LIST_PLACEHOLDER, orgScope);
         }
         String sqlStmt = sqlStmtHead + sqlStmtTail;
         List<SharedApplicationDO> sharedApplicationDOList = new ArrayList<>();
@@ -357,8 +446,8 @@ public class OrgApplicationMgtDAOImpl implements OrgApplicationMgtDAO {
                     namedPreparedStatement.setString(entry.getKey() , entry.getValue());
                 }
             }
-            for (int i = 0; i < sharedOrgIds.size(); i++) {
-                namedPreparedStatement.setString(SHARED_ORG_ID_PLACEHOLDER_PREFIX + i, sharedOrgIds.get(i));
+            for (Map.Entry<String, String> entry : orgScopeAttributeValue.entrySet()) {
+                namedPreparedStatement.setString(entry.getKey(), entry.getValue());
             }
 
             try (ResultSet rs = namedPreparedStatement.executeQuery()) {
@@ -377,6 +466,72 @@ public class OrgApplicationMgtDAOImpl implements OrgApplicationMgtDAO {
         return sharedApplicationDOList;
     }
 
+    private List<String> getOrganizationIdsInHierarchy(String orgScopeQuery, String parentOrgId,
+                                                       String lastOrganizationId)
+            throws OrganizationManagementException {
+
+        String sqlStmt = orgScopeQuery + (lastOrganizationId == null ? StringUtils.EMPTY :
+                ORG_HIERARCHY_KEYSET_CONDITION) + String.format(getOrgHierarchyPageTail(), ORGANIZATION_ID_BATCH_SIZE);
+        // The organization hierarchy is stored in the user management database, hence the organization management
+        // template.
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        try {
+            return namedJdbcTemplate.executeQuery(sqlStmt,
+                    (resultSet, rowNumber) -> resultSet.getString(DB_SCHEMA_COLUMN_NAME_UM_ID),
+                    namedPreparedStatement -> {
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_UM_PARENT_ID, parentOrgId);
+                        if (lastOrganizationId != null) {
+                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_UM_ID, lastOrganizationId);
+                        }
+                    });
+        } catch (DataAccessException e) {
+            throw OrgApplicationManagerUtil.handleServerException(ERROR_CODE_ERROR_RETRIEVING_SHARED_APP, e);
+        }
+    }
+
+    private String getOrgHierarchyPageTail() throws OrganizationManagementServerException {
+
+        if (isOracleDB()) {
+            return ORG_HIERARCHY_PAGE_TAIL_ORACLE;
+        } else if (isMSSqlDB()) {
+            return ORG_HIERARCHY_PAGE_TAIL_MSSQL;
+        }
+        return ORG_HIERARCHY_PAGE_TAIL;
+    }
+
+    /**
+     * Check whether the organization hierarchy resides in the same database as the shared applications. The data
+     * sources of the organization management and identity databases are considered the same when they connect to the
+     * same database URL as the same user.
+     *
+     * @return True if the organization hierarchy can be queried along with the shared applications.
+     * @throws OrganizationManagementServerException If an error occurs while reading the database metadata.
+     */
+    private boolean isOrgHierarchyInIdentityDataSource() throws OrganizationManagementServerException {
+
+        Boolean orgHierarchyInIdentityDataSource = this.orgHierarchyInIdentityDataSource;
+        if (orgHierarchyInIdentityDataSource != null) {
+            return orgHierarchyInIdentityDataSource;
+        }
+        DataSource identityDataSource = IdentityDatabaseUtil.getDataSource();
+        DataSource umDataSource = UmPersistenceManager.getInstance().getDataSource();
+        if (identityDataSource == umDataSource) {
+            orgHierarchyInIdentityDataSource = true;
+        } else {
+            try (Connection identityConnection = identityDataSource.getConnection();
+                 Connection umConnection = umDataSource.getConnection()) {
+                DatabaseMetaData identityMetaData = identityConnection.getMetaData();
+                DatabaseMetaData umMetaData = umConnection.getMetaData();
+                orgHierarchyInIdentityDataSource = StringUtils.equals(identityMetaData.getURL(), umMetaData.getURL())
+                        && StringUtils.equals(identityMetaData.getUserName(), umMetaData.getUserName());
+            } catch (SQLException e) {
+                throw OrgApplicationManagerUtil.handleServerException(ERROR_CODE_ERROR_RETRIEVING_SHARED_APP, e);
+            }
+        }
+        this.orgHierarchyInIdentityDataSource = orgHierarchyInIdentityDataSource;
+        return orgHierarchyInIdentityDataSource;
+    }
+
     private String getSharedApplicationsByFilteringTailWithLimit(String sortOrder, int limit)
             throws OrganizationManagementServerException {
 
@@ -493,6 +648,68 @@ public class OrgApplicationMgtDAOImpl implements OrgApplicationMgtDAO {
         }
     }
 
+    @Override
+    public Map<String, OrganizationTypeDO> getOrganizationTypes(List<String> organizationIds)
+            throws OrganizationManagementException {
+
+        Map<String, OrganizationTypeDO> organizationTypes = new HashMap<>();
+        if (CollectionUtils.isEmpty(organizationIds)) {
+            return organizationTypes;
+        }
+        // The organizations are stored in the user management database, hence the organization management template.
+        NamedJdbcTemplate namedJdbcTemplate = Utils.getNewTemplate();
+        for (int start = 0; start < organizationIds.size(); start += ORGANIZATION_ID_BATCH_SIZE) {
+            List<String> organizationIdBatch = organizationIds.subList(start,
+                    Math.min(start + ORGANIZATION_ID_BATCH_SIZE, organizationIds.size()));
+            String placeholders = IntStream.range(0, organizationIdBatch.size())
+                    .mapToObj(i -> ":" + ORG_ID_PLACEHOLDER_PREFIX + i + ";")
+                    .collect(Collectors.joining(", "));
+            String sqlStmt = GET_ORGANIZATION_TYPES.replace(ORG_ID_LIST_PLACEHOLDER, placeholders);
+            try {
+                List<OrganizationTypeDO> organizationTypeBatch = namedJdbcTemplate.executeQuery(sqlStmt,
+                        (resultSet, rowNumber) -> new OrganizationTypeDO(
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_UM_ID),
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_UM_ORG_TYPE),
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_UM_STATUS),
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_UM_DOMAIN_NAME)),
+                        namedPreparedStatement -> {
+                            for (int i = 0; i < organizationIdBatch.size(); i++) {
+                                namedPreparedStatement.setString(ORG_ID_PLACEHOLDER_PREFIX + i,
+                                        organizationIdBatch.get(i));
+                            }
+                        });
+                for (OrganizationTypeDO organizationType : organizationTypeBatch) {
+                    organizationTypes.put(organizationType.getOrganizationId(), organizationType);
+                }
+            } catch (DataAccessException e) {
+                throw OrgApplicationManagerUtil.handleServerException(
+                        ERROR_CODE_ERROR_RETRIEVING_ORGANIZATION_TYPES, e);
+            }
+        }
+        return organizationTypes;
+    }
+
+    @Override
+    public Map<String, List<String>> getSharedApplicationLinksOfOrganization(String organizationId)
+            throws OrganizationManagementException {
+
+        Map<String, List<String>> sharedApplicationLinks = new HashMap<>();
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            namedJdbcTemplate.executeQuery(GET_SHARED_APP_LINKS_OF_ORG,
+                    (resultSet, rowNumber) -> sharedApplicationLinks.computeIfAbsent(
+                            resultSet.getString(DB_SCHEMA_COLUMN_NAME_MAIN_APP_ID), mainAppId -> new ArrayList<>())
+                            .add(resultSet.getString(DB_SCHEMA_COLUMN_NAME_SHARED_ORG_ID)),
+                    namedPreparedStatement -> {
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_OWNER_ORG_ID, organizationId);
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_SHARED_ORG_ID, organizationId);
+                    });
+        } catch (DataAccessException e) {
+            throw OrgApplicationManagerUtil.handleServerException(ERROR_CODE_ERROR_RETRIEVING_SHARED_APP, e);
+        }
+        return sharedApplicationLinks;
+    }
+
     private int getCountOfDiscoverableSharedApplications(String organizationId, String rootOrgId)
             throws OrganizationManagementException {
 
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.handler;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants;
+import org.wso2.carbon.identity.organization.management.application.internal.OrgApplicationMgtDataHolder;
+import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationDO;
+import org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Event handler which keeps the fragment application config cache consistent with application share, unshare and
+ * role operations.
+ */
+public class FragmentApplicationConfigCacheInvalidationHandler extends AbstractEventHandler {
+
+    private static final Log LOG = LogFactory.getLog(FragmentApplicationConfigCacheInvalidationHandler.class);
+
+    @Override
+    public String getName() {
+
+        return "FragmentApplicationConfigCacheInvalidationHandler";
+    }
+
+    @Override
+    public int getPriority(MessageContext messageContext) {
+
+        return 10;
+    }
+
+    @Override
+    public boolean canHandle(MessageContext messageContext) throws IdentityRuntimeException {
+
+        String eventName = ((IdentityEventMessageContext) messageContext).getEvent().getEventName();
+        return OrgApplicationMgtConstants.EVENT_POST_SHARE_APPLICATION.equals(eventName) ||
+                OrgApplicationMgtConstants.POST_UPDATE_ROLES_OF_SHARED_APPLICATION.equals(eventName) ||
+                OrgApplicationMgtConstants.EVENT_POST_DELETE_SHARED_APPLICATION.equals(eventName) ||
+                OrgApplicationMgtConstants.EVENT_POST_DELETE_ALL_SHARED_APPLICATIONS.equals(eventName) ||
+                IdentityEventConstants.Event.POST_ADD_ROLE_V2_EVENT.equals(eventName) ||
+                IdentityEventConstants.Event.POST_DELETE_ROLE_V2_EVENT.equals(eventName) ||
+                IdentityEventConstants.Event.POST_UPDATE_ROLE_V2_NAME_EVENT.equals(eventName);
+    }
+
+    @Override
+    public void handleEvent(Event event) throws IdentityEventException {
+
+        String eventName = event.getEventName();
+        Map<String, Object> eventProperties = event.getEventProperties();
+        switch (eventName) {
+            case OrgApplicationMgtConstants.EVENT_POST_SHARE_APPLICATION:
+            case OrgApplicationMgtConstants.POST_UPDATE_ROLES_OF_SHARED_APPLICATION:
+                clearCacheEntry((String) eventProperties.get(OrgApplicationMgtConstants.EVENT_PROP_MAIN_APPLICATION_ID),
+                        (String) eventProperties.get(OrgApplicationMgtConstants.EVENT_PROP_SHARED_ORGANIZATION_ID));
+                break;
+            case OrgApplicationMgtConstants.EVENT_POST_DELETE_SHARED_APPLICATION:
+                clearCacheEntry(
+                        (String) eventProperties.get(OrgApplicationMgtConstants.EVENT_PROP_PARENT_APPLICATION_ID),
+                        (String) eventProperties.get(OrgApplicationMgtConstants.EVENT_PROP_SHARED_ORGANIZATION_ID));
+                break;
+            case OrgApplicationMgtConstants.EVENT_POST_DELETE_ALL_SHARED_APPLICATIONS:
+                String mainApplicationId =
+                        (String) eventProperties.get(OrgApplicationMgtConstants.EVENT_PROP_PARENT_APPLICATION_ID);
+                @SuppressWarnings("unchecked")
+                List<SharedApplicationDO> sharedApplications = (List<SharedApplicationDO>) eventProperties.get(
+                        OrgApplicationMgtConstants.EVENT_PROP_SHARED_APPLICATIONS_DATA);
+                if (sharedApplications != null) {
+                    for (SharedApplicationDO sharedApplication : sharedApplications) {
+                        clearCacheEntry(mainApplicationId, sharedApplication.getOrganizationId());
+                    }
+                }
+                break;
+            case IdentityEventConstants.Event.POST_ADD_ROLE_V2_EVENT:
+            case IdentityEventConstants.Event.POST_DELETE_ROLE_V2_EVENT:
+            case IdentityEventConstants.Event.POST_UPDATE_ROLE_V2_NAME_EVENT:
+                clearCacheEntriesOfOrganization(
+                        (String) eventProperties.get(IdentityEventConstants.EventProperty.TENANT_DOMAIN), eventName);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Clear the cached configurations of the fragment applications which depend on the roles of the given
+     * organization. These are the fragments residing in the organization, whose shared roles are resolved from the
+     * roles of the organization, and the fragments of the applications owned by the organization, which carry the
+     * names of the main roles.
+     *
+     * @param tenantDomain The tenant domain of the organization the role belongs to.
+     * @param eventName    The name of the role event.
+     */
+    private void clearCacheEntriesOfOrganization(String tenantDomain, String eventName) {
+
+        if (tenantDomain == null) {
+            return;
+        }
+        try {
+            String organizationId = OrgApplicationMgtDataHolder.getInstance().getOrganizationManager()
+                    .resolveOrganizationId(tenantDomain);
+            if (organizationId == null) {
+                return;
+            }
+            Map<String, List<String>> sharedApplicationLinks = OrgApplicationMgtDataHolder.getInstance()
+                    .getOrgApplicationMgtDAO().getSharedApplicationLinksOfOrganization(organizationId);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Clearing the fragment application config cache entries of the organization: " +
+                        organizationId + " upon the event: " + eventName);
+            }
+            for (Map.Entry<String, List<String>> sharedApplicationLink : sharedApplicationLinks.entrySet()) {
+                for (String sharedOrganizationId : sharedApplicationLink.getValue()) {
+                    clearCacheEntry(sharedApplicationLink.getKey(), sharedOrganizationId);
+                }
+            }
+        } catch (OrganizationManagementException e) {
+            // The affected entries cannot be resolved, hence the whole cache is cleared to avoid stale roles.
+            LOG.error("Error while resolving the fragment applications affected by the event: " + eventName +
+                    " in the tenant: " + tenantDomain + ". Clearing the fragment application config cache.", e);
+            OrgApplicationManagerUtil.clearFragmentApplicationConfigCache();
+        }
+    }
+
+    private void clearCacheEntry(String mainApplicationId, String sharedOrganizationId) {
+
+        if (mainApplicationId != null && sharedOrganizationId != null) {
+            OrgApplicationManagerUtil.clearFragmentApplicationConfigCacheEntry(mainApplicationId,
+                    sharedOrganizationId);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2023, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -24,6 +24,7 @@ import org.osgi.framework.BundleContext;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
@@ -36,12 +37,15 @@ import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.service
 import org.wso2.carbon.identity.oauth.OAuthAdminServiceImpl;
 import org.wso2.carbon.identity.organization.management.application.OrgApplicationManager;
 import org.wso2.carbon.identity.organization.management.application.OrgApplicationManagerImpl;
+import org.wso2.carbon.identity.organization.management.application.dao.impl.CacheBackedOrgApplicationMgtDAO;
 import org.wso2.carbon.identity.organization.management.application.dao.impl.OrgApplicationMgtDAOImpl;
+import org.wso2.carbon.identity.organization.management.application.handler.FragmentApplicationConfigCacheInvalidationHandler;
 import org.wso2.carbon.identity.organization.management.application.handler.OrgClaimMgtHandler;
 import org.wso2.carbon.identity.organization.management.application.listener.ApplicationSharingManagerListenerImpl;
 import org.wso2.carbon.identity.organization.management.application.listener.FragmentApplicationMgtListener;
 import org.wso2.carbon.identity.organization.management.application.listener.MainApplicationEventListener;
 import org.wso2.carbon.identity.organization.management.application.listener.OrganizationCreationHandler;
+import org.wso2.carbon.identity.organization.management.application.util.OrgApplicationShareScheduler;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.OrganizationUserResidentResolverService;
 import org.wso2.carbon.identity.organization.resource.sharing.policy.management.ResourceSharingPolicyHandlerService;
@@ -70,7 +74,7 @@ public class OrgApplicationMgtServiceComponent {
 
         try {
             OrgApplicationMgtDataHolder.getInstance()
-                    .setOrgApplicationMgtDAO(new OrgApplicationMgtDAOImpl());
+                    .setOrgApplicationMgtDAO(new CacheBackedOrgApplicationMgtDAO(new OrgApplicationMgtDAOImpl()));
             OrgApplicationMgtDataHolder.getInstance()
                     .setApplicationSharingManagerListener(new ApplicationSharingManagerListenerImpl());
             BundleContext bundleContext = componentContext.getBundleContext();
@@ -83,6 +87,8 @@ public class OrgApplicationMgtServiceComponent {
             bundleContext.registerService(AbstractEventHandler.class.getName(), new OrganizationCreationHandler(),
                     null);
             bundleContext.registerService(AbstractEventHandler.class.getName(), new OrgClaimMgtHandler(), null);
+            bundleContext.registerService(AbstractEventHandler.class.getName(),
+                    new FragmentApplicationConfigCacheInvalidationHandler(), null);
             if (log.isDebugEnabled()) {
                 log.debug("Organization Application Management component activated successfully.");
             }
@@ -91,6 +97,15 @@ public class OrgApplicationMgtServiceComponent {
         }
     }
 
+    @Deactivate
+    protected void deactivate(ComponentContext componentContext) {
+
+        OrgApplicationShareScheduler.shutdown();
+        if (log.isDebugEnabled()) {
+            log.debug("Organization Application Management component deactivated.");
+        }
+    }
+
     @Reference(
             name = "realm.service",
             service = RealmService.class,
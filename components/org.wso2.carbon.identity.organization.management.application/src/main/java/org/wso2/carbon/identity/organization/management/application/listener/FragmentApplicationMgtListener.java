@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2025, WSO2 LLC. (https://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 LLC. (https://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -47,6 +47,10 @@ import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.core.model.IdentityEventListenerConfig;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.organization.management.application.cache.FragmentApplicationConfigCache;
+import org.wso2.carbon.identity.organization.management.application.cache.FragmentApplicationConfigCacheEntry;
+import org.wso2.carbon.identity.organization.management.application.cache.FragmentApplicationConfigCacheKey;
+import org.wso2.carbon.identity.organization.management.application.cache.SharedApplicationCacheKey;
 import org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants;
 import org.wso2.carbon.identity.organization.management.application.dao.OrgApplicationMgtDAO;
 import org.wso2.carbon.identity.organization.management.application.internal.OrgApplicationMgtDataHolder;
@@ -64,9 +68,11 @@ import org.wso2.carbon.idp.mgt.IdentityProviderManagementClientException;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
 import org.wso2.carbon.idp.mgt.IdpManager;
 import org.wso2.carbon.utils.AuditLog;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -87,8 +93,10 @@ import static org.wso2.carbon.identity.organization.management.application.const
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.IS_FRAGMENT_APP;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ORGANIZATION_IDENTIFIER_HANDLER;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ORGANIZATION_LOGIN_AUTHENTICATOR;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.SHARED_APP_CACHE_KEYS_OF_DELETED_FRAGMENT;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.SHARE_WITH_ALL_CHILDREN;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.UPDATE_SP_METADATA_SHARE_WITH_ALL_CHILDREN;
+import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil.clearFragmentApplicationConfigCacheEntry;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil.createOrganizationSSOIDP;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil.getDefaultAuthenticationConfig;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil.setShareWithAllChildrenProperty;
@@ -262,6 +270,9 @@ public class FragmentApplicationMgtListener extends AbstractApplicationMgtListen
             throws IdentityApplicationManagementException {
 
         try {
+            if (!isFragmentApp(serviceProvider)) {
+                clearInheritedConfigurationsOfFragments(serviceProvider.getApplicationResourceId(), tenantDomain);
+            }
             if (!OrganizationManagementUtil.isOrganization(tenantDomain)) {
                 Object isAppNameUpdated = IdentityUtil.threadLocalProperties.get().get(IS_APP_NAME_UPDATED);
                 if (isAppNameUpdated != null && (Boolean) isAppNameUpdated) {
@@ -296,53 +307,33 @@ public class FragmentApplicationMgtListener extends AbstractApplicationMgtListen
                     /* Add User Attribute Section related configurations from the
                     main application to the shared application
                      */
-                    String mainApplicationTenantDomain = getOrganizationManager()
-                            .resolveTenantDomain(mainApplicationDO.get().getOrganizationId());
-                    ServiceProvider mainApplication = getApplicationByResourceId
-                            (mainApplicationDO.get().getMainApplicationId(), mainApplicationTenantDomain);
-                    ClaimMapping[] filteredClaimMappings =
-                            Arrays.stream(mainApplication.getClaimConfig().getClaimMappings())
-                                    .filter(claim -> !claim.getLocalClaim().getClaimUri()
-                                            .startsWith("http://wso2.org/claims/runtime/"))
-                                    .toArray(ClaimMapping[]::new);
-                    if (isB2BApplicationRoleSupportEnabled()) {
-                        // Add application roles to the filtered claim mappings (if any
-                        filteredClaimMappings = addApplicationRolesToFilteredClaimMappings(filteredClaimMappings);
-                    }
-                    // Add roles to the filtered claim mappings.
-                    filteredClaimMappings = addRolesClaimToFilteredClaimMappings(filteredClaimMappings);
-                    ClaimConfig claimConfig = new ClaimConfig();
-                    claimConfig.setClaimMappings(filteredClaimMappings);
-                    claimConfig.setAlwaysSendMappedLocalSubjectId(
-                            mainApplication.getClaimConfig().isAlwaysSendMappedLocalSubjectId());
-                    claimConfig.setMappedLocalSubjectMandatory(
-                            mainApplication.getClaimConfig().isMappedLocalSubjectMandatory());
-                    serviceProvider.setClaimConfig(claimConfig);
+                    FragmentApplicationConfigCacheEntry inheritedConfig =
+                            getInheritedConfiguration(mainApplicationDO.get(), sharedOrgId, tenantDomain);
+                    serviceProvider.setClaimConfig(inheritedConfig.getClaimConfig());
 
                     // Set application's associated roles.
-                    AssociatedRolesConfig associatedRolesConfigOfMainApp = mainApplication.getAssociatedRolesConfig();
-                    if (associatedRolesConfigOfMainApp != null) {
-                        AssociatedRolesConfig associatedRolesConfigForSharedApp =
-                                getAssociatedRolesConfigForSharedApp(associatedRolesConfigOfMainApp, tenantDomain);
+                    AssociatedRolesConfig associatedRolesConfigForSharedApp =
+                            inheritedConfig.getAssociatedRolesConfig();
+                    if (associatedRolesConfigForSharedApp != null) {
                         serviceProvider.setAssociatedRolesConfig(associatedRolesConfigForSharedApp);
                     }
                     // Inherit API based authentication enabled property from the main application.
-                    inheritAPIBasedAuthenticationEnabledProperty(mainApplication, serviceProvider);
+                    inheritAPIBasedAuthenticationEnabledProperty(inheritedConfig, serviceProvider);
                     // Inherit Application enabled property from the main application.
-                    inheritApplicationEnabledProperty(mainApplication, serviceProvider);
-                    inheritDiscoverabilityProperty(mainApplication, serviceProvider);
+                    inheritApplicationEnabledProperty(inheritedConfig, serviceProvider);
+                    inheritDiscoverabilityProperty(inheritedConfig.isDiscoverable(), serviceProvider);
 
                     /*
                     If the shared application doesn't have a configured access URL,
                     inherit it from the main application.
                      */
                     if (StringUtils.isBlank(serviceProvider.getAccessUrl())) {
-                        serviceProvider.setAccessUrl(mainApplication.getAccessUrl());
+                        serviceProvider.setAccessUrl(inheritedConfig.getAccessUrl());
                     }
                     /*
                     Set the application version to inherit parent app version.
                      */
-                    serviceProvider.setApplicationVersion(mainApplication.getApplicationVersion());
+                    serviceProvider.setApplicationVersion(inheritedConfig.getApplicationVersion());
                 }
             } catch (OrganizationManagementException | IdentityRoleManagementException e) {
                 throw new IdentityApplicationManagementException
@@ -373,16 +364,14 @@ public class FragmentApplicationMgtListener extends AbstractApplicationMgtListen
             mainApplicationDO = getOrgApplicationMgtDAO()
                     .getMainApplication(serviceProvider.getApplicationResourceId(), sharedOrgId);
             if (mainApplicationDO.isPresent()) {
-                String mainApplicationTenantDomain = getOrganizationManager().resolveTenantDomain(
-                        mainApplicationDO.get().getOrganizationId());
-                ServiceProvider mainApplication = getApplicationByResourceId(
-                        mainApplicationDO.get().getMainApplicationId(), mainApplicationTenantDomain);
-                inheritDiscoverabilityProperty(mainApplication, serviceProvider);
+                FragmentApplicationConfigCacheEntry inheritedConfig =
+                        getInheritedConfiguration(mainApplicationDO.get(), sharedOrgId, tenantDomain);
+                inheritDiscoverabilityProperty(inheritedConfig.isDiscoverable(), serviceProvider);
                 if (StringUtils.isBlank(serviceProvider.getAccessUrl())) {
-                    serviceProvider.setAccessUrl(mainApplication.getAccessUrl());
+                    serviceProvider.setAccessUrl(inheritedConfig.getAccessUrl());
                 }
             }
-        } catch (OrganizationManagementException e) {
+        } catch (OrganizationManagementException | IdentityRoleManagementException e) {
             throw new IdentityApplicationManagementException(
                     "Error while retrieving the fragment application details.", e);
         }
@@ -396,21 +385,101 @@ public class FragmentApplicationMgtListener extends AbstractApplicationMgtListen
                         Boolean.parseBoolean(property.getValue()));
     }
 
-    private void inheritDiscoverabilityProperty(ServiceProvider mainApplication, ServiceProvider sharedApplication) {
+    /**
+     * Get the configurations the fragment application inherits from its main application. The configurations are
+     * resolved from the main application on a cache miss, and cached against the main application and the
+     * organization the application is shared with.
+     *
+     * @param mainApplicationDO The main application of the fragment application.
+     * @param sharedOrgId       The ID of the organization the application is shared with.
+     * @param tenantDomain      The tenant domain of the fragment application.
+     * @return The inherited configurations.
+     */
+    private FragmentApplicationConfigCacheEntry getInheritedConfiguration(MainApplicationDO mainApplicationDO,
+                                                                          String sharedOrgId, String tenantDomain)
+            throws OrganizationManagementException, IdentityApplicationManagementException,
+            IdentityRoleManagementException {
+
+        FragmentApplicationConfigCacheKey cacheKey =
+                new FragmentApplicationConfigCacheKey(mainApplicationDO.getMainApplicationId(), sharedOrgId);
+        FragmentApplicationConfigCacheEntry inheritedConfig = FragmentApplicationConfigCache.getInstance()
+                .getValueFromCache(cacheKey, MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        if (inheritedConfig != null) {
+            return inheritedConfig;
+        }
+
+        String mainApplicationTenantDomain = getOrganizationManager()
+                .resolveTenantDomain(mainApplicationDO.getOrganizationId());
+        ServiceProvider mainApplication = getApplicationByResourceId
+                (mainApplicationDO.getMainApplicationId(), mainApplicationTenantDomain);
+        ClaimMapping[] filteredClaimMappings =
+                Arrays.stream(mainApplication.getClaimConfig().getClaimMappings())
+                        .filter(claim -> !claim.getLocalClaim().getClaimUri()
+                                .startsWith("http://wso2.org/claims/runtime/"))
+                        .toArray(ClaimMapping[]::new);
+        if (isB2BApplicationRoleSupportEnabled()) {
+            // Add application roles to the filtered claim mappings (if any
+            filteredClaimMappings = addApplicationRolesToFilteredClaimMappings(filteredClaimMappings);
+        }
+        // Add roles to the filtered claim mappings.
+        filteredClaimMappings = addRolesClaimToFilteredClaimMappings(filteredClaimMappings);
+        ClaimConfig claimConfig = new ClaimConfig();
+        claimConfig.setClaimMappings(filteredClaimMappings);
+        claimConfig.setAlwaysSendMappedLocalSubjectId(
+                mainApplication.getClaimConfig().isAlwaysSendMappedLocalSubjectId());
+        claimConfig.setMappedLocalSubjectMandatory(
+                mainApplication.getClaimConfig().isMappedLocalSubjectMandatory());
+
+        AssociatedRolesConfig associatedRolesConfigForSharedApp = null;
+        AssociatedRolesConfig associatedRolesConfigOfMainApp = mainApplication.getAssociatedRolesConfig();
+        if (associatedRolesConfigOfMainApp != null) {
+            associatedRolesConfigForSharedApp =
+                    getAssociatedRolesConfigForSharedApp(associatedRolesConfigOfMainApp, tenantDomain);
+        }
+        inheritedConfig = new FragmentApplicationConfigCacheEntry(mainApplication, claimConfig,
+                associatedRolesConfigForSharedApp);
+        FragmentApplicationConfigCache.getInstance()
+                .addToCache(cacheKey, inheritedConfig, MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        return inheritedConfig;
+    }
+
+    /**
+     * Clear the cached configurations the fragments of the given main application inherit from it.
+     *
+     * @param mainApplicationId The ID of the main application.
+     * @param tenantDomain      The tenant domain of the main application.
+     */
+    private void clearInheritedConfigurationsOfFragments(String mainApplicationId, String tenantDomain)
+            throws OrganizationManagementException {
+
+        String ownerOrgId = getOrganizationManager().resolveOrganizationId(tenantDomain);
+        if (ownerOrgId == null) {
+            ownerOrgId = SUPER_ORG_ID;
+        }
+        List<SharedApplicationDO> sharedApplications =
+                getOrgApplicationMgtDAO().getSharedApplications(ownerOrgId, mainApplicationId);
+        if (CollectionUtils.isEmpty(sharedApplications)) {
+            return;
+        }
+        for (SharedApplicationDO sharedApplication : sharedApplications) {
+            clearFragmentApplicationConfigCacheEntry(mainApplicationId, sharedApplication.getOrganizationId());
+        }
+    }
+
+    private void inheritDiscoverabilityProperty(boolean isMainApplicationDiscoverable,
+                                                ServiceProvider sharedApplication) {
 
-        sharedApplication.setDiscoverable(mainApplication.isDiscoverable() || sharedApplication.isDiscoverable());
+        sharedApplication.setDiscoverable(isMainApplicationDiscoverable || sharedApplication.isDiscoverable());
     }
 
-    private void inheritAPIBasedAuthenticationEnabledProperty(ServiceProvider mainApplication,
+    private void inheritAPIBasedAuthenticationEnabledProperty(FragmentApplicationConfigCacheEntry inheritedConfig,
                                                               ServiceProvider sharedApplication) {
 
         /*
          If the main application's IS_API_BASED_AUTHENTICATION_ENABLED_PROPERTY_NAME property is set to true,
          shared app inherit the value.
          */
-        if (!Arrays.stream(mainApplication.getSpProperties())
-                .anyMatch(p -> IS_API_BASED_AUTHENTICATION_ENABLED_PROPERTY_NAME.equalsIgnoreCase(
-                        p.getName()) && Boolean.parseBoolean(p.getValue()))) {
+        if (!inheritedConfig.isAPIBasedAuthenticationPropertyEnabled()) {
             return;
         }
         ServiceProviderProperty[] properties = sharedApplication.getSpProperties();
@@ -438,13 +507,14 @@ public class FragmentApplicationMgtListener extends AbstractApplicationMgtListen
                 }
             }
             sharedApplication.setSpProperties(properties);
-            sharedApplication.setAPIBasedAuthenticationEnabled(mainApplication.isAPIBasedAuthenticationEnabled());
+            sharedApplication.setAPIBasedAuthenticationEnabled(inheritedConfig.isAPIBasedAuthenticationEnabled());
         }
     }
 
-    private void inheritApplicationEnabledProperty(ServiceProvider mainApplication, ServiceProvider sharedApplication) {
+    private void inheritApplicationEnabledProperty(FragmentApplicationConfigCacheEntry inheritedConfig,
+                                                   ServiceProvider sharedApplication) {
 
-        sharedApplication.setApplicationEnabled(mainApplication.isApplicationEnabled());
+        sharedApplication.setApplicationEnabled(inheritedConfig.isApplicationEnabled());
     }
 
     /**
@@ -553,6 +623,7 @@ public class FragmentApplicationMgtListener extends AbstractApplicationMgtListen
                             (!sharedApplicationDO.get().shareWithAllChildren() &&
                                     IdentityUtil.threadLocalProperties.get()
                                             .containsKey(DELETE_FRAGMENT_APPLICATION))) {
+                        holdSharedApplicationCacheKeys(application.getApplicationResourceId(), organizationId);
                         return true;
                     }
                     throw new IdentityApplicationManagementClientException(
@@ -593,11 +664,36 @@ public class FragmentApplicationMgtListener extends AbstractApplicationMgtListen
             throw new IdentityApplicationManagementException("Error in validating the application for deletion.", e);
         } finally {
             IdentityUtil.threadLocalProperties.get().remove(DELETE_MAIN_APPLICATION);
+            IdentityUtil.threadLocalProperties.get().remove(SHARED_APP_CACHE_KEYS_OF_DELETED_FRAGMENT);
         }
 
         return super.doPreDeleteApplication(applicationName, tenantDomain, userName);
     }
 
+    /**
+     * Hold the shared application cache keys of a fragment application which is about to be deleted, against the ID of
+     * the fragment application. The link is removed from the database along with the fragment application, hence the
+     * keys are resolved before the deletion and cleared after it.
+     *
+     * @param sharedApplicationId  The ID of the fragment application.
+     * @param sharedOrganizationId The ID of the organization the fragment application resides in.
+     * @throws OrganizationManagementException If an error occurs while resolving the main application.
+     */
+    private void holdSharedApplicationCacheKeys(String sharedApplicationId, String sharedOrganizationId)
+            throws OrganizationManagementException {
+
+        List<SharedApplicationCacheKey> cacheKeys = new ArrayList<>();
+        cacheKeys.add(SharedApplicationCacheKey.forSharedApplication(sharedApplicationId, sharedOrganizationId));
+        getOrgApplicationMgtDAO().getMainApplication(sharedApplicationId, sharedOrganizationId)
+                .ifPresent(mainApplication -> cacheKeys.add(SharedApplicationCacheKey.forMainApplication(
+                        mainApplication.getMainApplicationId(), mainApplication.getOrganizationId(),
+                        sharedOrganizationId)));
+        // Only the keys of the fragment application being deleted are held, so that keys left by a failed deletion are
+        // replaced instead of being cleared for another application.
+        IdentityUtil.threadLocalProperties.get().put(SHARED_APP_CACHE_KEYS_OF_DELETED_FRAGMENT,
+                Collections.singletonMap(sharedApplicationId, cacheKeys));
+    }
+
     private ServiceProvider getApplicationByResourceId(String applicationResourceId, String tenantDomain)
             throws IdentityApplicationManagementException {
 
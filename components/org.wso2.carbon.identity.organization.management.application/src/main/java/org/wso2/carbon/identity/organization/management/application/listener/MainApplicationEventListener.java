@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -24,18 +24,23 @@ import org.wso2.carbon.identity.application.common.IdentityApplicationManagement
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.common.model.ServiceProviderProperty;
 import org.wso2.carbon.identity.application.mgt.listener.AbstractApplicationMgtListener;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.IdentityEventConstants;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
+import org.wso2.carbon.identity.organization.management.application.cache.SharedApplicationCacheKey;
 import org.wso2.carbon.identity.organization.management.application.internal.OrgApplicationMgtDataHolder;
+import org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.IS_FRAGMENT_APP;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.SHARED_APP_CACHE_KEYS_OF_DELETED_FRAGMENT;
 
 /**
  * Listener for handling shared application events during application lifecycle.
@@ -77,6 +82,7 @@ public class MainApplicationEventListener extends AbstractApplicationMgtListener
 
         if (isFragmentApplication) {
             // This is a fragment application. No need to do resource sharing cleanup.
+            clearSharedApplicationCacheEntries(serviceProvider.getApplicationResourceId());
             return true;
         }
         Map<String, Object> eventProperties = new HashMap<>();
@@ -110,6 +116,28 @@ public class MainApplicationEventListener extends AbstractApplicationMgtListener
                         Boolean.parseBoolean(property.getValue()));
     }
 
+    /**
+     * Clears the link of a deleted fragment application from the shared application cache. The link is removed from
+     * the database along with the fragment application, hence its cache keys are resolved before the deletion and
+     * cleared after it.
+     *
+     * @param sharedApplicationId The ID of the deleted fragment application.
+     */
+    @SuppressWarnings("unchecked")
+    private void clearSharedApplicationCacheEntries(String sharedApplicationId) {
+
+        Object heldCacheKeys =
+                IdentityUtil.threadLocalProperties.get().remove(SHARED_APP_CACHE_KEYS_OF_DELETED_FRAGMENT);
+        if (!(heldCacheKeys instanceof Map)) {
+            return;
+        }
+        // The held keys are cleared only if they were resolved for this fragment application.
+        Object cacheKeys = ((Map<?, ?>) heldCacheKeys).get(sharedApplicationId);
+        if (cacheKeys instanceof List) {
+            OrgApplicationManagerUtil.clearSharedApplicationCacheEntries((List<SharedApplicationCacheKey>) cacheKeys);
+        }
+    }
+
     private Event createEvent(Map<String, Object> eventProperties, String eventName) {
 
         return new Event(eventName, eventProperties);
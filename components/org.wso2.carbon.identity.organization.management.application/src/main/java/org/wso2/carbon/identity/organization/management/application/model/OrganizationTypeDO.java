@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.model;
+
+/**
+ * This class contains the type, status and tenant domain of an organization.
+ * Use this to resolve the organizations that an application can be shared with, without loading the organizations.
+ */
+public class OrganizationTypeDO {
+
+    private final String organizationId;
+
+    private final String type;
+
+    private final String status;
+
+    private final String tenantDomain;
+
+    public OrganizationTypeDO(String organizationId, String type, String status, String tenantDomain) {
+
+        this.organizationId = organizationId;
+        this.type = type;
+        this.status = status;
+        this.tenantDomain = tenantDomain;
+    }
+
+    public String getOrganizationId() {
+
+        return organizationId;
+    }
+
+    public String getType() {
+
+        return type;
+    }
+
+    public String getStatus() {
+
+        return status;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+}
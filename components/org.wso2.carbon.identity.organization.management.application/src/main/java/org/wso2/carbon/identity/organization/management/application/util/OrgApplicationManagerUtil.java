@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -31,6 +31,10 @@ import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.common.model.ServiceProviderProperty;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.organization.management.application.cache.FragmentApplicationConfigCache;
+import org.wso2.carbon.identity.organization.management.application.cache.FragmentApplicationConfigCacheKey;
+import org.wso2.carbon.identity.organization.management.application.cache.SharedApplicationCache;
+import org.wso2.carbon.identity.organization.management.application.cache.SharedApplicationCacheKey;
 import org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants;
 import org.wso2.carbon.identity.organization.management.application.internal.OrgApplicationMgtDataHolder;
 import org.wso2.carbon.identity.organization.management.application.model.operation.ApplicationShareRolePolicy;
@@ -261,6 +265,67 @@ public class OrgApplicationManagerUtil {
         b2bApplicationIds.remove();
     }
 
+    /**
+     * Clear the configurations a fragment application inherits from its main application, from the cache.
+     *
+     * @param mainApplicationId    The ID of the main application.
+     * @param sharedOrganizationId The ID of the organization the application is shared with.
+     */
+    public static void clearFragmentApplicationConfigCacheEntry(String mainApplicationId,
+                                                                String sharedOrganizationId) {
+
+        FragmentApplicationConfigCache.getInstance().clearCacheEntry(
+                new FragmentApplicationConfigCacheKey(mainApplicationId, sharedOrganizationId),
+                MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    /**
+     * Clear the inherited configurations of all the fragment applications from the cache.
+     */
+    public static void clearFragmentApplicationConfigCache() {
+
+        FragmentApplicationConfigCache.getInstance().clear(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    /**
+     * Clear the link between a main application and its shared application from the cache, under both of its keys.
+     *
+     * @param mainApplicationId    The ID of the main application.
+     * @param ownerOrganizationId  The ID of the organization which owns the main application.
+     * @param sharedApplicationId  The ID of the shared application.
+     * @param sharedOrganizationId The ID of the organization the application is shared with.
+     */
+    public static void clearSharedApplicationCacheEntries(String mainApplicationId, String ownerOrganizationId,
+                                                          String sharedApplicationId, String sharedOrganizationId) {
+
+        SharedApplicationCache.getInstance().clearCacheEntry(SharedApplicationCacheKey.forMainApplication(
+                mainApplicationId, ownerOrganizationId, sharedOrganizationId),
+                MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        SharedApplicationCache.getInstance().clearCacheEntry(SharedApplicationCacheKey.forSharedApplication(
+                sharedApplicationId, sharedOrganizationId), MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    /**
+     * Clear the given keys of the shared application links from the cache.
+     *
+     * @param cacheKeys The shared application cache keys.
+     */
+    public static void clearSharedApplicationCacheEntries(List<SharedApplicationCacheKey> cacheKeys) {
+
+        for (SharedApplicationCacheKey cacheKey : cacheKeys) {
+            SharedApplicationCache.getInstance().clearCacheEntry(cacheKey,
+                    MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        }
+    }
+
+    /**
+     * Clear the links of all the shared applications from the cache.
+     */
+    public static void clearSharedApplicationCache() {
+
+        SharedApplicationCache.getInstance().clear(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+    }
+
     /**
      * Create a new identity provider for the organization SSO.
      *
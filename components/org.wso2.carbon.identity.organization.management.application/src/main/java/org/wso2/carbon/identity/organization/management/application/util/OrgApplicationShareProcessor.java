@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -42,6 +42,7 @@ public class OrgApplicationShareProcessor {
 
         final Map<String, OrganizationNode> allNodesById = new HashMap<>();
         final List<String> bfsOrder = new ArrayList<>();
+        final Map<String, Integer> depthById = new HashMap<>();
     }
 
     /**
@@ -61,6 +62,7 @@ public class OrgApplicationShareProcessor {
             if (!info.allNodesById.containsKey(node.getId())) {
                 info.allNodesById.put(node.getId(), node);
                 info.bfsOrder.add(node.getId());
+                info.depthById.put(node.getId(), 0);
             }
         }
 
@@ -74,6 +76,7 @@ public class OrgApplicationShareProcessor {
                     if (!info.allNodesById.containsKey(child.getId())) {
                         info.allNodesById.put(child.getId(), child);
                         info.bfsOrder.add(child.getId());
+                        info.depthById.put(child.getId(), info.depthById.get(current.getId()) + 1);
                         queue.offer(child);
                     }
                 }
@@ -269,6 +272,50 @@ public class OrgApplicationShareProcessor {
         return hierarchyInfo.bfsOrder;
     }
 
+    /**
+     * Retrieves all organization IDs under a given root organization, grouped by their depth in the hierarchy.
+     * Each level keeps the BFS order of its organizations and only contains organizations whose parents are in the
+     * previous levels.
+     * Example levels: [A, B, C], [A.1, A.2, B.1, C.1], [A.1.1], ...
+     * where A, B, C are direct children of the 'mainOrganizationId'.
+     *
+     * @param mainOrganizationId The ID of the organization that serves as the root
+     *                           for fetching the entire hierarchy of interest.
+     * @return A List of organization ID levels, starting from the direct children of the main organization.
+     * @throws OrganizationManagementException If there's an error fetching organization data.
+     */
+    public static List<List<String>> getAllOrganizationIdsInBfsLevels(String mainOrganizationId)
+            throws OrganizationManagementException {
+
+        List<OrganizationNode> effectiveTopLevelNodes = OrgApplicationMgtDataHolder.getInstance()
+                .getOrganizationManager()
+                .getChildOrganizationGraph(mainOrganizationId, true);
+        HierarchyInfo hierarchyInfo = getAllNodesAndBfsOrder(effectiveTopLevelNodes);
+
+        // Depths are non-decreasing along the BFS order, hence a new level starts whenever the depth changes.
+        List<List<String>> levels = new ArrayList<>();
+        for (String orgId : hierarchyInfo.bfsOrder) {
+            int depth = hierarchyInfo.depthById.get(orgId);
+            if (levels.size() <= depth) {
+                levels.add(new ArrayList<>());
+            }
+            levels.get(depth).add(orgId);
+        }
+        return levels;
+    }
+
+    /**
+     * Resolves the depth of each organization in the given organization graph, where the given top level nodes are
+     * at depth zero.
+     *
+     * @param organizationNodes A list of {@link OrganizationNode} objects.
+     * @return A map of organization IDs to their depths. Returns an empty map if the input list is null or empty.
+     */
+    public static Map<String, Integer> getOrganizationDepths(List<OrganizationNode> organizationNodes) {
+
+        return getAllNodesAndBfsOrder(organizationNodes).depthById;
+    }
+
     /**
      * Filters a given list of organization IDs against the hierarchy under a main organization,
      * includes all descendants of the valid input IDs, and returns the unique, valid IDs
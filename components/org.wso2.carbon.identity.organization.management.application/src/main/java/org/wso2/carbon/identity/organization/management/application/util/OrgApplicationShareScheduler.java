@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Schedules the application shares of an organization hierarchy level by level, on an executor shared by all the
+ * application share operations.
+ * <p>
+ * The shares of the organizations at the same depth of the hierarchy run concurrently, and the shares of a level are
+ * started only after all the shares of the previous level are completed, so that an application is always shared
+ * with a parent organization before its child organizations.
+ * <p>
+ * Once the scheduler is shut down, no further shares are accepted, and the schedules which are not completed yet are
+ * completed exceptionally, so that their operations can be marked as failed.
+ */
+public class OrgApplicationShareScheduler {
+
+    private static final Log LOG = LogFactory.getLog(OrgApplicationShareScheduler.class);
+
+    private static final String POOL_SIZE_CONFIG = "OrgApplicationMgt.ShareScheduler.PoolSize";
+    private static final int DEFAULT_POOL_SIZE = 5;
+    private static final String WORKER_THREAD_NAME_PREFIX = "org-application-share-";
+
+    private static final Set<CompletableFuture<Void>> PENDING_SCHEDULES = ConcurrentHashMap.newKeySet();
+
+    private static ExecutorService executorService;
+    private static boolean isShutdown;
+
+    /**
+     * Private constructor to prevent instantiation of the utility class.
+     */
+    private OrgApplicationShareScheduler() {
+
+    }
+
+    /**
+     * Schedule the given share tasks level by level. The tasks of a level run concurrently, and a level is started
+     * only after all the tasks of the previous level are completed. A failing task does not hold back the other
+     * tasks or the next level.
+     *
+     * @param shareLevels The share tasks of each level of the hierarchy, starting from the top most level.
+     * @return A future which is completed once the tasks of all the levels are completed. The future is completed
+     * exceptionally if the scheduler is shut down before the tasks of all the levels are completed.
+     */
+    public static CompletableFuture<Void> schedule(List<List<Runnable>> shareLevels) {
+
+        CompletableFuture<Void> schedule = new CompletableFuture<>();
+        synchronized (OrgApplicationShareScheduler.class) {
+            if (isShutdown) {
+                schedule.completeExceptionally(new RejectedExecutionException(
+                        "The application share scheduler is shut down."));
+                return schedule;
+            }
+            PENDING_SCHEDULES.add(schedule);
+        }
+
+        CompletableFuture<Void> wavefront = CompletableFuture.completedFuture(null);
+        for (List<Runnable> shareLevel : shareLevels) {
+            if (!shareLevel.isEmpty()) {
+                wavefront = wavefront.thenCompose(previousLevel -> runLevel(shareLevel));
+            }
+        }
+        wavefront.whenComplete((result, throwable) -> {
+            PENDING_SCHEDULES.remove(schedule);
+            if (throwable != null) {
+                schedule.completeExceptionally(throwable);
+            } else {
+                schedule.complete(null);
+            }
+        });
+        return schedule;
+    }
+
+    /**
+     * Shut down the executor used for the application shares, if it has been started. The schedules which are not
+     * completed yet are completed exceptionally, and no further shares are accepted afterwards.
+     */
+    public static void shutdown() {
+
+        synchronized (OrgApplicationShareScheduler.class) {
+            isShutdown = true;
+            if (executorService != null) {
+                executorService.shutdownNow();
+                executorService = null;
+            }
+        }
+        // The tasks dropped by the executor never complete, hence their schedules are completed here.
+        for (CompletableFuture<Void> pendingSchedule : PENDING_SCHEDULES) {
+            PENDING_SCHEDULES.remove(pendingSchedule);
+            pendingSchedule.completeExceptionally(new RejectedExecutionException(
+                    "The application share scheduler is shut down before the shares are completed."));
+        }
+    }
+
+    private static CompletableFuture<Void> runLevel(List<Runnable> shareTasks) {
+
+        ExecutorService executor = getExecutorService();
+        CompletableFuture<?>[] futures = shareTasks.stream()
+                .map(shareTask -> CompletableFuture.runAsync(shareTask, executor).exceptionally(throwable -> {
+                    LOG.error("Error occurred while sharing the application with an organization.", throwable);
+                    return null;
+                }))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(futures);
+    }
+
+    private static synchronized ExecutorService getExecutorService() {
+
+        // The executor is not re-created once shut down, as the component is being deactivated.
+        if (isShutdown) {
+            throw new RejectedExecutionException("The application share scheduler is shut down.");
+        }
+        if (executorService == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadFactory threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, WORKER_THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            executorService = Executors.newFixedThreadPool(getConfiguredPoolSize(), threadFactory);
+        }
+        return executorService;
+    }
+
+    private static int getConfiguredPoolSize() {
+
+        String configuredPoolSize = IdentityUtil.getProperty(POOL_SIZE_CONFIG);
+        if (StringUtils.isBlank(configuredPoolSize)) {
+            return DEFAULT_POOL_SIZE;
+        }
+        try {
+            int poolSize = Integer.parseInt(configuredPoolSize.trim());
+            if (poolSize > 0) {
+                return poolSize;
+            }
+        } catch (NumberFormatException e) {
+            // Falls back to the default pool size below.
+        }
+        LOG.warn("Invalid value: " + configuredPoolSize + " configured for " + POOL_SIZE_CONFIG +
+                ". Using the default value: " + DEFAULT_POOL_SIZE);
+        return DEFAULT_POOL_SIZE;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2024-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -51,6 +51,7 @@ import org.wso2.carbon.identity.organization.management.application.dao.OrgAppli
 import org.wso2.carbon.identity.organization.management.application.internal.OrgApplicationMgtDataHolder;
 import org.wso2.carbon.identity.organization.management.application.listener.ApplicationSharingManagerListener;
 import org.wso2.carbon.identity.organization.management.application.model.MainApplicationDO;
+import org.wso2.carbon.identity.organization.management.application.model.OrganizationTypeDO;
 import org.wso2.carbon.identity.organization.management.application.model.RoleWithAudienceDO;
 import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationDO;
 import org.wso2.carbon.identity.organization.management.application.model.operation.ApplicationShareRolePolicy;
@@ -81,6 +82,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -575,13 +577,15 @@ public class OrgApplicationManagerImplTest {
             when(organizationManager.getChildOrganizationGraph(mainOrgId, true)).thenReturn(childGraph);
             Organization childOrg = createMockOrganization(childOrgId);
             when(organizationManager.getOrganization(childOrgId, false, false)).thenReturn(childOrg);
+            when(orgApplicationMgtDAO.getOrganizationTypes(anyList()))
+                    .thenReturn(createOrganizationTypes(childOrgId));
             when(organizationManager.resolveTenantDomain(mainOrgId)).thenReturn("main-tenant-domain");
 
             testOrgApplicationManager.shareApplicationWithSelectedOrganizations(mainOrgId, mainAppId, shareOperations);
 
             verify(organizationManager).resolveTenantDomain(mainOrgId);
             verify(organizationManager, times(1)).getChildOrganizationGraph(mainOrgId, true);
-            verify(organizationManager).getOrganization(childOrgId, false, false);
+            verify(orgApplicationMgtDAO).getOrganizationTypes(Collections.singletonList(childOrgId));
             verify(applicationManagementService).getApplicationByResourceId(mainAppId, "main-tenant-domain");
             verify(applicationManagementService).getAllIdentityProviders("main-tenant-domain");
         }
@@ -665,12 +669,16 @@ public class OrgApplicationManagerImplTest {
                     .thenReturn(createMockOrganization(grandChild1OrgId));
             when(organizationManager.getOrganization(child2OrgId, false, false))
                     .thenReturn(createMockOrganization(child2OrgId));
+            when(orgApplicationMgtDAO.getOrganizationTypes(anyList()))
+                    .thenReturn(createOrganizationTypes(child1OrgId, grandChild1OrgId, child2OrgId));
 
             testOrgApplicationManager.shareApplicationWithSelectedOrganizations(mainOrgId, mainAppId, shareOperations);
 
-            verify(organizationManager).getOrganization(child1OrgId, false, false);
-            verify(organizationManager).getOrganization(grandChild1OrgId, false, false);
-            verify(organizationManager).getOrganization(child2OrgId, false, false);
+            // The types of all the organizations to share with are resolved in a single lookup.
+            ArgumentCaptor<List> organizationIdsCaptor = ArgumentCaptor.forClass(List.class);
+            verify(orgApplicationMgtDAO).getOrganizationTypes(organizationIdsCaptor.capture());
+            assertEquals(new HashSet<>(organizationIdsCaptor.getValue()),
+                    new HashSet<>(Arrays.asList(child1OrgId, grandChild1OrgId, child2OrgId)));
         }
     }
 
@@ -754,12 +762,14 @@ public class OrgApplicationManagerImplTest {
             when(organizationManager.getChildOrganizationGraph(mainOrgId, true)).thenReturn(childGraph);
             Organization childOrg = createMockOrganization(childOrgId);
             when(organizationManager.getOrganization(childOrgId, false, false)).thenReturn(childOrg);
+            when(orgApplicationMgtDAO.getOrganizationTypes(anyList()))
+                    .thenReturn(createOrganizationTypes(childOrgId));
 
             testOrgApplicationManager.shareApplicationWithSelectedOrganizations(mainOrgId, mainAppId,
                     Arrays.asList(shareOperation));
 
             verify(organizationManager).resolveTenantDomain(mainOrgId);
-            verify(organizationManager).getOrganization(childOrgId, false, false);
+            verify(orgApplicationMgtDAO).getOrganizationTypes(Collections.singletonList(childOrgId));
             verify(applicationManagementService).getApplicationByResourceId(mainAppId, "main-tenant-domain");
             verify(applicationManagementService).getAllIdentityProviders("main-tenant-domain");
         }
@@ -840,11 +850,13 @@ public class OrgApplicationManagerImplTest {
 
             Organization childOrg = createMockOrganization(childOrgId);
             when(organizationManager.getOrganization(childOrgId, false, false)).thenReturn(childOrg);
+            when(orgApplicationMgtDAO.getOrganizationTypes(anyList()))
+                    .thenReturn(createOrganizationTypes(childOrgId));
 
             testOrgApplicationManager.shareApplicationWithSelectedOrganizations(mainOrgId, mainAppId,
                     Collections.singletonList(shareOperation));
 
-            verify(organizationManager).getOrganization(childOrgId, false, false);
+            verify(orgApplicationMgtDAO).getOrganizationTypes(Collections.singletonList(childOrgId));
         }
     }
 
@@ -1041,11 +1053,13 @@ public class OrgApplicationManagerImplTest {
             when(organizationManager.getChildOrganizationGraph(mainOrgId, true)).thenReturn(childGraph);
             Organization childOrg = createMockOrganization("child1-org-id");
             when(organizationManager.getOrganization("child1-org-id", false, false)).thenReturn(childOrg);
+            when(orgApplicationMgtDAO.getOrganizationTypes(anyList()))
+                    .thenReturn(createOrganizationTypes("child1-org-id"));
 
             testOrgApplicationManager.shareApplicationWithAllOrganizations(mainOrgId, mainAppId, generalOperation);
 
             verify(organizationManager).getChildOrganizations(mainOrgId, true);
-            verify(organizationManager).getOrganization("child1-org-id", false, false);
+            verify(orgApplicationMgtDAO).getOrganizationTypes(Collections.singletonList("child1-org-id"));
         }
     }
 
@@ -1244,11 +1258,13 @@ public class OrgApplicationManagerImplTest {
             when(organizationManager.getChildOrganizationGraph(mainOrgId, true)).thenReturn(childGraph);
             Organization childOrg = createMockOrganization("child1-org-id");
             when(organizationManager.getOrganization("child1-org-id", false, false)).thenReturn(childOrg);
+            when(orgApplicationMgtDAO.getOrganizationTypes(anyList()))
+                    .thenReturn(createOrganizationTypes("child1-org-id"));
 
             testOrgApplicationManager.shareApplicationWithAllOrganizations(mainOrgId, mainAppId, generalOperation);
 
             // Verify sharing occurred with NONE role policy.
-            verify(organizationManager).getOrganization("child1-org-id", false, false);
+            verify(orgApplicationMgtDAO).getOrganizationTypes(Collections.singletonList("child1-org-id"));
         }
     }
 
@@ -1533,6 +1549,8 @@ public class OrgApplicationManagerImplTest {
             when(organizationManager.getChildOrganizationGraph(mainOrgId, true)).thenReturn(childGraph);
             Organization childOrg = createMockOrganization(childOrgId);
             when(organizationManager.getOrganization(childOrgId, false, false)).thenReturn(childOrg);
+            when(orgApplicationMgtDAO.getOrganizationTypes(anyList()))
+                    .thenReturn(createOrganizationTypes(childOrgId));
 
             OrgApplicationManager testOrgApplicationManager = new OrgApplicationManagerImpl();
             testOrgApplicationManager.shareApplicationWithSelectedOrganizations(mainOrgId, mainAppId,
@@ -1623,6 +1641,8 @@ public class OrgApplicationManagerImplTest {
             when(organizationManager.getChildOrganizationGraph(mainOrgId, true)).thenReturn(childGraph);
             Organization childOrg = createMockOrganization(childOrgId);
             when(organizationManager.getOrganization(childOrgId, false, false)).thenReturn(childOrg);
+            when(orgApplicationMgtDAO.getOrganizationTypes(anyList()))
+                    .thenReturn(createOrganizationTypes(childOrgId));
 
             OrgApplicationManager testOrgApplicationManager = new OrgApplicationManagerImpl();
             testOrgApplicationManager.shareApplicationWithSelectedOrganizations(mainOrgId, mainAppId,
@@ -1705,6 +1725,8 @@ public class OrgApplicationManagerImplTest {
             when(organizationManager.getChildOrganizationGraph(mainOrgId, true)).thenReturn(childGraph);
             Organization childOrg = createMockOrganization(childOrgId);
             when(organizationManager.getOrganization(childOrgId, false, false)).thenReturn(childOrg);
+            when(orgApplicationMgtDAO.getOrganizationTypes(anyList()))
+                    .thenReturn(createOrganizationTypes(childOrgId));
 
             OrgApplicationManager testOrgApplicationManager = new OrgApplicationManagerImpl();
             testOrgApplicationManager.shareApplicationWithSelectedOrganizations(mainOrgId, mainAppId,
@@ -1786,6 +1808,15 @@ public class OrgApplicationManagerImplTest {
         return organization;
     }
 
+    private Map<String, OrganizationTypeDO> createOrganizationTypes(String... orgIds) {
+
+        Map<String, OrganizationTypeDO> organizationTypes = new HashMap<>();
+        for (String orgId : orgIds) {
+            organizationTypes.put(orgId, new OrganizationTypeDO(orgId, "TENANT", "ACTIVE", orgId + "-tenant-domain"));
+        }
+        return organizationTypes;
+    }
+
     private BasicOrganization createMockBasicOrganization(String orgId, String name) {
 
         BasicOrganization basicOrg = new BasicOrganization();
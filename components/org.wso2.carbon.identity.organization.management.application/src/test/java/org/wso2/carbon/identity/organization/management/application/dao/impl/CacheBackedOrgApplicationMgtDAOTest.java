@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.organization.management.application.dao.impl;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.MockitoAnnotations;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.organization.management.application.cache.SharedApplicationCache;
+import org.wso2.carbon.identity.organization.management.application.cache.SharedApplicationCacheEntry;
+import org.wso2.carbon.identity.organization.management.application.cache.SharedApplicationCacheKey;
+import org.wso2.carbon.identity.organization.management.application.dao.OrgApplicationMgtDAO;
+import org.wso2.carbon.identity.organization.management.application.model.MainApplicationDO;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+
+/**
+ * Unit tests for CacheBackedOrgApplicationMgtDAO.
+ */
+public class CacheBackedOrgApplicationMgtDAOTest {
+
+    private static final String MAIN_APP_ID = "5e1e1c6e-0b2f-4c8a-9c9b-8d6e1f2a3b4c";
+    private static final String OWNER_ORG_ID = "72b81cba-51c7-4dc1-91be-b267e177c17a";
+    private static final String SHARED_APP_ID = "b4a2c7d1-3e5f-4a6b-8c9d-0e1f2a3b4c5d";
+    private static final String SHARED_ORG_ID = "30b701c6-e309-4241-b047-0c299c45d1a0";
+
+    @Mock
+    private OrgApplicationMgtDAO orgApplicationMgtDAO;
+
+    @Mock
+    private SharedApplicationCache sharedApplicationCache;
+
+    private MockedStatic<SharedApplicationCache> mockedSharedApplicationCache;
+    private CacheBackedOrgApplicationMgtDAO cacheBackedOrgApplicationMgtDAO;
+
+    @BeforeMethod
+    public void setUp() {
+
+        MockitoAnnotations.openMocks(this);
+        mockedSharedApplicationCache = mockStatic(SharedApplicationCache.class);
+        mockedSharedApplicationCache.when(SharedApplicationCache::getInstance).thenReturn(sharedApplicationCache);
+        cacheBackedOrgApplicationMgtDAO = new CacheBackedOrgApplicationMgtDAO(orgApplicationMgtDAO);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        mockedSharedApplicationCache.close();
+    }
+
+    @Test
+    public void testGetSharedApplicationResourceIdFromCache() throws Exception {
+
+        when(sharedApplicationCache.getValueFromCache(
+                SharedApplicationCacheKey.forMainApplication(MAIN_APP_ID, OWNER_ORG_ID, SHARED_ORG_ID),
+                SUPER_TENANT_DOMAIN_NAME))
+                .thenReturn(new SharedApplicationCacheEntry(MAIN_APP_ID, OWNER_ORG_ID, SHARED_APP_ID));
+
+        Optional<String> sharedAppId = cacheBackedOrgApplicationMgtDAO.getSharedApplicationResourceId(MAIN_APP_ID,
+                OWNER_ORG_ID, SHARED_ORG_ID);
+
+        Assert.assertEquals(sharedAppId.orElse(null), SHARED_APP_ID);
+        verify(orgApplicationMgtDAO, never()).getSharedApplicationResourceId(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    public void testGetSharedApplicationResourceIdCachesBothDirections() throws Exception {
+
+        when(orgApplicationMgtDAO.getSharedApplicationResourceId(MAIN_APP_ID, OWNER_ORG_ID, SHARED_ORG_ID))
+                .thenReturn(Optional.of(SHARED_APP_ID));
+
+        Optional<String> sharedAppId = cacheBackedOrgApplicationMgtDAO.getSharedApplicationResourceId(MAIN_APP_ID,
+                OWNER_ORG_ID, SHARED_ORG_ID);
+
+        Assert.assertEquals(sharedAppId.orElse(null), SHARED_APP_ID);
+        verify(sharedApplicationCache).addToCache(
+                eq(SharedApplicationCacheKey.forMainApplication(MAIN_APP_ID, OWNER_ORG_ID, SHARED_ORG_ID)),
+                any(SharedApplicationCacheEntry.class), eq(SUPER_TENANT_DOMAIN_NAME));
+        verify(sharedApplicationCache).addToCache(
+                eq(SharedApplicationCacheKey.forSharedApplication(SHARED_APP_ID, SHARED_ORG_ID)),
+                any(SharedApplicationCacheEntry.class), eq(SUPER_TENANT_DOMAIN_NAME));
+    }
+
+    @Test
+    public void testGetSharedApplicationResourceIdCachesAbsentLink() throws Exception {
+
+        when(orgApplicationMgtDAO.getSharedApplicationResourceId(MAIN_APP_ID, OWNER_ORG_ID, SHARED_ORG_ID))
+                .thenReturn(Optional.empty());
+
+        Optional<String> sharedAppId = cacheBackedOrgApplicationMgtDAO.getSharedApplicationResourceId(MAIN_APP_ID,
+                OWNER_ORG_ID, SHARED_ORG_ID);
+
+        Assert.assertFalse(sharedAppId.isPresent());
+        ArgumentCaptor<SharedApplicationCacheEntry> cacheEntryCaptor =
+                ArgumentCaptor.forClass(SharedApplicationCacheEntry.class);
+        verify(sharedApplicationCache).addToCache(
+                eq(SharedApplicationCacheKey.forMainApplication(MAIN_APP_ID, OWNER_ORG_ID, SHARED_ORG_ID)),
+                cacheEntryCaptor.capture(), eq(SUPER_TENANT_DOMAIN_NAME));
+        Assert.assertNull(cacheEntryCaptor.getValue().getSharedApplicationId());
+    }
+
+    @Test
+    public void testGetMainApplicationFromCache() throws Exception {
+
+        when(sharedApplicationCache.getValueFromCache(
+                SharedApplicationCacheKey.forSharedApplication(SHARED_APP_ID, SHARED_ORG_ID),
+                SUPER_TENANT_DOMAIN_NAME))
+                .thenReturn(new SharedApplicationCacheEntry(MAIN_APP_ID, OWNER_ORG_ID, SHARED_APP_ID));
+
+        Optional<MainApplicationDO> mainApplication =
+                cacheBackedOrgApplicationMgtDAO.getMainApplication(SHARED_APP_ID, SHARED_ORG_ID);
+
+        Assert.assertTrue(mainApplication.isPresent());
+        Assert.assertEquals(mainApplication.get().getMainApplicationId(), MAIN_APP_ID);
+        Assert.assertEquals(mainApplication.get().getOrganizationId(), OWNER_ORG_ID);
+        verify(orgApplicationMgtDAO, never()).getMainApplication(anyString(), anyString());
+    }
+
+    @Test
+    public void testGetMainApplicationFromAbsentLinkInCache() throws Exception {
+
+        when(sharedApplicationCache.getValueFromCache(
+                SharedApplicationCacheKey.forSharedApplication(SHARED_APP_ID, SHARED_ORG_ID),
+                SUPER_TENANT_DOMAIN_NAME))
+                .thenReturn(new SharedApplicationCacheEntry(null, null, SHARED_APP_ID));
+
+        Optional<MainApplicationDO> mainApplication =
+                cacheBackedOrgApplicationMgtDAO.getMainApplication(SHARED_APP_ID, SHARED_ORG_ID);
+
+        Assert.assertFalse(mainApplication.isPresent());
+        verify(orgApplicationMgtDAO, never()).getMainApplication(anyString(), anyString());
+    }
+
+    @Test
+    public void testAddSharedApplicationClearsCachedLink() throws Exception {
+
+        cacheBackedOrgApplicationMgtDAO.addSharedApplication(MAIN_APP_ID, OWNER_ORG_ID, SHARED_APP_ID, SHARED_ORG_ID,
+                false);
+
+        verify(orgApplicationMgtDAO).addSharedApplication(MAIN_APP_ID, OWNER_ORG_ID, SHARED_APP_ID, SHARED_ORG_ID,
+                false);
+        verify(sharedApplicationCache, times(1)).clearCacheEntry(
+                SharedApplicationCacheKey.forMainApplication(MAIN_APP_ID, OWNER_ORG_ID, SHARED_ORG_ID),
+                SUPER_TENANT_DOMAIN_NAME);
+        verify(sharedApplicationCache, times(1)).clearCacheEntry(
+                SharedApplicationCacheKey.forSharedApplication(SHARED_APP_ID, SHARED_ORG_ID),
+                SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    @Test
+    public void testDeleteSharedAppLinksClearsCache() throws Exception {
+
+        cacheBackedOrgApplicationMgtDAO.deleteSharedAppLinks(SHARED_ORG_ID);
+
+        verify(orgApplicationMgtDAO).deleteSharedAppLinks(SHARED_ORG_ID);
+        verify(sharedApplicationCache).clear(SUPER_TENANT_DOMAIN_NAME);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2024-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.organization.management.application.dao.impl;
 
+import org.h2.jdbcx.JdbcDataSource;
 import org.mockito.MockedStatic;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
@@ -27,6 +28,7 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.CarbonConstants;
 import org.wso2.carbon.base.CarbonBaseConstants;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.database.utils.jdbc.NamedJdbcTemplate;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
 import org.wso2.carbon.identity.application.common.model.DiscoverableGroup;
@@ -37,9 +39,12 @@ import org.wso2.carbon.identity.application.mgt.dao.impl.ApplicationDAOImpl;
 import org.wso2.carbon.identity.application.mgt.internal.ApplicationManagementServiceComponentHolder;
 import org.wso2.carbon.identity.application.mgt.provider.ApplicationPermissionProvider;
 import org.wso2.carbon.identity.common.testng.WithH2Database;
+import org.wso2.carbon.identity.core.persistence.UmPersistenceManager;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.organization.management.application.internal.OrgApplicationMgtDataHolder;
+import org.wso2.carbon.identity.organization.management.application.model.OrganizationTypeDO;
 import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationDO;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.OrganizationUserResidentResolverService;
@@ -55,17 +60,25 @@ import org.wso2.carbon.user.core.tenant.Tenant;
 import org.wso2.carbon.user.core.tenant.TenantManager;
 
 import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import javax.sql.DataSource;
+
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertThrows;
@@ -97,6 +110,19 @@ public class OrgApplicationMgtDAOImplTest {
     private static final String SAMPLE_APP_2 = "scl-app";
     private static final String SAMPLE_APP_3 = "medical-app";
     private static final String SAMPLE_APP_4 = "sample-app";
+    private static final String SAMPLE_APP_5 = "hierarchy-app";
+    private static final String SAMPLE_APP_6 = "linked-app";
+    private static final String BATCH_PARENT_ORG_ID = "10c4b2e7-5a3f-4c1e-9d2b-7f8e6a5d4c3b";
+    private static final String BATCH_CHILD_ORG_ID_FORMAT = "50000000-0000-0000-0000-%012d";
+    private static final String TENANT_ORG_ID = "70000000-0000-0000-0000-000000000001";
+    private static final String STRUCTURAL_ORG_ID = "70000000-0000-0000-0000-000000000002";
+    private static final String MISSING_ORG_ID = "70000000-0000-0000-0000-000000000003";
+    private static final String TENANT_DOMAIN_OF_TENANT_ORG = "tenant-org";
+    private static final String TYPE_BATCH_ORG_ID_FORMAT = "60000000-0000-0000-0000-%012d";
+    private static final String TENANT_ORG_TYPE = "TENANT";
+    private static final String STRUCTURAL_ORG_TYPE = "STRUCTURAL";
+    private static final String ACTIVE_ORG_STATUS = "ACTIVE";
+    private static final String UM_DB_URL = "jdbc:h2:mem:testOrgApplicationMgtUmDB;DB_CLOSE_DELAY=-1";
 
     private MockedStatic<IdentityTenantUtil> mockIdentityTenantUtil;
     private MockedStatic<IdentityUtil> mockIdentityUtil;
@@ -111,16 +137,20 @@ public class OrgApplicationMgtDAOImplTest {
     private TenantManager mockTenantManager;
     private OrganizationUserResidentResolverService mockOrganizationUserResidentResolverService;
     private OrganizationManager mockOrganizationManager;
+    private MockedStatic<UmPersistenceManager> mockUmPersistenceManager;
+    private UmPersistenceManager mockedUmPersistenceManager;
 
     private OrgApplicationMgtDAOImpl orgApplicationMgtDAO;
     private ApplicationDAO applicationDAO;
+    // The organization hierarchy resides in the user management database, which is separate from the identity one.
+    private JdbcDataSource umDataSource;
 
     /**
      * Setup the test environment for OrgApplicationMgtDAOImpl.
      */
     @BeforeClass
     public void setup() throws org.wso2.carbon.user.api.UserStoreException, IdentityApplicationManagementException,
-            OrganizationManagementException {
+            OrganizationManagementException, SQLException {
 
         mockIdentityTenantUtil = mockStatic(IdentityTenantUtil.class);
         mockIdentityUtil = mockStatic(IdentityUtil.class);
@@ -137,6 +167,11 @@ public class OrgApplicationMgtDAOImplTest {
         mockedOrgApplicationMgtComponentHolder = mock(OrgApplicationMgtDataHolder.class);
         mockOrganizationManager = mock(OrganizationManager.class);
         setupInitConfigurations();
+        setupUmDatabase();
+        mockUmPersistenceManager = mockStatic(UmPersistenceManager.class);
+        mockedUmPersistenceManager = mock(UmPersistenceManager.class);
+        mockUmPersistenceManager.when(UmPersistenceManager::getInstance).thenReturn(mockedUmPersistenceManager);
+        when(mockedUmPersistenceManager.getDataSource()).thenReturn(umDataSource);
 
         orgApplicationMgtDAO = new OrgApplicationMgtDAOImpl();
         applicationDAO = new ApplicationDAOImpl();
@@ -152,6 +187,7 @@ public class OrgApplicationMgtDAOImplTest {
         mockIdentityUtil.close();
         mockedApplicationManagementServiceComponentHolder.close();
         mockOrgApplicationMgtDataHolder.close();
+        mockUmPersistenceManager.close();
     }
 
     @DataProvider(name = "filteredSharedApplicationsTestData")
@@ -233,6 +269,180 @@ public class OrgApplicationMgtDAOImplTest {
         }
     }
 
+    @DataProvider(name = "sharedApplicationsInOrgHierarchyTestData")
+    public Object[][] getSharedApplicationsInOrgHierarchyTestData()
+            throws IdentityApplicationManagementException, OrganizationManagementException, SQLException {
+
+        createAndShareApplication(SAMPLE_APP_5, new String[]{SHARED_ORG_ID_1, SHARED_ORG_ID_2},
+                new String[]{TENANT_DOMAIN_OF_ORG_ID_1, TENANT_DOMAIN_OF_ORG_ID_2});
+        // Organization hierarchy: root -> org1 -> org2.
+        addOrganizationHierarchy(ROOT_ORG_ID, SHARED_ORG_ID_1, 1);
+        addOrganizationHierarchy(ROOT_ORG_ID, SHARED_ORG_ID_2, 2);
+        addOrganizationHierarchy(SHARED_ORG_ID_1, SHARED_ORG_ID_2, 1);
+
+        return new Object[][] {
+                // All the descendants of the root organization.
+                {ROOT_ORG_ID, true, 0, 2},
+                // All the descendants of the root organization with the limit of 1.
+                {ROOT_ORG_ID, true, 1, 1},
+                // Only the immediate children of the root organization.
+                {ROOT_ORG_ID, false, 0, 1},
+                // All the descendants of a sub organization.
+                {SHARED_ORG_ID_1, true, 0, 1},
+                // A leaf organization does not have descendants.
+                {SHARED_ORG_ID_2, true, 0, 0},
+        };
+    }
+
+    @Test(dataProvider = "sharedApplicationsInOrgHierarchyTestData")
+    public void testGetSharedApplicationsInOrgHierarchy(String parentOrgId, boolean recursive, int limit,
+                                                        int expectedNumOfApps) throws Exception {
+
+        try (MockedStatic<Utils> mockUtil = mockStatic(Utils.class)) {
+
+            mockUtil.when(Utils::isOracleDB).thenReturn(false);
+            mockUtil.when(Utils::isMSSqlDB).thenReturn(false);
+            mockUtil.when(Utils::getNewTemplate).thenReturn(new NamedJdbcTemplate(umDataSource));
+
+            String rootAppUUID = applicationDAO.getApplication(SAMPLE_APP_5, SUPER_TENANT_DOMAIN_NAME)
+                    .getApplicationResourceId();
+            List<SharedApplicationDO> sharedApplications = orgApplicationMgtDAO.getSharedApplicationsInOrgHierarchy(
+                    ROOT_ORG_ID, rootAppUUID, parentOrgId, recursive, Collections.emptyList(), DESC, limit);
+
+            Assert.assertNotNull(sharedApplications);
+            Assert.assertEquals(sharedApplications.size(), expectedNumOfApps);
+        }
+    }
+
+    @Test(dependsOnMethods = "testGetSharedApplicationsInOrgHierarchy")
+    public void testGetSharedApplicationsInOrgHierarchyAcrossBatches() throws Exception {
+
+        // The shared organizations are placed in different batches, around more than a batch of other organizations.
+        addOrganizationHierarchy(BATCH_PARENT_ORG_ID, SHARED_ORG_ID_1, 1);
+        for (int i = 0; i < 500; i++) {
+            addOrganizationHierarchy(BATCH_PARENT_ORG_ID, String.format(BATCH_CHILD_ORG_ID_FORMAT, i), 1);
+        }
+        addOrganizationHierarchy(BATCH_PARENT_ORG_ID, SHARED_ORG_ID_2, 1);
+
+        try (MockedStatic<Utils> mockUtil = mockStatic(Utils.class)) {
+
+            mockUtil.when(Utils::isOracleDB).thenReturn(false);
+            mockUtil.when(Utils::isMSSqlDB).thenReturn(false);
+            mockUtil.when(Utils::getNewTemplate).thenReturn(new NamedJdbcTemplate(umDataSource));
+
+            String rootAppUUID = applicationDAO.getApplication(SAMPLE_APP_5, SUPER_TENANT_DOMAIN_NAME)
+                    .getApplicationResourceId();
+            List<SharedApplicationDO> sharedApplications = orgApplicationMgtDAO.getSharedApplicationsInOrgHierarchy(
+                    ROOT_ORG_ID, rootAppUUID, BATCH_PARENT_ORG_ID, false, Collections.emptyList(), DESC, 0);
+            Assert.assertEquals(sharedApplications.size(), 2);
+            Assert.assertTrue(sharedApplications.get(0).getAppId() > sharedApplications.get(1).getAppId());
+
+            // The page is limited after the results of the batches are merged.
+            List<SharedApplicationDO> firstPage = orgApplicationMgtDAO.getSharedApplicationsInOrgHierarchy(
+                    ROOT_ORG_ID, rootAppUUID, BATCH_PARENT_ORG_ID, false, Collections.emptyList(), DESC, 1);
+            Assert.assertEquals(firstPage.size(), 1);
+            Assert.assertEquals(firstPage.get(0).getAppId(), sharedApplications.get(0).getAppId());
+        }
+    }
+
+    @Test(dependsOnMethods = "testGetSharedApplicationsInOrgHierarchy")
+    public void testGetSharedApplicationsInOrgHierarchyOfIdentityDatabase() throws Exception {
+
+        // The organization hierarchy resides in the identity database, hence it is resolved within the query.
+        DataSource identityDataSource = IdentityDatabaseUtil.getDataSource();
+        addOrganizationHierarchy(identityDataSource, ROOT_ORG_ID, SHARED_ORG_ID_1, 1);
+        addOrganizationHierarchy(identityDataSource, ROOT_ORG_ID, SHARED_ORG_ID_2, 2);
+        when(mockedUmPersistenceManager.getDataSource()).thenReturn(identityDataSource);
+
+        try (MockedStatic<Utils> mockUtil = mockStatic(Utils.class)) {
+
+            mockUtil.when(Utils::isOracleDB).thenReturn(false);
+            mockUtil.when(Utils::isMSSqlDB).thenReturn(false);
+
+            // The outcome of comparing the data sources is kept by the DAO, hence a new one.
+            OrgApplicationMgtDAOImpl orgApplicationMgtDAOOfIdentityDatabase = new OrgApplicationMgtDAOImpl();
+            String rootAppUUID = applicationDAO.getApplication(SAMPLE_APP_5, SUPER_TENANT_DOMAIN_NAME)
+                    .getApplicationResourceId();
+            List<SharedApplicationDO> sharedApplications =
+                    orgApplicationMgtDAOOfIdentityDatabase.getSharedApplicationsInOrgHierarchy(ROOT_ORG_ID,
+                            rootAppUUID, ROOT_ORG_ID, true, Collections.emptyList(), DESC, 0);
+            Assert.assertEquals(sharedApplications.size(), 2);
+            Assert.assertTrue(sharedApplications.get(0).getAppId() > sharedApplications.get(1).getAppId());
+
+            List<SharedApplicationDO> childSharedApplications =
+                    orgApplicationMgtDAOOfIdentityDatabase.getSharedApplicationsInOrgHierarchy(ROOT_ORG_ID,
+                            rootAppUUID, ROOT_ORG_ID, false, Collections.emptyList(), DESC, 0);
+            Assert.assertEquals(childSharedApplications.size(), 1);
+
+            List<SharedApplicationDO> firstPage =
+                    orgApplicationMgtDAOOfIdentityDatabase.getSharedApplicationsInOrgHierarchy(ROOT_ORG_ID,
+                            rootAppUUID, ROOT_ORG_ID, true, Collections.emptyList(), DESC, 1);
+            Assert.assertEquals(firstPage.size(), 1);
+            Assert.assertEquals(firstPage.get(0).getAppId(), sharedApplications.get(0).getAppId());
+            mockUtil.verify(Utils::getNewTemplate, never());
+        } finally {
+            when(mockedUmPersistenceManager.getDataSource()).thenReturn(umDataSource);
+        }
+    }
+
+    @Test
+    public void testGetOrganizationTypes() throws Exception {
+
+        addOrganization(TENANT_ORG_ID, TENANT_ORG_TYPE);
+        addTenant(TENANT_DOMAIN_OF_TENANT_ORG, TENANT_ORG_ID);
+        addOrganization(STRUCTURAL_ORG_ID, STRUCTURAL_ORG_TYPE);
+        // The organization IDs span more than a batch.
+        List<String> organizationIds = new ArrayList<>(Arrays.asList(TENANT_ORG_ID, STRUCTURAL_ORG_ID, MISSING_ORG_ID));
+        for (int i = 0; i < 500; i++) {
+            String organizationId = String.format(TYPE_BATCH_ORG_ID_FORMAT, i);
+            addOrganization(organizationId, STRUCTURAL_ORG_TYPE);
+            organizationIds.add(organizationId);
+        }
+
+        try (MockedStatic<Utils> mockUtil = mockStatic(Utils.class)) {
+
+            mockUtil.when(Utils::getNewTemplate).thenReturn(new NamedJdbcTemplate(umDataSource));
+
+            Map<String, OrganizationTypeDO> organizationTypes =
+                    orgApplicationMgtDAO.getOrganizationTypes(organizationIds);
+
+            assertEquals(organizationTypes.size(), organizationIds.size() - 1);
+            OrganizationTypeDO tenantOrganization = organizationTypes.get(TENANT_ORG_ID);
+            assertEquals(tenantOrganization.getType(), TENANT_ORG_TYPE);
+            assertEquals(tenantOrganization.getStatus(), ACTIVE_ORG_STATUS);
+            assertEquals(tenantOrganization.getTenantDomain(), TENANT_DOMAIN_OF_TENANT_ORG);
+            OrganizationTypeDO structuralOrganization = organizationTypes.get(STRUCTURAL_ORG_ID);
+            assertEquals(structuralOrganization.getType(), STRUCTURAL_ORG_TYPE);
+            Assert.assertNull(structuralOrganization.getTenantDomain());
+            Assert.assertFalse(organizationTypes.containsKey(MISSING_ORG_ID));
+            // The last organization is resolved in the second batch.
+            assertEquals(organizationTypes.get(String.format(TYPE_BATCH_ORG_ID_FORMAT, 499)).getType(),
+                    STRUCTURAL_ORG_TYPE);
+        }
+    }
+
+    @Test
+    public void testGetSharedApplicationLinksOfOrganization() throws Exception {
+
+        createAndShareApplication(SAMPLE_APP_6, new String[]{SHARED_ORG_ID_1, SHARED_ORG_ID_2},
+                new String[]{TENANT_DOMAIN_OF_ORG_ID_1, TENANT_DOMAIN_OF_ORG_ID_2});
+        String rootAppUUID =
+                applicationDAO.getApplication(SAMPLE_APP_6, SUPER_TENANT_DOMAIN_NAME).getApplicationResourceId();
+
+        // The owner organization gets the links to all the organizations the application is shared with.
+        Map<String, List<String>> linksOfOwnerOrg =
+                orgApplicationMgtDAO.getSharedApplicationLinksOfOrganization(ROOT_ORG_ID);
+        Assert.assertEqualsNoOrder(linksOfOwnerOrg.get(rootAppUUID).toArray(),
+                new String[]{SHARED_ORG_ID_1, SHARED_ORG_ID_2});
+
+        // A shared organization only gets its own link.
+        Map<String, List<String>> linksOfSharedOrg =
+                orgApplicationMgtDAO.getSharedApplicationLinksOfOrganization(SHARED_ORG_ID_1);
+        Assert.assertEquals(linksOfSharedOrg.get(rootAppUUID), Collections.singletonList(SHARED_ORG_ID_1));
+
+        Assert.assertTrue(orgApplicationMgtDAO.getSharedApplicationLinksOfOrganization(UN_SHARED_ORG_ID).isEmpty());
+    }
+
     @Test(description = "Test the correct discoverable apps list for logged in user",
             dependsOnMethods = {"testGetFilteredSharedApplications"})
     public void testDiscoverableAppsList()
@@ -328,6 +538,90 @@ public class OrgApplicationMgtDAOImplTest {
         return discoverableGroup;
     }
 
+    /**
+     * Add an entry to the organization hierarchy.
+     *
+     * @param parentOrgId The ID of the ancestor organization.
+     * @param orgId       The ID of the organization.
+     * @param depth       The depth of the organization from the ancestor organization.
+     */
+    private void addOrganizationHierarchy(String parentOrgId, String orgId, int depth) throws SQLException {
+
+        addOrganizationHierarchy(umDataSource, parentOrgId, orgId, depth);
+    }
+
+    /**
+     * Add an entry to the organization hierarchy of the given database.
+     *
+     * @param dataSource  The data source of the database holding the organization hierarchy.
+     * @param parentOrgId The ID of the ancestor organization.
+     * @param orgId       The ID of the organization.
+     * @param depth       The depth of the organization from the ancestor organization.
+     */
+    private void addOrganizationHierarchy(DataSource dataSource, String parentOrgId, String orgId, int depth)
+            throws SQLException {
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "INSERT INTO UM_ORG_HIERARCHY (UM_PARENT_ID, UM_ID, DEPTH) VALUES (?, ?, ?)")) {
+            statement.setString(1, parentOrgId);
+            statement.setString(2, orgId);
+            statement.setInt(3, depth);
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Add an organization to the user management database.
+     *
+     * @param orgId   The ID of the organization.
+     * @param orgType The type of the organization.
+     */
+    private void addOrganization(String orgId, String orgType) throws SQLException {
+
+        try (Connection connection = umDataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("INSERT INTO UM_ORG (UM_ID, UM_ORG_NAME, " +
+                     "UM_CREATED_TIME, UM_LAST_MODIFIED, UM_ORG_TYPE) VALUES (?, ?, CURRENT_TIMESTAMP, " +
+                     "CURRENT_TIMESTAMP, ?)")) {
+            statement.setString(1, orgId);
+            statement.setString(2, orgId);
+            statement.setString(3, orgType);
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Add a tenant of an organization to the user management database.
+     *
+     * @param tenantDomain The domain of the tenant.
+     * @param orgId        The ID of the organization of the tenant.
+     */
+    private void addTenant(String tenantDomain, String orgId) throws SQLException {
+
+        try (Connection connection = umDataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "INSERT INTO UM_TENANT (UM_DOMAIN_NAME, UM_ORG_UUID) VALUES (?, ?)")) {
+            statement.setString(1, tenantDomain);
+            statement.setString(2, orgId);
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Setup the user management database, which holds the organization hierarchy.
+     */
+    private void setupUmDatabase() throws SQLException {
+
+        umDataSource = new JdbcDataSource();
+        umDataSource.setURL(UM_DB_URL);
+        String umScriptPath = Paths.get(System.getProperty("user.dir"), "src", "test", "resources", "dbscripts",
+                "um.sql").toString();
+        try (Connection connection = umDataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("RUNSCRIPT FROM '" + umScriptPath + "'");
+        }
+    }
+
     /**
      * Create and share an application with the given shared organization ids.
      *
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.organization.management.application.handler;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.organization.management.application.dao.OrgApplicationMgtDAO;
+import org.wso2.carbon.identity.organization.management.application.internal.OrgApplicationMgtDataHolder;
+import org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil;
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for clearing the fragment application config cache upon the role events.
+ */
+public class FragmentApplicationConfigCacheInvalidationHandlerTest {
+
+    private static final String TENANT_DOMAIN = "org1";
+    private static final String ORGANIZATION_ID = "30b701c6-e309-4241-b047-0c299c45d1a0";
+    private static final String CHILD_ORGANIZATION_ID = "93d996f9-a5ba-4275-a52b-adaad9eba869";
+    private static final String ROOT_ORGANIZATION_ID = "72b81cba-51c7-4dc1-91be-b267e177c17a";
+    private static final String OWNED_APPLICATION_ID = "owned-app-id";
+    private static final String INHERITED_APPLICATION_ID = "inherited-app-id";
+
+    private FragmentApplicationConfigCacheInvalidationHandler cacheInvalidationHandler;
+    private OrgApplicationMgtDAO orgApplicationMgtDAO;
+    private MockedStatic<OrgApplicationManagerUtil> orgApplicationManagerUtil;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        cacheInvalidationHandler = new FragmentApplicationConfigCacheInvalidationHandler();
+        OrganizationManager organizationManager = mock(OrganizationManager.class);
+        when(organizationManager.resolveOrganizationId(TENANT_DOMAIN)).thenReturn(ORGANIZATION_ID);
+        orgApplicationMgtDAO = mock(OrgApplicationMgtDAO.class);
+        OrgApplicationMgtDataHolder.getInstance().setOrganizationManager(organizationManager);
+        OrgApplicationMgtDataHolder.getInstance().setOrgApplicationMgtDAO(orgApplicationMgtDAO);
+        orgApplicationManagerUtil = mockStatic(OrgApplicationManagerUtil.class);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        orgApplicationManagerUtil.close();
+    }
+
+    @DataProvider(name = "roleEventDataProvider")
+    public Object[][] roleEventDataProvider() {
+
+        return new Object[][]{
+                {IdentityEventConstants.Event.POST_ADD_ROLE_V2_EVENT},
+                {IdentityEventConstants.Event.POST_DELETE_ROLE_V2_EVENT},
+                {IdentityEventConstants.Event.POST_UPDATE_ROLE_V2_NAME_EVENT}
+        };
+    }
+
+    @Test(dataProvider = "roleEventDataProvider")
+    public void testRoleEventClearsEntriesOfOrganization(String eventName) throws Exception {
+
+        // The organization owns an application shared with its child, and has an application shared by the root.
+        Map<String, List<String>> sharedApplicationLinks = new HashMap<>();
+        sharedApplicationLinks.put(OWNED_APPLICATION_ID, Collections.singletonList(CHILD_ORGANIZATION_ID));
+        sharedApplicationLinks.put(INHERITED_APPLICATION_ID, Collections.singletonList(ORGANIZATION_ID));
+        when(orgApplicationMgtDAO.getSharedApplicationLinksOfOrganization(ORGANIZATION_ID))
+                .thenReturn(sharedApplicationLinks);
+
+        cacheInvalidationHandler.handleEvent(buildRoleEvent(eventName));
+
+        orgApplicationManagerUtil.verify(() -> OrgApplicationManagerUtil.clearFragmentApplicationConfigCacheEntry(
+                OWNED_APPLICATION_ID, CHILD_ORGANIZATION_ID));
+        orgApplicationManagerUtil.verify(() -> OrgApplicationManagerUtil.clearFragmentApplicationConfigCacheEntry(
+                INHERITED_APPLICATION_ID, ORGANIZATION_ID));
+        orgApplicationManagerUtil.verify(() -> OrgApplicationManagerUtil.clearFragmentApplicationConfigCacheEntry(
+                INHERITED_APPLICATION_ID, ROOT_ORGANIZATION_ID), never());
+        orgApplicationManagerUtil.verify(OrgApplicationManagerUtil::clearFragmentApplicationConfigCache, never());
+    }
+
+    @Test
+    public void testRoleEventOfOrganizationWithoutFragments() throws Exception {
+
+        when(orgApplicationMgtDAO.getSharedApplicationLinksOfOrganization(ORGANIZATION_ID))
+                .thenReturn(Collections.emptyMap());
+
+        cacheInvalidationHandler.handleEvent(buildRoleEvent(IdentityEventConstants.Event.POST_ADD_ROLE_V2_EVENT));
+
+        orgApplicationManagerUtil.verify(() -> OrgApplicationManagerUtil.clearFragmentApplicationConfigCacheEntry(
+                anyString(), anyString()), never());
+        orgApplicationManagerUtil.verify(OrgApplicationManagerUtil::clearFragmentApplicationConfigCache, never());
+    }
+
+    @Test
+    public void testRoleEventClearsWholeCacheWhenLinksCannotBeResolved() throws Exception {
+
+        when(orgApplicationMgtDAO.getSharedApplicationLinksOfOrganization(ORGANIZATION_ID))
+                .thenThrow(OrganizationManagementServerException.class);
+
+        cacheInvalidationHandler.handleEvent(buildRoleEvent(IdentityEventConstants.Event.POST_DELETE_ROLE_V2_EVENT));
+
+        orgApplicationManagerUtil.verify(OrgApplicationManagerUtil::clearFragmentApplicationConfigCache);
+    }
+
+    private Event buildRoleEvent(String eventName) {
+
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put(IdentityEventConstants.EventProperty.TENANT_DOMAIN, TENANT_DOMAIN);
+        eventProperties.put(IdentityEventConstants.EventProperty.ROLE_ID, "role-id");
+        return new Event(eventName, eventProperties);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025, WSO2 LLC. (https://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (https://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -45,6 +45,9 @@ import org.wso2.carbon.identity.application.common.model.script.AuthenticationSc
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.organization.management.application.cache.FragmentApplicationConfigCache;
+import org.wso2.carbon.identity.organization.management.application.cache.FragmentApplicationConfigCacheEntry;
+import org.wso2.carbon.identity.organization.management.application.cache.SharedApplicationCacheKey;
 import org.wso2.carbon.identity.organization.management.application.dao.OrgApplicationMgtDAO;
 import org.wso2.carbon.identity.organization.management.application.internal.OrgApplicationMgtDataHolder;
 import org.wso2.carbon.identity.organization.management.application.model.MainApplicationDO;
@@ -58,6 +61,7 @@ import org.wso2.carbon.identity.organization.management.service.util.Utils;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -67,6 +71,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertFalse;
@@ -79,6 +84,7 @@ import static org.wso2.carbon.identity.organization.management.application.const
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.IS_FRAGMENT_APP;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ORGANIZATION_IDENTIFIER_HANDLER;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ORGANIZATION_LOGIN_AUTHENTICATOR;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.SHARED_APP_CACHE_KEYS_OF_DELETED_FRAGMENT;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.IS_APP_SHARED;
 
 /**
@@ -98,10 +104,14 @@ public class FragmentApplicationMgtListenerTest {
     @Mock
     private SharedApplicationDO sharedApplicationDO;
 
+    @Mock
+    private FragmentApplicationConfigCache fragmentApplicationConfigCache;
+
     @InjectMocks
     private FragmentApplicationMgtListener fragmentApplicationMgtListener;
 
     private MockedStatic<IdentityTenantUtil> mockedUtilities;
+    private MockedStatic<FragmentApplicationConfigCache> mockedFragmentApplicationConfigCache;
 
     private ServiceProvider serviceProvider;
     private static final String primaryTenantDomain = "primaryTenantDomain";
@@ -111,6 +121,8 @@ public class FragmentApplicationMgtListenerTest {
     private static final String updatedApplicationName = "updatedSampleApp";
     private static final String applicationResourceID = "fcb0c1d7-28c0-46f7-bc2d-345678a1b23c";
     private static final String organizationID = "10084a8d-113f-4211-a0d5-efe36b082211";
+    private static final String mainApplicationID = "1c7bd0a5-8f0e-4d7b-9b1e-2f3a4b5c6d7e";
+    private static final String mainOrganizationID = "3e1b9c4a-7d2f-4c8e-a6b5-0f9e8d7c6b5a";
     private static final String sampleClaimURI = "http://wso2.org/claims/sampleClaim1";
     private static final String TRUE = "true";
     private static final String FALSE = "false";
@@ -126,6 +138,9 @@ public class FragmentApplicationMgtListenerTest {
         OrgApplicationMgtDataHolder.getInstance().setApplicationManagementService(applicationManagementService);
         mockedUtilities = Mockito.mockStatic(IdentityTenantUtil.class, Mockito.withSettings()
                 .defaultAnswer(Mockito.CALLS_REAL_METHODS));
+        mockedFragmentApplicationConfigCache = mockStatic(FragmentApplicationConfigCache.class);
+        mockedFragmentApplicationConfigCache.when(FragmentApplicationConfigCache::getInstance)
+                .thenReturn(fragmentApplicationConfigCache);
     }
 
     @DataProvider(name = "subOrganizationMetaData")
@@ -333,6 +348,34 @@ public class FragmentApplicationMgtListenerTest {
         }
     }
 
+    @Test
+    public void testFragmentApplicationPreDeletionHoldsSharedApplicationCacheKeys()
+            throws IdentityApplicationManagementException, OrganizationManagementException {
+
+        Map<String, Object> threadLocalProperties = new HashMap<>();
+        threadLocalProperties.put(DELETE_MAIN_APPLICATION, true);
+        IdentityUtil.threadLocalProperties.set(threadLocalProperties);
+
+        when(serviceProvider.getSpProperties()).thenReturn(
+                new ServiceProviderProperty[]{mockServiceProviderProperty(IS_FRAGMENT_APP, TRUE)});
+        when(applicationManagementService.getServiceProvider(applicationName, tenantDomain))
+                .thenReturn(serviceProvider);
+        when(serviceProvider.getApplicationID()).thenReturn(1);
+        when(serviceProvider.getApplicationResourceId()).thenReturn(applicationResourceID);
+        when(organizationManager.resolveOrganizationId(tenantDomain)).thenReturn(organizationID);
+        when(orgApplicationMgtDAO.getSharedApplication(1, organizationID))
+                .thenReturn(Optional.of(sharedApplicationDO));
+        when(orgApplicationMgtDAO.getMainApplication(applicationResourceID, organizationID))
+                .thenReturn(Optional.of(new MainApplicationDO(mainOrganizationID, mainApplicationID)));
+
+        assertTrue(fragmentApplicationMgtListener.doPreDeleteApplication(applicationName, tenantDomain, userName));
+        assertEquals(Collections.singletonMap(applicationResourceID, Arrays.asList(
+                        SharedApplicationCacheKey.forSharedApplication(applicationResourceID, organizationID),
+                        SharedApplicationCacheKey.forMainApplication(mainApplicationID, mainOrganizationID,
+                                organizationID))),
+                threadLocalProperties.get(SHARED_APP_CACHE_KEYS_OF_DELETED_FRAGMENT));
+    }
+
     private void mockClaimConfig(ServiceProvider mainApplication) {
 
         ClaimConfig claimConfig = mock(ClaimConfig.class);
@@ -357,13 +400,11 @@ public class FragmentApplicationMgtListenerTest {
     @Test
     public void testInheritDiscoverabilityProperty() throws Exception {
 
-        ServiceProvider mainApplication = mock(ServiceProvider.class);
-        when(mainApplication.isDiscoverable()).thenReturn(true);
         when(serviceProvider.isDiscoverable()).thenReturn(false);
         Method method = fragmentApplicationMgtListener.getClass()
-                .getDeclaredMethod("inheritDiscoverabilityProperty", ServiceProvider.class, ServiceProvider.class);
+                .getDeclaredMethod("inheritDiscoverabilityProperty", boolean.class, ServiceProvider.class);
         method.setAccessible(true);
-        method.invoke(fragmentApplicationMgtListener, mainApplication, serviceProvider);
+        method.invoke(fragmentApplicationMgtListener, true, serviceProvider);
         verify(serviceProvider).setDiscoverable(true);
     }
 
@@ -444,9 +485,44 @@ public class FragmentApplicationMgtListenerTest {
 
             Assert.assertEquals(resultClaimConfig.isAlwaysSendMappedLocalSubjectId(), alwaysSendMappedLocalSubjectId);
             Assert.assertEquals(resultClaimConfig.isMappedLocalSubjectMandatory(), mappedLocalSubjectMandatory);
+            verify(fragmentApplicationConfigCache).addToCache(any(), any(), anyString());
         }
     }
 
+    @Test
+    public void testInheritedConfigurationServedFromCache() throws Exception {
+
+        ServiceProvider sharedSP = new ServiceProvider();
+        sharedSP.setApplicationResourceId(applicationResourceID);
+        sharedSP.setLocalAndOutBoundAuthenticationConfig(new LocalAndOutboundAuthenticationConfig());
+        sharedSP.setSpProperties(new ServiceProviderProperty[]{mockServiceProviderProperty(IS_FRAGMENT_APP, TRUE)});
+
+        ClaimConfig cachedClaimConfig = new ClaimConfig();
+        cachedClaimConfig.setClaimMappings(new ClaimMapping[]{
+                ClaimMapping.build("http://wso2.org/claims/email", null, null, false)});
+        ServiceProvider mainSp = new ServiceProvider();
+        mainSp.setSpProperties(new ServiceProviderProperty[0]);
+        mainSp.setDiscoverable(true);
+        mainSp.setAccessUrl("https://localhost/app");
+        FragmentApplicationConfigCacheEntry cachedConfig =
+                new FragmentApplicationConfigCacheEntry(mainSp, cachedClaimConfig, null);
+
+        when(organizationManager.resolveOrganizationId(tenantDomain)).thenReturn(organizationID);
+        when(orgApplicationMgtDAO.getMainApplication(applicationResourceID, organizationID)).thenReturn(
+                Optional.of(new MainApplicationDO(organizationID, applicationResourceID)));
+        when(fragmentApplicationConfigCache.getValueFromCache(any(), anyString())).thenReturn(cachedConfig);
+
+        fragmentApplicationMgtListener.doPostGetServiceProvider(sharedSP, applicationName, tenantDomain);
+
+        Assert.assertEquals(sharedSP.getClaimConfig().getClaimMappings().length, 1);
+        Assert.assertEquals(sharedSP.getClaimConfig().getClaimMappings()[0].getLocalClaim().getClaimUri(),
+                "http://wso2.org/claims/email");
+        assertTrue(sharedSP.isDiscoverable());
+        Assert.assertEquals(sharedSP.getAccessUrl(), "https://localhost/app");
+        verify(applicationManagementService, never()).getApplicationByResourceId(anyString(), anyString());
+        verify(fragmentApplicationConfigCache, never()).addToCache(any(), any(), anyString());
+    }
+
     @DataProvider(name = "adaptiveAuthForSharedAppsDataProvider")
     public Object[][] adaptiveAuthForSharedAppsDataProvider() {
 
@@ -985,6 +1061,7 @@ public class FragmentApplicationMgtListenerTest {
     public void tearDown() {
 
         mockedUtilities.close();
+        mockedFragmentApplicationConfigCache.close();
     }
 }
 
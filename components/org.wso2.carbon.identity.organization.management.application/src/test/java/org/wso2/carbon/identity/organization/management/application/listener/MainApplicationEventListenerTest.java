@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.organization.management.application.listener;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.common.model.ServiceProviderProperty;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.organization.management.application.cache.SharedApplicationCacheKey;
+import org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.IS_FRAGMENT_APP;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.SHARED_APP_CACHE_KEYS_OF_DELETED_FRAGMENT;
+
+/**
+ * Unit tests for clearing the shared application cache upon the deletion of fragment applications.
+ */
+public class MainApplicationEventListenerTest {
+
+    private static final String TENANT_DOMAIN = "org1";
+    private static final String USERNAME = "admin";
+    private static final String SHARED_APPLICATION_ID = "fcb0c1d7-28c0-46f7-bc2d-345678a1b23c";
+    private static final String OTHER_SHARED_APPLICATION_ID = "0b6ab3a4-1c4d-4b5e-9f7a-8c9d0e1f2a3b";
+    private static final String SHARED_ORGANIZATION_ID = "10084a8d-113f-4211-a0d5-efe36b082211";
+    private static final String MAIN_APPLICATION_ID = "1c7bd0a5-8f0e-4d7b-9b1e-2f3a4b5c6d7e";
+    private static final String MAIN_ORGANIZATION_ID = "3e1b9c4a-7d2f-4c8e-a6b5-0f9e8d7c6b5a";
+
+    private MainApplicationEventListener mainApplicationEventListener;
+    private Map<String, Object> threadLocalProperties;
+    private MockedStatic<OrgApplicationManagerUtil> orgApplicationManagerUtil;
+
+    @BeforeMethod
+    public void setUp() {
+
+        mainApplicationEventListener = new MainApplicationEventListener();
+        threadLocalProperties = new HashMap<>();
+        IdentityUtil.threadLocalProperties.set(threadLocalProperties);
+        orgApplicationManagerUtil = mockStatic(OrgApplicationManagerUtil.class);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        orgApplicationManagerUtil.close();
+        IdentityUtil.threadLocalProperties.remove();
+    }
+
+    @Test
+    public void testPostDeleteClearsHeldCacheKeysOfFragmentApplication() throws Exception {
+
+        List<SharedApplicationCacheKey> cacheKeys = Arrays.asList(
+                SharedApplicationCacheKey.forSharedApplication(SHARED_APPLICATION_ID, SHARED_ORGANIZATION_ID),
+                SharedApplicationCacheKey.forMainApplication(MAIN_APPLICATION_ID, MAIN_ORGANIZATION_ID,
+                        SHARED_ORGANIZATION_ID));
+        threadLocalProperties.put(SHARED_APP_CACHE_KEYS_OF_DELETED_FRAGMENT,
+                Collections.singletonMap(SHARED_APPLICATION_ID, cacheKeys));
+
+        assertTrue(mainApplicationEventListener.doPostDeleteApplication(buildFragmentApplication(), TENANT_DOMAIN,
+                USERNAME));
+
+        orgApplicationManagerUtil.verify(() -> OrgApplicationManagerUtil.clearSharedApplicationCacheEntries(cacheKeys));
+        assertFalse(threadLocalProperties.containsKey(SHARED_APP_CACHE_KEYS_OF_DELETED_FRAGMENT));
+    }
+
+    @Test
+    public void testPostDeleteSkipsCacheKeysHeldForAnotherApplication() throws Exception {
+
+        // Keys left behind by a failed deletion of another fragment application.
+        threadLocalProperties.put(SHARED_APP_CACHE_KEYS_OF_DELETED_FRAGMENT,
+                Collections.singletonMap(OTHER_SHARED_APPLICATION_ID, Collections.singletonList(
+                        SharedApplicationCacheKey.forSharedApplication(OTHER_SHARED_APPLICATION_ID,
+                                SHARED_ORGANIZATION_ID))));
+
+        assertTrue(mainApplicationEventListener.doPostDeleteApplication(buildFragmentApplication(), TENANT_DOMAIN,
+                USERNAME));
+
+        orgApplicationManagerUtil.verify(() -> OrgApplicationManagerUtil.clearSharedApplicationCacheEntries(any()),
+                never());
+        assertFalse(threadLocalProperties.containsKey(SHARED_APP_CACHE_KEYS_OF_DELETED_FRAGMENT));
+    }
+
+    private ServiceProvider buildFragmentApplication() {
+
+        ServiceProviderProperty fragmentAppProperty = new ServiceProviderProperty();
+        fragmentAppProperty.setName(IS_FRAGMENT_APP);
+        fragmentAppProperty.setValue("true");
+        ServiceProvider fragmentApplication = new ServiceProvider();
+        fragmentApplication.setApplicationResourceId(SHARED_APPLICATION_ID);
+        fragmentApplication.setSpProperties(new ServiceProviderProperty[]{fragmentAppProperty});
+        return fragmentApplication;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.organization.management.application.util;
+
+import org.mockito.MockedStatic;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+
+/**
+ * Unit tests for the OrgApplicationShareScheduler.
+ */
+public class OrgApplicationShareSchedulerTest {
+
+    private static final int PARENT_LEVEL_SIZE = 3;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private MockedStatic<IdentityUtil> identityUtilMockedStatic;
+
+    @BeforeMethod
+    public void setUp() {
+
+        identityUtilMockedStatic = mockStatic(IdentityUtil.class);
+        identityUtilMockedStatic.when(() -> IdentityUtil.getProperty(anyString())).thenReturn(null);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+
+        identityUtilMockedStatic.close();
+        // The scheduler is static, hence it is restored for the other tests after being shut down.
+        Field isShutdown = OrgApplicationShareScheduler.class.getDeclaredField("isShutdown");
+        isShutdown.setAccessible(true);
+        isShutdown.set(null, false);
+    }
+
+    @Test
+    public void testChildLevelStartsAfterParentLevelCompletes() throws Exception {
+
+        AtomicInteger completedParentShares = new AtomicInteger();
+        AtomicInteger parentSharesCompletedBeforeChildShare = new AtomicInteger(-1);
+        List<Runnable> parentLevel = new ArrayList<>();
+        for (int i = 0; i < PARENT_LEVEL_SIZE; i++) {
+            int delay = (i + 1) * 50;
+            parentLevel.add(() -> {
+                sleep(delay);
+                completedParentShares.incrementAndGet();
+            });
+        }
+        List<Runnable> childLevel = Collections.singletonList(
+                () -> parentSharesCompletedBeforeChildShare.set(completedParentShares.get()));
+
+        OrgApplicationShareScheduler.schedule(Arrays.asList(parentLevel, childLevel))
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        Assert.assertEquals(parentSharesCompletedBeforeChildShare.get(), PARENT_LEVEL_SIZE);
+    }
+
+    @Test
+    public void testFailingShareDoesNotHoldBackChildLevel() throws Exception {
+
+        AtomicBoolean isChildShared = new AtomicBoolean();
+        List<Runnable> parentLevel = Collections.singletonList(() -> {
+            throw new IllegalStateException("Sharing failed.");
+        });
+        List<Runnable> childLevel = Collections.singletonList(() -> isChildShared.set(true));
+
+        OrgApplicationShareScheduler.schedule(Arrays.asList(parentLevel, Collections.emptyList(), childLevel))
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        Assert.assertTrue(isChildShared.get());
+    }
+
+    @Test
+    public void testShutdownCompletesPendingScheduleExceptionally() throws Exception {
+
+        CountDownLatch parentShareStarted = new CountDownLatch(1);
+        CountDownLatch blockParentShare = new CountDownLatch(1);
+        AtomicBoolean isChildShared = new AtomicBoolean();
+        List<Runnable> parentLevel = Collections.singletonList(() -> {
+            parentShareStarted.countDown();
+            try {
+                blockParentShare.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        List<Runnable> childLevel = Collections.singletonList(() -> isChildShared.set(true));
+
+        CompletableFuture<Void> schedule = OrgApplicationShareScheduler.schedule(
+                Arrays.asList(parentLevel, childLevel));
+        Assert.assertTrue(parentShareStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        OrgApplicationShareScheduler.shutdown();
+
+        assertRejected(schedule);
+        Assert.assertFalse(isChildShared.get());
+        // The scheduler refuses further shares instead of starting a new executor.
+        assertRejected(OrgApplicationShareScheduler.schedule(Collections.singletonList(
+                Collections.singletonList(() -> isChildShared.set(true)))));
+        Assert.assertFalse(isChildShared.get());
+    }
+
+    private void assertRejected(CompletableFuture<Void> schedule) throws Exception {
+
+        try {
+            schedule.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            Assert.fail("The schedule should be completed exceptionally.");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+    private void sleep(long millis) {
+
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
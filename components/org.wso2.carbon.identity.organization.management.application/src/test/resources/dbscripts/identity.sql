@@ -1101,6 +1101,13 @@ CREATE TABLE IF NOT EXISTS SP_SHARED_APP (
     UNIQUE (SHARED_APP_ID)
 );
 
+CREATE TABLE IF NOT EXISTS UM_ORG_HIERARCHY (
+    UM_PARENT_ID VARCHAR(255) NOT NULL,
+    UM_ID VARCHAR(255) NOT NULL,
+    DEPTH INTEGER,
+    PRIMARY KEY (UM_PARENT_ID, UM_ID)
+);
+
 CREATE TABLE IF NOT EXISTS API_RESOURCE (
     ID VARCHAR(255) NOT NULL PRIMARY KEY,
     CURSOR_KEY INTEGER NOT NULL AUTO_INCREMENT,
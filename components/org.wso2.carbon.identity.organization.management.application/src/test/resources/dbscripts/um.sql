@@ -0,0 +1,27 @@
+CREATE TABLE IF NOT EXISTS UM_ORG_HIERARCHY (
+    UM_PARENT_ID VARCHAR(255) NOT NULL,
+    UM_ID VARCHAR(255) NOT NULL,
+    DEPTH INTEGER,
+    PRIMARY KEY (UM_PARENT_ID, UM_ID)
+);
+
+CREATE TABLE IF NOT EXISTS UM_ORG (
+    UM_ID VARCHAR(255) NOT NULL,
+    UM_ORG_NAME VARCHAR(255) NOT NULL,
+    UM_ORG_DESCRIPTION VARCHAR(1024),
+    UM_CREATED_TIME TIMESTAMP NOT NULL,
+    UM_LAST_MODIFIED TIMESTAMP  NOT NULL,
+    UM_STATUS VARCHAR(255) DEFAULT 'ACTIVE' NOT NULL,
+    UM_PARENT_ID VARCHAR(255),
+    UM_ORG_TYPE VARCHAR(100) NOT NULL,
+    PRIMARY KEY (UM_ID)
+);
+
+CREATE TABLE IF NOT EXISTS UM_TENANT (
+    UM_ID INTEGER NOT NULL AUTO_INCREMENT,
+    UM_DOMAIN_NAME VARCHAR(255) NOT NULL,
+    UM_ORG_UUID VARCHAR(36) DEFAULT NULL,
+    PRIMARY KEY (UM_ID),
+    UNIQUE (UM_DOMAIN_NAME),
+    UNIQUE (UM_ORG_UUID)
+);
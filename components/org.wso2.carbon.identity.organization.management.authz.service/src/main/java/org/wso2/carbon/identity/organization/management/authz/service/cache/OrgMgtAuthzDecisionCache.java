@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.authz.service.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache which holds the organization management authorization decisions of users, so that repeated requests of a
+ * user to the same organization do not have to evaluate the permissions of the user again. The entries are keyed by
+ * the user ID, so that the decisions of a single user can be evicted.
+ * <p>
+ * Size, expiry and cluster wide invalidation of this cache are governed by the carbon caching configuration.
+ */
+public class OrgMgtAuthzDecisionCache extends BaseCache<OrgMgtAuthzDecisionCacheKey, OrgMgtAuthzDecisionCacheEntry> {
+
+    private static final String CACHE_NAME = "OrgMgtAuthzDecisionCache";
+    private static final OrgMgtAuthzDecisionCache INSTANCE = new OrgMgtAuthzDecisionCache();
+
+    private OrgMgtAuthzDecisionCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the organization management authorization decision cache.
+     *
+     * @return The {@link OrgMgtAuthzDecisionCache} instance.
+     */
+    public static OrgMgtAuthzDecisionCache getInstance() {
+
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.authz.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cache entry for the organization management authorization decision cache. Holds the permissions granted to a user,
+ * by the organizations in which they were granted.
+ */
+public class OrgMgtAuthzDecisionCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -1843059129418276634L;
+
+    private final HashMap<String, HashSet<String>> grantedPermissions;
+
+    public OrgMgtAuthzDecisionCacheEntry() {
+
+        this.grantedPermissions = new HashMap<>();
+    }
+
+    private OrgMgtAuthzDecisionCacheEntry(HashMap<String, HashSet<String>> grantedPermissions) {
+
+        this.grantedPermissions = grantedPermissions;
+    }
+
+    /**
+     * Check whether the permission is granted to the user in the organization.
+     *
+     * @param organizationId The ID of the organization.
+     * @param permission     The permission.
+     * @return True if the permission is granted.
+     */
+    public boolean isAuthorized(String organizationId, String permission) {
+
+        Set<String> permissions = grantedPermissions.get(organizationId);
+        return permissions != null && permissions.contains(permission);
+    }
+
+    /**
+     * Get a copy of this entry which also holds the given granted permission. The cached entry is not modified, as it
+     * may be shared with concurrent requests.
+     *
+     * @param organizationId The ID of the organization.
+     * @param permission     The granted permission.
+     * @return The new cache entry.
+     */
+    public OrgMgtAuthzDecisionCacheEntry withGrantedPermission(String organizationId, String permission) {
+
+        HashMap<String, HashSet<String>> permissionsOfOrganizations = new HashMap<>();
+        for (Map.Entry<String, HashSet<String>> entry : grantedPermissions.entrySet()) {
+            permissionsOfOrganizations.put(entry.getKey(), new HashSet<>(entry.getValue()));
+        }
+        permissionsOfOrganizations.computeIfAbsent(organizationId, k -> new HashSet<>()).add(permission);
+        return new OrgMgtAuthzDecisionCacheEntry(permissionsOfOrganizations);
+    }
+}
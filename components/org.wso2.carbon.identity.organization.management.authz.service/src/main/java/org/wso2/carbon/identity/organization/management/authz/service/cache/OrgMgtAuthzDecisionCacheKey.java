@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.authz.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+/**
+ * Cache key for the organization management authorization decision cache. The key is the ID of the user whose
+ * permissions were evaluated, i.e. the ID of the shared user when the user accesses an organization it is shared
+ * with, so that the decisions of a user can be evicted without clearing the decisions of the other users.
+ */
+public class OrgMgtAuthzDecisionCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 7731802441096410395L;
+
+    private final String userId;
+
+    public OrgMgtAuthzDecisionCacheKey(String userId) {
+
+        this.userId = userId;
+    }
+
+    public String getUserId() {
+
+        return userId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OrgMgtAuthzDecisionCacheKey)) {
+            return false;
+        }
+        return userId.equals(((OrgMgtAuthzDecisionCacheKey) o).getUserId());
+    }
+
+    @Override
+    public int hashCode() {
+
+        return userId.hashCode();
+    }
+}
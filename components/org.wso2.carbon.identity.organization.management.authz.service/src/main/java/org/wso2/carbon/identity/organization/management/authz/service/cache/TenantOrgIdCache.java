@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.authz.service.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache which maps tenant domains to the IDs of the organizations associated with the tenants.
+ * <p>
+ * Size, expiry and cluster wide invalidation of this cache are governed by the carbon caching configuration.
+ */
+public class TenantOrgIdCache extends BaseCache<TenantOrgIdCacheKey, TenantOrgIdCacheEntry> {
+
+    private static final String CACHE_NAME = "TenantOrgIdCache";
+    private static final TenantOrgIdCache INSTANCE = new TenantOrgIdCache();
+
+    private TenantOrgIdCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the tenant organization ID cache.
+     *
+     * @return The {@link TenantOrgIdCache} instance.
+     */
+    public static TenantOrgIdCache getInstance() {
+
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.authz.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+/**
+ * Cache key for the tenant organization ID cache. The key is the domain of the tenant.
+ */
+public class TenantOrgIdCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = -4236705870941358201L;
+
+    private final String tenantDomain;
+
+    public TenantOrgIdCacheKey(String tenantDomain) {
+
+        this.tenantDomain = tenantDomain;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TenantOrgIdCacheKey)) {
+            return false;
+        }
+        return tenantDomain.equals(((TenantOrgIdCacheKey) o).getTenantDomain());
+    }
+
+    @Override
+    public int hashCode() {
+
+        return tenantDomain.hashCode();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.authz.service.handler;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.organization.management.authz.service.cache.OrgMgtAuthzDecisionCache;
+import org.wso2.carbon.identity.organization.management.authz.service.cache.OrgMgtAuthzDecisionCacheKey;
+import org.wso2.carbon.identity.organization.management.authz.service.cache.TenantOrgIdCache;
+import org.wso2.carbon.identity.organization.management.ext.Constants;
+import org.wso2.carbon.user.api.UserStoreException;
+import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+
+/**
+ * Event handler which clears the organization management authorization caches when the roles, the permissions or
+ * the users which the cached authorization decisions were based on are changed.
+ * <p>
+ * Only granted decisions are cached. Hence, the decisions are evicted on the events which may revoke an access, and
+ * the tenant organization ID cache is cleared when an organization is deleted. The decisions of the affected users
+ * are evicted when the event identifies the users, e.g. user deletion or the removal of users from a role. The whole
+ * decision cache is cleared for the events which affect all the users of a role, e.g. role deletion or a permission
+ * update of a role.
+ */
+public class OrgMgtAuthzCacheInvalidationHandler extends AbstractEventHandler {
+
+    private static final Log LOG = LogFactory.getLog(OrgMgtAuthzCacheInvalidationHandler.class);
+
+    /*
+    Groups are managed as roles of the user store. Hence, the user store role events are published when the members
+    of a group, or the groups of a user, are updated and when a group is deleted.
+     */
+    private static final Set<String> GROUP_MEMBERSHIP_EVENTS = new HashSet<>(Arrays.asList(
+            IdentityEventConstants.Event.POST_UPDATE_USER_LIST_OF_ROLE,
+            IdentityEventConstants.Event.POST_UPDATE_ROLE_LIST_OF_USER,
+            IdentityEventConstants.Event.POST_DELETE_ROLE));
+    private static final Set<String> ACCESS_REVOKING_EVENTS = new HashSet<>(Arrays.asList(
+            IdentityEventConstants.Event.POST_DELETE_ROLE_V2_EVENT,
+            IdentityEventConstants.Event.POST_UPDATE_USER_LIST_OF_ROLE_V2_EVENT,
+            IdentityEventConstants.Event.POST_UPDATE_GROUP_LIST_OF_ROLE_V2_EVENT,
+            IdentityEventConstants.Event.POST_UPDATE_PERMISSIONS_FOR_ROLE_V2_EVENT,
+            IdentityEventConstants.Event.POST_DELETE_USER_WITH_ID,
+            Constants.EVENT_POST_DELETE_ORGANIZATION));
+
+    @Override
+    public String getName() {
+
+        return "OrgMgtAuthzCacheInvalidationHandler";
+    }
+
+    @Override
+    public int getPriority(MessageContext messageContext) {
+
+        return 10;
+    }
+
+    @Override
+    public boolean canHandle(MessageContext messageContext) throws IdentityRuntimeException {
+
+        String eventName = ((IdentityEventMessageContext) messageContext).getEvent().getEventName();
+        return isAccessRevokingEvent(eventName);
+    }
+
+    @Override
+    public void handleEvent(Event event) throws IdentityEventException {
+
+        String eventName = event.getEventName();
+        if (!isAccessRevokingEvent(eventName)) {
+            return;
+        }
+        List<String> affectedUserIds = getAffectedUserIds(event);
+        if (affectedUserIds == null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Clearing the organization management authorization decision cache on the event: " +
+                        eventName);
+            }
+            OrgMgtAuthzDecisionCache.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+        } else {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Evicting the organization management authorization decisions of the users: " +
+                        affectedUserIds + " on the event: " + eventName);
+            }
+            for (String userId : affectedUserIds) {
+                OrgMgtAuthzDecisionCache.getInstance().clearCacheEntry(new OrgMgtAuthzDecisionCacheKey(userId),
+                        SUPER_TENANT_DOMAIN_NAME);
+            }
+        }
+        if (Constants.EVENT_POST_DELETE_ORGANIZATION.equals(eventName)) {
+            TenantOrgIdCache.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+        }
+    }
+
+    /**
+     * Get the IDs of the users whose access may be revoked by the event.
+     *
+     * @param event The access revoking event.
+     * @return The IDs of the affected users, or null if the event does not identify the affected users.
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> getAffectedUserIds(Event event) {
+
+        Map<String, Object> eventProperties = event.getEventProperties();
+        switch (event.getEventName()) {
+            case IdentityEventConstants.Event.POST_DELETE_USER_WITH_ID:
+                String deletedUserId = (String) eventProperties.get(IdentityEventConstants.EventProperty.USER_ID);
+                return deletedUserId == null ? null : Collections.singletonList(deletedUserId);
+            case IdentityEventConstants.Event.POST_UPDATE_USER_LIST_OF_ROLE_V2_EVENT:
+                // Adding users to a role only grants access. Hence, only the removed users are affected.
+                return (List<String>) eventProperties.get(IdentityEventConstants.EventProperty.DELETED_USER_ID_LIST);
+            case IdentityEventConstants.Event.POST_UPDATE_ROLE_LIST_OF_USER:
+                String userName = (String) eventProperties.get(IdentityEventConstants.EventProperty.USER_NAME);
+                return userName == null ? null : resolveUserIds(eventProperties, new String[]{userName});
+            case IdentityEventConstants.Event.POST_UPDATE_USER_LIST_OF_ROLE:
+                // Adding users to a group only grants access. Hence, only the removed users are affected.
+                String[] deletedUserNames =
+                        (String[]) eventProperties.get(IdentityEventConstants.EventProperty.DELETED_USERS);
+                return deletedUserNames == null ? null : resolveUserIds(eventProperties, deletedUserNames);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Resolve the IDs of the users of a user store event from the user names.
+     *
+     * @param eventProperties The properties of the user store event.
+     * @param userNames       The user names.
+     * @return The IDs of the users, or null if the IDs could not be resolved.
+     */
+    private List<String> resolveUserIds(Map<String, Object> eventProperties, String[] userNames) {
+
+        Object userStoreManager = eventProperties.get(IdentityEventConstants.EventProperty.USER_STORE_MANAGER);
+        if (!(userStoreManager instanceof AbstractUserStoreManager)) {
+            return null;
+        }
+        List<String> userIds = new ArrayList<>();
+        try {
+            for (String userName : userNames) {
+                String userId = ((AbstractUserStoreManager) userStoreManager).getUserIDFromUserName(userName);
+                if (userId != null) {
+                    userIds.add(userId);
+                }
+            }
+        } catch (UserStoreException e) {
+            LOG.error("Error while resolving the IDs of the users whose organization management authorization " +
+                    "decisions should be evicted. Clearing all the decisions instead.", e);
+            return null;
+        }
+        return userIds;
+    }
+
+    private boolean isAccessRevokingEvent(String eventName) {
+
+        return ACCESS_REVOKING_EVENTS.contains(eventName) || GROUP_MEMBERSHIP_EVENTS.contains(eventName);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 Inc. (http://www.wso2.com).
  *
  * WSO2 Inc. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -32,6 +32,12 @@ import org.wso2.carbon.identity.authz.service.handler.AuthorizationHandler;
 import org.wso2.carbon.identity.core.handler.InitConfig;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.organization.management.authz.service.OrganizationManagementAuthorizationContext;
+import org.wso2.carbon.identity.organization.management.authz.service.cache.OrgMgtAuthzDecisionCache;
+import org.wso2.carbon.identity.organization.management.authz.service.cache.OrgMgtAuthzDecisionCacheEntry;
+import org.wso2.carbon.identity.organization.management.authz.service.cache.OrgMgtAuthzDecisionCacheKey;
+import org.wso2.carbon.identity.organization.management.authz.service.cache.TenantOrgIdCache;
+import org.wso2.carbon.identity.organization.management.authz.service.cache.TenantOrgIdCacheEntry;
+import org.wso2.carbon.identity.organization.management.authz.service.cache.TenantOrgIdCacheKey;
 import org.wso2.carbon.identity.organization.management.authz.service.exception.OrganizationManagementAuthzServiceServerException;
 import org.wso2.carbon.identity.organization.management.authz.service.internal.OrganizationManagementAuthzServiceHolder;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.OrganizationSharedUserUtil;
@@ -50,6 +56,7 @@ import static org.wso2.carbon.identity.auth.service.util.Constants.OAUTH2_ALLOWE
 import static org.wso2.carbon.identity.auth.service.util.Constants.OAUTH2_VALIDATE_SCOPE;
 import static org.wso2.carbon.identity.organization.management.authz.service.constant.AuthorizationConstants.RESOURCE_PERMISSION_NONE;
 import static org.wso2.carbon.identity.organization.management.authz.service.util.OrganizationManagementAuthzUtil.getUserStoreManager;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
 
 /**
  * Authorization handler to handle organization management related authorization.
@@ -122,12 +129,22 @@ public class OrganizationManagementAuthzHandler extends AuthorizationHandler {
             if (MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equalsIgnoreCase(tenantDomainFromURL)) {
                 return OrganizationManagementAuthorizationManager.getInstance().getSuperOrganizationId();
             }
+            TenantOrgIdCacheKey cacheKey = new TenantOrgIdCacheKey(tenantDomainFromURL);
+            TenantOrgIdCacheEntry cacheEntry =
+                    TenantOrgIdCache.getInstance().getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN_NAME);
+            if (cacheEntry != null) {
+                return cacheEntry.getOrganizationId();
+            }
             int tenantIdForURLDomain = IdentityTenantUtil.getTenantId(tenantDomainFromURL);
             RealmService realmService = OrganizationManagementAuthzServiceHolder.getInstance().getRealmService();
             Tenant tenant = realmService.getTenantManager().getTenant(tenantIdForURLDomain);
             if (tenant != null) {
                 associatedOrgId = tenant.getAssociatedOrganizationUUID();
             }
+            if (StringUtils.isNotBlank(associatedOrgId)) {
+                TenantOrgIdCache.getInstance().addToCache(cacheKey, new TenantOrgIdCacheEntry(associatedOrgId),
+                        SUPER_TENANT_DOMAIN_NAME);
+            }
             return associatedOrgId;
         } catch (UserStoreException | OrganizationManagementServerException e) {
             String errorMessage = "Error occurred while trying to authorize, " + e.getMessage();
@@ -145,11 +162,29 @@ public class OrganizationManagementAuthzHandler extends AuthorizationHandler {
             return;
         }
 
+        /*
+        The decisions are cached by the ID of the user whose permissions are evaluated. Only the granted decisions are
+        cached, so that a newly granted access takes effect immediately. Revocations evict the decisions of the
+        affected users through OrgMgtAuthzCacheInvalidationHandler.
+         */
+        String userId = getUserId(user, orgId);
+        OrgMgtAuthzDecisionCacheKey cacheKey = new OrgMgtAuthzDecisionCacheKey(userId);
+        OrgMgtAuthzDecisionCacheEntry cacheEntry =
+                OrgMgtAuthzDecisionCache.getInstance().getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN_NAME);
+        if (cacheEntry != null && cacheEntry.isAuthorized(orgId, permissionString)) {
+            authorizationResult.setAuthorizationStatus(AuthorizationStatus.GRANT);
+            return;
+        }
+
         try {
             boolean isUserAuthorized = OrganizationManagementAuthorizationManager.getInstance().isUserAuthorized
-                    (getUserId(user, orgId), permissionString, orgId);
+                    (userId, permissionString, orgId);
             if (isUserAuthorized) {
                 authorizationResult.setAuthorizationStatus(AuthorizationStatus.GRANT);
+                OrgMgtAuthzDecisionCacheEntry grantedEntry = cacheEntry == null ? new OrgMgtAuthzDecisionCacheEntry()
+                        : cacheEntry;
+                OrgMgtAuthzDecisionCache.getInstance().addToCache(cacheKey,
+                        grantedEntry.withGrantedPermission(orgId, permissionString), SUPER_TENANT_DOMAIN_NAME);
             }
         } catch (OrganizationManagementServerException e) {
             throw new OrganizationManagementAuthzServiceServerException(e);
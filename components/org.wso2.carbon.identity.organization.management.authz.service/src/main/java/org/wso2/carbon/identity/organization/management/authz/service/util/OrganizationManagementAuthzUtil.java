@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 Inc. (http://www.wso2.com).
  *
  * WSO2 Inc. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -29,12 +29,8 @@ import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.core.UserStoreManager;
 import org.wso2.carbon.user.core.service.RealmService;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
-import static org.wso2.carbon.identity.organization.management.authz.service.constant.AuthorizationConstants.PERMISSION_SPLITTER;
-
 /**
  * This class provides utility functions for the organization management authorization.
  */
@@ -69,19 +65,15 @@ public class OrganizationManagementAuthzUtil {
         return new NamedJdbcTemplate(UmPersistenceManager.getInstance().getDataSource());
     }
 
+    /**
+     * Get the permissions which grant access to the given resource permission, i.e. the resource permission and its
+     * ancestor permissions.
+     *
+     * @param resourceId The resource permission.
+     * @return List of allowed permissions.
+     */
     public static List<String> getAllowedPermissions(String resourceId) {
 
-        String[] permissionParts = resourceId.split(PERMISSION_SPLITTER);
-        List<String> allowedPermissions = new ArrayList<>();
-        for (int i = 0; i < permissionParts.length - 1; i++) {
-            allowedPermissions.add(String.join(PERMISSION_SPLITTER,
-                    subArray(permissionParts, permissionParts.length - i)));
-        }
-        return allowedPermissions;
-    }
-
-    private static <T> T[] subArray(T[] array, int end) {
-
-        return Arrays.copyOfRange(array, 0, end);
+        return PermissionPrefixTree.getInstance().getAllowedPermissions(resourceId);
     }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.authz.service.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.wso2.carbon.identity.organization.management.authz.service.constant.AuthorizationConstants.PERMISSION_SPLITTER;
+
+/**
+ * Trie of resource permission strings keyed on their path segments. Every node precomputes the permissions which
+ * grant access to it, i.e. its own path and the paths of its ancestors, so that resolving the allowed permissions of
+ * an already seen resource permission requires neither splitting nor joining strings.
+ * <p>
+ * Both the tree and the index of resolved permissions are bounded. Once either bound is reached, the allowed
+ * permissions of unseen resource permissions are computed from their path segments without being stored.
+ */
+final class PermissionPrefixTree {
+
+    private static final int MAX_INDEXED_PERMISSIONS = 10000;
+    private static final int MAX_NODES = 10000;
+    private static final PermissionPrefixTree INSTANCE =
+            new PermissionPrefixTree(MAX_INDEXED_PERMISSIONS, MAX_NODES);
+
+    private final int maxIndexedPermissions;
+    private final int maxNodes;
+    private final Node root = new Node(null, null);
+    private final Map<String, Node> permissionIndex = new ConcurrentHashMap<>();
+    private final AtomicInteger nodeCount = new AtomicInteger();
+
+    PermissionPrefixTree(int maxIndexedPermissions, int maxNodes) {
+
+        this.maxIndexedPermissions = maxIndexedPermissions;
+        this.maxNodes = maxNodes;
+    }
+
+    static PermissionPrefixTree getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the permissions which grant access to the given resource permission, starting from the resource permission
+     * itself and ending at its top most ancestor below the first path segment.
+     *
+     * @param resourcePermission The resource permission.
+     * @return List of allowed permissions.
+     */
+    List<String> getAllowedPermissions(String resourcePermission) {
+
+        Node node = resolveNode(resourcePermission);
+        if (node == null) {
+            return computeAllowedPermissions(resourcePermission);
+        }
+        return new ArrayList<>(node.allowedPermissions);
+    }
+
+    /**
+     * Get the number of nodes in the tree, excluding the root node.
+     *
+     * @return The number of nodes.
+     */
+    int getNodeCount() {
+
+        return nodeCount.get();
+    }
+
+    private Node resolveNode(String resourcePermission) {
+
+        Node node = permissionIndex.get(resourcePermission);
+        if (node != null) {
+            return node;
+        }
+        if (permissionIndex.size() >= maxIndexedPermissions) {
+            return null;
+        }
+        node = root;
+        // Splitting is kept identical to the earlier String#split based resolution, including empty segments.
+        for (String segment : resourcePermission.split(PERMISSION_SPLITTER)) {
+            node = getOrAddChild(node, segment);
+            if (node == null) {
+                return null;
+            }
+        }
+        permissionIndex.put(resourcePermission, node);
+        return node;
+    }
+
+    private Node getOrAddChild(Node parent, String segment) {
+
+        Node child = parent.children.get(segment);
+        if (child != null) {
+            return child;
+        }
+        if (nodeCount.get() >= maxNodes) {
+            return null;
+        }
+        return parent.children.computeIfAbsent(segment, key -> {
+            nodeCount.incrementAndGet();
+            return new Node(parent, key);
+        });
+    }
+
+    private static List<String> computeAllowedPermissions(String resourcePermission) {
+
+        String[] permissionParts = resourcePermission.split(PERMISSION_SPLITTER);
+        List<String> allowedPermissions = new ArrayList<>();
+        for (int i = 0; i < permissionParts.length - 1; i++) {
+            allowedPermissions.add(String.join(PERMISSION_SPLITTER,
+                    Arrays.copyOfRange(permissionParts, 0, permissionParts.length - i)));
+        }
+        return allowedPermissions;
+    }
+
+    /**
+     * Node of the permission tree. Nodes are immutable once created apart from their children, which are added
+     * atomically.
+     */
+    private static final class Node {
+
+        private final String path;
+        private final List<String> allowedPermissions;
+        private final Map<String, Node> children = new ConcurrentHashMap<>();
+
+        private Node(Node parent, String segment) {
+
+            if (parent == null) {
+                // Root node.
+                this.path = null;
+                this.allowedPermissions = Collections.emptyList();
+            } else if (parent.path == null) {
+                // A permission made of a single segment does not grant access to its descendants on its own.
+                this.path = segment;
+                this.allowedPermissions = Collections.emptyList();
+            } else {
+                this.path = parent.path + PERMISSION_SPLITTER + segment;
+                List<String> permissions = new ArrayList<>(parent.allowedPermissions.size() + 1);
+                permissions.add(path);
+                permissions.addAll(parent.allowedPermissions);
+                this.allowedPermissions = Collections.unmodifiableList(permissions);
+            }
+        }
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.organization.management.authz.service.handler;
+
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.model.User;
+import org.wso2.carbon.identity.authz.service.AuthorizationResult;
+import org.wso2.carbon.identity.authz.service.AuthorizationStatus;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.organization.management.authz.service.OrganizationManagementAuthorizationContext;
+import org.wso2.carbon.identity.organization.management.authz.service.cache.OrgMgtAuthzDecisionCache;
+import org.wso2.carbon.identity.organization.management.authz.service.util.OrganizationManagementAuthzUtil;
+import org.wso2.carbon.identity.organization.management.ext.Constants;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.OrganizationSharedUserUtil;
+import org.wso2.carbon.identity.organization.management.service.authz.OrganizationManagementAuthorizationManager;
+import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+import static org.testng.Assert.assertEquals;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+
+/**
+ * Unit tests for the authorization decision caching of the OrganizationManagementAuthzHandler.
+ */
+@WithCarbonHome
+public class OrganizationManagementAuthzHandlerTest {
+
+    private static final String SUPER_ORG_ID = "10084a8d-113f-4211-a0d5-efe36b082211";
+    private static final String USER_ID = "8fe6fc1b-0b11-4c55-a1d2-2c1e0e0c6f1a";
+    private static final String USERNAME = "admin";
+    private static final String OTHER_USER_ID = "3b2f4a8e-7c6d-4e1f-9a0b-5c4d3e2f1a0b";
+    private static final String OTHER_USERNAME = "alex";
+    private static final String USER_STORE_DOMAIN = "PRIMARY";
+    private static final String PERMISSION = "/permission/admin/manage/identity/organizationmgt/view";
+
+    private OrganizationManagementAuthzHandler organizationManagementAuthzHandler;
+    private MockedStatic<OrganizationManagementAuthorizationManager> authorizationManagerStatic;
+    private MockedStatic<OrganizationManagementAuthzUtil> authzUtilStatic;
+    private MockedStatic<OrganizationSharedUserUtil> sharedUserUtilStatic;
+    private AutoCloseable mocks;
+
+    @Mock
+    private OrganizationManagementAuthorizationManager authorizationManager;
+
+    @Mock
+    private AbstractUserStoreManager userStoreManager;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        mocks = openMocks(this);
+        organizationManagementAuthzHandler = new OrganizationManagementAuthzHandler();
+
+        authorizationManagerStatic = mockStatic(OrganizationManagementAuthorizationManager.class);
+        authorizationManagerStatic.when(OrganizationManagementAuthorizationManager::getInstance)
+                .thenReturn(authorizationManager);
+        when(authorizationManager.getSuperOrganizationId()).thenReturn(SUPER_ORG_ID);
+
+        org.wso2.carbon.user.core.common.User storeUser = mock(org.wso2.carbon.user.core.common.User.class);
+        when(storeUser.getUserID()).thenReturn(USER_ID);
+        when(userStoreManager.getUser(isNull(), eq(USERNAME))).thenReturn(storeUser);
+        when(userStoreManager.getUserIDFromUserName(USERNAME)).thenReturn(USER_ID);
+        org.wso2.carbon.user.core.common.User otherStoreUser = mock(org.wso2.carbon.user.core.common.User.class);
+        when(otherStoreUser.getUserID()).thenReturn(OTHER_USER_ID);
+        when(userStoreManager.getUser(isNull(), eq(OTHER_USERNAME))).thenReturn(otherStoreUser);
+        authzUtilStatic = mockStatic(OrganizationManagementAuthzUtil.class);
+        authzUtilStatic.when(() -> OrganizationManagementAuthzUtil.getUserStoreManager(any(User.class)))
+                .thenReturn(userStoreManager);
+        sharedUserUtilStatic = mockStatic(OrganizationSharedUserUtil.class);
+        sharedUserUtilStatic.when(() -> OrganizationSharedUserUtil.getUserIdOfAssociatedUserByOrgId(anyString(),
+                anyString())).thenReturn(Optional.empty());
+
+        OrgMgtAuthzDecisionCache.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+
+        authorizationManagerStatic.close();
+        authzUtilStatic.close();
+        sharedUserUtilStatic.close();
+        mocks.close();
+        OrgMgtAuthzDecisionCache.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    /**
+     * Tests that a granted decision is served from the cache, without evaluating the permissions of the user again.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testGrantedDecisionIsCached() throws Exception {
+
+        when(authorizationManager.isUserAuthorized(USER_ID, PERMISSION, SUPER_ORG_ID)).thenReturn(true);
+
+        assertEquals(authorize().getAuthorizationStatus(), AuthorizationStatus.GRANT);
+        assertEquals(authorize().getAuthorizationStatus(), AuthorizationStatus.GRANT);
+
+        verify(authorizationManager, times(1)).isUserAuthorized(USER_ID, PERMISSION, SUPER_ORG_ID);
+    }
+
+    /**
+     * Tests that the decisions are cached by the ID of the user whose permissions are evaluated, i.e. the ID of the
+     * shared user when the user is shared with the accessed organization.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testDecisionIsCachedByEvaluatedUserId() throws Exception {
+
+        sharedUserUtilStatic.when(() -> OrganizationSharedUserUtil.getUserIdOfAssociatedUserByOrgId(USER_ID,
+                SUPER_ORG_ID)).thenReturn(Optional.of(OTHER_USER_ID), Optional.empty());
+        when(authorizationManager.isUserAuthorized(OTHER_USER_ID, PERMISSION, SUPER_ORG_ID)).thenReturn(true);
+
+        assertEquals(authorize().getAuthorizationStatus(), AuthorizationStatus.GRANT);
+        // Once the user association is removed, the grant of the shared user does not apply to the user.
+        assertEquals(authorize().getAuthorizationStatus(), AuthorizationStatus.DENY);
+
+        verify(authorizationManager, times(1)).isUserAuthorized(OTHER_USER_ID, PERMISSION, SUPER_ORG_ID);
+        verify(authorizationManager, times(1)).isUserAuthorized(USER_ID, PERMISSION, SUPER_ORG_ID);
+    }
+
+    /**
+     * Tests that a denied decision is not cached, so that an access granted afterwards takes effect immediately.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testDeniedDecisionIsNotCached() throws Exception {
+
+        when(authorizationManager.isUserAuthorized(USER_ID, PERMISSION, SUPER_ORG_ID)).thenReturn(false, true);
+
+        assertEquals(authorize().getAuthorizationStatus(), AuthorizationStatus.DENY);
+        assertEquals(authorize().getAuthorizationStatus(), AuthorizationStatus.GRANT);
+
+        verify(authorizationManager, times(2)).isUserAuthorized(USER_ID, PERMISSION, SUPER_ORG_ID);
+    }
+
+    @DataProvider(name = "accessRevokingEventDataProvider")
+    public Object[][] provideAccessRevokingEvents() {
+
+        return new Object[][]{
+                {IdentityEventConstants.Event.POST_DELETE_ROLE_V2_EVENT},
+                {IdentityEventConstants.Event.POST_UPDATE_GROUP_LIST_OF_ROLE_V2_EVENT},
+                {IdentityEventConstants.Event.POST_UPDATE_PERMISSIONS_FOR_ROLE_V2_EVENT},
+                {IdentityEventConstants.Event.POST_DELETE_ROLE},
+                {Constants.EVENT_POST_DELETE_ORGANIZATION}
+        };
+    }
+
+    /**
+     * Tests that all the cached decisions are cleared on the access revoking events which do not identify the
+     * affected users, so that the permissions of the users are evaluated again.
+     *
+     * @param eventName The name of the access revoking event.
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test(dataProvider = "accessRevokingEventDataProvider")
+    public void testCachedDecisionClearedOnAccessRevokingEvent(String eventName) throws Exception {
+
+        when(authorizationManager.isUserAuthorized(USER_ID, PERMISSION, SUPER_ORG_ID)).thenReturn(true, false);
+        when(authorizationManager.isUserAuthorized(OTHER_USER_ID, PERMISSION, SUPER_ORG_ID)).thenReturn(true, false);
+        assertEquals(authorize().getAuthorizationStatus(), AuthorizationStatus.GRANT);
+        assertEquals(authorize(OTHER_USERNAME).getAuthorizationStatus(), AuthorizationStatus.GRANT);
+
+        new OrgMgtAuthzCacheInvalidationHandler().handleEvent(new Event(eventName, new HashMap<>()));
+
+        assertEquals(authorize().getAuthorizationStatus(), AuthorizationStatus.DENY);
+        assertEquals(authorize(OTHER_USERNAME).getAuthorizationStatus(), AuthorizationStatus.DENY);
+        verify(authorizationManager, times(2)).isUserAuthorized(USER_ID, PERMISSION, SUPER_ORG_ID);
+        verify(authorizationManager, times(2)).isUserAuthorized(OTHER_USER_ID, PERMISSION, SUPER_ORG_ID);
+    }
+
+    @DataProvider(name = "userAccessRevokingEventDataProvider")
+    public Object[][] provideUserAccessRevokingEvents() {
+
+        return new Object[][]{
+                {IdentityEventConstants.Event.POST_DELETE_USER_WITH_ID},
+                {IdentityEventConstants.Event.POST_UPDATE_USER_LIST_OF_ROLE_V2_EVENT},
+                {IdentityEventConstants.Event.POST_UPDATE_ROLE_LIST_OF_USER},
+                {IdentityEventConstants.Event.POST_UPDATE_USER_LIST_OF_ROLE}
+        };
+    }
+
+    /**
+     * Tests that only the cached decisions of the affected user are evicted on the access revoking events which
+     * identify the affected users, including the group membership updates.
+     *
+     * @param eventName The name of the access revoking event.
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test(dataProvider = "userAccessRevokingEventDataProvider")
+    public void testCachedDecisionOfUserEvictedOnUserAccessRevokingEvent(String eventName) throws Exception {
+
+        when(authorizationManager.isUserAuthorized(USER_ID, PERMISSION, SUPER_ORG_ID)).thenReturn(true, false);
+        when(authorizationManager.isUserAuthorized(OTHER_USER_ID, PERMISSION, SUPER_ORG_ID)).thenReturn(true);
+        assertEquals(authorize().getAuthorizationStatus(), AuthorizationStatus.GRANT);
+        assertEquals(authorize(OTHER_USERNAME).getAuthorizationStatus(), AuthorizationStatus.GRANT);
+
+        new OrgMgtAuthzCacheInvalidationHandler().handleEvent(new Event(eventName, getUserEventProperties(eventName)));
+
+        assertEquals(authorize().getAuthorizationStatus(), AuthorizationStatus.DENY);
+        assertEquals(authorize(OTHER_USERNAME).getAuthorizationStatus(), AuthorizationStatus.GRANT);
+        verify(authorizationManager, times(2)).isUserAuthorized(USER_ID, PERMISSION, SUPER_ORG_ID);
+        verify(authorizationManager, times(1)).isUserAuthorized(OTHER_USER_ID, PERMISSION, SUPER_ORG_ID);
+    }
+
+    /**
+     * Tests that the cached decisions are retained on the events which cannot revoke an access.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testCachedDecisionRetainedOnOtherEvents() throws Exception {
+
+        when(authorizationManager.isUserAuthorized(USER_ID, PERMISSION, SUPER_ORG_ID)).thenReturn(true);
+        assertEquals(authorize().getAuthorizationStatus(), AuthorizationStatus.GRANT);
+
+        new OrgMgtAuthzCacheInvalidationHandler().handleEvent(
+                new Event(IdentityEventConstants.Event.POST_ADD_USER, new HashMap<>()));
+
+        assertEquals(authorize().getAuthorizationStatus(), AuthorizationStatus.GRANT);
+        verify(authorizationManager, times(1)).isUserAuthorized(USER_ID, PERMISSION, SUPER_ORG_ID);
+    }
+
+    private Map<String, Object> getUserEventProperties(String eventName) {
+
+        Map<String, Object> eventProperties = new HashMap<>();
+        switch (eventName) {
+            case IdentityEventConstants.Event.POST_DELETE_USER_WITH_ID:
+                eventProperties.put(IdentityEventConstants.EventProperty.USER_ID, USER_ID);
+                break;
+            case IdentityEventConstants.Event.POST_UPDATE_USER_LIST_OF_ROLE_V2_EVENT:
+                eventProperties.put(IdentityEventConstants.EventProperty.DELETED_USER_ID_LIST,
+                        Collections.singletonList(USER_ID));
+                break;
+            case IdentityEventConstants.Event.POST_UPDATE_ROLE_LIST_OF_USER:
+                eventProperties.put(IdentityEventConstants.EventProperty.USER_NAME, USERNAME);
+                eventProperties.put(IdentityEventConstants.EventProperty.USER_STORE_MANAGER, userStoreManager);
+                break;
+            case IdentityEventConstants.Event.POST_UPDATE_USER_LIST_OF_ROLE:
+                eventProperties.put(IdentityEventConstants.EventProperty.DELETED_USERS, new String[]{USERNAME});
+                eventProperties.put(IdentityEventConstants.EventProperty.USER_STORE_MANAGER, userStoreManager);
+                break;
+            default:
+                break;
+        }
+        return eventProperties;
+    }
+
+    private AuthorizationResult authorize() throws Exception {
+
+        return authorize(USERNAME);
+    }
+
+    private AuthorizationResult authorize(String userName) throws Exception {
+
+        User user = new User();
+        user.setUserName(userName);
+        user.setUserStoreDomain(USER_STORE_DOMAIN);
+        user.setTenantDomain(SUPER_TENANT_DOMAIN_NAME);
+        OrganizationManagementAuthorizationContext authorizationContext =
+                new OrganizationManagementAuthorizationContext();
+        authorizationContext.setUser(user);
+        authorizationContext.setPermissionString(PERMISSION);
+        authorizationContext.setTenantDomainFromURLMapping(SUPER_TENANT_DOMAIN_NAME);
+        return organizationManagementAuthzHandler.handleAuthorization(authorizationContext);
+    }
+}
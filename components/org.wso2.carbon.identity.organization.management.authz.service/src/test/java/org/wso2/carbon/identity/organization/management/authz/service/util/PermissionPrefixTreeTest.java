@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.organization.management.authz.service.util;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for the PermissionPrefixTree.
+ */
+public class PermissionPrefixTreeTest {
+
+    @DataProvider(name = "resourcePermissionDataProvider")
+    public Object[][] provideResourcePermissions() {
+
+        return new Object[][]{
+                {"/permission/admin/manage/identity/organizationmgt/view",
+                        Arrays.asList("/permission/admin/manage/identity/organizationmgt/view",
+                                "/permission/admin/manage/identity/organizationmgt",
+                                "/permission/admin/manage/identity", "/permission/admin/manage", "/permission/admin",
+                                "/permission")},
+                {"permission/admin", Collections.singletonList("permission/admin")},
+                {"/permission", Collections.singletonList("/permission")},
+                {"permission", Collections.emptyList()},
+                {"/", Collections.emptyList()},
+                {"//permission", Arrays.asList("//permission", "/")}
+        };
+    }
+
+    /**
+     * Tests that the allowed permissions are resolved as the resource permission followed by its ancestors, both
+     * when the permission is first seen and when it is resolved from the index.
+     *
+     * @param resourcePermission  The resource permission.
+     * @param expectedPermissions The expected allowed permissions.
+     */
+    @Test(dataProvider = "resourcePermissionDataProvider")
+    public void testGetAllowedPermissions(String resourcePermission, List<String> expectedPermissions) {
+
+        assertEquals(OrganizationManagementAuthzUtil.getAllowedPermissions(resourcePermission), expectedPermissions);
+        assertEquals(OrganizationManagementAuthzUtil.getAllowedPermissions(resourcePermission), expectedPermissions);
+    }
+
+    /**
+     * Tests that the returned allowed permissions can be modified without affecting the later resolutions.
+     */
+    @Test
+    public void testAllowedPermissionsAreMutable() {
+
+        String resourcePermission = "/permission/admin/manage";
+        List<String> allowedPermissions = OrganizationManagementAuthzUtil.getAllowedPermissions(resourcePermission);
+        allowedPermissions.add("/permission/admin/manage/identity");
+
+        assertEquals(OrganizationManagementAuthzUtil.getAllowedPermissions(resourcePermission),
+                Arrays.asList("/permission/admin/manage", "/permission/admin", "/permission"));
+    }
+
+    /**
+     * Tests that the tree stops growing once its node bound is reached and that the permissions which do not fit in
+     * the tree are still resolved.
+     */
+    @Test
+    public void testTreeIsBoundedByNodeCount() {
+
+        PermissionPrefixTree permissionPrefixTree = new PermissionPrefixTree(100, 5);
+        for (int i = 0; i < 10; i++) {
+            String resourcePermission = "/permission/resource" + i + "/view";
+            assertEquals(permissionPrefixTree.getAllowedPermissions(resourcePermission), Arrays.asList(
+                    resourcePermission, "/permission/resource" + i, "/permission"));
+        }
+        assertTrue(permissionPrefixTree.getNodeCount() <= 5);
+    }
+
+    /**
+     * Tests that the permissions beyond the index bound are resolved without adding nodes to the tree.
+     */
+    @Test
+    public void testTreeIsBoundedByIndexSize() {
+
+        PermissionPrefixTree permissionPrefixTree = new PermissionPrefixTree(2, 100);
+        for (int i = 0; i < 10; i++) {
+            String resourcePermission = "/permission/resource" + i;
+            assertEquals(permissionPrefixTree.getAllowedPermissions(resourcePermission), Arrays.asList(
+                    resourcePermission, "/permission"));
+        }
+        // The empty first segment, "/permission" and one node per indexed permission.
+        assertEquals(permissionPrefixTree.getNodeCount(), 4);
+    }
+}
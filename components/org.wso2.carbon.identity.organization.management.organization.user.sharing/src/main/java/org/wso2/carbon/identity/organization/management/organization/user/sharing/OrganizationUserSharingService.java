@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.organization.management.organization.user.shari
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.EditOperation;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SharedType;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.PartialUserSharingException;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtException;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
 import org.wso2.carbon.identity.organization.management.service.exception.NotImplementedException;
@@ -29,6 +30,7 @@ import org.wso2.carbon.identity.organization.management.service.exception.Organi
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service that manages the organization user sharing.
@@ -61,6 +63,27 @@ public interface OrganizationUserSharingService {
         throw new NotImplementedException("shareOrganizationUser method is not implemented.");
     }
 
+    /**
+     * Shares the associated user with the given organizations. Organizations in which the user is already shared
+     * are skipped, and the associations of the newly shared users are created in batches.
+     *
+     * @param orgIds           The IDs of the organizations the user is shared with.
+     * @param associatedUserId Actual user who is associated for the shared users.
+     * @param associatedOrgId  The organization ID of the associated user.
+     * @param sharedType       The type of sharing for the user in the organizations.
+     * @return The user associations created for the organizations the user got shared with.
+     * @throws OrganizationManagementException If an error occurs while creating the organization user associations.
+     *                                         A {@link PartialUserSharingException} is thrown when the user could not
+     *                                         be shared with some of the organizations. It lists those organizations
+     *                                         and carries the associations created for the others.
+     */
+    default List<UserAssociation> shareOrganizationUser(List<String> orgIds, String associatedUserId,
+                                                        String associatedOrgId, SharedType sharedType)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException("shareOrganizationUser method is not implemented.");
+    }
+
     /**
      * Unshare all the shared users for the given user.
      *
@@ -153,6 +176,31 @@ public interface OrganizationUserSharingService {
         throw new NotImplementedException("getUserAssociationsOfGivenUser method is not implemented.");
     }
 
+    /**
+     * Get the user associations for a given user in the descendant organizations of the given parent organization,
+     * with filtering and sorting options. The organization scope is resolved from the organization hierarchy by the
+     * database, instead of being passed as a list of organization IDs.
+     *
+     * @param actualUserId    Actual user ID of the user.
+     * @param residentOrgId   The organization ID where the user is managed.
+     * @param parentOrgId     The ID of the organization whose descendant organizations define the search scope.
+     * @param recursive       Whether to include all the descendant organizations or only the immediate children.
+     * @param expressionNodes The list of expression nodes for filtering the results.
+     * @param sortOrder       The order in which to sort the results (e.g., ascending or descending).
+     * @param limit           The maximum number of results to return.
+     * @return A list of {@link UserAssociation}s.
+     * @throws OrganizationManagementException If an error occurs while fetching user associations.
+     */
+    default List<UserAssociation> getUserAssociationsOfGivenUserInOrgHierarchy(String actualUserId,
+                                                                               String residentOrgId,
+                                                                               String parentOrgId, boolean recursive,
+                                                                               List<ExpressionNode> expressionNodes,
+                                                                               String sortOrder, int limit)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException("getUserAssociationsOfGivenUserInOrgHierarchy method is not implemented.");
+    }
+
     /**
      * Get all user associations for a given user filtered by shared type.
      *
@@ -253,6 +301,24 @@ public interface OrganizationUserSharingService {
         throw new NotImplementedException("addEditRestrictionsForSharedUserRoles method is not implemented.");
     }
 
+    /**
+     * Adds edit restrictions for the shared roles of multiple shared users in one organization.
+     *
+     * @param roleIdsOfSharedUsers The IDs of the roles to be restricted, keyed by the username of the shared user.
+     * @param tenantDomain         The tenant domain of the shared users.
+     * @param domainName           The user store domain name associated with the users.
+     * @param editOperation        The type of edit operation being performed.
+     * @param permittedOrgId       The organization ID with permitted access.
+     * @throws UserSharingMgtException If an error occurs while adding the edit restrictions.
+     */
+    default void addEditRestrictionsForSharedUserRoles(Map<String, List<String>> roleIdsOfSharedUsers,
+                                                        String tenantDomain, String domainName,
+                                                        EditOperation editOperation, String permittedOrgId)
+            throws UserSharingMgtException {
+
+        throw new NotImplementedException("addEditRestrictionsForSharedUserRoles method is not implemented.");
+    }
+
     /**
      * Retrieves the IDs of roles shared with a user in a specific organization.
      *
@@ -284,6 +350,36 @@ public interface OrganizationUserSharingService {
         throw new NotImplementedException("getUserAssociationsOfGivenUserOnGivenOrgs method is not implemented.");
     }
 
+    /**
+     * Get the user associations of the given shared users in the given organization. Users which are not shared
+     * users of the organization are omitted.
+     *
+     * @param userIds The IDs of the users in the organization.
+     * @param orgId   The ID of the organization.
+     * @return The list of {@link UserAssociation}s of the shared users among the given users.
+     * @throws OrganizationManagementServerException If an error occurs while retrieving the user associations.
+     */
+    default List<UserAssociation> getUserAssociationsOfSharedUsers(List<String> userIds, String orgId)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getUserAssociationsOfSharedUsers method is not implemented.");
+    }
+
+    /**
+     * Get the user associations of the given associated users in the given organizations.
+     *
+     * @param associatedUserIds The IDs of the associated users.
+     * @param orgIds            The list of organization IDs.
+     * @return The list of {@link UserAssociation}s for the given users in the specified organizations.
+     * @throws OrganizationManagementServerException If an error occurs while retrieving the user associations.
+     */
+    default List<UserAssociation> getUserAssociationsOfGivenUsersOnGivenOrgs(List<String> associatedUserIds,
+                                                                             List<String> orgIds)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getUserAssociationsOfGivenUsersOnGivenOrgs method is not implemented.");
+    }
+
     /**
      * Updates the shared type of user association.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -18,6 +18,8 @@
 
 package org.wso2.carbon.identity.organization.management.organization.user.sharing;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.osgi.annotation.bundle.Capability;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
@@ -27,6 +29,7 @@ import org.wso2.carbon.identity.organization.management.organization.user.sharin
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SharedType;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.dao.OrganizationUserSharingDAO;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.dao.OrganizationUserSharingDAOImpl;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.PartialUserSharingException;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtException;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.internal.OrganizationUserSharingDataHolder;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
@@ -41,15 +44,20 @@ import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.CLAIM_MANAGED_ORGANIZATION;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_PROFILE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ID_CLAIM_READ_ONLY;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.PRIMARY_DOMAIN;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.PROCESS_ADD_SHARED_USER;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARE_BATCH_SIZE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_CREATE_SHARED_USER;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_DELETE_SHARED_USER;
 import static org.wso2.carbon.identity.organization.management.service.util.Utils.handleServerException;
@@ -67,6 +75,7 @@ import static org.wso2.carbon.identity.organization.management.service.util.Util
 )
 public class OrganizationUserSharingServiceImpl implements OrganizationUserSharingService {
 
+    private static final Log LOG = LogFactory.getLog(OrganizationUserSharingServiceImpl.class);
     private final OrganizationUserSharingDAO organizationUserSharingDAO = new OrganizationUserSharingDAOImpl();
 
     @Override
@@ -87,6 +96,76 @@ public class OrganizationUserSharingServiceImpl implements OrganizationUserShari
         shareOrganizationUserWithOrWithoutType(orgId, associatedUserId, associatedOrgId, sharedType);
     }
 
+    @Override
+    public List<UserAssociation> shareOrganizationUser(List<String> orgIds, String associatedUserId,
+                                                       String associatedOrgId, SharedType sharedType)
+            throws OrganizationManagementException {
+
+        SharedType userSharedType = sharedType == null ? SharedType.NOT_SPECIFIED : sharedType;
+        String userName;
+        try {
+            userName = getAssociatedUserName(associatedUserId, associatedOrgId);
+        } catch (UserStoreException e) {
+            throw handleServerException(ERROR_CODE_ERROR_CREATE_SHARED_USER, e, associatedOrgId);
+        }
+
+        List<UserAssociation> createdUserAssociations = new ArrayList<>();
+        List<String> failedOrgIds = new ArrayList<>();
+        OrganizationManagementException sharingFailure = null;
+        for (int fromIndex = 0; fromIndex < orgIds.size(); fromIndex += USER_SHARE_BATCH_SIZE) {
+            List<String> batchOrgIds =
+                    orgIds.subList(fromIndex, Math.min(fromIndex + USER_SHARE_BATCH_SIZE, orgIds.size()));
+            Set<String> alreadySharedOrgIds =
+                    getUserAssociationsOfGivenUserOnGivenOrgs(associatedUserId, batchOrgIds).stream()
+                            .filter(userAssociation ->
+                                    associatedOrgId.equals(userAssociation.getUserResidentOrganizationId()))
+                            .map(UserAssociation::getOrganizationId)
+                            .collect(Collectors.toSet());
+
+            List<UserAssociation> newUserAssociations = new ArrayList<>();
+            for (String orgId : batchOrgIds) {
+                if (alreadySharedOrgIds.contains(orgId)) {
+                    continue;
+                }
+                try {
+                    String userId = addSharedUser(orgId, userName, associatedOrgId);
+                    newUserAssociations.add(buildUserAssociation(userId, orgId, associatedUserId, associatedOrgId,
+                            userSharedType));
+                } catch (OrganizationManagementException e) {
+                    // Continue with the remaining organizations, so that the users which are already created get
+                    // their associations. The failed organizations are reported once all of them are processed.
+                    if (sharingFailure == null) {
+                        sharingFailure = e;
+                    } else {
+                        sharingFailure.addSuppressed(e);
+                    }
+                    failedOrgIds.add(orgId);
+                }
+            }
+            if (newUserAssociations.isEmpty()) {
+                continue;
+            }
+            try {
+                organizationUserSharingDAO.createOrganizationUserAssociations(newUserAssociations);
+            } catch (OrganizationManagementException e) {
+                // The shared users of the batch are removed, so that they are not left without associations.
+                removeSharedUsers(newUserAssociations);
+                throw e;
+            }
+            // The associations are read back in a single query to obtain the generated association IDs.
+            List<String> sharedOrgIds = newUserAssociations.stream()
+                    .map(UserAssociation::getOrganizationId)
+                    .collect(Collectors.toList());
+            getUserAssociationsOfGivenUserOnGivenOrgs(associatedUserId, sharedOrgIds).stream()
+                    .filter(userAssociation -> associatedOrgId.equals(userAssociation.getUserResidentOrganizationId()))
+                    .forEach(createdUserAssociations::add);
+        }
+        if (!failedOrgIds.isEmpty()) {
+            throw new PartialUserSharingException(failedOrgIds, createdUserAssociations, sharingFailure);
+        }
+        return createdUserAssociations;
+    }
+
     @Override
     public boolean unshareOrganizationUsers(String associatedUserId, String associatedOrgId)
             throws OrganizationManagementException {
@@ -150,6 +229,18 @@ public class OrganizationUserSharingServiceImpl implements OrganizationUserShari
                 orgIdsScope, expressionNodes, sortOrder, limit);
     }
 
+    @Override
+    public List<UserAssociation> getUserAssociationsOfGivenUserInOrgHierarchy(String actualUserId,
+                                                                              String residentOrgId,
+                                                                              String parentOrgId, boolean recursive,
+                                                                              List<ExpressionNode> expressionNodes,
+                                                                              String sortOrder, int limit)
+            throws OrganizationManagementException {
+
+        return organizationUserSharingDAO.getUserAssociationsOfAssociatedUserInOrgHierarchy(actualUserId,
+                residentOrgId, parentOrgId, recursive, expressionNodes, sortOrder, limit);
+    }
+
     @Override
     public List<UserAssociation> getUserAssociationsOfGivenUser(String actualUserId, String residentOrgId,
                                                                 SharedType sharedType)
@@ -201,6 +292,16 @@ public class OrganizationUserSharingServiceImpl implements OrganizationUserShari
                 editOperation, permittedOrgId);
     }
 
+    @Override
+    public void addEditRestrictionsForSharedUserRoles(Map<String, List<String>> roleIdsOfSharedUsers,
+                                                       String tenantDomain, String domainName,
+                                                       EditOperation editOperation, String permittedOrgId)
+            throws UserSharingMgtException {
+
+        organizationUserSharingDAO.addEditRestrictionsForSharedUserRoles(roleIdsOfSharedUsers, tenantDomain,
+                domainName, editOperation, permittedOrgId);
+    }
+
     @Override
     public List<String> getRolesSharedWithUserInOrganization(String username, int tenantId, String domainName)
             throws UserSharingMgtException {
@@ -215,6 +316,21 @@ public class OrganizationUserSharingServiceImpl implements OrganizationUserShari
         return organizationUserSharingDAO.getUserAssociationsOfGivenUserOnGivenOrgs(associatedUserId, orgIds);
     }
 
+    @Override
+    public List<UserAssociation> getUserAssociationsOfSharedUsers(List<String> userIds, String orgId)
+            throws OrganizationManagementServerException {
+
+        return organizationUserSharingDAO.getUserAssociationsOfSharedUsers(userIds, orgId);
+    }
+
+    @Override
+    public List<UserAssociation> getUserAssociationsOfGivenUsersOnGivenOrgs(List<String> associatedUserIds,
+                                                                            List<String> orgIds)
+            throws OrganizationManagementServerException {
+
+        return organizationUserSharingDAO.getUserAssociationsOfGivenUsersOnGivenOrgs(associatedUserIds, orgIds);
+    }
+
     @Override
     public void updateSharedTypeOfUserAssociation(int id, SharedType sharedType)
             throws OrganizationManagementServerException {
@@ -256,6 +372,18 @@ public class OrganizationUserSharingServiceImpl implements OrganizationUserShari
         }
     }
 
+    private void removeSharedUsers(List<UserAssociation> userAssociations) {
+
+        for (UserAssociation userAssociation : userAssociations) {
+            try {
+                removeSharedUser(userAssociation);
+            } catch (OrganizationManagementException e) {
+                LOG.error("Error while removing the shared user: " + userAssociation.getUserId() +
+                        " from the organization: " + userAssociation.getOrganizationId(), e);
+            }
+        }
+    }
+
     private void deleteUserInTenantFlow(AbstractUserStoreManager userStoreManager, String userId,
                                         String tenantDomain, String organizationId) throws UserStoreException {
 
@@ -284,14 +412,47 @@ public class OrganizationUserSharingServiceImpl implements OrganizationUserShari
     private void shareOrganizationUserWithOrWithoutType(String orgId, String associatedUserId, String associatedOrgId,
                                                         SharedType sharedType) throws OrganizationManagementException {
 
+        String userName;
+        try {
+            userName = getAssociatedUserName(associatedUserId, associatedOrgId);
+        } catch (UserStoreException e) {
+            throw handleServerException(ERROR_CODE_ERROR_CREATE_SHARED_USER, e, orgId);
+        }
+        String userId = addSharedUser(orgId, userName, associatedOrgId);
+        if (SharedType.NOT_SPECIFIED.equals(sharedType)) {
+            organizationUserSharingDAO.createOrganizationUserAssociation(userId, orgId, associatedUserId,
+                    associatedOrgId);
+        } else {
+            organizationUserSharingDAO.createOrganizationUserAssociation(userId, orgId, associatedUserId,
+                    associatedOrgId, sharedType);
+        }
+    }
+
+    private String getAssociatedUserName(String associatedUserId, String associatedOrgId)
+            throws OrganizationManagementException, UserStoreException {
+
+        int associatedUserTenantId =
+                IdentityTenantUtil.getTenantId(getOrganizationManager().resolveTenantDomain(associatedOrgId));
+        AbstractUserStoreManager userStoreManager = getAbstractUserStoreManager(associatedUserTenantId);
+        return userStoreManager.getUser(associatedUserId, null).getUsername();
+    }
+
+    /**
+     * Creates the shared user in the given organization.
+     *
+     * @param orgId           The ID of the organization the user is shared with.
+     * @param userName        The username of the associated user.
+     * @param associatedOrgId The organization ID of the associated user.
+     * @return The ID of the created shared user.
+     * @throws OrganizationManagementException If an error occurs while creating the shared user.
+     */
+    private String addSharedUser(String orgId, String userName, String associatedOrgId)
+            throws OrganizationManagementException {
+
         try {
             String suborgTenantDomain = getOrganizationManager().resolveTenantDomain(orgId);
             startTenantFlow(suborgTenantDomain);
             IdentityUtil.threadLocalProperties.get().put(PROCESS_ADD_SHARED_USER, true);
-            int associatedUserTenantId =
-                    IdentityTenantUtil.getTenantId(getOrganizationManager().resolveTenantDomain(associatedOrgId));
-            AbstractUserStoreManager userStoreManager = getAbstractUserStoreManager(associatedUserTenantId);
-            String userName = userStoreManager.getUser(associatedUserId, null).getUsername();
 
             HashMap<String, String> userClaims = new HashMap<>();
             userClaims.put(CLAIM_MANAGED_ORGANIZATION, associatedOrgId);
@@ -300,7 +461,7 @@ public class OrganizationUserSharingServiceImpl implements OrganizationUserShari
 
             int tenantId = IdentityTenantUtil.getTenantId(suborgTenantDomain);
             String domain = IdentityUtil.getProperty("OrganizationUserInvitation.PrimaryUserDomain");
-            userStoreManager = getAbstractUserStoreManager(tenantId);
+            AbstractUserStoreManager userStoreManager = getAbstractUserStoreManager(tenantId);
 
             if (PRIMARY_DOMAIN.equalsIgnoreCase(domain)) {
                 userStoreManager.addUser(userName, generatePassword(), null, userClaims,
@@ -326,14 +487,7 @@ public class OrganizationUserSharingServiceImpl implements OrganizationUserShari
                 }
                 defaultUserStore.addUser(userName, generatePassword(), null, userClaims, DEFAULT_PROFILE);
             }
-            String userId = userStoreManager.getUserIDFromUserName(UserCoreUtil.addDomainToName(userName, domain));
-            if (SharedType.NOT_SPECIFIED.equals(sharedType)) {
-                organizationUserSharingDAO.createOrganizationUserAssociation(userId, orgId, associatedUserId,
-                        associatedOrgId);
-            } else {
-                organizationUserSharingDAO.createOrganizationUserAssociation(userId, orgId, associatedUserId,
-                        associatedOrgId, sharedType);
-            }
+            return userStoreManager.getUserIDFromUserName(UserCoreUtil.addDomainToName(userName, domain));
         } catch (UserStoreException | InterruptedException e) {
             throw handleServerException(ERROR_CODE_ERROR_CREATE_SHARED_USER, e, orgId);
         } finally {
@@ -341,4 +495,16 @@ public class OrganizationUserSharingServiceImpl implements OrganizationUserShari
             endTenantFlow();
         }
     }
+
+    private UserAssociation buildUserAssociation(String userId, String orgId, String associatedUserId,
+                                                 String associatedOrgId, SharedType sharedType) {
+
+        UserAssociation userAssociation = new UserAssociation();
+        userAssociation.setUserId(userId);
+        userAssociation.setOrganizationId(orgId);
+        userAssociation.setAssociatedUserId(associatedUserId);
+        userAssociation.setUserResidentOrganizationId(associatedOrgId);
+        userAssociation.setSharedType(sharedType);
+        return userAssociation;
+    }
 }
@@ -62,6 +62,7 @@ import org.wso2.carbon.identity.organization.management.organization.user.sharin
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.usercriteria.UserCriteriaType;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.usercriteria.UserIdList;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.OrganizationSharedUserUtil;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.UserSharingExecutor;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementClientException;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
@@ -95,8 +96,7 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.API_REF_GET_SHARED_ROLES_OF_USER_IN_ORG;
@@ -126,6 +126,7 @@ import static org.wso2.carbon.identity.organization.management.organization.user
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_CRITERIA_INVALID;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_CRITERIA_MISSING;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_SHARE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_SHARING_OPERATION_REJECTED;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_UNSHARE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_GENERAL_SHARE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_SELECTIVE_SHARE;
@@ -146,7 +147,6 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
 
     private static final Log LOG = LogFactory.getLog(UserSharingPolicyHandlerServiceImpl.class);
     private final UserIDResolver userIDResolver = new UserIDResolver();
-    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(5);
     private final ConcurrentMap<String, SubOperationStatusQueue> asyncOperationStatusList = new ConcurrentHashMap<>();
 
     @Override
@@ -172,15 +172,12 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
         Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
 
         // Run the sharing logic asynchronously.
-        CompletableFuture.runAsync(() -> {
+        runAsyncUserSharingOperation(() -> {
                 restoreThreadLocalContext(sharingInitiatedTenantDomain, sharingInitiatedTenantId,
                         sharingInitiatedUsername, threadLocalProperties);
                 processSelectiveUserShare(userCriteria, validOrganizations, sharingInitiatedOrgId,
-                        sharingInitiatedUserId, getCorrelationId()); }, EXECUTOR)
-                .exceptionally(ex -> {
-                    LOG.error("Error occurred during async user selective share processing.", ex);
-                    return null;
-                });
+                        sharingInitiatedUserId, getCorrelationId()); }, sharingInitiatedTenantDomain,
+                "Error occurred during async user selective share processing.");
     }
 
     @Override
@@ -204,15 +201,12 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
         Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
 
         // Run the sharing logic asynchronously.
-        CompletableFuture.runAsync(() -> {
+        runAsyncUserSharingOperation(() -> {
                     restoreThreadLocalContext(sharingInitiatedTenantDomain, sharingInitiatedTenantId,
                             sharingInitiatedUsername, threadLocalProperties);
                     processGeneralUserShare(userCriteria, policy, roleIds, sharingInitiatedOrgId,
-                            sharingInitiatedUserId, getCorrelationId()); }, EXECUTOR)
-                .exceptionally(ex -> {
-                    LOG.error("Error occurred during async general user share processing.", ex);
-                    return null;
-                });
+                            sharingInitiatedUserId, getCorrelationId()); }, sharingInitiatedTenantDomain,
+                "Error occurred during async general user share processing.");
     }
 
     @Override
@@ -235,15 +229,12 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
         Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
 
         // Run the unsharing logic asynchronously.
-        CompletableFuture.runAsync(() -> {
+        runAsyncUserSharingOperation(() -> {
                     restoreThreadLocalContext(sharingInitiatedTenantDomain, sharingInitiatedTenantId,
                             sharingInitiatedUsername, threadLocalProperties);
                     processSelectiveUserUnshare(userCriteria, organizations, sharingInitiatedOrgId);
-                }, EXECUTOR)
-                .exceptionally(ex -> {
-                    LOG.error("Error occurred during async user selective unshare processing.", ex);
-                    return null;
-                });
+                }, sharingInitiatedTenantDomain,
+                "Error occurred during async user selective unshare processing.");
     }
 
     @Override
@@ -264,15 +255,12 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
         Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
 
         // Run the unsharing logic asynchronously.
-        CompletableFuture.runAsync(() -> {
+        runAsyncUserSharingOperation(() -> {
                     restoreThreadLocalContext(sharingInitiatedTenantDomain, sharingInitiatedTenantId,
                             sharingInitiatedUsername, threadLocalProperties);
                     processGeneralUserUnshare(userCriteria, sharingInitiatedOrgId);
-                }, EXECUTOR)
-                .exceptionally(ex -> {
-                    LOG.error("Error occurred during async general user unshare processing.", ex);
-                    return null;
-                });
+                }, sharingInitiatedTenantDomain,
+                "Error occurred during async general user unshare processing.");
     }
 
     @Override
@@ -767,10 +755,10 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
             throws UserSharingMgtException, IdentityRoleManagementException, OrganizationManagementException,
             AsyncOperationStatusMgtException {
 
-        List<String> userSharingAllOrgs = userSharingOrgsForEachUserShareObject.values()
+        Set<String> userSharingAllOrgs = userSharingOrgsForEachUserShareObject.values()
                 .stream()
                 .flatMap(List::stream)
-                .collect(Collectors.toList());
+                .collect(Collectors.toSet());
 
         for (Map.Entry<BaseUserShare, List<String>> entry : userSharingOrgsForEachUserShareObject.entrySet()) {
 
@@ -778,13 +766,14 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
                     correlationId);
             BaseUserShare baseUserShare = entry.getKey();
             List<String> userSharingOrgList = entry.getValue();
-            List<String> retainedSharedOrgs = new ArrayList<>();
+            Set<String> userSharingOrgSet = new HashSet<>(userSharingOrgList);
+            Set<String> retainedSharedOrgs = new HashSet<>();
             List<UserAssociation> userAssociations =
                     getUserAssociationsOfGivenUserOnOrgTree(baseUserShare, sharingInitiatedOrgId);
 
             for (UserAssociation association : userAssociations) {
 
-                if (!userSharingOrgList.contains(association.getOrganizationId())) {
+                if (!userSharingOrgSet.contains(association.getOrganizationId())) {
                     try {
                         unshareUserFromPreviousOrg(association, sharingInitiatedOrgId);
                         registerOperationStatusUnit(operationId, association.getUserId(), sharingInitiatedOrgId,
@@ -1003,10 +992,10 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
      *
      * @param associatedUserId      The ID of the associated user.
      * @param sharingInitiatedOrgId The ID of the organization initiating the sharing.
-     * @param userSharingAllOrgs    The list of all organizations with which the user is shared.
+     * @param userSharingAllOrgs    The set of all organizations with which the user is shared.
      */
     private void cleanUpOldUserAssociationsIfExists(String associatedUserId, String sharingInitiatedOrgId,
-                                                    List<String> userSharingAllOrgs)
+                                                    Set<String> userSharingAllOrgs)
             throws OrganizationManagementException, UserSharingMgtException {
 
         List<UserAssociation> allUserAssociations =
@@ -1061,17 +1050,17 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
      * @param baseUserShare         The base user share object containing sharing details.
      * @param sharingInitiatedOrgId The ID of the organization initiating the sharing.
      * @param userSharingOrgList    The list of organizations to share the user with.
-     * @param alreadySharedOrgs     The list of organizations the user is already shared with.
+     * @param alreadySharedOrgs     The set of organizations the user is already shared with.
      * @param operationId           The ID of the sharing operation.
      */
     private void shareWithNewOrganizations(BaseUserShare baseUserShare, String sharingInitiatedOrgId,
-                                           List<String> userSharingOrgList, List<String> alreadySharedOrgs,
+                                           List<String> userSharingOrgList, Set<String> alreadySharedOrgs,
                                            String operationId) throws AsyncOperationStatusMgtException {
 
-        List<String> newlySharedOrgs = new ArrayList<>(userSharingOrgList);
-        newlySharedOrgs.removeAll(alreadySharedOrgs);
-
-        for (String orgId : newlySharedOrgs) {
+        for (String orgId : userSharingOrgList) {
+            if (alreadySharedOrgs.contains(orgId)) {
+                continue;
+            }
             shareAndAssignRolesIfPresent(orgId, baseUserShare, sharingInitiatedOrgId, operationId);
         }
     }
@@ -1808,6 +1797,30 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
 
     // Async helpers.
 
+    /**
+     * Run the given user sharing operation asynchronously on the user sharing executor.
+     *
+     * @param operation       The user sharing operation.
+     * @param tenantDomain    The tenant domain which initiated the operation.
+     * @param errorLogMessage The message to log if the operation fails.
+     * @throws UserSharingMgtClientException If the executor cannot accept the operation at the moment.
+     */
+    private void runAsyncUserSharingOperation(Runnable operation, String tenantDomain, String errorLogMessage)
+            throws UserSharingMgtClientException {
+
+        try {
+            CompletableFuture.runAsync(operation, UserSharingExecutor.getInstance().forTenant(tenantDomain))
+                    .exceptionally(ex -> {
+                        LOG.error(errorLogMessage, ex);
+                        return null;
+                    });
+        } catch (RejectedExecutionException e) {
+            throw new UserSharingMgtClientException(ERROR_CODE_USER_SHARING_OPERATION_REJECTED.getCode(),
+                    ERROR_CODE_USER_SHARING_OPERATION_REJECTED.getMessage(),
+                    ERROR_CODE_USER_SHARING_OPERATION_REJECTED.getDescription());
+        }
+    }
+
     /**
      * Restores thread-local properties for async execution.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -41,6 +41,9 @@ import org.wso2.carbon.identity.organization.management.organization.user.sharin
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SharedType;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharePatchOperation;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingJobStatus;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingJobType;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.PartialUserSharingException;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtClientException;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtException;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtServerException;
@@ -49,6 +52,8 @@ import org.wso2.carbon.identity.organization.management.organization.user.sharin
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.GeneralUserShare;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.SelectiveUserShare;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserSharingJob;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserSharingJobTarget;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.dos.BaseUserShareDO;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.dos.BaseUserUnshareDO;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.dos.GeneralUserShareV2DO;
@@ -68,6 +73,8 @@ import org.wso2.carbon.identity.organization.management.organization.user.sharin
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.usercriteria.UserIdList;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.OrganizationSharedUserUtil;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.SharingInitiatorContext;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.UserSharingExecutor;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.UserSharingJobJournal;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementClientException;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
@@ -94,23 +101,21 @@ import org.wso2.carbon.user.core.util.UserCoreUtil;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
-import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ACTION_GENERAL_USER_SHARE;
-import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ACTION_GENERAL_USER_UNSHARE;
-import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ACTION_SELECTIVE_USER_SHARE;
-import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ACTION_SELECTIVE_USER_UNSHARE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ACTION_USER_SHARE_ATTRIBUTE_UPDATE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ACTION_USER_SHARE_ROLE_ASSIGNMENT_UPDATE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.APPLICATION;
@@ -154,6 +159,7 @@ import static org.wso2.carbon.identity.organization.management.organization.user
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_ID_NULL;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_SHARE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_SHARE_ROLE_ASSIGNMENT_UPDATE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_SHARING_OPERATION_REJECTED;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_UNSHARE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_GENERAL_SHARE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_SELECTIVE_SHARE;
@@ -170,6 +176,7 @@ import static org.wso2.carbon.identity.organization.management.organization.user
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.SHARED_USER_SHARING_MODE_INCLUDED_KEY;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_IDS;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARE_BATCH_SIZE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARING_LOG_TEMPLATE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.AND;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ASC_SORT_ORDER;
@@ -198,7 +205,6 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
             "Initiator : %s | Action : %s | Target : %s | Data : { %s } | Result : %s ";
     private static final String SUCCESS = "Success";
     private final UserIDResolver userIDResolver = new UserIDResolver();
-    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(5);
     private static final Set<String> SUPPORTED_GET_ATTRIBUTES =
             new HashSet<>(Arrays.asList(SHARED_USER_SHARING_MODE_INCLUDED_KEY, SHARED_USER_ROLE_INCLUDED_KEY));
 
@@ -222,26 +228,18 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
         List<SelectiveUserShareOrgDetailsV2DO> validOrganizations =
                 filterValidOrganizations(organizations, sharingInitiatorContext.getSharingInitiatedOrgId());
 
+        // The roles are resolved before the job is recorded, so that the job can be resumed without the request.
+        List<UserSharingJobTarget> targets = new ArrayList<>();
+        for (SelectiveUserShareOrgDetailsV2DO organization : validOrganizations) {
+            targets.add(new UserSharingJobTarget(organization.getOrganizationId(), organization.getPolicy(),
+                    getRoleIds(organization.getRoleAssignments().getRoles(),
+                            sharingInitiatorContext.getSharingInitiatedOrgId()),
+                    organization.getRoleAssignments().getMode()));
+        }
+
         // Run the selective user sharing logic asynchronously.
-        CompletableFuture.runAsync(() -> {
-                    logAsyncProcessing(ACTION_SELECTIVE_USER_SHARE,
-                            sharingInitiatorContext.getSharingInitiatedUserId(),
-                            sharingInitiatorContext.getSharingInitiatedOrgId());
-                    try {
-                        initiateThreadLocalContext(sharingInitiatorContext.getSharingInitiatedTenantDomain(),
-                                sharingInitiatorContext.getSharingInitiatedTenantId(),
-                                sharingInitiatorContext.getSharingInitiatedUsername(), threadLocalProperties);
-                        processSelectiveUserShare(userCriteria, validOrganizations,
-                                sharingInitiatorContext.getSharingInitiatedOrgId(),
-                                sharingInitiatorContext.getSharingInitiatedUserId());
-                    } finally {
-                        PrivilegedCarbonContext.endTenantFlow();
-                    }
-                }, EXECUTOR)
-                .exceptionally(ex -> {
-                    LOG.error("Error occurred during async user selective share processing.", ex);
-                    return null;
-                });
+        runUserSharingJob(createUserSharingJob(UserSharingJobType.SELECTIVE_USER_SHARE, userCriteria, targets,
+                sharingInitiatorContext), threadLocalProperties);
     }
 
     @Override
@@ -262,27 +260,12 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
         List<String> roleIds = getRoleIds(generalUserShareV2DO.getRoleAssignments().getRoles(),
                 sharingInitiatorContext.getSharingInitiatedOrgId());
         RoleAssignmentMode roleAssignmentMode = generalUserShareV2DO.getRoleAssignments().getMode();
+        UserSharingJobTarget target = new UserSharingJobTarget(sharingInitiatorContext.getSharingInitiatedOrgId(),
+                policy, roleIds, roleAssignmentMode);
 
         // Run the general user sharing logic asynchronously.
-        CompletableFuture.runAsync(() -> {
-                    logAsyncProcessing(ACTION_GENERAL_USER_SHARE,
-                            sharingInitiatorContext.getSharingInitiatedUserId(),
-                            sharingInitiatorContext.getSharingInitiatedOrgId());
-                    try {
-                        initiateThreadLocalContext(sharingInitiatorContext.getSharingInitiatedTenantDomain(),
-                                sharingInitiatorContext.getSharingInitiatedTenantId(),
-                                sharingInitiatorContext.getSharingInitiatedUsername(), threadLocalProperties);
-                        processGeneralUserShare(userCriteria, policy, roleIds, roleAssignmentMode,
-                                sharingInitiatorContext.getSharingInitiatedOrgId(),
-                                sharingInitiatorContext.getSharingInitiatedUserId());
-                    } finally {
-                        PrivilegedCarbonContext.endTenantFlow();
-                    }
-                }, EXECUTOR)
-                .exceptionally(ex -> {
-                    LOG.error("Error occurred during async general user share processing.", ex);
-                    return null;
-                });
+        runUserSharingJob(createUserSharingJob(UserSharingJobType.GENERAL_USER_SHARE, userCriteria,
+                Collections.singletonList(target), sharingInitiatorContext), threadLocalProperties);
     }
 
     @Override
@@ -301,26 +284,13 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
 
         Map<String, UserCriteriaType> userCriteria = selectiveUserUnshareDO.getUserCriteria();
         List<String> organizations = selectiveUserUnshareDO.getOrganizations();
+        List<UserSharingJobTarget> targets = organizations.stream()
+                .map(organizationId -> new UserSharingJobTarget(organizationId, null, null, null))
+                .collect(Collectors.toList());
 
         // Run the selective user unsharing logic asynchronously.
-        CompletableFuture.runAsync(() -> {
-                    logAsyncProcessing(ACTION_SELECTIVE_USER_UNSHARE,
-                            sharingInitiatorContext.getSharingInitiatedUserId(),
-                            sharingInitiatorContext.getSharingInitiatedOrgId());
-                    try {
-                        initiateThreadLocalContext(sharingInitiatorContext.getSharingInitiatedTenantDomain(),
-                                sharingInitiatorContext.getSharingInitiatedTenantId(),
-                                sharingInitiatorContext.getSharingInitiatedUsername(), threadLocalProperties);
-                        processSelectiveUserUnshare(userCriteria, organizations,
-                                sharingInitiatorContext.getSharingInitiatedOrgId());
-                    } finally {
-                        PrivilegedCarbonContext.endTenantFlow();
-                    }
-                }, EXECUTOR)
-                .exceptionally(ex -> {
-                    LOG.error("Error occurred during async user selective unshare processing.", ex);
-                    return null;
-                });
+        runUserSharingJob(createUserSharingJob(UserSharingJobType.SELECTIVE_USER_UNSHARE, userCriteria, targets,
+                sharingInitiatorContext), threadLocalProperties);
     }
 
     @Override
@@ -339,23 +309,8 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
         Map<String, UserCriteriaType> userCriteria = generalUserUnshareDO.getUserCriteria();
 
         // Run the general user unsharing logic asynchronously.
-        CompletableFuture.runAsync(() -> {
-                    logAsyncProcessing(ACTION_GENERAL_USER_UNSHARE,
-                            sharingInitiatorContext.getSharingInitiatedUserId(),
-                            sharingInitiatorContext.getSharingInitiatedOrgId());
-                    try {
-                        initiateThreadLocalContext(sharingInitiatorContext.getSharingInitiatedTenantDomain(),
-                                sharingInitiatorContext.getSharingInitiatedTenantId(),
-                                sharingInitiatorContext.getSharingInitiatedUsername(), threadLocalProperties);
-                        processGeneralUserUnshare(userCriteria, sharingInitiatorContext.getSharingInitiatedOrgId());
-                    } finally {
-                        PrivilegedCarbonContext.endTenantFlow();
-                    }
-                }, EXECUTOR)
-                .exceptionally(ex -> {
-                    LOG.error("Error occurred during async general user unshare processing.", ex);
-                    return null;
-                });
+        runUserSharingJob(createUserSharingJob(UserSharingJobType.GENERAL_USER_UNSHARE, userCriteria,
+                Collections.emptyList(), sharingInitiatorContext), threadLocalProperties);
     }
 
     @Override
@@ -374,7 +329,7 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
         Map<String, UserCriteriaType> userCriteria = userSharePatchDO.getUserCriteria();
 
         // Run the shared user attribute update logic asynchronously.
-        CompletableFuture.runAsync(() -> {
+        runAsyncUserSharingOperation(() -> {
                     logAsyncProcessing(ACTION_USER_SHARE_ATTRIBUTE_UPDATE,
                             sharingInitiatorContext.getSharingInitiatedUserId(),
                             sharingInitiatorContext.getSharingInitiatedOrgId());
@@ -388,11 +343,8 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
                     } finally {
                         PrivilegedCarbonContext.endTenantFlow();
                     }
-                }, EXECUTOR)
-                .exceptionally(ex -> {
-                    LOG.error("Error occurred during async user share role assignment update processing.", ex);
-                    return null;
-                });
+                }, sharingInitiatorContext.getSharingInitiatedTenantDomain(),
+                "Error occurred during async user share role assignment update processing.");
     }
 
     @Override
@@ -418,9 +370,6 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
             List<ExpressionNode> expressionNodes = getExpressionNodes(filter, afterCursor, beforeCursor);
 
             String parentOrgId = resolveParentOrgId(expressionNodes, getUserSharedOrgsDO);
-            List<String> childOrgIds = StringUtils.isNotBlank(parentOrgId)
-                    ? getOrganizationManager().getChildOrganizationsIds(parentOrgId, recursive)
-                    : new ArrayList<>();
 
             SharingModeDO generalSharingMode = null;
             if (includedAttributes.contains(SHARED_USER_SHARING_MODE_INCLUDED_KEY)) {
@@ -429,9 +378,11 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
             boolean includeGeneralSharingMode = (generalSharingMode != null);
 
             int fetchLimit = (limit == 0) ? limit : limit + 1;
-            List<UserAssociation> userAssociations =
-                    getOrganizationUserSharingService().getUserAssociationsOfGivenUser(mainUserId, parentOrgId,
-                            childOrgIds, expressionNodes, sortOrder, fetchLimit);
+            // The descendant organizations are resolved from the organization hierarchy within the query.
+            List<UserAssociation> userAssociations = StringUtils.isNotBlank(parentOrgId)
+                    ? getOrganizationUserSharingService().getUserAssociationsOfGivenUserInOrgHierarchy(mainUserId,
+                            parentOrgId, parentOrgId, recursive, expressionNodes, sortOrder, fetchLimit)
+                    : Collections.emptyList();
 
             if (CollectionUtils.isEmpty(userAssociations)) {
                 return buildEmptyResponseToGet(generalSharingMode);
@@ -472,145 +423,87 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
     // Asynchronous Processing Methods.
 
     /**
-     * Processes selective user sharing based on the provided user criteria and organization details.
-     * This method iterates over the user criteria map and shares users selectively with the specified organizations.
+     * Processes the given selective user sharing job. The pending users of the job are shared selectively with the
+     * target organizations of the job.
      *
-     * @param userCriteria           A map containing user criteria, such as user IDs.
-     * @param organizations          A list of organizations to which users will be shared selectively.
-     * @param sharingInitiatedOrgId  The ID of the organization that initiated the user sharing.
-     * @param sharingInitiatedUserId The ID of the user that initiated the user sharing.
+     * @param userSharingJob The selective user sharing job.
+     * @return The outcome of the job.
      */
-    private void processSelectiveUserShare(Map<String, UserCriteriaType> userCriteria,
-                                           List<SelectiveUserShareOrgDetailsV2DO> organizations,
-                                           String sharingInitiatedOrgId, String sharingInitiatedUserId) {
-
-        for (Map.Entry<String, UserCriteriaType> criterion : userCriteria.entrySet()) {
-            String criterionKey = criterion.getKey();
-            UserCriteriaType criterionValues = criterion.getValue();
+    private UserSharingJobStatus processSelectiveUserShare(UserSharingJob userSharingJob) {
 
-            try {
-                if (USER_IDS.equals(criterionKey)) {
-                    if (criterionValues instanceof UserIdList) {
-                        selectiveUserShareByUserIds((UserIdList) criterionValues, organizations,
-                                sharingInitiatedOrgId, sharingInitiatedUserId);
-                    } else {
-                        LOG.error("Invalid user criteria provided for selective user share: " + criterionKey);
-                    }
-                } else {
-                    LOG.error("Invalid user criteria provided for selective user share: " + criterionKey);
-                }
-            } catch (UserSharingMgtException e) {
-                LOG.error("Error occurred while sharing user from user criteria: " + USER_IDS, e);
-            }
+        try {
+            selectiveUserShareByUserIds(userSharingJob);
+        } catch (UserSharingMgtException e) {
+            LOG.error("Error occurred while sharing user from user criteria: " + USER_IDS, e);
+            return UserSharingJobStatus.FAILED;
         }
         if (LOG.isDebugEnabled()) {
-            LOG.debug("Completed selective user share initiated from " + sharingInitiatedOrgId + ".");
+            LOG.debug("Completed selective user share initiated from " + userSharingJob.getInitiatedOrgId() + ".");
         }
+        return UserSharingJobStatus.SUCCESS;
     }
 
     /**
-     * Processes general user sharing based on the provided user criteria and sharing policy.
-     * This method iterates over the user criteria map and shares users according to the specified policy.
+     * Processes the given general user sharing job. The pending users of the job are shared according to the policy
+     * of the job.
      *
-     * @param userCriteria           A map containing user criteria, such as user IDs.
-     * @param policy                 The sharing policy defining the scope of sharing.
-     * @param roleIds                A list of role IDs to be assigned during sharing.
-     * @param sharingInitiatedOrgId  The ID of the organization that initiated the user sharing.
-     * @param sharingInitiatedUserId The ID of the user that initiated the user sharing.
+     * @param userSharingJob The general user sharing job.
+     * @return The outcome of the job.
      */
-    private void processGeneralUserShare(Map<String, UserCriteriaType> userCriteria, PolicyEnum policy,
-                                         List<String> roleIds, RoleAssignmentMode roleAssignmentMode,
-                                         String sharingInitiatedOrgId, String sharingInitiatedUserId) {
+    private UserSharingJobStatus processGeneralUserShare(UserSharingJob userSharingJob) {
 
-        for (Map.Entry<String, UserCriteriaType> criterion : userCriteria.entrySet()) {
-            String criterionKey = criterion.getKey();
-            UserCriteriaType criterionValues = criterion.getValue();
-
-            try {
-                if (USER_IDS.equals(criterionKey)) {
-                    if (criterionValues instanceof UserIdList) {
-                        generalUserShareByUserIds((UserIdList) criterionValues, policy, roleIds, roleAssignmentMode,
-                                sharingInitiatedOrgId, sharingInitiatedUserId);
-                    } else {
-                        LOG.error("Invalid user criteria provided for general user share: " + criterionKey);
-                    }
-                } else {
-                    LOG.error("Invalid user criteria provided for general user share: " + criterionKey);
-                }
-            } catch (UserSharingMgtException e) {
-                LOG.error("Error occurred while sharing user from user criteria: " + USER_IDS, e);
-            }
+        try {
+            generalUserShareByUserIds(userSharingJob);
+        } catch (UserSharingMgtException e) {
+            LOG.error("Error occurred while sharing user from user criteria: " + USER_IDS, e);
+            return UserSharingJobStatus.FAILED;
         }
         if (LOG.isDebugEnabled()) {
-            LOG.debug("Completed general user share initiated from " + sharingInitiatedOrgId + ".");
+            LOG.debug("Completed general user share initiated from " + userSharingJob.getInitiatedOrgId() + ".");
         }
+        return UserSharingJobStatus.SUCCESS;
     }
 
     /**
-     * Processes selective user unsharing based on the provided user criteria and organization details.
-     * This method iterates over the user criteria map and unshare users selectively from the specified organizations.
+     * Processes the given selective user unsharing job. The pending users of the job are unshared from the target
+     * organizations of the job.
      *
-     * @param userCriteria          A map containing user criteria, such as user IDs.
-     * @param organizations         A list of organizations from which users will be unshared selectively.
-     * @param sharingInitiatedOrgId The ID of the organization that initiated the user unsharing.
+     * @param userSharingJob The selective user unsharing job.
+     * @return The outcome of the job.
      */
-    private void processSelectiveUserUnshare(Map<String, UserCriteriaType> userCriteria, List<String> organizations,
-                                             String sharingInitiatedOrgId) {
+    private UserSharingJobStatus processSelectiveUserUnshare(UserSharingJob userSharingJob) {
 
-        for (Map.Entry<String, UserCriteriaType> criterion : userCriteria.entrySet()) {
-            String criterionKey = criterion.getKey();
-            UserCriteriaType criterionValues = criterion.getValue();
-
-            try {
-                if (USER_IDS.equals(criterionKey)) {
-                    if (criterionValues instanceof UserIdList) {
-                        selectiveUserUnshareByUserIds((UserIdList) criterionValues, organizations,
-                                sharingInitiatedOrgId);
-                    } else {
-                        LOG.error("Invalid user criteria provided for selective user unshare: " + criterionKey);
-                    }
-                } else {
-                    LOG.error("Invalid user criteria provided for selective user unshare: " + criterionKey);
-                }
-            } catch (UserSharingMgtException e) {
-                LOG.error("Error occurred while unsharing user from user criteria: " + USER_IDS, e);
-            }
+        try {
+            selectiveUserUnshareByUserIds(userSharingJob);
+        } catch (UserSharingMgtException e) {
+            LOG.error("Error occurred while unsharing user from user criteria: " + USER_IDS, e);
+            return UserSharingJobStatus.FAILED;
         }
         if (LOG.isDebugEnabled()) {
-            LOG.debug("Completed selective user unshare initiated from " + sharingInitiatedOrgId + ".");
+            LOG.debug("Completed selective user unshare initiated from " + userSharingJob.getInitiatedOrgId() + ".");
         }
+        return UserSharingJobStatus.SUCCESS;
     }
 
     /**
-     * Processes general user unsharing based on the provided user criteria.
-     * This method iterates over the user criteria map and unshare users from all associated organizations.
+     * Processes the given general user unsharing job. The pending users of the job are unshared from all the
+     * associated organizations.
      *
-     * @param userCriteria          A map containing user criteria, such as user IDs.
-     * @param sharingInitiatedOrgId The ID of the organization that initiated the user unsharing.
+     * @param userSharingJob The general user unsharing job.
+     * @return The outcome of the job.
      */
-    private void processGeneralUserUnshare(Map<String, UserCriteriaType> userCriteria, String sharingInitiatedOrgId) {
+    private UserSharingJobStatus processGeneralUserUnshare(UserSharingJob userSharingJob) {
 
-        for (Map.Entry<String, UserCriteriaType> criterion : userCriteria.entrySet()) {
-            String criterionKey = criterion.getKey();
-            UserCriteriaType criterionValues = criterion.getValue();
-
-            try {
-                if (USER_IDS.equals(criterionKey)) {
-                    if (criterionValues instanceof UserIdList) {
-                        generalUserUnshareByUserIds((UserIdList) criterionValues, sharingInitiatedOrgId);
-                    } else {
-                        LOG.error("Invalid user criteria provided for general user unshare: " + criterionKey);
-                    }
-                } else {
-                    LOG.error("Invalid user criteria provided for general user unshare: " + criterionKey);
-                }
-            } catch (UserSharingMgtException e) {
-                LOG.error("Error occurred while unsharing user from user criteria: " + USER_IDS, e);
-            }
+        try {
+            generalUserUnshareByUserIds(userSharingJob);
+        } catch (UserSharingMgtException e) {
+            LOG.error("Error occurred while unsharing user from user criteria: " + USER_IDS, e);
+            return UserSharingJobStatus.FAILED;
         }
         if (LOG.isDebugEnabled()) {
-            LOG.debug("Completed general user unshare initiated from " + sharingInitiatedOrgId + ".");
+            LOG.debug("Completed general user unshare initiated from " + userSharingJob.getInitiatedOrgId() + ".");
         }
+        return UserSharingJobStatus.SUCCESS;
     }
 
     private void processUpdateSharedUserAttributes(Map<String, UserCriteriaType> userCriteria,
@@ -646,48 +539,48 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
     // User Sharing & Unsharing Helper Methods.
 
     /**
-     * Shares a user with selected organizations based on the provided user list and sharing policies.
-     * If the user is not a resident user in the initiating organization, the sharing is skipped.
-     * Each organization is processed with the appropriate role and policy before sharing.
+     * Shares the pending users of the given job with the target organizations of the job, based on the sharing
+     * policies of the targets. If a user is not a resident user in the initiating organization, the sharing is
+     * skipped. Each organization is processed with the appropriate role and policy before sharing.
      *
-     * @param userIds                The list of user IDs to be selectively shared.
-     * @param organizations          The list of organizations where the user should be shared.
-     * @param sharingInitiatedOrgId  The ID of the organization that initiated the sharing.
-     * @param sharingInitiatedUserId The ID of the user that initiated the user sharing.
+     * @param userSharingJob The selective user sharing job.
      */
-    private void selectiveUserShareByUserIds(UserIdList userIds, List<SelectiveUserShareOrgDetailsV2DO> organizations,
-                                             String sharingInitiatedOrgId, String sharingInitiatedUserId)
-            throws UserSharingMgtException {
+    private void selectiveUserShareByUserIds(UserSharingJob userSharingJob) throws UserSharingMgtException {
 
-        for (String associatedUserId : userIds.getIds()) {
+        String sharingInitiatedOrgId = userSharingJob.getInitiatedOrgId();
+        for (String associatedUserId : userSharingJob.getUserIds()) {
             try {
                 if (isExistingUser(associatedUserId, sharingInitiatedOrgId) &&
                         isResidentUserInOrg(associatedUserId, sharingInitiatedOrgId)) {
 
                     List<BaseUserShare> selectiveUserShareObjectsInRequest = new ArrayList<>();
-                    for (SelectiveUserShareOrgDetailsV2DO organization : organizations) {
+                    for (UserSharingJobTarget target : userSharingJob.getTargets()) {
                         SelectiveUserShare selectiveUserShare = new SelectiveUserShare.Builder()
                                 .withUserId(associatedUserId)
-                                .withOrganizationId(organization.getOrganizationId())
-                                .withPolicy(organization.getPolicy())
-                                .withRoles(
-                                        getRoleIds(organization.getRoleAssignments().getRoles(), sharingInitiatedOrgId))
-                                .withRoleAssignmentMode(organization.getRoleAssignments().getMode())
+                                .withOrganizationId(target.getOrganizationId())
+                                .withPolicy(target.getPolicy())
+                                .withRoles(target.getRoleIds())
+                                .withRoleAssignmentMode(target.getRoleAssignmentMode())
                                 .build();
                         selectiveUserShareObjectsInRequest.add(selectiveUserShare);
                     }
-                    shareUser(associatedUserId, selectiveUserShareObjectsInRequest, sharingInitiatedOrgId,
-                            sharingInitiatedUserId);
+                    shareUser(associatedUserId, selectiveUserShareObjectsInRequest, userSharingJob);
                     String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
                     AUDIT_LOG.info(String.format(AUDIT_MESSAGE, getInitiator(tenantDomain),
                             "Selective User Share", associatedUserId,
                             getAuditData(tenantDomain, sharingInitiatedOrgId), SUCCESS));
+                    getUserSharingJobJournal().recordUnitOutcome(userSharingJob, associatedUserId,
+                            UserSharingJobStatus.SUCCESS);
                 } else {
                     if (LOG.isDebugEnabled()) {
                         LOG.debug(String.format(LOG_WARN_NON_RESIDENT_USER, associatedUserId, sharingInitiatedOrgId));
                     }
+                    getUserSharingJobJournal().recordUnitOutcome(userSharingJob, associatedUserId,
+                            UserSharingJobStatus.SKIPPED);
                 }
             } catch (OrganizationManagementException | ResourceSharingPolicyMgtException e) {
+                getUserSharingJobJournal().recordUnitOutcome(userSharingJob, associatedUserId,
+                        UserSharingJobStatus.FAILED);
                 String errorMessage =
                         String.format(ERROR_SELECTIVE_SHARE.getMessage(), associatedUserId, e.getMessage());
                 throw new UserSharingMgtServerException(ERROR_SELECTIVE_SHARE, errorMessage);
@@ -696,39 +589,41 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
     }
 
     /**
-     * Shares a user with all applicable organizations based on the provided policy.
-     * If the user is not a resident user in the initiating organization, the sharing is skipped.
+     * Shares the pending users of the given job with all applicable organizations based on the policy of the job.
+     * If a user is not a resident user in the initiating organization, the sharing is skipped.
      *
-     * @param userIds                The list of user IDs to be shared.
-     * @param policy                 The policy defining the scope of sharing.
-     * @param roleIds                The list of role IDs to be assigned during sharing.
-     * @param sharingInitiatedOrgId  The ID of the organization that initiated the sharing.
-     * @param sharingInitiatedUserId The ID of the user that initiated the user sharing.
+     * @param userSharingJob The general user sharing job.
      */
-    private void generalUserShareByUserIds(UserIdList userIds, PolicyEnum policy, List<String> roleIds,
-                                           RoleAssignmentMode roleAssignmentMode, String sharingInitiatedOrgId,
-                                           String sharingInitiatedUserId)
-            throws UserSharingMgtException {
+    private void generalUserShareByUserIds(UserSharingJob userSharingJob) throws UserSharingMgtException {
 
-        for (String associatedUserId : userIds.getIds()) {
+        String sharingInitiatedOrgId = userSharingJob.getInitiatedOrgId();
+        // A general user sharing job has a single target, which is the sharing initiated organization.
+        UserSharingJobTarget target = userSharingJob.getTargets().get(0);
+        for (String associatedUserId : userSharingJob.getUserIds()) {
             try {
                 if (isExistingUser(associatedUserId, sharingInitiatedOrgId) &&
                         isResidentUserInOrg(associatedUserId, sharingInitiatedOrgId)) {
                     GeneralUserShare generalUserShare = new GeneralUserShare.Builder()
                             .withUserId(associatedUserId)
-                            .withPolicy(policy)
-                            .withRoles(roleIds)
-                            .withRoleAssignmentMode(roleAssignmentMode)
+                            .withPolicy(target.getPolicy())
+                            .withRoles(target.getRoleIds())
+                            .withRoleAssignmentMode(target.getRoleAssignmentMode())
                             .build();
                     List<BaseUserShare> generalUserShareObjectsInRequest = Collections.singletonList(generalUserShare);
-                    shareUser(associatedUserId, generalUserShareObjectsInRequest, sharingInitiatedOrgId,
-                            sharingInitiatedUserId);
+                    shareUser(associatedUserId, generalUserShareObjectsInRequest, userSharingJob);
                     String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
                     AUDIT_LOG.info(String.format(AUDIT_MESSAGE, getInitiator(tenantDomain),
                             "General User Share", associatedUserId,
                             getAuditData(tenantDomain, sharingInitiatedOrgId), SUCCESS));
+                    getUserSharingJobJournal().recordUnitOutcome(userSharingJob, associatedUserId,
+                            UserSharingJobStatus.SUCCESS);
+                } else {
+                    getUserSharingJobJournal().recordUnitOutcome(userSharingJob, associatedUserId,
+                            UserSharingJobStatus.SKIPPED);
                 }
             } catch (OrganizationManagementException | ResourceSharingPolicyMgtException e) {
+                getUserSharingJobJournal().recordUnitOutcome(userSharingJob, associatedUserId,
+                        UserSharingJobStatus.FAILED);
                 String errorMessage = String.format(ERROR_GENERAL_SHARE.getMessage(), associatedUserId, e.getMessage());
                 throw new UserSharingMgtServerException(ERROR_GENERAL_SHARE, errorMessage);
             }
@@ -736,20 +631,18 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
     }
 
     /**
-     * Unshare a user from selected organizations based on the provided user list.
-     * If a resource-sharing policy exists for the user, it is deleted.
+     * Unshare the pending users of the given job from the target organizations of the job.
+     * If a resource-sharing policy exists for a user, it is deleted.
      *
-     * @param userIds                 The list of user IDs to be unshared.
-     * @param organizations           The list of organizations from which the user should be unshared.
-     * @param unsharingInitiatedOrgId The ID of the organization that initiated the unsharing.
+     * @param userSharingJob The selective user unsharing job.
      */
-    private void selectiveUserUnshareByUserIds(UserIdList userIds, List<String> organizations,
-                                               String unsharingInitiatedOrgId)
-            throws UserSharingMgtServerException {
+    private void selectiveUserUnshareByUserIds(UserSharingJob userSharingJob) throws UserSharingMgtServerException {
 
-        for (String associatedUserId : userIds.getIds()) {
+        String unsharingInitiatedOrgId = userSharingJob.getInitiatedOrgId();
+        for (String associatedUserId : userSharingJob.getUserIds()) {
             try {
-                for (String organizationId : organizations) {
+                for (UserSharingJobTarget target : userSharingJob.getTargets()) {
+                    String organizationId = target.getOrganizationId();
                     // Unshare user from the organization and its child organizations.
                     List<String> orgTreeInclusive = new ArrayList<>();
                     orgTreeInclusive.add(organizationId);
@@ -767,23 +660,26 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
                 AUDIT_LOG.info(String.format(AUDIT_MESSAGE, getInitiator(tenantDomain),
                         "Selective User Unshare", associatedUserId,
                         getAuditData(tenantDomain, unsharingInitiatedOrgId), SUCCESS));
+                getUserSharingJobJournal().recordUnitOutcome(userSharingJob, associatedUserId,
+                        UserSharingJobStatus.SUCCESS);
             } catch (OrganizationManagementException | ResourceSharingPolicyMgtException e) {
+                getUserSharingJobJournal().recordUnitOutcome(userSharingJob, associatedUserId,
+                        UserSharingJobStatus.FAILED);
                 throw new UserSharingMgtServerException(ERROR_CODE_USER_UNSHARE);
             }
         }
     }
 
     /**
-     * Unshare a user from all applicable organizations based on the provided user list.
-     * If a resource-sharing policy exists for the user, it is deleted.
+     * Unshare the pending users of the given job from all applicable organizations.
+     * If a resource-sharing policy exists for a user, it is deleted.
      *
-     * @param userIds                 The list of user IDs to be unshared.
-     * @param unsharingInitiatedOrgId The ID of the organization that initiated the unsharing.
+     * @param userSharingJob The general user unsharing job.
      */
-    private void generalUserUnshareByUserIds(UserIdList userIds, String unsharingInitiatedOrgId)
-            throws UserSharingMgtServerException {
+    private void generalUserUnshareByUserIds(UserSharingJob userSharingJob) throws UserSharingMgtServerException {
 
-        for (String associatedUserId : userIds.getIds()) {
+        String unsharingInitiatedOrgId = userSharingJob.getInitiatedOrgId();
+        for (String associatedUserId : userSharingJob.getUserIds()) {
             try {
                 getOrganizationUserSharingService().unshareOrganizationUsers(associatedUserId, unsharingInitiatedOrgId);
 
@@ -793,7 +689,11 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
                 AUDIT_LOG.info(String.format(AUDIT_MESSAGE, getInitiator(tenantDomain),
                         "General User Unshare", associatedUserId,
                         getAuditData(tenantDomain, unsharingInitiatedOrgId), SUCCESS));
+                getUserSharingJobJournal().recordUnitOutcome(userSharingJob, associatedUserId,
+                        UserSharingJobStatus.SUCCESS);
             } catch (OrganizationManagementException | ResourceSharingPolicyMgtException e) {
+                getUserSharingJobJournal().recordUnitOutcome(userSharingJob, associatedUserId,
+                        UserSharingJobStatus.FAILED);
                 throw new UserSharingMgtServerException(ERROR_CODE_USER_UNSHARE);
             }
         }
@@ -1293,57 +1193,129 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
     /**
      * Shares a user with the specified organizations.
      *
-     * @param associatedUserId       The ID of the user to be shared.
-     * @param baseUserShareObjects   The list of user share objects containing sharing details.
-     * @param sharingInitiatedOrgId  The ID of the organization initiating the sharing.
-     * @param sharingInitiatedUserId The ID of the user that initiated the user sharing.
+     * @param associatedUserId     The ID of the user to be shared.
+     * @param baseUserShareObjects The list of user share objects containing sharing details.
+     * @param userSharingJob       The user sharing job sharing the user.
      */
     private void shareUser(String associatedUserId, List<BaseUserShare> baseUserShareObjects,
-                           String sharingInitiatedOrgId, String sharingInitiatedUserId)
+                           UserSharingJob userSharingJob)
             throws OrganizationManagementException, ResourceSharingPolicyMgtException {
 
+        String sharingInitiatedOrgId = userSharingJob.getInitiatedOrgId();
         if (LOG.isDebugEnabled()) {
             LOG.debug(String.format(USER_SHARING_LOG_TEMPLATE, associatedUserId, sharingInitiatedOrgId,
-                    sharingInitiatedUserId));
+                    userSharingJob.getInitiatedUserId()));
         }
         if (!baseUserShareObjects.isEmpty()) {
             Map<BaseUserShare, List<String>> userShareEntryMap =
                     getUserShareEntryMap(baseUserShareObjects, sharingInitiatedOrgId);
 
-            applyUserSharesToOrganizations(associatedUserId, sharingInitiatedOrgId, userShareEntryMap);
+            applyUserSharesToOrganizations(associatedUserId, userShareEntryMap, userSharingJob);
         }
     }
 
     /**
      * Applies user shares to the specified organizations based on the provided user share objects.
      *
-     * @param associatedUserId      The ID of the user to be shared.
-     * @param sharingInitiatedOrgId The ID of the organization initiating the sharing.
-     * @param userShareEntryMap     A map containing user share objects and their corresponding organizations.
+     * @param associatedUserId  The ID of the user to be shared.
+     * @param userShareEntryMap A map containing user share objects and their corresponding organizations.
+     * @param userSharingJob    The user sharing job sharing the user.
      */
-    private void applyUserSharesToOrganizations(String associatedUserId, String sharingInitiatedOrgId,
-                                                Map<BaseUserShare, List<String>> userShareEntryMap)
+    private void applyUserSharesToOrganizations(String associatedUserId,
+                                                Map<BaseUserShare, List<String>> userShareEntryMap,
+                                                UserSharingJob userSharingJob)
             throws ResourceSharingPolicyMgtException, OrganizationManagementException {
 
+        String sharingInitiatedOrgId = userSharingJob.getInitiatedOrgId();
+
         saveUserSharingPolicyIfApplicable(associatedUserId, sharingInitiatedOrgId, userShareEntryMap, true);
 
+        // The existing associations of the user in all the target organizations are fetched up front, so that the
+        // target organizations of each user share object can be split into new and existing ones without a lookup
+        // per organization.
+        Set<String> allUserSharingOrgs = new LinkedHashSet<>();
+        userShareEntryMap.values().forEach(allUserSharingOrgs::addAll);
+        Map<String, UserAssociation> existingUserAssociations =
+                getExistingUserAssociations(associatedUserId, sharingInitiatedOrgId, allUserSharingOrgs);
+        String associatedUsername = null;
+
         for (Map.Entry<BaseUserShare, List<String>> entry : userShareEntryMap.entrySet()) {
 
             BaseUserShare baseUserShare = entry.getKey();
-            List<String> userSharingOrgs = entry.getValue();
-
-            for (String userSharingOrg : userSharingOrgs) {
-                if (isUserAlreadySharedInOrg(baseUserShare.getUserId(), sharingInitiatedOrgId, userSharingOrg)) {
+            List<String> newUserSharingOrgs = new ArrayList<>();
+            for (String userSharingOrg : entry.getValue()) {
+                UserAssociation userAssociation = existingUserAssociations.get(userSharingOrg);
+                if (userAssociation != null) {
                     // Assign roles if present for existing user share.
-                    handleExistingSharedUser(baseUserShare, sharingInitiatedOrgId, userSharingOrg);
+                    handleExistingSharedUser(baseUserShare, sharingInitiatedOrgId, userAssociation);
                 } else {
-                    // New user share.
-                    createNewUserShare(baseUserShare, sharingInitiatedOrgId, userSharingOrg);
+                    newUserSharingOrgs.add(userSharingOrg);
+                }
+            }
+            if (newUserSharingOrgs.isEmpty()) {
+                continue;
+            }
+            if (associatedUsername == null) {
+                associatedUsername = resolveUsernameForConflictCheck(associatedUserId, sharingInitiatedOrgId);
+            }
+            newUserSharingOrgs = filterOrgsWithoutConflictingUsername(associatedUsername, newUserSharingOrgs);
+
+            // New user shares are written in batches so that the number of association writes grows with the
+            // number of batches rather than with the number of organizations.
+            for (int fromIndex = 0; fromIndex < newUserSharingOrgs.size(); fromIndex += USER_SHARE_BATCH_SIZE) {
+                List<String> batchOrgs = newUserSharingOrgs.subList(fromIndex,
+                        Math.min(fromIndex + USER_SHARE_BATCH_SIZE, newUserSharingOrgs.size()));
+                for (UserAssociation userAssociation :
+                        shareAndAssignRolesIfPresent(batchOrgs, baseUserShare, sharingInitiatedOrgId)) {
+                    // Later user share objects targeting the same organization update the roles of this share.
+                    existingUserAssociations.put(userAssociation.getOrganizationId(), userAssociation);
                 }
             }
         }
     }
 
+    /**
+     * Filters out the organizations in which an unshared user (a resident user) with the given username exists.
+     *
+     * @param associatedUsername The username of the user to be shared. Organizations are not filtered if it is empty.
+     * @param userSharingOrgs    The IDs of the organizations with which the user is not shared yet.
+     * @return The IDs of the organizations with which the user can be shared.
+     */
+    private List<String> filterOrgsWithoutConflictingUsername(String associatedUsername,
+                                                              List<String> userSharingOrgs) {
+
+        if (StringUtils.isEmpty(associatedUsername)) {
+            return userSharingOrgs;
+        }
+        List<String> filteredOrgs = new ArrayList<>();
+        for (String userSharingOrg : userSharingOrgs) {
+            if (isExistingUsernameInSubOrg(associatedUsername, userSharingOrg)) {
+                LOG.error(String.format("User with the userName '%s' already exists in the target organization: %s.",
+                        associatedUsername, userSharingOrg));
+            } else {
+                filteredOrgs.add(userSharingOrg);
+            }
+        }
+        return filteredOrgs;
+    }
+
+    /**
+     * Resolves the username of the user to be shared, for checking username conflicts in the target organizations.
+     *
+     * @param associatedUserId The ID of the user to be shared.
+     * @param associatedOrgId  The ID of the organization where the user is managed.
+     * @return The username of the user, or an empty string if it cannot be resolved.
+     */
+    private String resolveUsernameForConflictCheck(String associatedUserId, String associatedOrgId) {
+
+        try {
+            return StringUtils.defaultString(getUsernameFromUserId(associatedUserId, associatedOrgId));
+        } catch (OrganizationManagementException e) {
+            LOG.error("Error occurred while checking if the user is an existing user.", e);
+            return StringUtils.EMPTY;
+        }
+    }
+
     /**
      * Saves the user sharing policy for future shares if applicable based on the provided user share objects.
      *
@@ -1378,16 +1350,12 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
      *
      * @param baseUserShare         The base user share object containing sharing details.
      * @param sharingInitiatedOrgId The ID of the organization initiating the sharing.
-     * @param userSharingOrg        The ID of the organization to share the user with.
+     * @param userAssociation       The existing user association of the user in the organization.
      */
     private void handleExistingSharedUser(BaseUserShare baseUserShare, String sharingInitiatedOrgId,
-                                          String userSharingOrg) {
+                                          UserAssociation userAssociation) {
 
         try {
-            UserAssociation userAssociation =
-                    getOrganizationUserSharingService().getUserAssociationOfAssociatedUserByOrgId(
-                            baseUserShare.getUserId(),
-                            userSharingOrg);
             List<String> roleIds = baseUserShare.getRoles();
             RoleAssignmentMode roleAssignmentMode = baseUserShare.getRoleAssignmentMode();
             List<String> currentSharedRoleIds = getCurrentSharedRoleIdsForSharedUser(userAssociation);
@@ -1404,37 +1372,31 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
     }
 
     /**
-     * Creates a new user share in the specified organization.
+     * Retrieves the existing user associations of the user, which are managed by the given organization, in the
+     * given organizations. The organizations are looked up in batches.
      *
-     * @param baseUserShare         The base user share object containing sharing details.
-     * @param sharingInitiatedOrgId The ID of the organization initiating the sharing.
-     * @param userSharingOrg        The ID of the organization to share the user with.
+     * @param associatedUserId The ID of the user.
+     * @param associatedOrgId  The ID of the organization where the user is managed.
+     * @param orgIds           The IDs of the organizations to check.
+     * @return A map of organization IDs to the existing user associations in them.
      */
-    private void createNewUserShare(BaseUserShare baseUserShare, String sharingInitiatedOrgId, String userSharingOrg)
+    private Map<String, UserAssociation> getExistingUserAssociations(String associatedUserId, String associatedOrgId,
+                                                                     Collection<String> orgIds)
             throws OrganizationManagementException {
 
-        if (!isExistingUsernameInSubOrg(baseUserShare.getUserId(), sharingInitiatedOrgId, userSharingOrg)) {
-            shareAndAssignRolesIfPresent(userSharingOrg, baseUserShare, sharingInitiatedOrgId);
-        } else {
-            // An unshared user (a residence user) with the same username exists in the target organization.
-            LOG.error(String.format(
-                    "User with the userName '%s' already exists in the target organization: %s.",
-                    getUsernameFromUserId(baseUserShare.getUserId(), sharingInitiatedOrgId), userSharingOrg));
+        Map<String, UserAssociation> existingUserAssociations = new HashMap<>();
+        List<String> orgIdList = new ArrayList<>(orgIds);
+        for (int fromIndex = 0; fromIndex < orgIdList.size(); fromIndex += USER_SHARE_BATCH_SIZE) {
+            List<String> batchOrgIds =
+                    orgIdList.subList(fromIndex, Math.min(fromIndex + USER_SHARE_BATCH_SIZE, orgIdList.size()));
+            for (UserAssociation userAssociation : getOrganizationUserSharingService()
+                    .getUserAssociationsOfGivenUserOnGivenOrgs(associatedUserId, batchOrgIds)) {
+                if (associatedOrgId.equals(userAssociation.getUserResidentOrganizationId())) {
+                    existingUserAssociations.put(userAssociation.getOrganizationId(), userAssociation);
+                }
+            }
         }
-    }
-
-    /**
-     * This method checks if at least one of the organizations has an association with this user.
-     *
-     * @param associatedUserId The ID of the user to check.
-     * @param associatedOrgId  The ID of the organization.
-     * @return {@code true} if the user has at least one associated organization, {@code false} otherwise.
-     */
-    private boolean isUserAlreadySharedInOrg(String associatedUserId, String associatedOrgId, String subOrgId)
-            throws OrganizationManagementException {
-
-        return getOrganizationUserSharingService().hasUserAssociationsInOrganizations(associatedUserId, associatedOrgId,
-                Collections.singletonList(subOrgId));
+        return existingUserAssociations;
     }
 
     private void updateSharedUserAttributesForUser(String associatedUserId, String sharingInitiatedOrgId,
@@ -1575,24 +1537,6 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
         return new ArrayList<>(userSharingOrgList);
     }
 
-    /**
-     * Shares a user with a specified organization and returns the user association.
-     * This is where the user association will be created.
-     *
-     * @param orgId            The ID of the organization to share the user with.
-     * @param associatedUserId The ID of the user to be shared.
-     * @param associatedOrgId  The ID of the organization that initiated the sharing.
-     * @return A {@code UserAssociation} representing the created association.
-     */
-    private UserAssociation shareUserWithOrganization(String orgId, String associatedUserId, String associatedOrgId)
-            throws OrganizationManagementException {
-
-        OrganizationUserSharingService organizationUserSharingService = getOrganizationUserSharingService();
-        organizationUserSharingService.shareOrganizationUser(orgId, associatedUserId, associatedOrgId,
-                SharedType.SHARED);
-        return organizationUserSharingService.getUserAssociationOfAssociatedUserByOrgId(associatedUserId, orgId);
-    }
-
     // Business Logic Helper Methods.
 
     /**
@@ -1638,27 +1582,15 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
     }
 
     /**
-     * Checks if the username of the specified user in the parent organization exists in the sub-organization.
+     * Checks if the given username exists in the sub-organization.
      *
-     * @param parentUserId The ID of the user in the parent organization.
-     * @param parentOrgId  The ID of the parent organization.
-     * @param subOrgId     The ID of the sub-organization.
+     * @param username The username of the user in the parent organization.
+     * @param subOrgId The ID of the sub-organization.
      * @return {@code true} if the username exists in the sub-organization, {@code false} otherwise.
      */
-    private boolean isExistingUsernameInSubOrg(String parentUserId, String parentOrgId, String subOrgId) {
+    private boolean isExistingUsernameInSubOrg(String username, String subOrgId) {
 
         try {
-            // Retrieve the username from the parent organization
-            String parentTenantDomain = getOrganizationManager().resolveTenantDomain(parentOrgId);
-            int parentTenantId = IdentityTenantUtil.getTenantId(parentTenantDomain);
-            AbstractUserStoreManager parentUserStoreManager = getAbstractUserStoreManager(parentTenantId);
-
-            String username = parentUserStoreManager.getUserNameFromUserID(parentUserId);
-            if (username == null || username.isEmpty()) {
-                return false;
-            }
-
-            // Check if the username exists in the sub-organization
             String subOrgTenantDomain = getOrganizationManager().resolveTenantDomain(subOrgId);
             int subOrgTenantId = IdentityTenantUtil.getTenantId(subOrgTenantDomain);
             AbstractUserStoreManager subOrgUserStoreManager = getAbstractUserStoreManager(subOrgTenantId);
@@ -1961,39 +1893,53 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
     }
 
     /**
-     * Shares a user with a specified organization and assigns roles if present.
-     * This is where the user association will be created, and roles will be assigned to the shared user if any
+     * Shares a user with the specified organizations and assigns roles if present.
+     * This is where the user associations will be created, and roles will be assigned to the shared users if any
      * roles are present.
-     * It attempts to share the user with the specified organization and assigns roles accordingly.
      *
-     * @param orgId                 The ID of the organization to share the user with.
+     * @param orgIds                The IDs of the organizations to share the user with.
      * @param baseUserShare         The base user share object containing user and role information.
      * @param sharingInitiatedOrgId The ID of the organization that initiated the sharing.
+     * @return The user associations created for the organizations.
      */
-    private void shareAndAssignRolesIfPresent(String orgId, BaseUserShare baseUserShare, String sharingInitiatedOrgId) {
+    private List<UserAssociation> shareAndAssignRolesIfPresent(List<String> orgIds, BaseUserShare baseUserShare,
+                                                               String sharingInitiatedOrgId) {
 
+        if (orgIds.isEmpty()) {
+            return Collections.emptyList();
+        }
         String associatedUserId = baseUserShare.getUserId();
         List<String> roleIds = baseUserShare.getRoles();
         RoleAssignmentMode roleAssignmentMode = baseUserShare.getRoleAssignmentMode();
-        UserAssociation userAssociation;
+        List<UserAssociation> userAssociations;
 
         try {
-            userAssociation = shareUserWithOrganization(orgId, associatedUserId, sharingInitiatedOrgId);
-            String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
-            AUDIT_LOG.info(String.format(AUDIT_MESSAGE, getInitiator(tenantDomain),
-                    "Create User Sharing Association", associatedUserId,
-                    getAuditData(tenantDomain, orgId), SUCCESS));
+            userAssociations = getOrganizationUserSharingService().shareOrganizationUser(orgIds, associatedUserId,
+                    sharingInitiatedOrgId, SharedType.SHARED);
+        } catch (PartialUserSharingException e) {
+            // Continue with the organizations the user got shared with.
+            String errorMessage = String.format(ERROR_CODE_USER_SHARE.getMessage(), associatedUserId,
+                    "User sharing failed for the organizations: " + e.getFailedOrgIds());
+            LOG.error(errorMessage, e);
+            userAssociations = e.getCreatedUserAssociations();
         } catch (OrganizationManagementException e) {
 
             String errorMessage = String.format(ERROR_CODE_USER_SHARE.getMessage(), associatedUserId, e.getMessage());
             LOG.error(errorMessage, e);
-            return;
+            return Collections.emptyList();
         }
 
-        // Assign roles if RoleAssignmentMode is not NONE and if any roles are present.
-        if (roleAssignmentMode != RoleAssignmentMode.NONE) {
-            assignRolesIfPresent(userAssociation, sharingInitiatedOrgId, roleIds);
+        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        for (UserAssociation userAssociation : userAssociations) {
+            AUDIT_LOG.info(String.format(AUDIT_MESSAGE, getInitiator(tenantDomain),
+                    "Create User Sharing Association", associatedUserId,
+                    getAuditData(tenantDomain, userAssociation.getOrganizationId()), SUCCESS));
+            // Assign roles if RoleAssignmentMode is not NONE and if any roles are present.
+            if (roleAssignmentMode != RoleAssignmentMode.NONE) {
+                assignRolesIfPresent(userAssociation, sharingInitiatedOrgId, roleIds);
+            }
         }
+        return userAssociations;
     }
 
     /**
@@ -2047,13 +1993,14 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
             Map<String, String> mainRoleToSharedRoleMappingsBySubOrg =
                     roleManagementService.getMainRoleToSharedRoleMappingsBySubOrg(mainRoles, targetOrgTenantDomain);
 
-            for (String role : mainRoleToSharedRoleMappingsBySubOrg.values()) {
+            List<String> sharedRoleIds = new ArrayList<>(mainRoleToSharedRoleMappingsBySubOrg.values());
+            for (String role : sharedRoleIds) {
                 roleManagementService.updateUserListOfRole(role, Collections.singletonList(userId),
                         Collections.emptyList(), targetOrgTenantDomain);
-                roleManagementService.getRoleListOfUser(userId, targetOrgTenantDomain);
-                addEditRestrictionsForSharedUserRole(role, username, targetOrgTenantDomain, domainName,
-                        EditOperation.DELETE, sharingInitiatedOrgId);
             }
+            // The edit restrictions of all the assigned roles are added together.
+            addEditRestrictionsForSharedUserRoles(sharedRoleIds, username, targetOrgTenantDomain, domainName,
+                    EditOperation.DELETE, sharingInitiatedOrgId);
             if (!roleIds.isEmpty()) {
                 String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
                 AUDIT_LOG.info(String.format(AUDIT_MESSAGE, getInitiator(tenantDomain),
@@ -2066,24 +2013,28 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
     }
 
     /**
-     * Adds or edits restrictions for a shared user role.
+     * Adds or edits restrictions for the given roles of a shared user.
      *
-     * @param roleId                The ID of the role to which restrictions are to be added or edited.
+     * @param roleIds               The IDs of the roles to which restrictions are to be added or edited.
      * @param username              The username of the shared user.
      * @param targetOrgTenantDomain The tenant domain of the target organization.
      * @param domainName            The domain name of the user.
      * @param editOperation         The type of edit operation (ADD, EDIT, DELETE).
      * @param sharingInitiatedOrgId The ID of the organization that initiated the sharing.
      */
-    private void addEditRestrictionsForSharedUserRole(String roleId, String username, String targetOrgTenantDomain,
-                                                      String domainName, EditOperation editOperation,
-                                                      String sharingInitiatedOrgId) {
+    private void addEditRestrictionsForSharedUserRoles(List<String> roleIds, String username,
+                                                       String targetOrgTenantDomain, String domainName,
+                                                       EditOperation editOperation, String sharingInitiatedOrgId) {
 
+        if (roleIds.isEmpty()) {
+            return;
+        }
         try {
-            getOrganizationUserSharingService().addEditRestrictionsForSharedUserRole(roleId, username,
-                    targetOrgTenantDomain, domainName, editOperation, sharingInitiatedOrgId);
+            getOrganizationUserSharingService().addEditRestrictionsForSharedUserRoles(
+                    Collections.singletonMap(username, roleIds), targetOrgTenantDomain, domainName, editOperation,
+                    sharingInitiatedOrgId);
         } catch (UserSharingMgtException e) {
-            LOG.error("Error while adding/editing restrictions to the shared user role: " + roleId, e);
+            LOG.error("Error while adding/editing restrictions to the shared user roles: " + roleIds, e);
         }
     }
 
@@ -2247,6 +2198,139 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
         }
     }
 
+    /**
+     * Run the given user sharing operation asynchronously on the user sharing executor.
+     *
+     * @param operation       The user sharing operation.
+     * @param tenantDomain    The tenant domain which initiated the operation.
+     * @param errorLogMessage The message to log if the operation fails.
+     * @throws UserSharingMgtClientException If the executor cannot accept the operation at the moment.
+     */
+    private void runAsyncUserSharingOperation(Runnable operation, String tenantDomain, String errorLogMessage)
+            throws UserSharingMgtClientException {
+
+        try {
+            CompletableFuture.runAsync(operation, UserSharingExecutor.getInstance().forTenant(tenantDomain))
+                    .exceptionally(ex -> {
+                        LOG.error(errorLogMessage, ex);
+                        return null;
+                    });
+        } catch (RejectedExecutionException e) {
+            throw new UserSharingMgtClientException(ERROR_CODE_USER_SHARING_OPERATION_REJECTED.getCode(),
+                    ERROR_CODE_USER_SHARING_OPERATION_REJECTED.getMessage(),
+                    ERROR_CODE_USER_SHARING_OPERATION_REJECTED.getDescription());
+        }
+    }
+
+    /**
+     * Create a user sharing job for the users of the given user criteria.
+     *
+     * @param jobType                 The type of the job.
+     * @param userCriteria            A map containing user criteria, such as user IDs.
+     * @param targets                 The target organizations of the job.
+     * @param sharingInitiatorContext The context of the sharing initiator.
+     * @return The user sharing job.
+     */
+    private UserSharingJob createUserSharingJob(UserSharingJobType jobType, Map<String, UserCriteriaType> userCriteria,
+                                                List<UserSharingJobTarget> targets,
+                                                SharingInitiatorContext sharingInitiatorContext) {
+
+        // The units of a job are identified by the user. Hence, a user given more than once is processed once.
+        Set<String> userIds = new LinkedHashSet<>();
+        for (Map.Entry<String, UserCriteriaType> criterion : userCriteria.entrySet()) {
+            if (USER_IDS.equals(criterion.getKey()) && criterion.getValue() instanceof UserIdList) {
+                userIds.addAll(((UserIdList) criterion.getValue()).getIds());
+            } else {
+                LOG.error("Invalid user criteria provided for " + jobType.getAction() + ": " + criterion.getKey());
+            }
+        }
+
+        UserSharingJob userSharingJob = new UserSharingJob();
+        userSharingJob.setJobId(UUID.randomUUID().toString());
+        userSharingJob.setJobType(jobType);
+        userSharingJob.setTenantId(sharingInitiatorContext.getSharingInitiatedTenantId());
+        userSharingJob.setTenantDomain(sharingInitiatorContext.getSharingInitiatedTenantDomain());
+        userSharingJob.setInitiatedOrgId(sharingInitiatorContext.getSharingInitiatedOrgId());
+        userSharingJob.setInitiatedUserId(sharingInitiatorContext.getSharingInitiatedUserId());
+        userSharingJob.setInitiatedUsername(sharingInitiatorContext.getSharingInitiatedUsername());
+        userSharingJob.setTargets(targets);
+        userSharingJob.setUserIds(new ArrayList<>(userIds));
+        return userSharingJob;
+    }
+
+    /**
+     * Record the given user sharing job in the user sharing job journal and run it asynchronously.
+     *
+     * @param userSharingJob        The user sharing job.
+     * @param threadLocalProperties The thread-local properties captured from the request.
+     * @throws UserSharingMgtException If the job cannot be recorded, or the executor cannot accept the job.
+     */
+    private void runUserSharingJob(UserSharingJob userSharingJob, Map<String, Object> threadLocalProperties)
+            throws UserSharingMgtException {
+
+        getUserSharingJobJournal().addJob(userSharingJob);
+        try {
+            runAsyncUserSharingOperation(() -> processUserSharingJob(userSharingJob, threadLocalProperties),
+                    userSharingJob.getTenantDomain(),
+                    "Error occurred during async " + userSharingJob.getJobType().getAction() + " processing.");
+        } catch (UserSharingMgtClientException e) {
+            // A rejected job is not resumed, as the rejection is reported to the initiator.
+            getUserSharingJobJournal().completeJob(userSharingJob, UserSharingJobStatus.FAILED);
+            throw e;
+        }
+    }
+
+    /**
+     * Resume an interrupted user sharing job, claimed from the user sharing job journal, by running its pending units
+     * asynchronously.
+     *
+     * @param userSharingJob The user sharing job.
+     * @throws UserSharingMgtClientException If the executor cannot accept the job at the moment.
+     */
+    public void resumeUserSharingJob(UserSharingJob userSharingJob) throws UserSharingMgtClientException {
+
+        userSharingJob.setTenantDomain(IdentityTenantUtil.getTenantDomain(userSharingJob.getTenantId()));
+        runAsyncUserSharingOperation(() -> processUserSharingJob(userSharingJob, Collections.emptyMap()),
+                userSharingJob.getTenantDomain(),
+                "Error occurred during async " + userSharingJob.getJobType().getAction() + " processing.");
+    }
+
+    /**
+     * Process the pending units of the given user sharing job and record the outcome of the job.
+     *
+     * @param userSharingJob        The user sharing job.
+     * @param threadLocalProperties The thread-local properties to be restored for the job.
+     */
+    private void processUserSharingJob(UserSharingJob userSharingJob, Map<String, Object> threadLocalProperties) {
+
+        logAsyncProcessing(userSharingJob.getJobType().getAction(), userSharingJob.getInitiatedUserId(),
+                userSharingJob.getInitiatedOrgId());
+        UserSharingJobStatus jobStatus = UserSharingJobStatus.FAILED;
+        try {
+            initiateThreadLocalContext(userSharingJob.getTenantDomain(), userSharingJob.getTenantId(),
+                    userSharingJob.getInitiatedUsername(), threadLocalProperties);
+            switch (userSharingJob.getJobType()) {
+                case SELECTIVE_USER_SHARE:
+                    jobStatus = processSelectiveUserShare(userSharingJob);
+                    break;
+                case GENERAL_USER_SHARE:
+                    jobStatus = processGeneralUserShare(userSharingJob);
+                    break;
+                case SELECTIVE_USER_UNSHARE:
+                    jobStatus = processSelectiveUserUnshare(userSharingJob);
+                    break;
+                case GENERAL_USER_UNSHARE:
+                    jobStatus = processGeneralUserUnshare(userSharingJob);
+                    break;
+                default:
+                    break;
+            }
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+            getUserSharingJobJournal().completeJob(userSharingJob, jobStatus);
+        }
+    }
+
     private void logAsyncProcessing(String action, String sharingInitiatedUserId, String sharingInitiatedOrgId) {
 
         if (LOG.isDebugEnabled()) {
@@ -2611,6 +2695,11 @@ public class UserSharingPolicyHandlerServiceImplV2 implements UserSharingPolicyH
 
     // Service getters.
 
+    private UserSharingJobJournal getUserSharingJobJournal() {
+
+        return UserSharingJobJournal.getInstance();
+    }
+
     private OrganizationUserSharingService getOrganizationUserSharingService() {
 
         return OrganizationUserSharingDataHolder.getInstance().getOrganizationUserSharingService();
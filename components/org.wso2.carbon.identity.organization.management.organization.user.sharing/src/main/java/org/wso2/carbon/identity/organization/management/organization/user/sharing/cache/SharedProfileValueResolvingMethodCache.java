@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache which holds the shared profile value resolving method of the local claims of tenants, so that shared user
+ * profile reads do not have to look up the claim metadata of each requested claim on every invocation.
+ * <p>
+ * Size, expiry and cluster wide invalidation of this cache are governed by the carbon caching configuration.
+ */
+public class SharedProfileValueResolvingMethodCache extends
+        BaseCache<SharedProfileValueResolvingMethodCacheKey, SharedProfileValueResolvingMethodCacheEntry> {
+
+    private static final String CACHE_NAME = "SharedProfileValueResolvingMethodCache";
+    private static final SharedProfileValueResolvingMethodCache INSTANCE =
+            new SharedProfileValueResolvingMethodCache();
+
+    private SharedProfileValueResolvingMethodCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the shared profile value resolving method cache.
+     *
+     * @return The {@link SharedProfileValueResolvingMethodCache} instance.
+     */
+    public static SharedProfileValueResolvingMethodCache getInstance() {
+
+        return INSTANCE;
+    }
+}
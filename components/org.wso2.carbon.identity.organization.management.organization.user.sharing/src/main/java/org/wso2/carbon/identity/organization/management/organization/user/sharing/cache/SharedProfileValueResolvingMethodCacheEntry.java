@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache entry for the shared profile value resolving method cache. Holds the name of the shared profile value
+ * resolving method against the URI of each local claim of a tenant.
+ */
+public class SharedProfileValueResolvingMethodCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 4860532257193617409L;
+
+    private final HashMap<String, String> resolvingMethodsByClaimURI;
+
+    public SharedProfileValueResolvingMethodCacheEntry(Map<String, String> resolvingMethodsByClaimURI) {
+
+        this.resolvingMethodsByClaimURI = new HashMap<>(resolvingMethodsByClaimURI);
+    }
+
+    /**
+     * Get the name of the shared profile value resolving method of the given claim.
+     *
+     * @param claimURI The URI of the local claim.
+     * @return The name of the resolving method, or null if the claim is not available in the tenant.
+     */
+    public String getResolvingMethod(String claimURI) {
+
+        return resolvingMethodsByClaimURI.get(claimURI);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache which holds the user associations of organizations, looked up either by the shared user or by the associated
+ * user of the association. The absence of an association is cached as well, so that the lookups of users which are
+ * not shared users do not have to reach the database.
+ * <p>
+ * Size, expiry and cluster wide invalidation of this cache are governed by the carbon caching configuration.
+ */
+public class UserAssociationCache extends BaseCache<UserAssociationCacheKey, UserAssociationCacheEntry> {
+
+    private static final String CACHE_NAME = "OrganizationUserAssociationCache";
+    private static final UserAssociationCache INSTANCE = new UserAssociationCache();
+
+    private UserAssociationCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the user association cache.
+     *
+     * @return The {@link UserAssociationCache} instance.
+     */
+    public static UserAssociationCache getInstance() {
+
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SharedType;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
+
+/**
+ * Cache entry for the user association cache. An entry without an association denotes that the user does not have
+ * an association in the organization.
+ */
+public class UserAssociationCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -1843207649512738560L;
+
+    private final boolean associationExists;
+    private final int id;
+    private final String userId;
+    private final String organizationId;
+    private final String associatedUserId;
+    private final String userResidentOrganizationId;
+    private final SharedType sharedType;
+
+    public UserAssociationCacheEntry(UserAssociation userAssociation) {
+
+        this.associationExists = userAssociation != null;
+        this.id = associationExists ? userAssociation.getId() : 0;
+        this.userId = associationExists ? userAssociation.getUserId() : null;
+        this.organizationId = associationExists ? userAssociation.getOrganizationId() : null;
+        this.associatedUserId = associationExists ? userAssociation.getAssociatedUserId() : null;
+        this.userResidentOrganizationId = associationExists ? userAssociation.getUserResidentOrganizationId() : null;
+        this.sharedType = associationExists ? userAssociation.getSharedType() : null;
+    }
+
+    /**
+     * Get a copy of the cached user association.
+     *
+     * @return The user association, or null if the user does not have an association in the organization.
+     */
+    public UserAssociation getUserAssociation() {
+
+        if (!associationExists) {
+            return null;
+        }
+        UserAssociation userAssociation = new UserAssociation();
+        userAssociation.setId(id);
+        userAssociation.setUserId(userId);
+        userAssociation.setOrganizationId(organizationId);
+        userAssociation.setAssociatedUserId(associatedUserId);
+        userAssociation.setUserResidentOrganizationId(userResidentOrganizationId);
+        userAssociation.setSharedType(sharedType);
+        return userAssociation;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.Objects;
+
+/**
+ * Cache key for the user association cache. An association is looked up either by the ID of the shared user in the
+ * organization or by the ID of the associated user, together with the ID of the organization.
+ */
+public class UserAssociationCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 7126450398176823541L;
+
+    private final String userId;
+    private final String organizationId;
+    private final LookupType lookupType;
+
+    private UserAssociationCacheKey(String userId, String organizationId, LookupType lookupType) {
+
+        this.userId = userId;
+        this.organizationId = organizationId;
+        this.lookupType = lookupType;
+    }
+
+    /**
+     * Create a cache key to look up the association of a shared user in an organization.
+     *
+     * @param sharedUserId   The ID of the shared user.
+     * @param organizationId The ID of the organization of the shared user.
+     * @return The cache key.
+     */
+    public static UserAssociationCacheKey forSharedUser(String sharedUserId, String organizationId) {
+
+        return new UserAssociationCacheKey(sharedUserId, organizationId, LookupType.SHARED_USER);
+    }
+
+    /**
+     * Create a cache key to look up the association of an associated user in an organization.
+     *
+     * @param associatedUserId The ID of the associated user.
+     * @param organizationId   The ID of the organization which the user is shared with.
+     * @return The cache key.
+     */
+    public static UserAssociationCacheKey forAssociatedUser(String associatedUserId, String organizationId) {
+
+        return new UserAssociationCacheKey(associatedUserId, organizationId, LookupType.ASSOCIATED_USER);
+    }
+
+    public String getUserId() {
+
+        return userId;
+    }
+
+    public String getOrganizationId() {
+
+        return organizationId;
+    }
+
+    public LookupType getLookupType() {
+
+        return lookupType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof UserAssociationCacheKey)) {
+            return false;
+        }
+        UserAssociationCacheKey that = (UserAssociationCacheKey) o;
+        return lookupType == that.getLookupType() && Objects.equals(userId, that.getUserId()) &&
+                Objects.equals(organizationId, that.getOrganizationId());
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(userId, organizationId, lookupType);
+    }
+
+    /**
+     * The user whose ID is used to look up the association.
+     */
+    public enum LookupType {
+
+        SHARED_USER,
+        ASSOCIATED_USER
+    }
+}
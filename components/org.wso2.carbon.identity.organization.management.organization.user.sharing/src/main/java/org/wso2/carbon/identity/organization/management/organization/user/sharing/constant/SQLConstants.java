@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -123,6 +123,9 @@ public class SQLConstants {
     public static final String GET_ORGANIZATION_USER_ASSOCIATIONS_FOR_SHARED_USER = "SELECT UM_ID, UM_USER_ID, " +
             "UM_ORG_ID, UM_ASSOCIATED_USER_ID, UM_ASSOCIATED_ORG_ID, UM_SHARED_TYPE FROM UM_ORG_USER_ASSOCIATION " +
             "WHERE UM_USER_ID = ? AND UM_ORG_ID = ?";
+    public static final String GET_ORGANIZATION_USER_ASSOCIATIONS_FOR_SHARED_USER_BY_ASSOCIATED_ORG = "SELECT UM_ID, " +
+            "UM_USER_ID, UM_ORG_ID, UM_ASSOCIATED_USER_ID, UM_ASSOCIATED_ORG_ID, UM_SHARED_TYPE " +
+            "FROM UM_ORG_USER_ASSOCIATION WHERE UM_USER_ID = ? AND UM_ASSOCIATED_ORG_ID = ?";
     public static final String GET_RESTRICTED_USERNAMES_BY_ROLE_AND_ORG =
             "SELECT r.UM_USER_NAME FROM UM_HYBRID_USER_ROLE r "
                     + "INNER JOIN UM_DOMAIN d "
@@ -159,6 +162,18 @@ public class SQLConstants {
                     "AND H.UM_UUID = :" + SQLPlaceholders.COLUMN_NAME_UM_UUID + "; " +
                     "AND UR.UM_TENANT_ID = :" + SQLPlaceholders.COLUMN_NAME_UM_TENANT_ID + "; " +
                     "AND D.UM_DOMAIN_NAME = :" + COLUMN_NAME_UM_DOMAIN_NAME + ";";
+    public static final String GET_USER_ROLES_OF_USERS_IN_TENANT =
+            "SELECT UR.UM_ID, UR.UM_USER_NAME, H.UM_UUID FROM UM_HYBRID_USER_ROLE UR " +
+                    "INNER JOIN UM_HYBRID_ROLE H " +
+                    "ON UR.UM_ROLE_ID = H.UM_ID " +
+                    "AND UR.UM_TENANT_ID = H.UM_TENANT_ID " +
+                    "INNER JOIN UM_DOMAIN D " +
+                    "ON UR.UM_DOMAIN_ID = D.UM_DOMAIN_ID " +
+                    "AND UR.UM_TENANT_ID = D.UM_TENANT_ID " +
+                    "WHERE UR.UM_USER_NAME IN (" + SQLPlaceholders.PLACEHOLDER_NAME_USER_NAMES + ") " +
+                    "AND H.UM_UUID IN (" + SQLPlaceholders.PLACEHOLDER_ROLE_IDS + ") " +
+                    "AND UR.UM_TENANT_ID = :" + SQLPlaceholders.COLUMN_NAME_UM_TENANT_ID + "; " +
+                    "AND D.UM_DOMAIN_NAME = :" + COLUMN_NAME_UM_DOMAIN_NAME + ";";
     public static final String INSERT_RESTRICTED_EDIT_PERMISSION =
             "INSERT INTO UM_HYBRID_USER_ROLE_RESTRICTED_EDIT_PERMISSIONS (" +
                     "UM_HYBRID_USER_ROLE_ID, UM_HYBRID_USER_ROLE_TENANT_ID, " +
@@ -186,6 +201,21 @@ public class SQLConstants {
                     "FROM UM_ORG_USER_ASSOCIATION " +
                     "WHERE UM_ASSOCIATED_USER_ID = :" + SQLPlaceholders.COLUMN_NAME_ASSOCIATED_USER_ID + "; " +
                     "AND UM_ORG_ID IN (" + SQLPlaceholders.PLACEHOLDER_ORG_IDS + ");";
+    public static final String GET_USER_ASSOCIATIONS_OF_SHARED_USERS_IN_ORG =
+            "SELECT UM_ID, UM_USER_ID, UM_ORG_ID, UM_ASSOCIATED_USER_ID, UM_ASSOCIATED_ORG_ID, UM_SHARED_TYPE " +
+                    "FROM UM_ORG_USER_ASSOCIATION " +
+                    "WHERE UM_ORG_ID = :" + SQLPlaceholders.COLUMN_NAME_ORG_ID + "; " +
+                    "AND UM_USER_ID IN (" + SQLPlaceholders.PLACEHOLDER_USER_IDS + ")";
+    public static final String GET_USER_ASSOCIATIONS_OF_USERS_IN_GIVEN_ORGS =
+            "SELECT UM_ID, UM_USER_ID, UM_ORG_ID, UM_ASSOCIATED_USER_ID, UM_ASSOCIATED_ORG_ID, UM_SHARED_TYPE " +
+                    "FROM UM_ORG_USER_ASSOCIATION " +
+                    "WHERE UM_ASSOCIATED_USER_ID IN (" + SQLPlaceholders.PLACEHOLDER_ASSOCIATED_USER_IDS + ") " +
+                    "AND UM_ORG_ID IN (" + SQLPlaceholders.PLACEHOLDER_ORG_IDS + ")";
+    public static final String GET_ORGANIZATION_USER_ASSOCIATION_BY_ID =
+            "SELECT UM_ID, UM_USER_ID, UM_ORG_ID, UM_ASSOCIATED_USER_ID, UM_ASSOCIATED_ORG_ID, UM_SHARED_TYPE " +
+                    "FROM UM_ORG_USER_ASSOCIATION " +
+                    "WHERE UM_ID = :" + SQLPlaceholders.COLUMN_NAME_UM_ID + ";";
+
     public static final String UPDATE_USER_ASSOCIATION_SHARED_TYPE =
             "UPDATE UM_ORG_USER_ASSOCIATION " +
                     "SET UM_SHARED_TYPE = :" + SQLPlaceholders.COLUMN_NAME_UM_SHARED_TYPE + "; " +
@@ -228,6 +258,82 @@ public class SQLConstants {
             "UM_ORG_ID IN (" + SQLPlaceholders.PLACEHOLDER_ORG_IDS + ") " +
                     "ORDER BY UM_ID %s OFFSET 0 ROWS FETCH NEXT %d ROWS ONLY";
 
+    public static final String GET_DESCENDANT_ORG_IDS_FROM_ORG_HIERARCHY =
+            "SELECT UM_ID FROM UM_ORG_HIERARCHY WHERE UM_PARENT_ID = :" + SQLPlaceholders.PLACEHOLDER_PARENT_ORG_ID +
+                    "; AND DEPTH > 0";
+
+    public static final String GET_CHILD_ORG_IDS_FROM_ORG_HIERARCHY =
+            "SELECT UM_ID FROM UM_ORG_HIERARCHY WHERE UM_PARENT_ID = :" + SQLPlaceholders.PLACEHOLDER_PARENT_ORG_ID +
+                    "; AND DEPTH = 1";
+
+    public static final String CHECK_USER_SHARING_JOB_TABLES =
+            "SELECT JOB.UM_ID FROM UM_ORG_USER_SHARING_JOB JOB, UM_ORG_USER_SHARING_JOB_TARGET TARGET, " +
+                    "UM_ORG_USER_SHARING_JOB_UNIT UNIT WHERE 1 = 0";
+
+    public static final String CREATE_USER_SHARING_JOB =
+            "INSERT INTO UM_ORG_USER_SHARING_JOB (UM_ID, UM_JOB_TYPE, UM_TENANT_ID, UM_INITIATED_ORG_ID, " +
+                    "UM_INITIATED_USER_ID, UM_INITIATED_USER_NAME, UM_STATUS, UM_OWNER_NODE_ID, UM_LAST_HEARTBEAT) " +
+                    "VALUES (:" + SQLPlaceholders.COLUMN_NAME_UM_ID + ";, :" +
+                    SQLPlaceholders.COLUMN_NAME_JOB_TYPE + ";, :" + SQLPlaceholders.COLUMN_NAME_UM_TENANT_ID + ";, :" +
+                    SQLPlaceholders.COLUMN_NAME_INITIATED_ORG_ID + ";, :" +
+                    SQLPlaceholders.COLUMN_NAME_INITIATED_USER_ID + ";, :" +
+                    SQLPlaceholders.COLUMN_NAME_INITIATED_USER_NAME + ";, :" + SQLPlaceholders.COLUMN_NAME_STATUS +
+                    ";, :" + SQLPlaceholders.COLUMN_NAME_OWNER_NODE_ID + ";, :" +
+                    SQLPlaceholders.COLUMN_NAME_LAST_HEARTBEAT + ";)";
+
+    public static final String CREATE_USER_SHARING_JOB_TARGET =
+            "INSERT INTO UM_ORG_USER_SHARING_JOB_TARGET (UM_JOB_ID, UM_ORG_ID, UM_POLICY, UM_ROLE_IDS, " +
+                    "UM_ROLE_ASSIGNMENT_MODE) VALUES (:" + SQLPlaceholders.COLUMN_NAME_JOB_ID + ";, :" +
+                    SQLPlaceholders.COLUMN_NAME_ORG_ID + ";, :" + SQLPlaceholders.COLUMN_NAME_POLICY + ";, :" +
+                    SQLPlaceholders.COLUMN_NAME_ROLE_IDS + ";, :" + SQLPlaceholders.COLUMN_NAME_ROLE_ASSIGNMENT_MODE +
+                    ";)";
+
+    public static final String CREATE_USER_SHARING_JOB_UNIT =
+            "INSERT INTO UM_ORG_USER_SHARING_JOB_UNIT (UM_JOB_ID, UM_USER_ID, UM_STATUS) " +
+                    "VALUES (:" + SQLPlaceholders.COLUMN_NAME_JOB_ID + ";, :" + SQLPlaceholders.COLUMN_NAME_USER_ID +
+                    ";, :" + SQLPlaceholders.COLUMN_NAME_STATUS + ";)";
+
+    public static final String UPDATE_USER_SHARING_JOB_STATUS =
+            "UPDATE UM_ORG_USER_SHARING_JOB SET UM_STATUS = :" + SQLPlaceholders.COLUMN_NAME_STATUS + "; " +
+                    "WHERE UM_ID = :" + SQLPlaceholders.COLUMN_NAME_UM_ID + ";";
+
+    public static final String UPDATE_USER_SHARING_JOB_UNIT_STATUS =
+            "UPDATE UM_ORG_USER_SHARING_JOB_UNIT SET UM_STATUS = :" + SQLPlaceholders.COLUMN_NAME_STATUS + "; " +
+                    "WHERE UM_JOB_ID = :" + SQLPlaceholders.COLUMN_NAME_JOB_ID + "; " +
+                    "AND UM_USER_ID = :" + SQLPlaceholders.COLUMN_NAME_USER_ID + ";";
+
+    public static final String UPDATE_USER_SHARING_JOB_HEARTBEATS_OF_OWNER =
+            "UPDATE UM_ORG_USER_SHARING_JOB SET UM_LAST_HEARTBEAT = :" + SQLPlaceholders.COLUMN_NAME_LAST_HEARTBEAT +
+                    "; WHERE UM_OWNER_NODE_ID = :" + SQLPlaceholders.COLUMN_NAME_OWNER_NODE_ID + "; " +
+                    "AND UM_STATUS = :" + SQLPlaceholders.COLUMN_NAME_STATUS + ";";
+
+    public static final String GET_USER_SHARING_JOBS_WITH_EXPIRED_HEARTBEAT =
+            "SELECT UM_ID, UM_JOB_TYPE, UM_TENANT_ID, UM_INITIATED_ORG_ID, UM_INITIATED_USER_ID, " +
+                    "UM_INITIATED_USER_NAME, UM_LAST_HEARTBEAT FROM UM_ORG_USER_SHARING_JOB " +
+                    "WHERE UM_STATUS = :" + SQLPlaceholders.COLUMN_NAME_STATUS + "; " +
+                    "AND UM_LAST_HEARTBEAT < :" + SQLPlaceholders.PLACEHOLDER_HEARTBEAT_THRESHOLD + ";";
+
+    // The heartbeat read while listing the interrupted jobs is matched, so that only one node can claim a job.
+    public static final String UPDATE_USER_SHARING_JOB_OWNER =
+            "UPDATE UM_ORG_USER_SHARING_JOB SET UM_OWNER_NODE_ID = :" + SQLPlaceholders.COLUMN_NAME_OWNER_NODE_ID +
+                    ";, UM_LAST_HEARTBEAT = :" + SQLPlaceholders.COLUMN_NAME_LAST_HEARTBEAT + "; " +
+                    "WHERE UM_ID = :" + SQLPlaceholders.COLUMN_NAME_UM_ID + "; " +
+                    "AND UM_STATUS = :" + SQLPlaceholders.COLUMN_NAME_STATUS + "; " +
+                    "AND UM_LAST_HEARTBEAT = :" + SQLPlaceholders.PLACEHOLDER_PREVIOUS_HEARTBEAT + ";";
+
+    public static final String GET_USER_SHARING_JOB_OWNER =
+            "SELECT UM_OWNER_NODE_ID FROM UM_ORG_USER_SHARING_JOB " +
+                    "WHERE UM_ID = :" + SQLPlaceholders.COLUMN_NAME_UM_ID + ";";
+
+    public static final String GET_USER_SHARING_JOB_TARGETS =
+            "SELECT UM_ORG_ID, UM_POLICY, UM_ROLE_IDS, UM_ROLE_ASSIGNMENT_MODE FROM UM_ORG_USER_SHARING_JOB_TARGET " +
+                    "WHERE UM_JOB_ID = :" + SQLPlaceholders.COLUMN_NAME_JOB_ID + ";";
+
+    public static final String GET_USER_SHARING_JOB_UNITS_BY_STATUS =
+            "SELECT UM_USER_ID FROM UM_ORG_USER_SHARING_JOB_UNIT " +
+                    "WHERE UM_JOB_ID = :" + SQLPlaceholders.COLUMN_NAME_JOB_ID + "; " +
+                    "AND UM_STATUS = :" + SQLPlaceholders.COLUMN_NAME_STATUS + ";";
+
     /**
      * SQL placeholders related to organization user sharing SQL operations.
      */
@@ -255,11 +361,29 @@ public class SQLConstants {
         public static final String COLUMN_NAME_UM_PERMITTED_ORG_ID = "UM_PERMITTED_ORG_ID";
         public static final String COLUMN_NAME_UM_ROLE_UUID = "UM_UUID";
         public static final String HAS_USER_ASSOCIATIONS = "has_user_associations";
+        public static final String COLUMN_NAME_JOB_ID = "UM_JOB_ID";
+        public static final String COLUMN_NAME_JOB_TYPE = "UM_JOB_TYPE";
+        public static final String COLUMN_NAME_INITIATED_ORG_ID = "UM_INITIATED_ORG_ID";
+        public static final String COLUMN_NAME_INITIATED_USER_ID = "UM_INITIATED_USER_ID";
+        public static final String COLUMN_NAME_INITIATED_USER_NAME = "UM_INITIATED_USER_NAME";
+        public static final String COLUMN_NAME_STATUS = "UM_STATUS";
+        public static final String COLUMN_NAME_OWNER_NODE_ID = "UM_OWNER_NODE_ID";
+        public static final String COLUMN_NAME_LAST_HEARTBEAT = "UM_LAST_HEARTBEAT";
+        public static final String COLUMN_NAME_POLICY = "UM_POLICY";
+        public static final String COLUMN_NAME_ROLE_IDS = "UM_ROLE_IDS";
+        public static final String COLUMN_NAME_ROLE_ASSIGNMENT_MODE = "UM_ROLE_ASSIGNMENT_MODE";
 
         public static final String PLACEHOLDER_NAME_USER_NAMES = "USER_NAMES";
         public static final String PLACEHOLDER_ROLE_IDS = "ROLE_IDS";
         public static final String PLACEHOLDER_ORG_IDS = "ORG_IDS";
         public static final String PLACEHOLDER_ORG_ID = "ORG_ID_";
+        public static final String PLACEHOLDER_PARENT_ORG_ID = "PARENT_ORG_ID";
+        public static final String PLACEHOLDER_USER_IDS = "USER_IDS";
+        public static final String PLACEHOLDER_USER_ID = "USER_ID_";
+        public static final String PLACEHOLDER_ASSOCIATED_USER_IDS = "ASSOCIATED_USER_IDS";
+        public static final String PLACEHOLDER_ASSOCIATED_USER_ID = "ASSOCIATED_USER_ID_";
+        public static final String PLACEHOLDER_HEARTBEAT_THRESHOLD = "HEARTBEAT_THRESHOLD";
+        public static final String PLACEHOLDER_PREVIOUS_HEARTBEAT = "PREVIOUS_HEARTBEAT";
 
         public static final String ASC_SORT_ORDER = "ASC";
         public static final String DESC_SORT_ORDER = "DESC";
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -105,6 +105,21 @@ public class UserSharingConstants {
             "organization: %s.";
     public static final String USER_SHARING_LOG_TEMPLATE = "Sharing user: %s from organization: %s is initiated by " +
             "user: %s.";
+    // Number of organizations of which the user associations are read and written together while sharing a user.
+    public static final int USER_SHARE_BATCH_SIZE = 100;
+
+    public static final String USER_SHARING_EXECUTOR_POOL_SIZE = "OrganizationUserSharing.Executor.PoolSize";
+    public static final String USER_SHARING_EXECUTOR_QUEUE_CAPACITY = "OrganizationUserSharing.Executor.QueueCapacity";
+    public static final int DEFAULT_USER_SHARING_EXECUTOR_POOL_SIZE = 10;
+    public static final int DEFAULT_USER_SHARING_EXECUTOR_QUEUE_CAPACITY = 1000;
+
+    public static final String USER_SHARING_JOB_JOURNAL_ENABLE = "OrganizationUserSharing.JobJournal.Enable";
+    public static final String USER_SHARING_JOB_LEASE_TIMEOUT = "OrganizationUserSharing.JobJournal.LeaseTimeout";
+    public static final String USER_SHARING_JOB_RECOVERY_INTERVAL =
+            "OrganizationUserSharing.JobJournal.RecoveryInterval";
+    // In seconds.
+    public static final int DEFAULT_USER_SHARING_JOB_LEASE_TIMEOUT = 300;
+    public static final int DEFAULT_USER_SHARING_JOB_RECOVERY_INTERVAL = 60;
 
     public static final String DEFAULT_PROFILE = "default";
     public static final String CLAIM_MANAGED_ORGANIZATION = "http://wso2.org/claims/identity/managedOrg";
@@ -353,7 +368,24 @@ public class UserSharingConstants {
                 "One of the attribute names provided is null and must be valid."),
         ERROR_CODE_INVALID_FILTER_VALUE("10069",
                 "Invalid filter value provided: %s.",
-                "The filter value provided is invalid and cannot be processed.");
+                "The filter value provided is invalid and cannot be processed."),
+        ERROR_CODE_USER_SHARING_OPERATION_REJECTED("10070",
+                "Too many user sharing operations in progress.",
+                "The user sharing operation cannot be accepted at the moment. Please try again later."),
+        ERROR_CODE_ADD_USER_SHARING_JOB("10071",
+                "Error occurred while recording the user sharing job.",
+                "An unexpected error occurred while recording the user sharing job in the user sharing job journal."),
+        ERROR_CODE_UPDATE_USER_SHARING_JOB("10072",
+                "Error occurred while updating the user sharing job.",
+                "An unexpected error occurred while updating the user sharing job in the user sharing job journal."),
+        ERROR_CODE_GET_USER_SHARING_JOBS("10073",
+                "Error occurred while retrieving the user sharing jobs.",
+                "An unexpected error occurred while retrieving the user sharing jobs from the user sharing job " +
+                        "journal."),
+        ERROR_CODE_USER_SHARING_JOB_TABLES_NOT_AVAILABLE("10074",
+                "The user sharing job journal tables are not available.",
+                "The UM_ORG_USER_SHARING_JOB, UM_ORG_USER_SHARING_JOB_TARGET and UM_ORG_USER_SHARING_JOB_UNIT " +
+                        "tables cannot be accessed in the organization management database.");
 
         private final String code;
         private final String message;
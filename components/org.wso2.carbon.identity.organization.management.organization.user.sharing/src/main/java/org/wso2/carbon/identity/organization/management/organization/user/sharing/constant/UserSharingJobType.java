@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.constant;
+
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ACTION_GENERAL_USER_SHARE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ACTION_GENERAL_USER_UNSHARE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ACTION_SELECTIVE_USER_SHARE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ACTION_SELECTIVE_USER_UNSHARE;
+
+/**
+ * Enum representing the types of the asynchronous user sharing jobs which are recorded in the user sharing job
+ * journal.
+ */
+public enum UserSharingJobType {
+    SELECTIVE_USER_SHARE(ACTION_SELECTIVE_USER_SHARE),
+    GENERAL_USER_SHARE(ACTION_GENERAL_USER_SHARE),
+    SELECTIVE_USER_UNSHARE(ACTION_SELECTIVE_USER_UNSHARE),
+    GENERAL_USER_UNSHARE(ACTION_GENERAL_USER_UNSHARE);
+
+    private final String action;
+
+    UserSharingJobType(String action) {
+
+        this.action = action;
+    }
+
+    /**
+     * Returns the action performed by the jobs of this type, as used in the logs.
+     *
+     * @return The action of the job type.
+     */
+    public String getAction() {
+
+        return action;
+    }
+}
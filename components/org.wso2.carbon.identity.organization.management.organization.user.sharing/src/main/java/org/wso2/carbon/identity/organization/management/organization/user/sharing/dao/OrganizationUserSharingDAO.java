@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -29,6 +29,7 @@ import org.wso2.carbon.identity.organization.management.service.exception.Organi
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * DAO interface for organization user sharing.
@@ -66,6 +67,19 @@ public interface OrganizationUserSharingDAO {
         throw new NotImplementedException("createOrganizationUserAssociation method is not implemented.");
     }
 
+    /**
+     * Creates the given associations between shared users and the actual user in a single batch.
+     *
+     * @param userAssociations The user associations to be created.
+     * @throws OrganizationManagementServerException If an error occurs while creating the organization user
+     *                                               associations.
+     */
+    default void createOrganizationUserAssociations(List<UserAssociation> userAssociations)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("createOrganizationUserAssociations method is not implemented.");
+    }
+
     /**
      * Delete the organization user association for a shared user in a shared organization.
      *
@@ -120,6 +134,33 @@ public interface OrganizationUserSharingDAO {
         throw new NotImplementedException("getUserAssociationsOfGivenUser method with filters is not implemented.");
     }
 
+    /**
+     * Get the user associations of a given user in the descendant organizations of the given parent organization,
+     * filtered by expression nodes. The organization scope is resolved from the organization hierarchy within the
+     * query, so that the statement does not grow with the number of descendant organizations.
+     *
+     * @param associatedUserId Actual user ID of the user.
+     * @param associatedOrgId  The organization ID where the user is managed.
+     * @param parentOrgId      The ID of the organization whose descendant organizations define the search scope.
+     * @param recursive        Whether to include all the descendant organizations or only the immediate children.
+     * @param expressionNodes  The list of expression nodes to filter the user associations.
+     * @param sortOrder        The order to sort the results.
+     * @param limit            The maximum number of results to return.
+     * @return the list of {@link UserAssociation}s.
+     * @throws OrganizationManagementException If an error occurs while fetching user associations.
+     */
+    default List<UserAssociation> getUserAssociationsOfAssociatedUserInOrgHierarchy(String associatedUserId,
+                                                                                   String associatedOrgId,
+                                                                                   String parentOrgId,
+                                                                                   boolean recursive,
+                                                                                   List<ExpressionNode> expressionNodes,
+                                                                                   String sortOrder, int limit)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException(
+                "getUserAssociationsOfAssociatedUserInOrgHierarchy method is not implemented.");
+    }
+
     /**
      * Get all the user associations for a given user filtered by shared type.
      *
@@ -241,6 +282,27 @@ public interface OrganizationUserSharingDAO {
         throw new NotImplementedException("addEditRestrictionsForSharedUserRoles method is not implemented.");
     }
 
+    /**
+     * Adds edit restrictions for the shared roles of multiple shared users in one organization. The user role
+     * assignments of all the given users and roles are resolved with a single query, and the restrictions are added
+     * in a single transaction. Usernames are matched case-insensitively, and a role assignment which is not found is
+     * skipped.
+     *
+     * @param roleIdsOfSharedUsers The IDs of the roles to be restricted, keyed by the username of the shared user.
+     * @param tenantDomain         The tenant domain of the shared users.
+     * @param domainName           The domain name associated with the users.
+     * @param editOperation        The type of edit operation being performed.
+     * @param permittedOrgId       The organization ID with permitted access.
+     * @throws UserSharingMgtServerException If an error occurs while adding the edit restrictions.
+     */
+    default void addEditRestrictionsForSharedUserRoles(Map<String, List<String>> roleIdsOfSharedUsers,
+                                                        String tenantDomain, String domainName,
+                                                        EditOperation editOperation, String permittedOrgId)
+            throws UserSharingMgtServerException {
+
+        throw new NotImplementedException("addEditRestrictionsForSharedUserRoles method is not implemented.");
+    }
+
     /**
      * Retrieves the IDs of roles shared with a user in a specific organization.
      *
@@ -272,6 +334,36 @@ public interface OrganizationUserSharingDAO {
         throw new NotImplementedException("getUserAssociationsOfAssociatedUserOnGivenOrgs method is not implemented.");
     }
 
+    /**
+     * Get the user associations of the given shared users in the given organization. Users which are not shared
+     * users of the organization are omitted.
+     *
+     * @param userIds The IDs of the users in the organization.
+     * @param orgId   The ID of the organization.
+     * @return The list of {@link UserAssociation}s of the shared users among the given users.
+     * @throws OrganizationManagementServerException If an error occurs while retrieving the user associations.
+     */
+    default List<UserAssociation> getUserAssociationsOfSharedUsers(List<String> userIds, String orgId)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getUserAssociationsOfSharedUsers method is not implemented.");
+    }
+
+    /**
+     * Get the user associations of the given associated users in the given organizations.
+     *
+     * @param associatedUserIds The IDs of the associated users.
+     * @param orgIds            The list of organization IDs.
+     * @return The list of {@link UserAssociation}s for the given users in the specified organizations.
+     * @throws OrganizationManagementServerException If an error occurs while retrieving the user associations.
+     */
+    default List<UserAssociation> getUserAssociationsOfGivenUsersOnGivenOrgs(List<String> associatedUserIds,
+                                                                             List<String> orgIds)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("getUserAssociationsOfGivenUsersOnGivenOrgs method is not implemented.");
+    }
+
     /**
      * Updates the shared type of user association.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -19,11 +19,16 @@
 package org.wso2.carbon.identity.organization.management.organization.user.sharing.dao;
 
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.database.utils.jdbc.NamedJdbcTemplate;
 import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
 import org.wso2.carbon.database.utils.jdbc.exceptions.TransactionException;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.UserAssociationCache;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.UserAssociationCacheEntry;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.UserAssociationCacheKey;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.EditOperation;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SharedType;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtServerException;
@@ -36,11 +41,15 @@ import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagemen
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementServerException;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -62,9 +71,13 @@ import static org.wso2.carbon.identity.organization.management.organization.user
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.DBTypes.DB_TYPE_POSTGRESQL;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.DELETE_ORGANIZATION_USER_ASSOCIATIONS_FOR_ROOT_USER;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.DELETE_ORGANIZATION_USER_ASSOCIATION_FOR_SHARED_USER;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_CHILD_ORG_IDS_FROM_ORG_HIERARCHY;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_DESCENDANT_ORG_IDS_FROM_ORG_HIERARCHY;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_ORGANIZATION_USER_ASSOCIATIONS_FOR_SHARED_USER;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_ORGANIZATION_USER_ASSOCIATIONS_FOR_SHARED_USER_BY_ASSOCIATED_ORG;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_ORGANIZATION_USER_ASSOCIATIONS_FOR_USER;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_ORGANIZATION_USER_ASSOCIATIONS_FOR_USER_BY_SHARED_TYPE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_ORGANIZATION_USER_ASSOCIATION_BY_ID;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_ORGANIZATION_USER_ASSOCIATION_FOR_ROOT_USER_IN_ORG;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_RESTRICTED_USERNAMES_BY_ROLE_AND_ORG;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_SHARED_ROLES_OF_SHARED_USER;
@@ -75,7 +88,10 @@ import static org.wso2.carbon.identity.organization.management.organization.user
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_USER_ASSOCIATIONS_FOR_ASSOCIATED_USER_BY_FILTERING_TAIL_WITH_LIMIT_DB2;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_USER_ASSOCIATIONS_FOR_ASSOCIATED_USER_BY_FILTERING_TAIL_WITH_LIMIT_MSSQL;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_USER_ASSOCIATIONS_FOR_ASSOCIATED_USER_BY_FILTERING_TAIL_WITH_LIMIT_ORACLE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_USER_ASSOCIATIONS_OF_SHARED_USERS_IN_ORG;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_USER_ASSOCIATIONS_OF_USERS_IN_GIVEN_ORGS;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_USER_ASSOCIATIONS_OF_USER_IN_GIVEN_ORGS;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_USER_ROLES_OF_USERS_IN_TENANT;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_USER_ROLE_IN_TENANT;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.INSERT_RESTRICTED_EDIT_PERMISSION;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.AND;
@@ -97,15 +113,21 @@ import static org.wso2.carbon.identity.organization.management.organization.user
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.DESC_SORT_ORDER;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.HAS_USER_ASSOCIATIONS;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.ORG_ID_SCOPE_PLACEHOLDER_PREFIX;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.PLACEHOLDER_ASSOCIATED_USER_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.PLACEHOLDER_ASSOCIATED_USER_IDS;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.PLACEHOLDER_NAME_USER_NAMES;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.PLACEHOLDER_ORG_ID;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.PLACEHOLDER_ORG_IDS;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.PLACEHOLDER_PARENT_ORG_ID;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.PLACEHOLDER_ROLE_IDS;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.PLACEHOLDER_USER_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.PLACEHOLDER_USER_IDS;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.WHITE_SPACE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.UPDATE_USER_ASSOCIATION_SHARED_TYPE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_ERROR_INSERTING_RESTRICTED_PERMISSION;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_USER_ROLE_ID;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_GET_ROLES_SHARED_WITH_SHARED_USER;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARE_BATCH_SIZE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_CHECK_ORGANIZATION_USER_ASSOCIATIONS;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_CREATE_ORGANIZATION_USER_ASSOCIATION;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_DELETE_ORGANIZATION_USER_ASSOCIATIONS;
@@ -122,12 +144,15 @@ import static org.wso2.carbon.identity.organization.management.service.util.Util
 import static org.wso2.carbon.identity.organization.management.service.util.Utils.isOracleDB;
 import static org.wso2.carbon.identity.organization.management.service.util.Utils.isPostgreSqlDB;
 import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.Error.UNEXPECTED_SERVER_ERROR;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
 
 /**
  * DAO implementation for managing organization user associations.
  */
 public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDAO {
 
+    private static final Log LOG = LogFactory.getLog(OrganizationUserSharingDAOImpl.class);
+
     @Override
     public void createOrganizationUserAssociation(String userId, String orgId, String associatedUserId,
                                                   String associatedOrgId) throws OrganizationManagementServerException {
@@ -146,6 +171,7 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
         } catch (TransactionException e) {
             throw handleServerException(ERROR_CODE_ERROR_CREATE_ORGANIZATION_USER_ASSOCIATION, e, associatedUserId);
         }
+        clearUserAssociationCacheEntries(userId, orgId, associatedUserId);
     }
 
     @Override
@@ -168,11 +194,49 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
         } catch (TransactionException e) {
             throw handleServerException(ERROR_CODE_ERROR_CREATE_ORGANIZATION_USER_ASSOCIATION, e, associatedUserId);
         }
+        clearUserAssociationCacheEntries(userId, orgId, associatedUserId);
+    }
+
+    @Override
+    public void createOrganizationUserAssociations(List<UserAssociation> userAssociations)
+            throws OrganizationManagementServerException {
+
+        if (CollectionUtils.isEmpty(userAssociations)) {
+            return;
+        }
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            namedJdbcTemplate.withTransaction(template -> {
+                template.executeBatchInsert(CREATE_ORGANIZATION_USER_ASSOCIATION_WITH_TYPE, namedPreparedStatement -> {
+                    for (UserAssociation userAssociation : userAssociations) {
+                        namedPreparedStatement.setString(COLUMN_NAME_USER_ID, userAssociation.getUserId());
+                        namedPreparedStatement.setString(COLUMN_NAME_ORG_ID, userAssociation.getOrganizationId());
+                        namedPreparedStatement.setString(COLUMN_NAME_ASSOCIATED_USER_ID,
+                                userAssociation.getAssociatedUserId());
+                        namedPreparedStatement.setString(COLUMN_NAME_ASSOCIATED_ORG_ID,
+                                userAssociation.getUserResidentOrganizationId());
+                        namedPreparedStatement.setString(COLUMN_NAME_UM_SHARED_TYPE,
+                                userAssociation.getSharedType().toString());
+                        namedPreparedStatement.addBatch();
+                    }
+                }, null);
+                return null;
+            });
+        } catch (TransactionException e) {
+            throw handleServerException(ERROR_CODE_ERROR_CREATE_ORGANIZATION_USER_ASSOCIATION, e,
+                    userAssociations.get(0).getAssociatedUserId());
+        }
+        for (UserAssociation userAssociation : userAssociations) {
+            clearUserAssociationCacheEntries(userAssociation.getUserId(), userAssociation.getOrganizationId(),
+                    userAssociation.getAssociatedUserId());
+        }
     }
 
     public boolean deleteUserAssociationOfUserByAssociatedOrg(String userId, String associatedOrgId)
             throws OrganizationManagementServerException {
 
+        List<UserAssociation> deletedUserAssociations =
+                getUserAssociationsOfSharedUserByAssociatedOrg(userId, associatedOrgId);
         NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
         try {
             namedJdbcTemplate.executeUpdate(DELETE_ORGANIZATION_USER_ASSOCIATION_FOR_SHARED_USER,
@@ -180,6 +244,7 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
                         namedPreparedStatement.setString(1, userId);
                         namedPreparedStatement.setString(2, associatedOrgId);
                     });
+            clearUserAssociationCacheEntries(deletedUserAssociations);
             return true;
         } catch (DataAccessException e) {
             throw handleServerException(ERROR_CODE_ERROR_DELETE_ORGANIZATION_USER_ASSOCIATION_FOR_SHARED_USER, e,
@@ -191,6 +256,8 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
     public boolean deleteUserAssociationsOfAssociatedUser(String associatedUserId, String associatedOrgId)
             throws OrganizationManagementServerException {
 
+        List<UserAssociation> deletedUserAssociations =
+                getUserAssociationsOfAssociatedUser(associatedUserId, associatedOrgId);
         NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
         try {
             namedJdbcTemplate.executeUpdate(DELETE_ORGANIZATION_USER_ASSOCIATIONS_FOR_ROOT_USER,
@@ -198,6 +265,7 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
                         namedPreparedStatement.setString(1, associatedUserId);
                         namedPreparedStatement.setString(2, associatedOrgId);
                     });
+            clearUserAssociationCacheEntries(deletedUserAssociations);
             return true;
         } catch (DataAccessException e) {
             throw handleServerException(ERROR_CODE_ERROR_DELETE_ORGANIZATION_USER_ASSOCIATIONS, e);
@@ -291,8 +359,57 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
         }
     }
 
-    private String buildGetUserAssociationsSql(String filterQuery, String orgIdPlaceholders,
-                                               String sortOrder, int limit)
+    @Override
+    public List<UserAssociation> getUserAssociationsOfAssociatedUserInOrgHierarchy(String associatedUserId,
+                                                                                  String associatedOrgId,
+                                                                                  String parentOrgId,
+                                                                                  boolean recursive,
+                                                                                  List<ExpressionNode> expressionNodes,
+                                                                                  String sortOrder, int limit)
+            throws OrganizationManagementException {
+
+        // Hard-guard sort order because it gets injected into SQL.
+        String resolvedSortOrder = ASC_SORT_ORDER.equalsIgnoreCase(sortOrder) ? ASC_SORT_ORDER : DESC_SORT_ORDER;
+
+        FilterQueryBuilder filterQueryBuilder = FilterQueriesUtil.getSharedUserOrgsFilterQueryBuilder(expressionNodes);
+        String filterQuery = filterQueryBuilder.getFilterQuery();
+        Map<String, String> filterAttributeValue = filterQueryBuilder.getFilterAttributeValue();
+
+        // The organization scope is a sub query on the organization hierarchy, which keeps the statement the same
+        // regardless of the number of organizations in the scope.
+        String orgScopeQuery = recursive ? GET_DESCENDANT_ORG_IDS_FROM_ORG_HIERARCHY :
+                GET_CHILD_ORG_IDS_FROM_ORG_HIERARCHY;
+        String sql = buildGetUserAssociationsSql(filterQuery, orgScopeQuery, resolvedSortOrder, limit);
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            return namedJdbcTemplate.executeQuery(sql,
+                    (resultSet, rowNumber) -> {
+                        UserAssociation userAssociation = new UserAssociation();
+                        userAssociation.setId(resultSet.getInt(COLUMN_NAME_UM_ID));
+                        userAssociation.setUserId(resultSet.getString(COLUMN_NAME_USER_ID));
+                        userAssociation.setOrganizationId(resultSet.getString(COLUMN_NAME_ORG_ID));
+                        userAssociation.setAssociatedUserId(resultSet.getString(COLUMN_NAME_ASSOCIATED_USER_ID));
+                        userAssociation.setUserResidentOrganizationId(
+                                resultSet.getString(COLUMN_NAME_ASSOCIATED_ORG_ID));
+                        userAssociation.setSharedType(
+                                SharedType.fromString(resultSet.getString(COLUMN_NAME_UM_SHARED_TYPE)));
+                        return userAssociation;
+                    },
+                    ps -> {
+                        ps.setString(COLUMN_NAME_ASSOCIATED_USER_ID, associatedUserId);
+                        ps.setString(COLUMN_NAME_ASSOCIATED_ORG_ID, associatedOrgId);
+                        for (Map.Entry<String, String> entry : filterAttributeValue.entrySet()) {
+                            ps.setString(entry.getKey(), entry.getValue());
+                        }
+                        ps.setString(PLACEHOLDER_PARENT_ORG_ID, parentOrgId);
+                    });
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_GET_ORGANIZATION_USER_ASSOCIATIONS, e);
+        }
+    }
+
+    private String buildGetUserAssociationsSql(String filterQuery, String orgScope, String sortOrder, int limit)
             throws OrganizationManagementServerException {
 
         String head = GET_USER_ASSOCIATIONS_FOR_ASSOCIATED_USER_BY_FILTERING_HEAD + WHITE_SPACE + AND + WHITE_SPACE;
@@ -308,7 +425,7 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
             tail = getUserAssociationsByFilteringTailWithLimit(sortOrder, limit);
         }
 
-        return (head + tail).replace(PLACEHOLDER_ORG_IDS, orgIdPlaceholders);
+        return (head + tail).replace(PLACEHOLDER_ORG_IDS, orgScope);
     }
 
     private String getUserAssociationsByFilteringTailWithLimit(String sortOrder, int limit)
@@ -422,9 +539,16 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
     public UserAssociation getUserAssociationOfAssociatedUserByOrgId(String associatedUserId, String orgId)
             throws OrganizationManagementServerException {
 
+        UserAssociationCacheKey cacheKey = UserAssociationCacheKey.forAssociatedUser(associatedUserId, orgId);
+        UserAssociationCacheEntry cacheEntry =
+                UserAssociationCache.getInstance().getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN_NAME);
+        if (cacheEntry != null) {
+            return cacheEntry.getUserAssociation();
+        }
         NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
         try {
-            return namedJdbcTemplate.fetchSingleRecord(GET_ORGANIZATION_USER_ASSOCIATION_FOR_ROOT_USER_IN_ORG,
+            UserAssociation fetchedUserAssociation = namedJdbcTemplate.fetchSingleRecord(
+                    GET_ORGANIZATION_USER_ASSOCIATION_FOR_ROOT_USER_IN_ORG,
                     (resultSet, rowNumber) -> {
                         UserAssociation userAssociation = new UserAssociation();
                         userAssociation.setId(resultSet.getInt(COLUMN_NAME_UM_ID));
@@ -441,6 +565,8 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
                         namedPreparedStatement.setString(1, associatedUserId);
                         namedPreparedStatement.setString(2, orgId);
                     });
+            addUserAssociationToCache(cacheKey, fetchedUserAssociation);
+            return fetchedUserAssociation;
         } catch (DataAccessException e) {
             throw handleServerException(ERROR_CODE_ERROR_GET_ORGANIZATION_USER_ASSOCIATION_FOR_USER_AT_SHARED_ORG, e,
                     orgId);
@@ -451,9 +577,16 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
     public UserAssociation getUserAssociation(String userId, String organizationId)
             throws OrganizationManagementServerException {
 
+        UserAssociationCacheKey cacheKey = UserAssociationCacheKey.forSharedUser(userId, organizationId);
+        UserAssociationCacheEntry cacheEntry =
+                UserAssociationCache.getInstance().getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN_NAME);
+        if (cacheEntry != null) {
+            return cacheEntry.getUserAssociation();
+        }
         NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
         try {
-            return namedJdbcTemplate.fetchSingleRecord(GET_ORGANIZATION_USER_ASSOCIATIONS_FOR_SHARED_USER,
+            UserAssociation fetchedUserAssociation = namedJdbcTemplate.fetchSingleRecord(
+                    GET_ORGANIZATION_USER_ASSOCIATIONS_FOR_SHARED_USER,
                     (resultSet, rowNumber) -> {
                         UserAssociation userAssociation = new UserAssociation();
                         userAssociation.setId(resultSet.getInt(COLUMN_NAME_UM_ID));
@@ -470,6 +603,8 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
                         namedPreparedStatement.setString(1, userId);
                         namedPreparedStatement.setString(2, organizationId);
                     });
+            addUserAssociationToCache(cacheKey, fetchedUserAssociation);
+            return fetchedUserAssociation;
         } catch (DataAccessException e) {
             throw handleServerException(ERROR_CODE_ERROR_GET_ORGANIZATION_USER_ASSOCIATION_OF_SHARED_USER, e,
                     userId, organizationId);
@@ -604,6 +739,73 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
         }
     }
 
+    @Override
+    public void addEditRestrictionsForSharedUserRoles(Map<String, List<String>> roleIdsOfSharedUsers,
+                                                      String tenantDomain, String domainName,
+                                                      EditOperation editOperation, String permittedOrgId)
+            throws UserSharingMgtServerException {
+
+        List<String> usernames = new ArrayList<>();
+        Set<String> roleIds = new LinkedHashSet<>();
+        for (Map.Entry<String, List<String>> entry : roleIdsOfSharedUsers.entrySet()) {
+            if (CollectionUtils.isNotEmpty(entry.getValue())) {
+                usernames.add(entry.getKey());
+                roleIds.addAll(entry.getValue());
+            }
+        }
+        if (usernames.isEmpty()) {
+            return;
+        }
+
+        List<String> roleIdList = new ArrayList<>(roleIds);
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        // Resolve the UM_IDs of the user role assignments with a query per batch of users and roles, so that the
+        // number of parameters bound to the IN clauses stays within the limits of the database.
+        Map<String, Integer> userRoleIds = new HashMap<>();
+        for (List<String> usernameBatch : partition(usernames)) {
+            for (List<String> roleIdBatch : partition(roleIdList)) {
+                userRoleIds.putAll(getUserRoleIds(namedJdbcTemplate, usernameBatch, roleIdBatch, tenantId,
+                        domainName));
+            }
+        }
+        List<Integer> restrictedUserRoleIds = new ArrayList<>();
+        for (String username : usernames) {
+            for (String roleId : roleIdsOfSharedUsers.get(username)) {
+                Integer userRoleId = userRoleIds.get(getUserRoleKey(username, roleId));
+                if (userRoleId == null) {
+                    // The role may have been unassigned from the user concurrently. The other restrictions are added.
+                    LOG.warn(String.format("Role assignment of the role: %s is not found for the shared user: %s in " +
+                            "the tenant: %s. Hence, the edit restriction is not added.", roleId, username,
+                            tenantDomain));
+                    continue;
+                }
+                restrictedUserRoleIds.add(userRoleId);
+            }
+        }
+
+        if (restrictedUserRoleIds.isEmpty()) {
+            return;
+        }
+        try {
+            namedJdbcTemplate.withTransaction(template -> {
+                template.executeBatchInsert(INSERT_RESTRICTED_EDIT_PERMISSION, namedPreparedStatement -> {
+                    for (Integer userRoleId : restrictedUserRoleIds) {
+                        namedPreparedStatement.setInt(COLUMN_NAME_UM_HYBRID_USER_ROLE_ID, userRoleId);
+                        namedPreparedStatement.setInt(COLUMN_NAME_UM_HYBRID_USER_ROLE_TENANT_ID, tenantId);
+                        namedPreparedStatement.setString(COLUMN_NAME_UM_EDIT_OPERATION, editOperation.name());
+                        namedPreparedStatement.setString(COLUMN_NAME_UM_PERMITTED_ORG_ID, permittedOrgId);
+                        namedPreparedStatement.addBatch();
+                    }
+                }, null);
+                return null;
+            });
+        } catch (TransactionException e) {
+            throw new UserSharingMgtServerException(ERROR_CODE_ERROR_INSERTING_RESTRICTED_PERMISSION, e);
+        }
+    }
+
     @Override
     public List<String> getRolesSharedWithUserInOrganization(String username, int tenantId, String domainName)
             throws UserSharingMgtServerException {
@@ -669,10 +871,146 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
         }
     }
 
+    @Override
+    public List<UserAssociation> getUserAssociationsOfSharedUsers(List<String> userIds, String orgId)
+            throws OrganizationManagementServerException {
+
+        if (CollectionUtils.isEmpty(userIds)) {
+            return Collections.emptyList();
+        }
+
+        List<UserAssociation> userAssociations = new ArrayList<>();
+        for (List<String> batchUserIds : partition(userIds)) {
+            userAssociations.addAll(getUserAssociationsOfSharedUsersInBatch(batchUserIds, orgId));
+        }
+        return userAssociations;
+    }
+
+    private List<UserAssociation> getUserAssociationsOfSharedUsersInBatch(List<String> userIds, String orgId)
+            throws OrganizationManagementServerException {
+
+        String fetchUserAssociationsQuery = GET_USER_ASSOCIATIONS_OF_SHARED_USERS_IN_ORG.replace(
+                PLACEHOLDER_USER_IDS, buildNamedPlaceholders(PLACEHOLDER_USER_ID, userIds.size()));
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            return namedJdbcTemplate.executeQuery(
+                    fetchUserAssociationsQuery,
+                    (resultSet, rowNumber) -> {
+                        UserAssociation userAssociation = new UserAssociation();
+                        userAssociation.setId(resultSet.getInt(COLUMN_NAME_UM_ID));
+                        userAssociation.setUserId(resultSet.getString(COLUMN_NAME_USER_ID));
+                        userAssociation.setOrganizationId(resultSet.getString(COLUMN_NAME_ORG_ID));
+                        userAssociation.setAssociatedUserId(resultSet.getString(COLUMN_NAME_ASSOCIATED_USER_ID));
+                        userAssociation.setUserResidentOrganizationId(
+                                resultSet.getString(COLUMN_NAME_ASSOCIATED_ORG_ID));
+                        userAssociation.setSharedType(
+                                SharedType.fromString(resultSet.getString(COLUMN_NAME_UM_SHARED_TYPE)));
+                        return userAssociation;
+                    },
+                    namedPreparedStatement -> {
+                        namedPreparedStatement.setString(COLUMN_NAME_ORG_ID, orgId);
+                        int index = 1;
+                        for (String userId : userIds) {
+                            namedPreparedStatement.setString(PLACEHOLDER_USER_ID + index, userId);
+                            index++;
+                        }
+                    });
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_GET_ORGANIZATION_USER_ASSOCIATIONS, e);
+        }
+    }
+
+    @Override
+    public List<UserAssociation> getUserAssociationsOfGivenUsersOnGivenOrgs(List<String> associatedUserIds,
+                                                                            List<String> orgIds)
+            throws OrganizationManagementServerException {
+
+        if (CollectionUtils.isEmpty(associatedUserIds) || CollectionUtils.isEmpty(orgIds)) {
+            return Collections.emptyList();
+        }
+
+        List<UserAssociation> userAssociations = new ArrayList<>();
+        for (List<String> batchAssociatedUserIds : partition(associatedUserIds)) {
+            for (List<String> batchOrgIds : partition(orgIds)) {
+                userAssociations.addAll(
+                        getUserAssociationsOfGivenUsersOnGivenOrgsInBatch(batchAssociatedUserIds, batchOrgIds));
+            }
+        }
+        return userAssociations;
+    }
+
+    private List<UserAssociation> getUserAssociationsOfGivenUsersOnGivenOrgsInBatch(List<String> associatedUserIds,
+                                                                                    List<String> orgIds)
+            throws OrganizationManagementServerException {
+
+        String fetchUserAssociationsQuery = GET_USER_ASSOCIATIONS_OF_USERS_IN_GIVEN_ORGS
+                .replace(PLACEHOLDER_ASSOCIATED_USER_IDS,
+                        buildNamedPlaceholders(PLACEHOLDER_ASSOCIATED_USER_ID, associatedUserIds.size()))
+                .replace(PLACEHOLDER_ORG_IDS, buildNamedPlaceholders(PLACEHOLDER_ORG_ID, orgIds.size()));
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            return namedJdbcTemplate.executeQuery(
+                    fetchUserAssociationsQuery,
+                    (resultSet, rowNumber) -> {
+                        UserAssociation userAssociation = new UserAssociation();
+                        userAssociation.setId(resultSet.getInt(COLUMN_NAME_UM_ID));
+                        userAssociation.setUserId(resultSet.getString(COLUMN_NAME_USER_ID));
+                        userAssociation.setOrganizationId(resultSet.getString(COLUMN_NAME_ORG_ID));
+                        userAssociation.setAssociatedUserId(resultSet.getString(COLUMN_NAME_ASSOCIATED_USER_ID));
+                        userAssociation.setUserResidentOrganizationId(
+                                resultSet.getString(COLUMN_NAME_ASSOCIATED_ORG_ID));
+                        userAssociation.setSharedType(
+                                SharedType.fromString(resultSet.getString(COLUMN_NAME_UM_SHARED_TYPE)));
+                        return userAssociation;
+                    },
+                    namedPreparedStatement -> {
+                        int index = 1;
+                        for (String associatedUserId : associatedUserIds) {
+                            namedPreparedStatement.setString(PLACEHOLDER_ASSOCIATED_USER_ID + index,
+                                    associatedUserId);
+                            index++;
+                        }
+                        index = 1;
+                        for (String orgId : orgIds) {
+                            namedPreparedStatement.setString(PLACEHOLDER_ORG_ID + index, orgId);
+                            index++;
+                        }
+                    });
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_GET_ORGANIZATION_USER_ASSOCIATIONS, e);
+        }
+    }
+
+    /**
+     * Split the given IDs into batches of {@code USER_SHARE_BATCH_SIZE}, so that the number of parameters bound to
+     * an IN clause stays within the limits of the database.
+     *
+     * @param ids The IDs to be split.
+     * @return The batches of IDs.
+     */
+    private List<List<String>> partition(List<String> ids) {
+
+        List<List<String>> batches = new ArrayList<>();
+        for (int fromIndex = 0; fromIndex < ids.size(); fromIndex += USER_SHARE_BATCH_SIZE) {
+            batches.add(ids.subList(fromIndex, Math.min(fromIndex + USER_SHARE_BATCH_SIZE, ids.size())));
+        }
+        return batches;
+    }
+
+    private String buildNamedPlaceholders(String placeholderPrefix, int count) {
+
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> ":" + placeholderPrefix + i + ";")
+                .collect(Collectors.joining(", "));
+    }
+
     @Override
     public void updateSharedTypeOfUserAssociation(int id, SharedType sharedType)
             throws OrganizationManagementServerException {
 
+        UserAssociation updatedUserAssociation = getUserAssociationById(id);
         NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
         try {
             namedJdbcTemplate.executeUpdate(
@@ -684,6 +1022,103 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
         } catch (DataAccessException e) {
             throw handleServerException(ERROR_CODE_ERROR_UPDATE_ORGANIZATION_USER_ASSOCIATIONS, e);
         }
+        if (updatedUserAssociation != null) {
+            clearUserAssociationCacheEntries(Collections.singletonList(updatedUserAssociation));
+        }
+    }
+
+    private List<UserAssociation> getUserAssociationsOfSharedUserByAssociatedOrg(String userId, String associatedOrgId)
+            throws OrganizationManagementServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            return namedJdbcTemplate.executeQuery(GET_ORGANIZATION_USER_ASSOCIATIONS_FOR_SHARED_USER_BY_ASSOCIATED_ORG,
+                    (resultSet, rowNumber) -> {
+                        UserAssociation userAssociation = new UserAssociation();
+                        userAssociation.setId(resultSet.getInt(COLUMN_NAME_UM_ID));
+                        userAssociation.setUserId(resultSet.getString(COLUMN_NAME_USER_ID));
+                        userAssociation.setOrganizationId(resultSet.getString(COLUMN_NAME_ORG_ID));
+                        userAssociation.setAssociatedUserId(resultSet.getString(COLUMN_NAME_ASSOCIATED_USER_ID));
+                        userAssociation.setUserResidentOrganizationId(
+                                resultSet.getString(COLUMN_NAME_ASSOCIATED_ORG_ID));
+                        userAssociation.setSharedType(
+                                SharedType.fromString(resultSet.getString(COLUMN_NAME_UM_SHARED_TYPE)));
+                        return userAssociation;
+                    },
+                    namedPreparedStatement -> {
+                        namedPreparedStatement.setString(1, userId);
+                        namedPreparedStatement.setString(2, associatedOrgId);
+                    });
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_GET_ORGANIZATION_USER_ASSOCIATIONS, e);
+        }
+    }
+
+    private UserAssociation getUserAssociationById(int id) throws OrganizationManagementServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            return namedJdbcTemplate.fetchSingleRecord(GET_ORGANIZATION_USER_ASSOCIATION_BY_ID,
+                    (resultSet, rowNumber) -> {
+                        UserAssociation userAssociation = new UserAssociation();
+                        userAssociation.setId(resultSet.getInt(COLUMN_NAME_UM_ID));
+                        userAssociation.setUserId(resultSet.getString(COLUMN_NAME_USER_ID));
+                        userAssociation.setOrganizationId(resultSet.getString(COLUMN_NAME_ORG_ID));
+                        userAssociation.setAssociatedUserId(resultSet.getString(COLUMN_NAME_ASSOCIATED_USER_ID));
+                        userAssociation.setUserResidentOrganizationId(
+                                resultSet.getString(COLUMN_NAME_ASSOCIATED_ORG_ID));
+                        userAssociation.setSharedType(
+                                SharedType.fromString(resultSet.getString(COLUMN_NAME_UM_SHARED_TYPE)));
+                        return userAssociation;
+                    },
+                    namedPreparedStatement -> namedPreparedStatement.setInt(COLUMN_NAME_UM_ID, id));
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_ERROR_GET_ORGANIZATION_USER_ASSOCIATIONS, e);
+        }
+    }
+
+    /**
+     * Add the given user association to the cache. An existing association is added against both the shared user
+     * and the associated user, while the absence of an association is added only against the looked up key.
+     *
+     * @param cacheKey        The cache key used to look up the association.
+     * @param userAssociation The user association, or null if an association does not exist for the key.
+     */
+    private void addUserAssociationToCache(UserAssociationCacheKey cacheKey, UserAssociation userAssociation) {
+
+        UserAssociationCacheEntry cacheEntry = new UserAssociationCacheEntry(userAssociation);
+        if (userAssociation == null) {
+            UserAssociationCache.getInstance().addToCache(cacheKey, cacheEntry, SUPER_TENANT_DOMAIN_NAME);
+            return;
+        }
+        String organizationId = userAssociation.getOrganizationId();
+        UserAssociationCache.getInstance().addToCache(
+                UserAssociationCacheKey.forSharedUser(userAssociation.getUserId(), organizationId), cacheEntry,
+                SUPER_TENANT_DOMAIN_NAME);
+        UserAssociationCache.getInstance().addToCache(
+                UserAssociationCacheKey.forAssociatedUser(userAssociation.getAssociatedUserId(), organizationId),
+                cacheEntry, SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    private void clearUserAssociationCacheEntries(String userId, String orgId, String associatedUserId) {
+
+        UserAssociationCache.getInstance().clearCacheEntry(UserAssociationCacheKey.forSharedUser(userId, orgId),
+                SUPER_TENANT_DOMAIN_NAME);
+        UserAssociationCache.getInstance().clearCacheEntry(
+                UserAssociationCacheKey.forAssociatedUser(associatedUserId, orgId), SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    /**
+     * Clear the cache entries of the given user associations, against both the shared user and the associated user.
+     *
+     * @param userAssociations The user associations which are removed or modified.
+     */
+    private void clearUserAssociationCacheEntries(List<UserAssociation> userAssociations) {
+
+        for (UserAssociation userAssociation : userAssociations) {
+            clearUserAssociationCacheEntries(userAssociation.getUserId(), userAssociation.getOrganizationId(),
+                    userAssociation.getAssociatedUserId());
+        }
     }
 
     private Map<String, List<String>> groupUsernamesByDomain(List<String> deletedDomainQualifiedUserNames) {
@@ -697,6 +1132,48 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
         return domainToUserNamesMap;
     }
 
+    private Map<String, Integer> getUserRoleIds(NamedJdbcTemplate namedJdbcTemplate, List<String> usernames,
+                                                List<String> roleIds, int tenantId, String domainName)
+            throws UserSharingMgtServerException {
+
+        String usernamePlaceholder = "USERNAME_";
+        String roleIdPlaceholder = "ROLE_ID_";
+        String fetchUserRolesQuery = GET_USER_ROLES_OF_USERS_IN_TENANT
+                .replace(PLACEHOLDER_NAME_USER_NAMES, buildNamedPlaceholders(usernamePlaceholder, usernames.size()))
+                .replace(PLACEHOLDER_ROLE_IDS, buildNamedPlaceholders(roleIdPlaceholder, roleIds.size()));
+        List<Map.Entry<String, Integer>> userRoles;
+        try {
+            userRoles = namedJdbcTemplate.executeQuery(fetchUserRolesQuery,
+                    (resultSet, rowNumber) -> new AbstractMap.SimpleImmutableEntry<>(
+                            getUserRoleKey(resultSet.getString(COLUMN_NAME_UM_USER_NAME),
+                                    resultSet.getString(COLUMN_NAME_UM_UUID)),
+                            resultSet.getInt(COLUMN_NAME_UM_ID)),
+                    namedPreparedStatement -> {
+                        for (int index = 1; index <= usernames.size(); index++) {
+                            namedPreparedStatement.setString(usernamePlaceholder + index, usernames.get(index - 1));
+                        }
+                        for (int index = 1; index <= roleIds.size(); index++) {
+                            namedPreparedStatement.setString(roleIdPlaceholder + index, roleIds.get(index - 1));
+                        }
+                        namedPreparedStatement.setInt(COLUMN_NAME_UM_TENANT_ID, tenantId);
+                        namedPreparedStatement.setString(COLUMN_NAME_UM_DOMAIN_NAME, domainName);
+                    });
+        } catch (DataAccessException e) {
+            throw new UserSharingMgtServerException(ERROR_CODE_ERROR_RETRIEVING_USER_ROLE_ID, e);
+        }
+        Map<String, Integer> userRoleIds = new HashMap<>();
+        for (Map.Entry<String, Integer> userRole : userRoles) {
+            userRoleIds.put(userRole.getKey(), userRole.getValue());
+        }
+        return userRoleIds;
+    }
+
+    private String getUserRoleKey(String username, String roleId) {
+
+        // Usernames are matched case-insensitively, as the user store may not preserve the case of a username.
+        return username.toLowerCase(Locale.ENGLISH) + ":" + roleId;
+    }
+
     private Map<String, String> getDBQueryMapOfHasUserAssociations() {
 
         Map<String, String> dbQueryMap = new HashMap<>();
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.dao;
+
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingJobStatus;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtServerException;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserSharingJob;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserSharingJobTarget;
+
+import java.util.List;
+
+/**
+ * DAO interface for the user sharing job journal, which records the asynchronous user sharing jobs, the progress of
+ * their units and the nodes running them.
+ */
+public interface UserSharingJobDAO {
+
+    /**
+     * Check whether the tables of the user sharing job journal are available.
+     *
+     * @throws UserSharingMgtServerException If the tables cannot be accessed.
+     */
+    void checkUserSharingJobTables() throws UserSharingMgtServerException;
+
+    /**
+     * Record the given user sharing job together with its targets, and its units in the pending status.
+     *
+     * @param userSharingJob The user sharing job.
+     * @param ownerNodeId    The ID of the node which runs the job.
+     * @param heartbeat      The time, in milliseconds, at which the job is recorded.
+     * @throws UserSharingMgtServerException If an error occurs while recording the job.
+     */
+    void addUserSharingJob(UserSharingJob userSharingJob, String ownerNodeId, long heartbeat)
+            throws UserSharingMgtServerException;
+
+    /**
+     * Update the status of the given user sharing job.
+     *
+     * @param jobId  The ID of the user sharing job.
+     * @param status The status of the job.
+     * @throws UserSharingMgtServerException If an error occurs while updating the job.
+     */
+    void updateUserSharingJobStatus(String jobId, UserSharingJobStatus status) throws UserSharingMgtServerException;
+
+    /**
+     * Update the status of a unit of the given user sharing job.
+     *
+     * @param jobId  The ID of the user sharing job.
+     * @param userId The ID of the user of the unit.
+     * @param status The status of the unit.
+     * @throws UserSharingMgtServerException If an error occurs while updating the unit.
+     */
+    void updateUserSharingJobUnitStatus(String jobId, String userId, UserSharingJobStatus status)
+            throws UserSharingMgtServerException;
+
+    /**
+     * Refresh the heartbeat of the in progress user sharing jobs run by the given node.
+     *
+     * @param ownerNodeId The ID of the node.
+     * @param heartbeat   The current time in milliseconds.
+     * @throws UserSharingMgtServerException If an error occurs while updating the jobs.
+     */
+    void updateUserSharingJobHeartbeats(String ownerNodeId, long heartbeat) throws UserSharingMgtServerException;
+
+    /**
+     * Get the in progress user sharing jobs of which the heartbeat has not been refreshed since the given time. The
+     * targets and the units of the returned jobs are not loaded.
+     *
+     * @param heartbeatThreshold The time in milliseconds.
+     * @return The user sharing jobs.
+     * @throws UserSharingMgtServerException If an error occurs while retrieving the jobs.
+     */
+    List<UserSharingJob> getUserSharingJobsWithExpiredHeartbeat(long heartbeatThreshold)
+            throws UserSharingMgtServerException;
+
+    /**
+     * Claim the given in progress user sharing job for the given node. The job is claimed only if its heartbeat has
+     * not changed since it was read, so that an interrupted job is resumed by a single node.
+     *
+     * @param userSharingJob The user sharing job, with the heartbeat read from the journal.
+     * @param ownerNodeId    The ID of the node claiming the job.
+     * @param heartbeat      The current time in milliseconds.
+     * @return True if the job is claimed by the given node.
+     * @throws UserSharingMgtServerException If an error occurs while claiming the job.
+     */
+    boolean claimUserSharingJob(UserSharingJob userSharingJob, String ownerNodeId, long heartbeat)
+            throws UserSharingMgtServerException;
+
+    /**
+     * Get the targets of the given user sharing job.
+     *
+     * @param jobId The ID of the user sharing job.
+     * @return The targets of the job.
+     * @throws UserSharingMgtServerException If an error occurs while retrieving the targets.
+     */
+    List<UserSharingJobTarget> getUserSharingJobTargets(String jobId) throws UserSharingMgtServerException;
+
+    /**
+     * Get the IDs of the users of the units of the given user sharing job which are in the given status.
+     *
+     * @param jobId  The ID of the user sharing job.
+     * @param status The status of the units.
+     * @return The IDs of the users.
+     * @throws UserSharingMgtServerException If an error occurs while retrieving the units.
+     */
+    List<String> getUserSharingJobUnits(String jobId, UserSharingJobStatus status)
+            throws UserSharingMgtServerException;
+}
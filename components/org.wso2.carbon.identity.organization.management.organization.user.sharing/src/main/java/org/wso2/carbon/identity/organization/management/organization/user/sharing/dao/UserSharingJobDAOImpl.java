@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.dao;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.database.utils.jdbc.NamedJdbcTemplate;
+import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
+import org.wso2.carbon.database.utils.jdbc.exceptions.TransactionException;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.RoleAssignmentMode;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingJobStatus;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingJobType;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtServerException;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserSharingJob;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserSharingJobTarget;
+import org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.PolicyEnum;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.CHECK_USER_SHARING_JOB_TABLES;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.CREATE_USER_SHARING_JOB;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.CREATE_USER_SHARING_JOB_TARGET;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.CREATE_USER_SHARING_JOB_UNIT;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_USER_SHARING_JOBS_WITH_EXPIRED_HEARTBEAT;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_USER_SHARING_JOB_OWNER;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_USER_SHARING_JOB_TARGETS;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.GET_USER_SHARING_JOB_UNITS_BY_STATUS;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_INITIATED_ORG_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_INITIATED_USER_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_INITIATED_USER_NAME;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_JOB_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_JOB_TYPE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_LAST_HEARTBEAT;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_ORG_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_OWNER_NODE_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_POLICY;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_ROLE_ASSIGNMENT_MODE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_ROLE_IDS;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_STATUS;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_UM_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_UM_TENANT_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.COLUMN_NAME_USER_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.PLACEHOLDER_HEARTBEAT_THRESHOLD;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.PLACEHOLDER_PREVIOUS_HEARTBEAT;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.UPDATE_USER_SHARING_JOB_HEARTBEATS_OF_OWNER;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.UPDATE_USER_SHARING_JOB_OWNER;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.UPDATE_USER_SHARING_JOB_STATUS;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.UPDATE_USER_SHARING_JOB_UNIT_STATUS;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_ADD_USER_SHARING_JOB;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_GET_USER_SHARING_JOBS;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_UPDATE_USER_SHARING_JOB;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_SHARING_JOB_TABLES_NOT_AVAILABLE;
+import static org.wso2.carbon.identity.organization.management.service.util.Utils.getNewTemplate;
+
+/**
+ * DAO implementation for the user sharing job journal.
+ */
+public class UserSharingJobDAOImpl implements UserSharingJobDAO {
+
+    private static final String ROLE_ID_SEPARATOR = ",";
+
+    @Override
+    public void checkUserSharingJobTables() throws UserSharingMgtServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            namedJdbcTemplate.executeQuery(CHECK_USER_SHARING_JOB_TABLES,
+                    (resultSet, rowNumber) -> resultSet.getString(COLUMN_NAME_UM_ID),
+                    namedPreparedStatement -> {
+                        // The query does not have parameters.
+                    });
+        } catch (DataAccessException e) {
+            throw new UserSharingMgtServerException(ERROR_CODE_USER_SHARING_JOB_TABLES_NOT_AVAILABLE, e);
+        }
+    }
+
+    @Override
+    public void addUserSharingJob(UserSharingJob userSharingJob, String ownerNodeId, long heartbeat)
+            throws UserSharingMgtServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            namedJdbcTemplate.withTransaction(template -> {
+                template.executeInsert(CREATE_USER_SHARING_JOB, namedPreparedStatement -> {
+                    namedPreparedStatement.setString(COLUMN_NAME_UM_ID, userSharingJob.getJobId());
+                    namedPreparedStatement.setString(COLUMN_NAME_JOB_TYPE, userSharingJob.getJobType().name());
+                    namedPreparedStatement.setInt(COLUMN_NAME_UM_TENANT_ID, userSharingJob.getTenantId());
+                    namedPreparedStatement.setString(COLUMN_NAME_INITIATED_ORG_ID, userSharingJob.getInitiatedOrgId());
+                    namedPreparedStatement.setString(COLUMN_NAME_INITIATED_USER_ID,
+                            userSharingJob.getInitiatedUserId());
+                    namedPreparedStatement.setString(COLUMN_NAME_INITIATED_USER_NAME,
+                            userSharingJob.getInitiatedUsername());
+                    namedPreparedStatement.setString(COLUMN_NAME_STATUS, UserSharingJobStatus.IN_PROGRESS.name());
+                    namedPreparedStatement.setString(COLUMN_NAME_OWNER_NODE_ID, ownerNodeId);
+                    namedPreparedStatement.setLong(COLUMN_NAME_LAST_HEARTBEAT, heartbeat);
+                }, null, false);
+                if (!userSharingJob.getTargets().isEmpty()) {
+                    template.executeBatchInsert(CREATE_USER_SHARING_JOB_TARGET, namedPreparedStatement -> {
+                        for (UserSharingJobTarget target : userSharingJob.getTargets()) {
+                            namedPreparedStatement.setString(COLUMN_NAME_JOB_ID, userSharingJob.getJobId());
+                            namedPreparedStatement.setString(COLUMN_NAME_ORG_ID, target.getOrganizationId());
+                            namedPreparedStatement.setString(COLUMN_NAME_POLICY,
+                                    target.getPolicy() != null ? target.getPolicy().getPolicyCode() : null);
+                            namedPreparedStatement.setString(COLUMN_NAME_ROLE_IDS,
+                                    target.getRoleIds() != null ?
+                                            String.join(ROLE_ID_SEPARATOR, target.getRoleIds()) : null);
+                            namedPreparedStatement.setString(COLUMN_NAME_ROLE_ASSIGNMENT_MODE,
+                                    target.getRoleAssignmentMode() != null ?
+                                            target.getRoleAssignmentMode().toString() : null);
+                            namedPreparedStatement.addBatch();
+                        }
+                    }, null);
+                }
+                if (!userSharingJob.getUserIds().isEmpty()) {
+                    template.executeBatchInsert(CREATE_USER_SHARING_JOB_UNIT, namedPreparedStatement -> {
+                        for (String userId : userSharingJob.getUserIds()) {
+                            namedPreparedStatement.setString(COLUMN_NAME_JOB_ID, userSharingJob.getJobId());
+                            namedPreparedStatement.setString(COLUMN_NAME_USER_ID, userId);
+                            namedPreparedStatement.setString(COLUMN_NAME_STATUS, UserSharingJobStatus.PENDING.name());
+                            namedPreparedStatement.addBatch();
+                        }
+                    }, null);
+                }
+                return null;
+            });
+        } catch (TransactionException e) {
+            throw new UserSharingMgtServerException(ERROR_CODE_ADD_USER_SHARING_JOB, e);
+        }
+    }
+
+    @Override
+    public void updateUserSharingJobStatus(String jobId, UserSharingJobStatus status)
+            throws UserSharingMgtServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            namedJdbcTemplate.executeUpdate(UPDATE_USER_SHARING_JOB_STATUS, namedPreparedStatement -> {
+                namedPreparedStatement.setString(COLUMN_NAME_STATUS, status.name());
+                namedPreparedStatement.setString(COLUMN_NAME_UM_ID, jobId);
+            });
+        } catch (DataAccessException e) {
+            throw new UserSharingMgtServerException(ERROR_CODE_UPDATE_USER_SHARING_JOB, e);
+        }
+    }
+
+    @Override
+    public void updateUserSharingJobUnitStatus(String jobId, String userId, UserSharingJobStatus status)
+            throws UserSharingMgtServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            namedJdbcTemplate.executeUpdate(UPDATE_USER_SHARING_JOB_UNIT_STATUS, namedPreparedStatement -> {
+                namedPreparedStatement.setString(COLUMN_NAME_STATUS, status.name());
+                namedPreparedStatement.setString(COLUMN_NAME_JOB_ID, jobId);
+                namedPreparedStatement.setString(COLUMN_NAME_USER_ID, userId);
+            });
+        } catch (DataAccessException e) {
+            throw new UserSharingMgtServerException(ERROR_CODE_UPDATE_USER_SHARING_JOB, e);
+        }
+    }
+
+    @Override
+    public void updateUserSharingJobHeartbeats(String ownerNodeId, long heartbeat)
+            throws UserSharingMgtServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            namedJdbcTemplate.executeUpdate(UPDATE_USER_SHARING_JOB_HEARTBEATS_OF_OWNER, namedPreparedStatement -> {
+                namedPreparedStatement.setLong(COLUMN_NAME_LAST_HEARTBEAT, heartbeat);
+                namedPreparedStatement.setString(COLUMN_NAME_OWNER_NODE_ID, ownerNodeId);
+                namedPreparedStatement.setString(COLUMN_NAME_STATUS, UserSharingJobStatus.IN_PROGRESS.name());
+            });
+        } catch (DataAccessException e) {
+            throw new UserSharingMgtServerException(ERROR_CODE_UPDATE_USER_SHARING_JOB, e);
+        }
+    }
+
+    @Override
+    public List<UserSharingJob> getUserSharingJobsWithExpiredHeartbeat(long heartbeatThreshold)
+            throws UserSharingMgtServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            return namedJdbcTemplate.executeQuery(GET_USER_SHARING_JOBS_WITH_EXPIRED_HEARTBEAT,
+                    (resultSet, rowNumber) -> {
+                        UserSharingJob userSharingJob = new UserSharingJob();
+                        userSharingJob.setJobId(resultSet.getString(COLUMN_NAME_UM_ID));
+                        userSharingJob.setJobType(
+                                UserSharingJobType.valueOf(resultSet.getString(COLUMN_NAME_JOB_TYPE)));
+                        userSharingJob.setTenantId(resultSet.getInt(COLUMN_NAME_UM_TENANT_ID));
+                        userSharingJob.setInitiatedOrgId(resultSet.getString(COLUMN_NAME_INITIATED_ORG_ID));
+                        userSharingJob.setInitiatedUserId(resultSet.getString(COLUMN_NAME_INITIATED_USER_ID));
+                        userSharingJob.setInitiatedUsername(resultSet.getString(COLUMN_NAME_INITIATED_USER_NAME));
+                        userSharingJob.setLastHeartbeat(resultSet.getLong(COLUMN_NAME_LAST_HEARTBEAT));
+                        return userSharingJob;
+                    },
+                    namedPreparedStatement -> {
+                        namedPreparedStatement.setString(COLUMN_NAME_STATUS, UserSharingJobStatus.IN_PROGRESS.name());
+                        namedPreparedStatement.setLong(PLACEHOLDER_HEARTBEAT_THRESHOLD, heartbeatThreshold);
+                    });
+        } catch (DataAccessException e) {
+            throw new UserSharingMgtServerException(ERROR_CODE_GET_USER_SHARING_JOBS, e);
+        }
+    }
+
+    @Override
+    public boolean claimUserSharingJob(UserSharingJob userSharingJob, String ownerNodeId, long heartbeat)
+            throws UserSharingMgtServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            String claimedNodeId = namedJdbcTemplate.withTransaction(template -> {
+                template.executeUpdate(UPDATE_USER_SHARING_JOB_OWNER, namedPreparedStatement -> {
+                    namedPreparedStatement.setString(COLUMN_NAME_OWNER_NODE_ID, ownerNodeId);
+                    namedPreparedStatement.setLong(COLUMN_NAME_LAST_HEARTBEAT, heartbeat);
+                    namedPreparedStatement.setString(COLUMN_NAME_UM_ID, userSharingJob.getJobId());
+                    namedPreparedStatement.setString(COLUMN_NAME_STATUS, UserSharingJobStatus.IN_PROGRESS.name());
+                    namedPreparedStatement.setLong(PLACEHOLDER_PREVIOUS_HEARTBEAT, userSharingJob.getLastHeartbeat());
+                });
+                return template.fetchSingleRecord(GET_USER_SHARING_JOB_OWNER,
+                        (resultSet, rowNumber) -> resultSet.getString(COLUMN_NAME_OWNER_NODE_ID),
+                        namedPreparedStatement -> namedPreparedStatement.setString(COLUMN_NAME_UM_ID,
+                                userSharingJob.getJobId()));
+            });
+            return ownerNodeId.equals(claimedNodeId);
+        } catch (TransactionException e) {
+            throw new UserSharingMgtServerException(ERROR_CODE_UPDATE_USER_SHARING_JOB, e);
+        }
+    }
+
+    @Override
+    public List<UserSharingJobTarget> getUserSharingJobTargets(String jobId) throws UserSharingMgtServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            return namedJdbcTemplate.executeQuery(GET_USER_SHARING_JOB_TARGETS,
+                    (resultSet, rowNumber) -> {
+                        String policyCode = resultSet.getString(COLUMN_NAME_POLICY);
+                        String roleIds = resultSet.getString(COLUMN_NAME_ROLE_IDS);
+                        String roleAssignmentMode = resultSet.getString(COLUMN_NAME_ROLE_ASSIGNMENT_MODE);
+                        return new UserSharingJobTarget(resultSet.getString(COLUMN_NAME_ORG_ID),
+                                StringUtils.isNotBlank(policyCode) ? PolicyEnum.getPolicyByPolicyCode(policyCode) :
+                                        null,
+                                StringUtils.isNotBlank(roleIds) ?
+                                        new ArrayList<>(Arrays.asList(roleIds.split(ROLE_ID_SEPARATOR))) :
+                                        new ArrayList<>(),
+                                StringUtils.isNotBlank(roleAssignmentMode) ?
+                                        RoleAssignmentMode.fromString(roleAssignmentMode) : null);
+                    },
+                    namedPreparedStatement -> namedPreparedStatement.setString(COLUMN_NAME_JOB_ID, jobId));
+        } catch (DataAccessException e) {
+            throw new UserSharingMgtServerException(ERROR_CODE_GET_USER_SHARING_JOBS, e);
+        }
+    }
+
+    @Override
+    public List<String> getUserSharingJobUnits(String jobId, UserSharingJobStatus status)
+            throws UserSharingMgtServerException {
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            List<String> userIds = namedJdbcTemplate.executeQuery(GET_USER_SHARING_JOB_UNITS_BY_STATUS,
+                    (resultSet, rowNumber) -> resultSet.getString(COLUMN_NAME_USER_ID),
+                    namedPreparedStatement -> {
+                        namedPreparedStatement.setString(COLUMN_NAME_JOB_ID, jobId);
+                        namedPreparedStatement.setString(COLUMN_NAME_STATUS, status.name());
+                    });
+            return userIds != null ? userIds : Collections.emptyList();
+        } catch (DataAccessException e) {
+            throw new UserSharingMgtServerException(ERROR_CODE_GET_USER_SHARING_JOBS, e);
+        }
+    }
+}
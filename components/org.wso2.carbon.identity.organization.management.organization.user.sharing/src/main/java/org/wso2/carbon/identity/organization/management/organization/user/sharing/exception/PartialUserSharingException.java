@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.exception;
+
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_CREATE_SHARED_USER;
+
+/**
+ * Exception thrown when a user could be shared with only some of the requested organizations. The shared users and
+ * the associations of the other organizations are kept, and are carried by the exception.
+ */
+public class PartialUserSharingException extends OrganizationManagementServerException {
+
+    private final List<String> failedOrgIds;
+    private final List<UserAssociation> createdUserAssociations;
+
+    public PartialUserSharingException(List<String> failedOrgIds, List<UserAssociation> createdUserAssociations,
+                                       Throwable cause) {
+
+        super(ERROR_CODE_ERROR_CREATE_SHARED_USER.getMessage(),
+                String.format(ERROR_CODE_ERROR_CREATE_SHARED_USER.getDescription(), String.join(", ", failedOrgIds)),
+                ERROR_CODE_ERROR_CREATE_SHARED_USER.getCode(), cause);
+        this.failedOrgIds = Collections.unmodifiableList(failedOrgIds);
+        this.createdUserAssociations = Collections.unmodifiableList(createdUserAssociations);
+    }
+
+    /**
+     * Get the IDs of the organizations the user could not be shared with.
+     *
+     * @return The IDs of the failed organizations.
+     */
+    public List<String> getFailedOrgIds() {
+
+        return failedOrgIds;
+    }
+
+    /**
+     * Get the user associations created for the organizations the user got shared with.
+     *
+     * @return The created user associations.
+     */
+    public List<UserAssociation> getCreatedUserAssociations() {
+
+        return createdUserAssociations;
+    }
+}
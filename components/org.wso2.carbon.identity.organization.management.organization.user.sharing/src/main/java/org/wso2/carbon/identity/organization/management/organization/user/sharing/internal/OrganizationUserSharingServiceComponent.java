@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -24,6 +24,7 @@ import org.osgi.framework.BundleContext;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
@@ -38,10 +39,13 @@ import org.wso2.carbon.identity.organization.management.organization.user.sharin
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.UserSharingPolicyHandlerServiceImplV2;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.UserSharingPolicyHandlerServiceV2;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.listener.OrganizationUserSharingHandler;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.listener.SharedProfileValueResolvingMethodCacheInvalidationHandler;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.listener.SharedUserOperationEventListener;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.listener.SharedUserProfileUpdateGovernanceEventListener;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.listener.SharedUserRoleGovernanceListener;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.listener.SharingOrganizationCreatorUserEventHandler;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.UserSharingExecutor;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.UserSharingJobJournal;
 import org.wso2.carbon.identity.organization.management.role.management.service.RoleManager;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.OrgResourceResolverService;
@@ -81,17 +85,29 @@ public class OrganizationUserSharingServiceComponent {
                 new SharingOrganizationCreatorUserEventHandler(), null);
         bundleContext.registerService(AbstractEventHandler.class.getName(),
                 new OrganizationUserSharingHandler(), null);
+        bundleContext.registerService(AbstractEventHandler.class.getName(),
+                new SharedProfileValueResolvingMethodCacheInvalidationHandler(), null);
         UserSharingPolicyHandlerService userSharingPolicyHandlerService = new UserSharingPolicyHandlerServiceImpl();
         bundleContext.registerService(UserSharingPolicyHandlerService.class.getName(), userSharingPolicyHandlerService,
                 null);
         LOG.debug("OrganizationUserSharingServiceComponent activated successfully.");
-        UserSharingPolicyHandlerServiceV2 userSharingPolicyHandlerServiceV2 =
+        UserSharingPolicyHandlerServiceImplV2 userSharingPolicyHandlerServiceV2 =
                 new UserSharingPolicyHandlerServiceImplV2();
+        // The journal checks its tables before the service accepts any job.
+        UserSharingJobJournal.getInstance().startRecovery(userSharingPolicyHandlerServiceV2::resumeUserSharingJob);
         bundleContext.registerService(UserSharingPolicyHandlerServiceV2.class.getName(),
                 userSharingPolicyHandlerServiceV2, null);
         LOG.debug("OrganizationUserSharingServiceComponent-V2 activated successfully.");
     }
 
+    @Deactivate
+    protected void deactivate(ComponentContext componentContext) {
+
+        UserSharingJobJournal.getInstance().stopRecovery();
+        UserSharingExecutor.shutdownInstance();
+        LOG.debug("OrganizationUserSharingServiceComponent deactivated successfully.");
+    }
+
     @Reference(
             name = "realm.service",
             service = RealmService.class,
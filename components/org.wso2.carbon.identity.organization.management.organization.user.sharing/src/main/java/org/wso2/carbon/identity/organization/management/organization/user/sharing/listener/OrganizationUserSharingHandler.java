@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -20,7 +20,9 @@ package org.wso2.carbon.identity.organization.management.organization.user.shari
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
@@ -32,9 +34,10 @@ import org.wso2.carbon.identity.organization.management.organization.user.sharin
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtException;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.internal.OrganizationUserSharingDataHolder;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.SharingInitiatorContext;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.UserSharingExecutor;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
-import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
 import org.wso2.carbon.identity.organization.management.service.model.Organization;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
 import org.wso2.carbon.identity.organization.management.service.util.Utils;
@@ -52,10 +55,20 @@ import org.wso2.carbon.user.core.util.UserCoreUtil;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARE_BATCH_SIZE;
+
 /**
  * The event handler for sharing users to the newly created organization.
  */
@@ -113,47 +126,107 @@ public class OrganizationUserSharingHandler extends AbstractEventHandler {
         int topHierarchyLevel = Utils.getSubOrgStartLevel() >= 1 ? Utils.getSubOrgStartLevel() - 1 : 0;
         List<String> relevantAncestorOrgs =
                 new ArrayList<>(allAncestorOrgs.subList(1, allAncestorOrgs.size() - topHierarchyLevel));
+        if (relevantAncestorOrgs.isEmpty()) {
+            return;
+        }
+        // The ancestor chain starts from the created organization itself, followed by its parent.
+        String parentOrgId = allAncestorOrgs.get(1);
 
-        // Get all resources of each ancestor organization.
-        Map<String, List<ResourceSharingPolicy>> resourcesGroupedByOrganization =
-                getResourceSharingPolicyHandlerService().getResourceSharingPoliciesGroupedByPolicyHoldingOrgId(
+        // Get all resources of each ancestor organization, together with their shared attributes.
+        Map<String, Map<ResourceSharingPolicy, List<SharedResourceAttribute>>> resourcesGroupedByOrganization =
+                getResourceSharingPolicyHandlerService().getResourceSharingPoliciesWithSharedAttributes(
                         relevantAncestorOrgs);
 
-        for (Map.Entry<String, List<ResourceSharingPolicy>> ancestorOrgEntry :
+        /*
+        A user may have several sharing policies, such as one held by each ancestor organization. The policies of a
+        user are merged, so that the user is shared by a single thread with the union of the roles of the policies.
+         */
+        Map<String, ResourceSharingPolicy> userResources = new LinkedHashMap<>();
+        Map<String, Set<String>> roleIdsOfUsers = new HashMap<>();
+        Set<String> allRoleIds = new LinkedHashSet<>();
+        for (Map.Entry<String, Map<ResourceSharingPolicy, List<SharedResourceAttribute>>> ancestorOrgEntry :
                 resourcesGroupedByOrganization.entrySet()) {
-            List<ResourceSharingPolicy> resourcesList = ancestorOrgEntry.getValue();
-            for (ResourceSharingPolicy resource : resourcesList) {
-                if (!ResourceType.USER.equals(resource.getResourceType())) {
+            boolean isParentOrg = parentOrgId.equals(ancestorOrgEntry.getKey());
+            for (Map.Entry<ResourceSharingPolicy, List<SharedResourceAttribute>> resourceEntry :
+                    ancestorOrgEntry.getValue().entrySet()) {
+                ResourceSharingPolicy resource = resourceEntry.getKey();
+                if (!ResourceType.USER.equals(resource.getResourceType()) ||
+                        !shouldShareUser(resource.getSharingPolicy(), isParentOrg)) {
                     continue;
                 }
+                // Extract the role IDs from the user attributes.
+                List<String> roleIds = resourceEntry.getValue().stream()
+                        .filter(attribute -> SharedAttributeType.ROLE.equals(attribute.getSharedAttributeType()))
+                        .map(SharedResourceAttribute::getSharedAttributeId).collect(Collectors.toList());
+                userResources.putIfAbsent(resource.getResourceId(), resource);
+                roleIdsOfUsers.computeIfAbsent(resource.getResourceId(), userId -> new LinkedHashSet<>())
+                        .addAll(roleIds);
+                allRoleIds.addAll(roleIds);
+            }
+        }
+        if (userResources.isEmpty()) {
+            return;
+        }
 
-                if (shouldShareUser(resource.getSharingPolicy(), createdOrgId, ancestorOrgEntry.getKey())) {
-                    shareUser(resource, resource.getResourceId(),
-                            resource.getInitiatingOrgId(), createdOrgId);
-                }
+        // The tenant domain and the shared roles of the created organization are resolved once for all the users.
+        String tenantDomain = getOrganizationManager().resolveTenantDomain(createdOrgId);
+        Map<String, String> mainRoleToSharedRoleMappings =
+                getMainRoleToSharedRoleMappings(new ArrayList<>(allRoleIds), createdOrgId, tenantDomain);
+
+        List<String> userIds = new ArrayList<>(userResources.keySet());
+        SharingInitiatorContext sharingInitiatorContext = SharingInitiatorContext.capture();
+        Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
+        Executor executor =
+                UserSharingExecutor.getInstance().forTenant(sharingInitiatorContext.getSharingInitiatedTenantDomain());
+        for (int fromIndex = 0; fromIndex < userIds.size(); fromIndex += USER_SHARE_BATCH_SIZE) {
+            List<String> userIdsChunk =
+                    userIds.subList(fromIndex, Math.min(fromIndex + USER_SHARE_BATCH_SIZE, userIds.size()));
+            try {
+                CompletableFuture.runAsync(() -> {
+                    initiateThreadLocalContext(sharingInitiatorContext, threadLocalProperties);
+                    try {
+                        shareUserChunk(userIdsChunk, userResources, roleIdsOfUsers, createdOrgId, tenantDomain,
+                                mainRoleToSharedRoleMappings);
+                    } finally {
+                        PrivilegedCarbonContext.endTenantFlow();
+                    }
+                }, executor).exceptionally(ex -> {
+                    LOG.error("Error occurred while sharing users with the organization: " + createdOrgId, ex);
+                    return null;
+                });
+            } catch (RejectedExecutionException e) {
+                // The user sharing executor is saturated. Hence, the chunk is shared in the event thread.
+                shareUserChunk(userIdsChunk, userResources, roleIdsOfUsers, createdOrgId, tenantDomain,
+                        mainRoleToSharedRoleMappings);
             }
         }
     }
 
-    private boolean shouldShareUser(PolicyEnum policy, String createdOrgId, String ancestorOrgId)
-            throws OrganizationManagementServerException {
+    private boolean shouldShareUser(PolicyEnum policy, boolean isParentOrg) {
 
-        return isAllExistingAndFutureOrgs(policy) ||
-                (isImmediateLevelOrganization(createdOrgId, ancestorOrgId) && isImmediateExistingAndFutureOrgs(policy));
+        return isAllExistingAndFutureOrgs(policy) || (isParentOrg && isImmediateExistingAndFutureOrgs(policy));
     }
 
-    private void shareUser(ResourceSharingPolicy resource, String userId, String residentOrgId, String createdOrgId)
-            throws OrganizationManagementException, ResourceSharingPolicyMgtException, IdentityRoleManagementException {
+    private void shareUserChunk(List<String> userIds, Map<String, ResourceSharingPolicy> userResources,
+                                Map<String, Set<String>> roleIdsOfUsers, String createdOrgId, String tenantDomain,
+                                Map<String, String> mainRoleToSharedRoleMappings) {
 
-        List<SharedResourceAttribute> userAttributes =
-                OrganizationUserSharingDataHolder.getInstance().getResourceSharingPolicyHandlerService()
-                        .getSharedResourceAttributesBySharingPolicyId(resource.getResourceSharingPolicyId());
+        for (String userId : userIds) {
+            try {
+                shareUser(userResources.get(userId), new ArrayList<>(roleIdsOfUsers.get(userId)), createdOrgId,
+                        tenantDomain, mainRoleToSharedRoleMappings);
+            } catch (OrganizationManagementException | IdentityRoleManagementException e) {
+                LOG.error("Error while sharing the user: " + userId + " with the organization: " + createdOrgId, e);
+            }
+        }
+    }
 
-        // Extract the role IDs from the user attributes.
-        List<String> roleIds = userAttributes.stream()
-                .filter(attribute -> SharedAttributeType.ROLE.equals(attribute.getSharedAttributeType()))
-                .map(SharedResourceAttribute::getSharedAttributeId).collect(Collectors.toList());
+    private void shareUser(ResourceSharingPolicy resource, List<String> roleIds, String createdOrgId,
+                           String tenantDomain, Map<String, String> mainRoleToSharedRoleMappings)
+            throws OrganizationManagementException, IdentityRoleManagementException {
 
+        String userId = resource.getResourceId();
+        String residentOrgId = resource.getInitiatingOrgId();
         UserAssociation existingUserAssociation =
                 userSharingService.getUserAssociationOfAssociatedUserByOrgId(userId, createdOrgId);
         if (existingUserAssociation == null) {
@@ -162,13 +235,15 @@ public class OrganizationUserSharingHandler extends AbstractEventHandler {
             LOG.debug("User: " + userId + " is already shared with the organization: " + createdOrgId);
         }
 
-        if (roleIds.isEmpty()) {
+        // Get the corresponding shared role IDs in the created organization.
+        List<String> sharedRoleIds = roleIds.stream()
+                .map(mainRoleToSharedRoleMappings::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        if (sharedRoleIds.isEmpty()) {
             return;
         }
 
-        // Get the corresponding shared role IDs in the created organization.
-        List<String> sharedRoleIds = getSharedRoleIds(roleIds, createdOrgId);
-        String tenantDomain = getOrganizationManager().resolveTenantDomain(createdOrgId);
         String sharedUserId =
                 userSharingService.getUserAssociationOfAssociatedUserByOrgId(userId, createdOrgId).getUserId();
         List<String> sharedUserExistingRoles =
@@ -177,38 +252,43 @@ public class OrganizationUserSharingHandler extends AbstractEventHandler {
         // Remove the shared roles that are already assigned to the shared user.
         sharedRoleIds.removeIf(sharedUserExistingRoles::contains);
 
+        if (sharedRoleIds.isEmpty()) {
+            return;
+        }
         for (String sharedRoleId : sharedRoleIds) {
             // Assign the shared roles to the shared user.
             getRoleManagementService().updateUserListOfRole(sharedRoleId, Collections.singletonList(sharedUserId),
                     Collections.emptyList(), tenantDomain);
-            restrictUserRoleDeletion(sharedRoleId, userId, tenantDomain, createdOrgId, resource.getInitiatingOrgId());
         }
+        restrictUserRoleDeletion(sharedRoleIds, sharedUserId, tenantDomain, residentOrgId);
     }
 
-    private void restrictUserRoleDeletion(String rolId, String userId, String tenantDomain, String createdOrgId,
+    private void restrictUserRoleDeletion(List<String> roleIds, String sharedUserId, String tenantDomain,
                                           String permittedOrgId) {
 
         try {
-            UserAssociation userAssociation =
-                    getOrganizationUserSharingService().getUserAssociationOfAssociatedUserByOrgId(userId, createdOrgId);
-            String usernameWithDomain = userIDResolver.getNameByID(userAssociation.getUserId(), tenantDomain);
+            String usernameWithDomain = userIDResolver.getNameByID(sharedUserId, tenantDomain);
             String username = UserCoreUtil.removeDomainFromName(usernameWithDomain);
             String domainName = UserCoreUtil.extractDomainFromName(usernameWithDomain);
 
-            getOrganizationUserSharingService().addEditRestrictionsForSharedUserRole(rolId, username,
-                    tenantDomain, domainName, EditOperation.DELETE, permittedOrgId);
-        } catch (IdentityRoleManagementException | UserSharingMgtException | OrganizationManagementException e) {
+            // The edit restrictions of all the assigned roles are added together.
+            getOrganizationUserSharingService().addEditRestrictionsForSharedUserRoles(
+                    Collections.singletonMap(username, roleIds), tenantDomain, domainName, EditOperation.DELETE,
+                    permittedOrgId);
+        } catch (IdentityRoleManagementException | UserSharingMgtException e) {
             LOG.error("Error while adding edit restrictions for shared user role deletion.", e);
         }
     }
 
-    private List<String> getSharedRoleIds(List<String> roleIds, String createdOrgId)
-            throws OrganizationManagementException, IdentityRoleManagementException {
+    private Map<String, String> getMainRoleToSharedRoleMappings(List<String> roleIds, String createdOrgId,
+                                                                String tenantDomain)
+            throws IdentityRoleManagementException {
 
+        if (roleIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
         Map<String, String> mainRoleToSharedRoleMappings =
-                OrganizationUserSharingDataHolder.getInstance().getRoleManagementService()
-                        .getMainRoleToSharedRoleMappingsBySubOrg(roleIds,
-                                getOrganizationManager().resolveTenantDomain(createdOrgId));
+                getRoleManagementService().getMainRoleToSharedRoleMappingsBySubOrg(roleIds, tenantDomain);
 
         List<String> rolesWithoutSharedRoles = roleIds.stream().filter(roleId -> !mainRoleToSharedRoleMappings
                 .containsKey(roleId)).collect(Collectors.toList());
@@ -217,7 +297,19 @@ public class OrganizationUserSharingHandler extends AbstractEventHandler {
             LOG.debug("No shared roles found in organization: " + createdOrgId + " for the following roles: " +
                     rolesWithoutSharedRoles);
         }
-        return new ArrayList<>(mainRoleToSharedRoleMappings.values());
+        return mainRoleToSharedRoleMappings;
+    }
+
+    private void initiateThreadLocalContext(SharingInitiatorContext sharingInitiatorContext,
+                                            Map<String, Object> threadLocalProperties) {
+
+        // The caller is responsible for calling endTenantFlow() once the users are shared.
+        PrivilegedCarbonContext.startTenantFlow();
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        carbonContext.setTenantDomain(sharingInitiatorContext.getSharingInitiatedTenantDomain(), true);
+        carbonContext.setTenantId(sharingInitiatorContext.getSharingInitiatedTenantId());
+        carbonContext.setUsername(sharingInitiatorContext.getSharingInitiatedUsername());
+        IdentityUtil.threadLocalProperties.get().putAll(threadLocalProperties);
     }
 
     private boolean isAllExistingAndFutureOrgs(PolicyEnum policy) {
@@ -232,13 +324,6 @@ public class OrganizationUserSharingHandler extends AbstractEventHandler {
                 PolicyEnum.SELECTED_ORG_WITH_EXISTING_IMMEDIATE_AND_FUTURE_CHILDREN.equals(policy);
     }
 
-    private boolean isImmediateLevelOrganization(String createdOrgId, String ancestorOrg)
-            throws OrganizationManagementServerException {
-
-        return getOrganizationManager().getRelativeDepthBetweenOrganizationsInSameBranch(ancestorOrg,
-                createdOrgId) == 1;
-    }
-
     private OrganizationUserSharingService getOrganizationUserSharingService() {
 
         return OrganizationUserSharingDataHolder.getInstance().getOrganizationUserSharingService();
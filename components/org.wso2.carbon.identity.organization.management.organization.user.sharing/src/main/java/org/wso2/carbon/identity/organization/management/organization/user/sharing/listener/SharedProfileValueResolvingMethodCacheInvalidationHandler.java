@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.listener;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.OrganizationSharedUserUtil;
+
+/**
+ * Event handler which keeps the shared profile value resolving method cache consistent with local claim add, update
+ * and delete operations.
+ */
+public class SharedProfileValueResolvingMethodCacheInvalidationHandler extends AbstractEventHandler {
+
+    private static final Log LOG = LogFactory.getLog(SharedProfileValueResolvingMethodCacheInvalidationHandler.class);
+
+    @Override
+    public String getName() {
+
+        return "SharedProfileValueResolvingMethodCacheInvalidationHandler";
+    }
+
+    @Override
+    public int getPriority(MessageContext messageContext) {
+
+        return 10;
+    }
+
+    @Override
+    public boolean canHandle(MessageContext messageContext) throws IdentityRuntimeException {
+
+        String eventName = ((IdentityEventMessageContext) messageContext).getEvent().getEventName();
+        return IdentityEventConstants.Event.POST_ADD_LOCAL_CLAIM.equals(eventName) ||
+                IdentityEventConstants.Event.POST_UPDATE_LOCAL_CLAIM.equals(eventName) ||
+                IdentityEventConstants.Event.POST_DELETE_LOCAL_CLAIM.equals(eventName);
+    }
+
+    @Override
+    public void handleEvent(Event event) throws IdentityEventException {
+
+        /*
+        Local claims of the organizations are derived from the claims of their ancestors. Since the claims of an
+        organization change whenever the claims of an ancestor change, the resolving methods of all the tenants
+        are cleared.
+         */
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Clearing the shared profile value resolving method cache as a local claim is modified in the " +
+                    "tenant: " + event.getEventProperties().get(IdentityEventConstants.EventProperty.TENANT_ID));
+        }
+        OrganizationSharedUserUtil.clearSharedProfileValueResolvingMethodCache();
+    }
+}
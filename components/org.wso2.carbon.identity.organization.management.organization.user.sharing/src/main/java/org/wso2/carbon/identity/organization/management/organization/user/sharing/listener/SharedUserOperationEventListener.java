@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.organization.management.organization.user.sharing.listener;
 
+import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -32,6 +33,9 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.core.util.LambdaExceptionUtils;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.OrganizationUserSharingService;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.OrganizationUserSharingServiceImpl;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.SharedProfileValueResolvingMethodCache;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.SharedProfileValueResolvingMethodCacheEntry;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.SharedProfileValueResolvingMethodCacheKey;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SharedType;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.internal.OrganizationUserSharingDataHolder;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
@@ -42,6 +46,7 @@ import org.wso2.carbon.identity.organization.management.service.util.Organizatio
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.OrgResourceResolverService;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.FirstFoundAggregationStrategy;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.MergeAllAggregationStrategy;
 import org.wso2.carbon.user.api.UserRealm;
 import org.wso2.carbon.user.core.UserStoreClientException;
 import org.wso2.carbon.user.core.UserStoreException;
@@ -54,11 +59,16 @@ import org.wso2.carbon.user.core.service.RealmService;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 import static org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants.SHARED_PROFILE_VALUE_RESOLVING_METHOD;
 import static org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants.SharedProfileValueResolvingMethod.FROM_FIRST_FOUND_IN_HIERARCHY;
@@ -71,6 +81,7 @@ import static org.wso2.carbon.identity.organization.management.service.constant.
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_SHARED_USER_CLAIM_UPDATE_NOT_ALLOWED;
 import static org.wso2.carbon.identity.organization.management.service.util.Utils.getOrganizationId;
 import static org.wso2.carbon.identity.organization.management.service.util.Utils.getTenantDomain;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
 
 /**
  * User operation event listener for shared user management.
@@ -145,6 +156,13 @@ public class SharedUserOperationEventListener extends AbstractIdentityUserOperat
         if (!sharedUserProfileUpdateGovernanceEventListener.isEnable()) {
             return true;
         }
+        /*
+        If the flow is invoked while resolving claims from the hierarchy, the claim values stored in the shared
+        profile of the current organization are required. Hence, skip the shared profile resolving.
+         */
+        if (IdentityUtil.threadLocalProperties.get().containsKey(INSIDE_CLAIM_RESOLVER_FLAG)) {
+            return true;
+        }
         String currentTenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
         try {
             if (!OrganizationManagementUtil.isOrganization(currentTenantDomain)) {
@@ -195,6 +213,16 @@ public class SharedUserOperationEventListener extends AbstractIdentityUserOperat
         if (!sharedUserProfileUpdateGovernanceEventListener.isEnable()) {
             return true;
         }
+        /*
+        If the flow is invoked while resolving claims from the hierarchy, the claim values stored in the shared
+        profiles of the organization are required. Hence, skip the shared profile resolving. The claim values of the
+        users in the ancestor organizations are retrieved in bulk while resolving the claims from the hierarchy, and
+        resolving them again here would replace the stored values with resolved ones and resolve the hierarchy of each
+        ancestor recursively. This is the same as done when the claims of a single user are retrieved.
+         */
+        if (IdentityUtil.threadLocalProperties.get().containsKey(INSIDE_CLAIM_RESOLVER_FLAG)) {
+            return true;
+        }
         String currentTenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
         try {
             if (!OrganizationManagementUtil.isOrganization(currentTenantDomain)) {
@@ -202,23 +230,40 @@ public class SharedUserOperationEventListener extends AbstractIdentityUserOperat
                 return true;
             }
             String currentOrganizationId = resolveOrganizationId(currentTenantDomain);
+            List<String> searchedUserIds = new ArrayList<>();
+            for (UniqueIDUserClaimSearchEntry userClaimSearchEntry : userClaimSearchEntries) {
+                searchedUserIds.add(userClaimSearchEntry.getUser().getUserID());
+            }
+            Map<String, UserAssociation> userAssociationsByUserId =
+                    getUserAssociationsOfSharedUsers(searchedUserIds, currentOrganizationId);
+            if (userAssociationsByUserId.isEmpty()) {
+                // None of the users are shared users. Hence, return.
+                return true;
+            }
             // Analyse SharedProfileValueResolvingMethod value of claim and categorize.
             Map<ClaimConstants.SharedProfileValueResolvingMethod, List<String>>
                     claimsByResolvingMethod = categorizeClaimsByResolvingMethod(claims, currentTenantDomain);
+            Collection<UserAssociation> userAssociations = userAssociationsByUserId.values();
+            Map<String, Map<String, String>> resolvedClaimsFromOriginByUser = resolveClaimsFromOriginInBatch(
+                    userAssociations, claimsByResolvingMethod.get(FROM_ORIGIN), profileName);
+            Map<String, Map<String, String>> resolvedClaimsFromHierarchyByUser = resolveClaimsFromHierarchyInBatch(
+                    userAssociations, claimsByResolvingMethod.get(FROM_FIRST_FOUND_IN_HIERARCHY),
+                    currentOrganizationId);
             for (UniqueIDUserClaimSearchEntry userClaimSearchEntry : userClaimSearchEntries) {
                 User user = userClaimSearchEntry.getUser();
-                UserAssociation userAssociation = getUserAssociation(user.getUserID(), currentOrganizationId);
+                UserAssociation userAssociation = userAssociationsByUserId.get(user.getUserID());
                 if (userAssociation == null) {
-                    // User is not a shared user. Hence, return.
+                    // User is not a shared user. Hence, continue.
                     continue;
                 }
+                String associatedUserId = userAssociation.getAssociatedUserId();
                 Map<String, String> resolvedClaimsFromOrigin =
-                        resolveClaimsFromOrigin(userAssociation, claimsByResolvingMethod.get(FROM_ORIGIN), profileName);
+                        resolvedClaimsFromOriginByUser.getOrDefault(associatedUserId, Collections.emptyMap());
                 Map<String, String> resolvedClaimsFromSharedProfile =
                         resolveClaimsFromSharedProfile(userClaimSearchEntry.getClaims(),
                                 claimsByResolvingMethod.get(FROM_SHARED_PROFILE));
-                Map<String, String> resolvedClaimsFromHierarchy = resolveClaimsFromHierarchy(userAssociation,
-                        claimsByResolvingMethod.get(FROM_FIRST_FOUND_IN_HIERARCHY), currentOrganizationId);
+                Map<String, String> resolvedClaimsFromHierarchy =
+                        resolvedClaimsFromHierarchyByUser.getOrDefault(associatedUserId, Collections.emptyMap());
 
                 Map<String, String> aggregatedProfileClaims = new HashMap<>();
                 aggregatedProfileClaims.putAll(resolvedClaimsFromOrigin);
@@ -270,22 +315,14 @@ public class SharedUserOperationEventListener extends AbstractIdentityUserOperat
                 // User is not a shared user. Hence, return.
                 return true;
             }
-            ClaimMetadataManagementService claimManagementService =
-                    OrganizationUserSharingDataHolder.getInstance().getClaimManagementService();
-            Optional<LocalClaim> localClaim = claimManagementService.getLocalClaim(claim, currentTenantDomain);
-            if (!localClaim.isPresent()) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Claim not found in the tenant domain: " + currentTenantDomain);
-                }
-            }
+            // If sharedProfileValueResolvingMethod is not defined in the claim, it is resolved as FromOrigin.
             String sharedProfileValueResolvingMethod =
-                    localClaim.get().getClaimProperty(SHARED_PROFILE_VALUE_RESOLVING_METHOD);
-            // If sharedProfileValueResolvingMethod is not defined in the claim, treat as FromOrigin.
-            if (StringUtils.isBlank(sharedProfileValueResolvingMethod)) {
+                    getSharedProfileValueResolvingMethods(currentTenantDomain).getResolvingMethod(claim);
+            if (sharedProfileValueResolvingMethod == null) {
                 if (LOG.isDebugEnabled()) {
-                    LOG.debug("SharedProfileValueResolvingMethod is not resolved for the claim: " + claim);
+                    LOG.debug("Claim not found in the tenant domain: " + currentTenantDomain);
                 }
-                sharedProfileValueResolvingMethod = FROM_ORIGIN.name();
+                return true;
             }
             ClaimConstants.SharedProfileValueResolvingMethod sharedProfileValueResolvingMethodEnum =
                     ClaimConstants.SharedProfileValueResolvingMethod.fromName(
@@ -455,8 +492,8 @@ public class SharedUserOperationEventListener extends AbstractIdentityUserOperat
     private Map<ClaimConstants.SharedProfileValueResolvingMethod, List<String>> categorizeClaimsByResolvingMethod(
             List<String> claims, String tenantDomain) throws ClaimMetadataException {
 
-        ClaimMetadataManagementService claimManagementService =
-                OrganizationUserSharingDataHolder.getInstance().getClaimManagementService();
+        SharedProfileValueResolvingMethodCacheEntry resolvingMethods = getSharedProfileValueResolvingMethods(
+                tenantDomain);
         Map<ClaimConstants.SharedProfileValueResolvingMethod, List<String>> claimsByResolvingMethod =
                 new EnumMap<>(ClaimConstants.SharedProfileValueResolvingMethod.class);
         claimsByResolvingMethod.put(FROM_ORIGIN, new ArrayList<>());
@@ -464,45 +501,303 @@ public class SharedUserOperationEventListener extends AbstractIdentityUserOperat
         claimsByResolvingMethod.put(FROM_FIRST_FOUND_IN_HIERARCHY, new ArrayList<>());
 
         for (String claim : claims) {
-            Optional<LocalClaim> localClaim = claimManagementService.getLocalClaim(claim, tenantDomain);
-            if (!localClaim.isPresent()) {
+            String resolvingMethod = resolvingMethods.getResolvingMethod(claim);
+            if (resolvingMethod == null) {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug(String.format("Claim: %s is not available in the tenant: %s.", claim, tenantDomain));
                 }
                 continue;
             }
-            String resolvingMethod =
-                    localClaim.map(claimEntry -> claimEntry.getClaimProperty(SHARED_PROFILE_VALUE_RESOLVING_METHOD))
-                            .orElse(FROM_ORIGIN.getName());
             claimsByResolvingMethod.get(ClaimConstants.SharedProfileValueResolvingMethod.fromName(resolvingMethod))
                     .add(claim);
         }
         return claimsByResolvingMethod;
     }
 
+    /**
+     * Get the shared profile value resolving methods of the local claims of the given tenant. The resolving methods
+     * of all the local claims are resolved at once and cached until a local claim of a tenant is modified.
+     *
+     * @param tenantDomain The tenant domain.
+     * @return The cache entry holding the resolving method of each local claim of the tenant.
+     * @throws ClaimMetadataException If an error occurs while retrieving the local claims.
+     */
+    private SharedProfileValueResolvingMethodCacheEntry getSharedProfileValueResolvingMethods(String tenantDomain)
+            throws ClaimMetadataException {
+
+        SharedProfileValueResolvingMethodCacheKey cacheKey =
+                new SharedProfileValueResolvingMethodCacheKey(tenantDomain);
+        SharedProfileValueResolvingMethodCacheEntry cacheEntry = SharedProfileValueResolvingMethodCache.getInstance()
+                .getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN_NAME);
+        if (cacheEntry != null) {
+            return cacheEntry;
+        }
+        ClaimMetadataManagementService claimManagementService =
+                OrganizationUserSharingDataHolder.getInstance().getClaimManagementService();
+        Map<String, String> resolvingMethodsByClaimURI = new HashMap<>();
+        for (LocalClaim localClaim : claimManagementService.getLocalClaims(tenantDomain)) {
+            String resolvingMethod = localClaim.getClaimProperty(SHARED_PROFILE_VALUE_RESOLVING_METHOD);
+            resolvingMethodsByClaimURI.put(localClaim.getClaimURI(),
+                    StringUtils.isNotBlank(resolvingMethod) ? resolvingMethod : FROM_ORIGIN.getName());
+        }
+        cacheEntry = new SharedProfileValueResolvingMethodCacheEntry(resolvingMethodsByClaimURI);
+        SharedProfileValueResolvingMethodCache.getInstance().addToCache(cacheKey, cacheEntry, SUPER_TENANT_DOMAIN_NAME);
+        return cacheEntry;
+    }
+
+    /**
+     * Resolve the values of the given claims from the organization hierarchy of the shared user. The claim values
+     * of all the organizations in the hierarchy are retrieved at once and the value found in the nearest
+     * organization is picked for each claim.
+     *
+     * @param userAssociation       The association of the shared user.
+     * @param claimURIs             The URIs of the claims to be resolved.
+     * @param currentOrganizationId The organization ID of the shared user.
+     * @return The resolved claim values.
+     * @throws OrgResourceHierarchyTraverseException If an error occurs while resolving the claims.
+     */
     private Map<String, String> resolveClaimsFromHierarchy(UserAssociation userAssociation, List<String> claimURIs,
                                                            String currentOrganizationId)
             throws OrgResourceHierarchyTraverseException {
 
         Map<String, String> resolvedClaimsFromHierarchy = new HashMap<>();
+        if (claimURIs.isEmpty()) {
+            return resolvedClaimsFromHierarchy;
+        }
         String associatedUserId = userAssociation.getAssociatedUserId();
         String associationUserResidentOrganizationId = userAssociation.getUserResidentOrganizationId();
         OrgResourceResolverService orgResourceResolverService =
                 OrganizationUserSharingDataHolder.getInstance().getOrgResourceResolverService();
-        for (String claim : claimURIs) {
-            String resolvedClaimValueFromOrgHierarchy =
-                    orgResourceResolverService.getResourcesFromOrgHierarchy(currentOrganizationId,
+        try {
+            IdentityUtil.threadLocalProperties.get().put(INSIDE_CLAIM_RESOLVER_FLAG, "true");
+            Map<String, String> resolvedClaimValuesFromOrgHierarchy =
+                    orgResourceResolverService.getResourcesFromOrgHierarchyInBatch(currentOrganizationId,
+                            LambdaExceptionUtils.rethrowFunction(
+                                    orgIds -> batchClaimResolver(associatedUserId,
+                                            associationUserResidentOrganizationId, claimURIs, orgIds)),
+                            new MergeAllAggregationStrategy<>(this::mergeClaimsFromHierarchy));
+            if (resolvedClaimValuesFromOrgHierarchy != null) {
+                resolvedClaimsFromHierarchy.putAll(resolvedClaimValuesFromOrgHierarchy);
+            }
+        } finally {
+            IdentityUtil.threadLocalProperties.get().remove(INSIDE_CLAIM_RESOLVER_FLAG);
+        }
+        return resolvedClaimsFromHierarchy;
+    }
+
+    /**
+     * Resolve the claim values of the shared user in each of the given organizations. The user IDs of the user in
+     * all the organizations are resolved with a single association lookup and the claim values of each
+     * organization are retrieved with a single user store invocation.
+     *
+     * @param associatedUserId                      The user id of the associated root or parent level user.
+     * @param associationUserResidentOrganizationId The organization id where the associated user is resident.
+     * @param claimURIs                             The URIs of the claims to be resolved.
+     * @param organizationIds                       The organization ids to resolve the claim values from.
+     * @return The claim values of the user against each organization id. Organizations without any claim value of
+     * the user are omitted.
+     * @throws org.wso2.carbon.user.api.UserStoreException If an error occurs while resolving the claim values.
+     */
+    private Map<String, Map<String, String>> batchClaimResolver(String associatedUserId,
+                                                                String associationUserResidentOrganizationId,
+                                                                List<String> claimURIs, List<String> organizationIds)
+            throws org.wso2.carbon.user.api.UserStoreException {
+
+        try {
+            Map<String, String> userIdsByOrganization = new HashMap<>();
+            List<UserAssociation> userAssociations =
+                    OrganizationUserSharingDataHolder.getInstance().getOrganizationUserSharingService()
+                            .getUserAssociationsOfGivenUserOnGivenOrgs(associatedUserId, organizationIds);
+            for (UserAssociation userAssociation : userAssociations) {
+                userIdsByOrganization.put(userAssociation.getOrganizationId(), userAssociation.getUserId());
+            }
+            // The associated user itself represents the user in the resident organization.
+            if (associationUserResidentOrganizationId != null &&
+                    organizationIds.contains(associationUserResidentOrganizationId)) {
+                userIdsByOrganization.put(associationUserResidentOrganizationId, associatedUserId);
+            }
+
+            OrganizationManager organizationManager =
+                    OrganizationUserSharingDataHolder.getInstance().getOrganizationManager();
+            String[] claimURIArray = claimURIs.toArray(new String[0]);
+            Map<String, Map<String, String>> claimValuesByOrganization = new HashMap<>();
+            for (String organizationId : organizationIds) {
+                String userIdInSearchOrg = userIdsByOrganization.get(organizationId);
+                if (userIdInSearchOrg == null) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug(String.format("A shared user is not found for the user: %s in the organization: %s",
+                                associatedUserId, organizationId));
+                    }
+                    continue;
+                }
+                String tenantDomainOfOrg = organizationManager.resolveTenantDomain(organizationId);
+                AbstractUserStoreManager userStoreManager =
+                        getAbstractUserStoreManager(IdentityTenantUtil.getTenantId(tenantDomainOfOrg));
+                try {
+                    PrivilegedCarbonContext.startTenantFlow();
+                    PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomainOfOrg, true);
+                    PrivilegedCarbonContext.getThreadLocalCarbonContext().setOrganizationId(organizationId);
+                    Map<String, String> userClaimValues =
+                            userStoreManager.getUserClaimValuesWithID(userIdInSearchOrg, claimURIArray, null);
+                    if (MapUtils.isNotEmpty(userClaimValues)) {
+                        claimValuesByOrganization.put(organizationId, userClaimValues);
+                    }
+                } finally {
+                    PrivilegedCarbonContext.endTenantFlow();
+                }
+            }
+            return claimValuesByOrganization;
+        } catch (OrganizationManagementException e) {
+            throw new UserStoreException(e.getErrorCode(), e.getMessage());
+        }
+    }
+
+    /**
+     * Resolve the values of the given claims from the organization hierarchy of all the given shared users at once.
+     * For each organization in the hierarchy, the claim values of all the users are retrieved with a single user
+     * store invocation and the value found in the nearest organization is picked for each claim of each user.
+     *
+     * @param userAssociations      The associations of the shared users.
+     * @param claimURIs             The URIs of the claims to be resolved.
+     * @param currentOrganizationId The organization ID of the shared users.
+     * @return The resolved claim values against the associated user id of each shared user.
+     * @throws OrgResourceHierarchyTraverseException If an error occurs while resolving the claims.
+     */
+    private Map<String, Map<String, String>> resolveClaimsFromHierarchyInBatch(
+            Collection<UserAssociation> userAssociations, List<String> claimURIs, String currentOrganizationId)
+            throws OrgResourceHierarchyTraverseException {
+
+        Map<String, Map<String, String>> resolvedClaimsFromHierarchy = new HashMap<>();
+        if (claimURIs.isEmpty()) {
+            return resolvedClaimsFromHierarchy;
+        }
+        OrgResourceResolverService orgResourceResolverService =
+                OrganizationUserSharingDataHolder.getInstance().getOrgResourceResolverService();
+        try {
+            IdentityUtil.threadLocalProperties.get().put(INSIDE_CLAIM_RESOLVER_FLAG, "true");
+            Map<String, Map<String, String>> resolvedClaimValuesFromOrgHierarchy =
+                    orgResourceResolverService.getResourcesFromOrgHierarchyInBatch(currentOrganizationId,
                             LambdaExceptionUtils.rethrowFunction(
-                                    orgId -> claimResolver(associatedUserId, associationUserResidentOrganizationId,
-                                            claim, orgId)),
-                            new FirstFoundAggregationStrategy<>());
-            if (resolvedClaimValueFromOrgHierarchy != null) {
-                resolvedClaimsFromHierarchy.put(claim, resolvedClaimValueFromOrgHierarchy);
+                                    orgIds -> batchUsersClaimResolver(userAssociations, claimURIs, orgIds)),
+                            new MergeAllAggregationStrategy<>(this::mergeUsersClaimsFromHierarchy));
+            if (resolvedClaimValuesFromOrgHierarchy != null) {
+                resolvedClaimsFromHierarchy.putAll(resolvedClaimValuesFromOrgHierarchy);
             }
+        } finally {
+            IdentityUtil.threadLocalProperties.get().remove(INSIDE_CLAIM_RESOLVER_FLAG);
         }
         return resolvedClaimsFromHierarchy;
     }
 
+    /**
+     * Resolve the claim values of the given shared users in each of the given organizations. The user IDs of all
+     * the users in all the organizations are resolved with a single association lookup and the claim values of
+     * each organization are retrieved with a single user store invocation.
+     *
+     * @param userAssociations The associations of the shared users.
+     * @param claimURIs        The URIs of the claims to be resolved.
+     * @param organizationIds  The organization ids to resolve the claim values from.
+     * @return The claim values of the users, keyed by the associated user id, against each organization id.
+     * Organizations without any claim value of the users are omitted.
+     * @throws org.wso2.carbon.user.api.UserStoreException If an error occurs while resolving the claim values.
+     */
+    private Map<String, Map<String, Map<String, String>>> batchUsersClaimResolver(
+            Collection<UserAssociation> userAssociations, List<String> claimURIs, List<String> organizationIds)
+            throws org.wso2.carbon.user.api.UserStoreException {
+
+        try {
+            List<String> associatedUserIds = new ArrayList<>();
+            // The user id of each user in an organization against the associated user id it represents.
+            Map<String, Map<String, String>> associatedUserIdsByOrganization = new HashMap<>();
+            for (UserAssociation userAssociation : userAssociations) {
+                String associatedUserId = userAssociation.getAssociatedUserId();
+                associatedUserIds.add(associatedUserId);
+                // The associated user itself represents the user in the resident organization.
+                String residentOrganizationId = userAssociation.getUserResidentOrganizationId();
+                if (residentOrganizationId != null && organizationIds.contains(residentOrganizationId)) {
+                    associatedUserIdsByOrganization.computeIfAbsent(residentOrganizationId, k -> new HashMap<>())
+                            .put(associatedUserId, associatedUserId);
+                }
+            }
+            List<UserAssociation> userAssociationsInOrganizations =
+                    OrganizationUserSharingDataHolder.getInstance().getOrganizationUserSharingService()
+                            .getUserAssociationsOfGivenUsersOnGivenOrgs(associatedUserIds, organizationIds);
+            for (UserAssociation userAssociation : userAssociationsInOrganizations) {
+                associatedUserIdsByOrganization
+                        .computeIfAbsent(userAssociation.getOrganizationId(), k -> new HashMap<>())
+                        .put(userAssociation.getUserId(), userAssociation.getAssociatedUserId());
+            }
+
+            OrganizationManager organizationManager =
+                    OrganizationUserSharingDataHolder.getInstance().getOrganizationManager();
+            Map<String, Map<String, Map<String, String>>> claimValuesByOrganization = new HashMap<>();
+            for (String organizationId : organizationIds) {
+                Map<String, String> associatedUserIdsInSearchOrg = associatedUserIdsByOrganization.get(organizationId);
+                if (MapUtils.isEmpty(associatedUserIdsInSearchOrg)) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("None of the shared users are found in the organization: " + organizationId);
+                    }
+                    continue;
+                }
+                String tenantDomainOfOrg = organizationManager.resolveTenantDomain(organizationId);
+                AbstractUserStoreManager userStoreManager =
+                        getAbstractUserStoreManager(IdentityTenantUtil.getTenantId(tenantDomainOfOrg));
+                List<UniqueIDUserClaimSearchEntry> userClaimSearchEntries;
+                try {
+                    PrivilegedCarbonContext.startTenantFlow();
+                    PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomainOfOrg, true);
+                    PrivilegedCarbonContext.getThreadLocalCarbonContext().setOrganizationId(organizationId);
+                    userClaimSearchEntries = userStoreManager.getUsersClaimValuesWithID(
+                            new ArrayList<>(associatedUserIdsInSearchOrg.keySet()), claimURIs, null);
+                } finally {
+                    PrivilegedCarbonContext.endTenantFlow();
+                }
+                Map<String, Map<String, String>> claimValuesOfUsers =
+                        collectClaimValuesOfUsers(userClaimSearchEntries, associatedUserIdsInSearchOrg::get);
+                if (MapUtils.isNotEmpty(claimValuesOfUsers)) {
+                    claimValuesByOrganization.put(organizationId, claimValuesOfUsers);
+                }
+            }
+            return claimValuesByOrganization;
+        } catch (OrganizationManagementException e) {
+            throw new UserStoreException(e.getErrorCode(), e.getMessage());
+        }
+    }
+
+    /**
+     * Merge the claim values of the users in an ancestor organization into the claim values aggregated from the
+     * organizations below it, user by user.
+     *
+     * @param aggregatedClaims The claim values aggregated so far, keyed by the associated user id.
+     * @param ancestorClaims   The claim values in the ancestor organization, keyed by the associated user id.
+     * @return The merged claim values.
+     */
+    private Map<String, Map<String, String>> mergeUsersClaimsFromHierarchy(
+            Map<String, Map<String, String>> aggregatedClaims, Map<String, Map<String, String>> ancestorClaims) {
+
+        Map<String, Map<String, String>> mergedClaims = new HashMap<>(aggregatedClaims);
+        ancestorClaims.forEach((associatedUserId, claims) ->
+                mergedClaims.merge(associatedUserId, claims, this::mergeClaimsFromHierarchy));
+        return mergedClaims;
+    }
+
+    /**
+     * Merge the claim values of an ancestor organization into the claim values aggregated from the organizations
+     * below it. The claim values which are already aggregated take precedence, as they are found closer to the
+     * shared user.
+     *
+     * @param aggregatedClaims The claim values aggregated so far.
+     * @param ancestorClaims   The claim values of the ancestor organization.
+     * @return The merged claim values.
+     */
+    private Map<String, String> mergeClaimsFromHierarchy(Map<String, String> aggregatedClaims,
+                                                         Map<String, String> ancestorClaims) {
+
+        Map<String, String> mergedClaims = new HashMap<>(aggregatedClaims);
+        ancestorClaims.forEach(mergedClaims::putIfAbsent);
+        return mergedClaims;
+    }
+
     private Map<String, String> resolveClaimsFromOrigin(UserAssociation userAssociation, List<String> claimURIs,
                                                         String profileName)
             throws OrganizationManagementException, org.wso2.carbon.user.api.UserStoreException {
@@ -525,6 +820,87 @@ public class SharedUserOperationEventListener extends AbstractIdentityUserOperat
         }
     }
 
+    /**
+     * Resolve the values of the given claims of all the given shared users from the organizations where the users
+     * are resident. The users are grouped by their resident organization and the claim values of each group are
+     * retrieved with a single user store invocation.
+     *
+     * @param userAssociations The associations of the shared users.
+     * @param claimURIs        The URIs of the claims to be resolved.
+     * @param profileName      The profile name.
+     * @return The resolved claim values against the associated user id of each shared user.
+     * @throws OrganizationManagementException             If an error occurs while resolving the tenant domains.
+     * @throws org.wso2.carbon.user.api.UserStoreException If an error occurs while resolving the claim values.
+     */
+    private Map<String, Map<String, String>> resolveClaimsFromOriginInBatch(
+            Collection<UserAssociation> userAssociations, List<String> claimURIs, String profileName)
+            throws OrganizationManagementException, org.wso2.carbon.user.api.UserStoreException {
+
+        Map<String, Map<String, String>> resolvedClaimsFromOrigin = new HashMap<>();
+        if (claimURIs.isEmpty()) {
+            return resolvedClaimsFromOrigin;
+        }
+        Map<String, Set<String>> associatedUserIdsByResidentOrganization = new HashMap<>();
+        for (UserAssociation userAssociation : userAssociations) {
+            associatedUserIdsByResidentOrganization
+                    .computeIfAbsent(userAssociation.getUserResidentOrganizationId(), k -> new HashSet<>())
+                    .add(userAssociation.getAssociatedUserId());
+        }
+        OrganizationManager organizationManager =
+                OrganizationUserSharingDataHolder.getInstance().getOrganizationManager();
+        for (Map.Entry<String, Set<String>> residentOrganizationUsers :
+                associatedUserIdsByResidentOrganization.entrySet()) {
+            String residentOrganizationId = residentOrganizationUsers.getKey();
+            Set<String> associatedUserIds = residentOrganizationUsers.getValue();
+            String userResidentTenantDomain = organizationManager.resolveTenantDomain(residentOrganizationId);
+            AbstractUserStoreManager residentUserStoreManager =
+                    getAbstractUserStoreManager(IdentityTenantUtil.getTenantId(userResidentTenantDomain));
+            List<UniqueIDUserClaimSearchEntry> userClaimSearchEntries;
+            try {
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(userResidentTenantDomain, true);
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setOrganizationId(residentOrganizationId);
+                userClaimSearchEntries = residentUserStoreManager.getUsersClaimValuesWithID(
+                        new ArrayList<>(associatedUserIds), claimURIs, profileName);
+            } finally {
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+            // The associated users are the searched users themselves in their resident organizations.
+            resolvedClaimsFromOrigin.putAll(collectClaimValuesOfUsers(userClaimSearchEntries,
+                    userId -> associatedUserIds.contains(userId) ? userId : null));
+        }
+        return resolvedClaimsFromOrigin;
+    }
+
+    /**
+     * Collect the claim values of the given user claim search entries against the associated user id which each
+     * of the users represents.
+     *
+     * @param userClaimSearchEntries   The user claim search entries returned from the user store.
+     * @param associatedUserIdResolver Resolves the associated user id of a searched user from its user id, or returns
+     *                                 {@code null} if the user is not one of the searched users.
+     * @return The claim values against the associated user id. Users without any claim value are omitted.
+     */
+    private Map<String, Map<String, String>> collectClaimValuesOfUsers(
+            List<UniqueIDUserClaimSearchEntry> userClaimSearchEntries,
+            Function<String, String> associatedUserIdResolver) {
+
+        Map<String, Map<String, String>> claimValuesOfUsers = new HashMap<>();
+        if (userClaimSearchEntries == null) {
+            return claimValuesOfUsers;
+        }
+        for (UniqueIDUserClaimSearchEntry userClaimSearchEntry : userClaimSearchEntries) {
+            if (userClaimSearchEntry.getUser() == null || MapUtils.isEmpty(userClaimSearchEntry.getClaims())) {
+                continue;
+            }
+            String associatedUserId = associatedUserIdResolver.apply(userClaimSearchEntry.getUser().getUserID());
+            if (associatedUserId != null) {
+                claimValuesOfUsers.put(associatedUserId, userClaimSearchEntry.getClaims());
+            }
+        }
+        return claimValuesOfUsers;
+    }
+
     private Map<String, String> resolveClaimsFromSharedProfile(Map<String, String> claimMap, List<String> claimURIs) {
 
         Map<String, String> resolveClaimsFromSharedProfile = new HashMap<>();
@@ -586,6 +962,33 @@ public class SharedUserOperationEventListener extends AbstractIdentityUserOperat
                 .getUserAssociation(userID, currentOrganizationId);
     }
 
+    /**
+     * Find the user associations of the given users in the current organization with a single lookup.
+     *
+     * @param userIDs               User ids in current organization.
+     * @param currentOrganizationId Current organization id.
+     * @return The user associations of the shared users among the given users, against the user id.
+     * @throws OrganizationManagementException If an error occurs while resolving the user associations.
+     */
+    private Map<String, UserAssociation> getUserAssociationsOfSharedUsers(List<String> userIDs,
+                                                                         String currentOrganizationId)
+            throws OrganizationManagementException {
+
+        Map<String, UserAssociation> userAssociationsByUserId = new HashMap<>();
+        if (userIDs.isEmpty()) {
+            return userAssociationsByUserId;
+        }
+        List<UserAssociation> userAssociations =
+                OrganizationUserSharingDataHolder.getInstance().getOrganizationUserSharingService()
+                        .getUserAssociationsOfSharedUsers(userIDs, currentOrganizationId);
+        if (userAssociations != null) {
+            for (UserAssociation userAssociation : userAssociations) {
+                userAssociationsByUserId.put(userAssociation.getUserId(), userAssociation);
+            }
+        }
+        return userAssociationsByUserId;
+    }
+
     private String getClaimBasedOnSharedType(UserAssociation userAssociation) {
 
         SharedType sharedType = userAssociation.getSharedType();
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.models;
+
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingJobType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model class to represent an asynchronous user sharing job. A job shares or unshares the given users (the units
+ * of the job) with the given target organizations, and is recorded in the user sharing job journal so that it can
+ * be resumed if the node running it goes down.
+ */
+public class UserSharingJob {
+
+    private String jobId;
+    private UserSharingJobType jobType;
+    private int tenantId;
+    private String tenantDomain;
+    private String initiatedOrgId;
+    private String initiatedUserId;
+    private String initiatedUsername;
+    private long lastHeartbeat;
+    private List<UserSharingJobTarget> targets = new ArrayList<>();
+    private List<String> userIds = new ArrayList<>();
+
+    public String getJobId() {
+
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+
+        this.jobId = jobId;
+    }
+
+    public UserSharingJobType getJobType() {
+
+        return jobType;
+    }
+
+    public void setJobType(UserSharingJobType jobType) {
+
+        this.jobType = jobType;
+    }
+
+    public int getTenantId() {
+
+        return tenantId;
+    }
+
+    public void setTenantId(int tenantId) {
+
+        this.tenantId = tenantId;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    public void setTenantDomain(String tenantDomain) {
+
+        this.tenantDomain = tenantDomain;
+    }
+
+    public String getInitiatedOrgId() {
+
+        return initiatedOrgId;
+    }
+
+    public void setInitiatedOrgId(String initiatedOrgId) {
+
+        this.initiatedOrgId = initiatedOrgId;
+    }
+
+    public String getInitiatedUserId() {
+
+        return initiatedUserId;
+    }
+
+    public void setInitiatedUserId(String initiatedUserId) {
+
+        this.initiatedUserId = initiatedUserId;
+    }
+
+    public String getInitiatedUsername() {
+
+        return initiatedUsername;
+    }
+
+    public void setInitiatedUsername(String initiatedUsername) {
+
+        this.initiatedUsername = initiatedUsername;
+    }
+
+    public long getLastHeartbeat() {
+
+        return lastHeartbeat;
+    }
+
+    public void setLastHeartbeat(long lastHeartbeat) {
+
+        this.lastHeartbeat = lastHeartbeat;
+    }
+
+    public List<UserSharingJobTarget> getTargets() {
+
+        return targets;
+    }
+
+    public void setTargets(List<UserSharingJobTarget> targets) {
+
+        this.targets = targets;
+    }
+
+    public List<String> getUserIds() {
+
+        return userIds;
+    }
+
+    public void setUserIds(List<String> userIds) {
+
+        this.userIds = userIds;
+    }
+}
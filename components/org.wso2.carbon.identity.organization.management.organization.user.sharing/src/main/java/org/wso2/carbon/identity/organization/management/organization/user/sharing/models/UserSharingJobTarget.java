@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.models;
+
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.RoleAssignmentMode;
+import org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.PolicyEnum;
+
+import java.util.List;
+
+/**
+ * Model class to represent a target organization of a user sharing job, together with the policy and the roles with
+ * which the users are shared with it. The policy and the roles are not set for the targets of unshare jobs.
+ */
+public class UserSharingJobTarget {
+
+    private final String organizationId;
+    private final PolicyEnum policy;
+    private final List<String> roleIds;
+    private final RoleAssignmentMode roleAssignmentMode;
+
+    public UserSharingJobTarget(String organizationId, PolicyEnum policy, List<String> roleIds,
+                                RoleAssignmentMode roleAssignmentMode) {
+
+        this.organizationId = organizationId;
+        this.policy = policy;
+        this.roleIds = roleIds;
+        this.roleAssignmentMode = roleAssignmentMode;
+    }
+
+    public String getOrganizationId() {
+
+        return organizationId;
+    }
+
+    public PolicyEnum getPolicy() {
+
+        return policy;
+    }
+
+    public List<String> getRoleIds() {
+
+        return roleIds;
+    }
+
+    public RoleAssignmentMode getRoleAssignmentMode() {
+
+        return roleAssignmentMode;
+    }
+}
@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_USER_SHARING_EXECUTOR_POOL_SIZE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_USER_SHARING_EXECUTOR_QUEUE_CAPACITY;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARING_EXECUTOR_POOL_SIZE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARING_EXECUTOR_QUEUE_CAPACITY;
+
+/**
+ * Executor which runs the asynchronous user sharing operations.
+ * <p>
+ * Operations are queued per tenant and the worker threads serve the tenant queues in a round robin manner, so that
+ * a bulk operation of one tenant does not hold back the operations of the other tenants. The number of queued
+ * operations is bounded, and an operation submitted to a full queue is rejected with a
+ * {@link RejectedExecutionException}. The pool size and the queue capacity are read from the
+ * {@code OrganizationUserSharing.Executor} configuration, and the state of the executor is exposed over JMX.
+ */
+public class UserSharingExecutor implements UserSharingExecutorMBean {
+
+    private static final Log LOG = LogFactory.getLog(UserSharingExecutor.class);
+    private static final String MBEAN_NAME =
+            "org.wso2.carbon.identity.organization.management:type=UserSharingExecutor";
+    private static final String THREAD_NAME_PREFIX = "user-sharing-executor-";
+
+    private final int poolSize;
+    private final int queueCapacity;
+    private final List<Thread> workers = new ArrayList<>();
+    private final Map<String, Deque<Runnable>> tenantQueues = new HashMap<>();
+    // Tenants having queued operations, in the order they are served.
+    private final Deque<String> tenantRotation = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition operationQueued = lock.newCondition();
+    private int queuedOperationCount;
+
+    private final AtomicInteger activeOperationCount = new AtomicInteger();
+    private final AtomicLong completedOperationCount = new AtomicLong();
+    private final AtomicLong rejectedOperationCount = new AtomicLong();
+    private final AtomicLong totalOperationDurationMillis = new AtomicLong();
+    private final AtomicLong maxOperationDurationMillis = new AtomicLong();
+
+    private boolean shutdown;
+    private boolean registered;
+
+    private static volatile UserSharingExecutor instance;
+
+    private UserSharingExecutor(int poolSize, int queueCapacity) {
+
+        this.poolSize = poolSize;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Get the user sharing executor instance shared by the user sharing policy handler services.
+     *
+     * @return The {@link UserSharingExecutor} instance.
+     */
+    public static UserSharingExecutor getInstance() {
+
+        UserSharingExecutor executor = instance;
+        if (executor == null) {
+            synchronized (UserSharingExecutor.class) {
+                executor = instance;
+                if (executor == null) {
+                    executor = createAndRegister();
+                    instance = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Shut down the user sharing executor instance shared by the user sharing policy handler services, if it has
+     * been created. A later call to {@link #getInstance()} creates a new executor.
+     */
+    public static void shutdownInstance() {
+
+        synchronized (UserSharingExecutor.class) {
+            if (instance != null) {
+                instance.shutdown();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Get an executor which queues the submitted operations under the given tenant.
+     *
+     * @param tenantDomain The tenant domain which initiated the operations.
+     * @return An {@link Executor} queuing the operations under the given tenant.
+     */
+    public Executor forTenant(String tenantDomain) {
+
+        String tenantKey = StringUtils.defaultString(tenantDomain);
+        return operation -> submit(tenantKey, operation);
+    }
+
+    @Override
+    public int getPoolSize() {
+
+        return poolSize;
+    }
+
+    @Override
+    public int getQueueCapacity() {
+
+        return queueCapacity;
+    }
+
+    @Override
+    public int getQueuedOperationCount() {
+
+        lock.lock();
+        try {
+            return queuedOperationCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getQueuedTenantCount() {
+
+        lock.lock();
+        try {
+            return tenantRotation.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getActiveOperationCount() {
+
+        return activeOperationCount.get();
+    }
+
+    @Override
+    public long getCompletedOperationCount() {
+
+        return completedOperationCount.get();
+    }
+
+    @Override
+    public long getRejectedOperationCount() {
+
+        return rejectedOperationCount.get();
+    }
+
+    @Override
+    public long getAverageOperationDurationMillis() {
+
+        long completed = completedOperationCount.get();
+        return completed == 0 ? 0 : totalOperationDurationMillis.get() / completed;
+    }
+
+    @Override
+    public long getMaxOperationDurationMillis() {
+
+        return maxOperationDurationMillis.get();
+    }
+
+    /**
+     * Create and start a user sharing executor.
+     *
+     * @param poolSize      The number of worker threads.
+     * @param queueCapacity The maximum number of operations which can wait in the queue.
+     * @return The started {@link UserSharingExecutor}.
+     */
+    static UserSharingExecutor create(int poolSize, int queueCapacity) {
+
+        UserSharingExecutor executor = new UserSharingExecutor(poolSize, queueCapacity);
+        for (int i = 0; i < poolSize; i++) {
+            Thread worker = new Thread(executor::runWorker, THREAD_NAME_PREFIX + i);
+            worker.setDaemon(true);
+            executor.workers.add(worker);
+            worker.start();
+        }
+        return executor;
+    }
+
+    /**
+     * Stop the worker threads of the executor and unregister its MBean. Operations waiting in the queue are not run,
+     * and the operations submitted afterwards are rejected.
+     */
+    void shutdown() {
+
+        int droppedOperationCount;
+        lock.lock();
+        try {
+            shutdown = true;
+            droppedOperationCount = queuedOperationCount;
+            tenantQueues.clear();
+            tenantRotation.clear();
+            queuedOperationCount = 0;
+        } finally {
+            lock.unlock();
+        }
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        if (droppedOperationCount > 0) {
+            LOG.warn(droppedOperationCount + " queued user sharing operations were not run as the executor is " +
+                    "shut down.");
+        }
+        if (registered) {
+            try {
+                MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+                ObjectName objectName = new ObjectName(MBEAN_NAME);
+                if (mBeanServer.isRegistered(objectName)) {
+                    mBeanServer.unregisterMBean(objectName);
+                }
+                registered = false;
+            } catch (JMException e) {
+                LOG.warn("Error occurred while unregistering the user sharing executor MBean.", e);
+            }
+        }
+    }
+
+    private void submit(String tenantKey, Runnable operation) {
+
+        lock.lock();
+        try {
+            if (shutdown) {
+                rejectedOperationCount.incrementAndGet();
+                throw new RejectedExecutionException("The user sharing executor is shut down.");
+            }
+            if (queuedOperationCount >= queueCapacity) {
+                rejectedOperationCount.incrementAndGet();
+                throw new RejectedExecutionException("The user sharing operation queue has reached its capacity: " +
+                        queueCapacity);
+            }
+            Deque<Runnable> tenantQueue = tenantQueues.computeIfAbsent(tenantKey, key -> new ArrayDeque<>());
+            if (tenantQueue.isEmpty()) {
+                tenantRotation.addLast(tenantKey);
+            }
+            tenantQueue.addLast(operation);
+            queuedOperationCount++;
+            operationQueued.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Runnable takeNextOperation() throws InterruptedException {
+
+        lock.lock();
+        try {
+            while (tenantRotation.isEmpty()) {
+                operationQueued.await();
+            }
+            String tenantKey = tenantRotation.pollFirst();
+            Deque<Runnable> tenantQueue = tenantQueues.get(tenantKey);
+            Runnable operation = tenantQueue.pollFirst();
+            if (tenantQueue.isEmpty()) {
+                tenantQueues.remove(tenantKey);
+            } else {
+                // Move the tenant to the end, so that the other tenants are served before its next operation.
+                tenantRotation.addLast(tenantKey);
+            }
+            queuedOperationCount--;
+            return operation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runWorker() {
+
+        while (!Thread.currentThread().isInterrupted()) {
+            Runnable operation;
+            try {
+                operation = takeNextOperation();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            activeOperationCount.incrementAndGet();
+            long startTime = System.currentTimeMillis();
+            try {
+                operation.run();
+            } catch (Throwable e) {
+                // Errors are caught as well, since the worker would otherwise end and leave the queue unserved.
+                LOG.error("Error occurred while running a user sharing operation.", e);
+            } finally {
+                long duration = System.currentTimeMillis() - startTime;
+                activeOperationCount.decrementAndGet();
+                completedOperationCount.incrementAndGet();
+                totalOperationDurationMillis.addAndGet(duration);
+                maxOperationDurationMillis.accumulateAndGet(duration, Math::max);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("User sharing operation completed in " + duration + " ms.");
+                }
+            }
+        }
+    }
+
+    private static UserSharingExecutor createAndRegister() {
+
+        UserSharingExecutor executor = create(
+                getPositiveIntProperty(USER_SHARING_EXECUTOR_POOL_SIZE, DEFAULT_USER_SHARING_EXECUTOR_POOL_SIZE),
+                getPositiveIntProperty(USER_SHARING_EXECUTOR_QUEUE_CAPACITY,
+                        DEFAULT_USER_SHARING_EXECUTOR_QUEUE_CAPACITY));
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(MBEAN_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                // An executor of a previous activation of the bundle may still be registered.
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(executor, objectName);
+            executor.registered = true;
+        } catch (JMException e) {
+            LOG.warn("Error occurred while registering the user sharing executor MBean.", e);
+        }
+        return executor;
+    }
+
+    /**
+     * Get the value of the given positive integer configuration.
+     *
+     * @param propertyName The name of the configuration.
+     * @param defaultValue The value to be used if the configuration is missing or invalid.
+     * @return The configured value, or the default value.
+     */
+    static int getPositiveIntProperty(String propertyName, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(propertyName);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            int intValue = Integer.parseInt(value.trim());
+            if (intValue > 0) {
+                return intValue;
+            }
+        } catch (NumberFormatException e) {
+            // The default value is used below.
+        }
+        LOG.warn("Invalid value: " + value + " configured for: " + propertyName + ". Using the default value: " +
+                defaultValue);
+        return defaultValue;
+    }
+}
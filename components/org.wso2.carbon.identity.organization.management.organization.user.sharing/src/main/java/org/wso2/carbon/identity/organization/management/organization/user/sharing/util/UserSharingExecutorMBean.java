@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.util;
+
+/**
+ * Management interface exposing the state of the {@link UserSharingExecutor} over JMX.
+ */
+public interface UserSharingExecutorMBean {
+
+    /**
+     * Get the number of worker threads of the executor.
+     *
+     * @return The pool size.
+     */
+    int getPoolSize();
+
+    /**
+     * Get the maximum number of operations which can wait in the queue.
+     *
+     * @return The queue capacity.
+     */
+    int getQueueCapacity();
+
+    /**
+     * Get the number of operations waiting in the queue.
+     *
+     * @return The queue depth.
+     */
+    int getQueuedOperationCount();
+
+    /**
+     * Get the number of tenants having operations waiting in the queue.
+     *
+     * @return The number of tenants with queued operations.
+     */
+    int getQueuedTenantCount();
+
+    /**
+     * Get the number of operations being run at the moment.
+     *
+     * @return The number of active operations.
+     */
+    int getActiveOperationCount();
+
+    /**
+     * Get the number of operations completed since the executor was started.
+     *
+     * @return The number of completed operations.
+     */
+    long getCompletedOperationCount();
+
+    /**
+     * Get the number of operations rejected as the queue was full.
+     *
+     * @return The number of rejected operations.
+     */
+    long getRejectedOperationCount();
+
+    /**
+     * Get the average duration of the completed operations.
+     *
+     * @return The average operation duration in milliseconds.
+     */
+    long getAverageOperationDurationMillis();
+
+    /**
+     * Get the longest duration of the completed operations.
+     *
+     * @return The maximum operation duration in milliseconds.
+     */
+    long getMaxOperationDurationMillis();
+}
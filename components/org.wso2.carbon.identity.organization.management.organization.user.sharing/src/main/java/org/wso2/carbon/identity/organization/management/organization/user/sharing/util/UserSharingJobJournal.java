@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingJobStatus;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.dao.UserSharingJobDAO;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.dao.UserSharingJobDAOImpl;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtException;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtServerException;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserSharingJob;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_USER_SHARING_JOB_LEASE_TIMEOUT;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_USER_SHARING_JOB_RECOVERY_INTERVAL;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARING_JOB_JOURNAL_ENABLE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARING_JOB_LEASE_TIMEOUT;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARING_JOB_RECOVERY_INTERVAL;
+
+/**
+ * Journal of the asynchronous user share and unshare jobs.
+ * <p>
+ * When enabled with the {@code OrganizationUserSharing.JobJournal.Enable} configuration, a job is recorded together
+ * with its target organizations and its units (the users to be shared or unshared) before it is queued. The outcome
+ * of a unit is recorded once the unit is processed.
+ * <p>
+ * The node running a job refreshes the heartbeat of the job periodically. A job of which the heartbeat has expired,
+ * because the node running it went down, is claimed by a single running node and resumed from its pending units.
+ * Resuming a unit is idempotent, as the existing shares of a user are detected before any new share is made.
+ * <p>
+ * Progress is recorded per unit only. Per-chunk checkpoints within a unit are not kept, as a resumed unit skips the
+ * organizations of the already committed chunks by detecting their existing shares.
+ * <p>
+ * The journal requires the UM_ORG_USER_SHARING_JOB, UM_ORG_USER_SHARING_JOB_TARGET and UM_ORG_USER_SHARING_JOB_UNIT
+ * tables in the organization management database. They are checked when the journal is started, and the journal is
+ * not enabled if they are not available.
+ */
+public class UserSharingJobJournal {
+
+    private static final Log LOG = LogFactory.getLog(UserSharingJobJournal.class);
+    private static final String RECOVERY_THREAD_NAME = "user-sharing-job-recovery";
+
+    // A new ID is used on each start, so that the jobs of a node which went down are not refreshed after a restart.
+    private final String nodeId = UUID.randomUUID().toString();
+    private final UserSharingJobDAO userSharingJobDAO;
+    private volatile boolean enabled;
+    private final long leaseTimeoutMillis;
+    private final long recoveryIntervalSeconds;
+    private ScheduledExecutorService recoveryScheduler;
+
+    private static class UserSharingJobJournalHolder {
+
+        private static final UserSharingJobJournal INSTANCE = new UserSharingJobJournal(new UserSharingJobDAOImpl(),
+                Boolean.parseBoolean(IdentityUtil.getProperty(USER_SHARING_JOB_JOURNAL_ENABLE)),
+                TimeUnit.SECONDS.toMillis(UserSharingExecutor.getPositiveIntProperty(USER_SHARING_JOB_LEASE_TIMEOUT,
+                        DEFAULT_USER_SHARING_JOB_LEASE_TIMEOUT)),
+                UserSharingExecutor.getPositiveIntProperty(USER_SHARING_JOB_RECOVERY_INTERVAL,
+                        DEFAULT_USER_SHARING_JOB_RECOVERY_INTERVAL));
+    }
+
+    UserSharingJobJournal(UserSharingJobDAO userSharingJobDAO, boolean enabled, long leaseTimeoutMillis,
+                          long recoveryIntervalSeconds) {
+
+        this.userSharingJobDAO = userSharingJobDAO;
+        this.enabled = enabled;
+        this.leaseTimeoutMillis = leaseTimeoutMillis;
+        this.recoveryIntervalSeconds = recoveryIntervalSeconds;
+    }
+
+    /**
+     * Get the user sharing job journal instance.
+     *
+     * @return The {@link UserSharingJobJournal} instance.
+     */
+    public static UserSharingJobJournal getInstance() {
+
+        return UserSharingJobJournalHolder.INSTANCE;
+    }
+
+    /**
+     * Check whether the user sharing jobs are recorded in the journal.
+     *
+     * @return True if the journal is enabled.
+     */
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Record a new user sharing job, which is run by this node.
+     *
+     * @param userSharingJob The user sharing job.
+     * @throws UserSharingMgtServerException If an error occurs while recording the job.
+     */
+    public void addJob(UserSharingJob userSharingJob) throws UserSharingMgtServerException {
+
+        if (!enabled) {
+            return;
+        }
+        long heartbeat = System.currentTimeMillis();
+        userSharingJobDAO.addUserSharingJob(userSharingJob, nodeId, heartbeat);
+        userSharingJob.setLastHeartbeat(heartbeat);
+    }
+
+    /**
+     * Record the outcome of a unit of a user sharing job.
+     *
+     * @param userSharingJob The user sharing job.
+     * @param userId         The ID of the user of the unit.
+     * @param status         The outcome of the unit.
+     */
+    public void recordUnitOutcome(UserSharingJob userSharingJob, String userId, UserSharingJobStatus status) {
+
+        if (!enabled) {
+            return;
+        }
+        try {
+            userSharingJobDAO.updateUserSharingJobUnitStatus(userSharingJob.getJobId(), userId, status);
+        } catch (UserSharingMgtServerException e) {
+            LOG.error("Error occurred while recording the outcome of the user: " + userId +
+                    " in the user sharing job: " + userSharingJob.getJobId(), e);
+        }
+    }
+
+    /**
+     * Record the completion of a user sharing job.
+     *
+     * @param userSharingJob The user sharing job.
+     * @param status         The outcome of the job.
+     */
+    public void completeJob(UserSharingJob userSharingJob, UserSharingJobStatus status) {
+
+        if (!enabled) {
+            return;
+        }
+        try {
+            userSharingJobDAO.updateUserSharingJobStatus(userSharingJob.getJobId(), status);
+        } catch (UserSharingMgtServerException e) {
+            LOG.error("Error occurred while recording the completion of the user sharing job: " +
+                    userSharingJob.getJobId(), e);
+        }
+    }
+
+    /**
+     * Start resuming the interrupted user sharing jobs periodically. The heartbeat of the jobs run by this node is
+     * refreshed at the same interval. The journal is disabled if its tables are not available.
+     *
+     * @param jobResumer The resumer which queues a claimed job to be run.
+     */
+    public synchronized void startRecovery(UserSharingJobResumer jobResumer) {
+
+        if (!enabled || recoveryScheduler != null) {
+            return;
+        }
+        try {
+            userSharingJobDAO.checkUserSharingJobTables();
+        } catch (UserSharingMgtServerException e) {
+            enabled = false;
+            LOG.error("The user sharing job journal is not enabled, as the UM_ORG_USER_SHARING_JOB, " +
+                    "UM_ORG_USER_SHARING_JOB_TARGET and UM_ORG_USER_SHARING_JOB_UNIT tables are not available in the " +
+                    "organization management database. Create the tables, or set " + USER_SHARING_JOB_JOURNAL_ENABLE +
+                    " to false.", e);
+            return;
+        }
+        recoveryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, RECOVERY_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        recoveryScheduler.scheduleWithFixedDelay(() -> recoverInterruptedJobs(jobResumer), recoveryIntervalSeconds,
+                recoveryIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stop resuming the interrupted user sharing jobs. The jobs run by this node are resumed by the other nodes once
+     * their heartbeat expires.
+     */
+    public synchronized void stopRecovery() {
+
+        if (recoveryScheduler != null) {
+            recoveryScheduler.shutdownNow();
+            recoveryScheduler = null;
+        }
+    }
+
+    /**
+     * Refresh the heartbeat of the jobs run by this node, and claim and resume the jobs of which the heartbeat has
+     * expired.
+     *
+     * @param jobResumer The resumer which queues a claimed job to be run.
+     */
+    void recoverInterruptedJobs(UserSharingJobResumer jobResumer) {
+
+        try {
+            long heartbeat = System.currentTimeMillis();
+            userSharingJobDAO.updateUserSharingJobHeartbeats(nodeId, heartbeat);
+            List<UserSharingJob> interruptedJobs =
+                    userSharingJobDAO.getUserSharingJobsWithExpiredHeartbeat(heartbeat - leaseTimeoutMillis);
+            for (UserSharingJob userSharingJob : interruptedJobs) {
+                if (!userSharingJobDAO.claimUserSharingJob(userSharingJob, nodeId, heartbeat)) {
+                    // The job has been claimed by another node.
+                    continue;
+                }
+                userSharingJob.setLastHeartbeat(heartbeat);
+                userSharingJob.setTargets(userSharingJobDAO.getUserSharingJobTargets(userSharingJob.getJobId()));
+                userSharingJob.setUserIds(userSharingJobDAO.getUserSharingJobUnits(userSharingJob.getJobId(),
+                        UserSharingJobStatus.PENDING));
+                LOG.info("Resuming the interrupted user sharing job: " + userSharingJob.getJobId() + " with " +
+                        userSharingJob.getUserIds().size() + " pending units.");
+                resumeJob(userSharingJob, jobResumer);
+            }
+        } catch (UserSharingMgtServerException | RuntimeException e) {
+            // Exceptions are not propagated, as they would cancel the subsequent recovery runs.
+            LOG.error("Error occurred while resuming the interrupted user sharing jobs.", e);
+        }
+    }
+
+    private void resumeJob(UserSharingJob userSharingJob, UserSharingJobResumer jobResumer)
+            throws UserSharingMgtServerException {
+
+        try {
+            jobResumer.resume(userSharingJob);
+        } catch (UserSharingMgtException e) {
+            LOG.warn("The interrupted user sharing job: " + userSharingJob.getJobId() + " could not be resumed. " +
+                    "The job is released to be resumed later.", e);
+            // A released job is claimed again in a subsequent recovery run, as its heartbeat has expired.
+            userSharingJobDAO.claimUserSharingJob(userSharingJob, StringUtils.EMPTY, 0L);
+        }
+    }
+
+    /**
+     * Resumer which queues an interrupted user sharing job, claimed by this node, to be run.
+     */
+    @FunctionalInterface
+    public interface UserSharingJobResumer {
+
+        /**
+         * Queue the given user sharing job to be run.
+         *
+         * @param userSharingJob The user sharing job, with its targets and its pending units.
+         * @throws UserSharingMgtException If the job cannot be queued.
+         */
+        void resume(UserSharingJob userSharingJob) throws UserSharingMgtException;
+    }
+}
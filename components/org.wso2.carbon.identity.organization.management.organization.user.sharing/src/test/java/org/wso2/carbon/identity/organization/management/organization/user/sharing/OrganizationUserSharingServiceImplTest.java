@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SharedType;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.dao.OrganizationUserSharingDAO;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.PartialUserSharingException;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.internal.OrganizationUserSharingDataHolder;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
+import org.wso2.carbon.user.core.UserRealm;
+import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
+import org.wso2.carbon.user.core.common.User;
+import org.wso2.carbon.user.core.service.RealmService;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.expectThrows;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.ORG_1_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.ORG_2_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.ORG_3_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.ORG_SUPER_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.TENANT_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_1_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_2_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_3_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_4_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_DOMAIN_PRIMARY;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_NAME_PREFIX;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.VALIDATE_MSG_EXCEPTION;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+
+/**
+ * Unit tests for OrganizationUserSharingServiceImpl.
+ */
+public class OrganizationUserSharingServiceImplTest {
+
+    private static final String PRIMARY_USER_DOMAIN_PROPERTY = "OrganizationUserInvitation.PrimaryUserDomain";
+    private static final String FIELD_ORGANIZATION_USER_SHARING_DAO = "organizationUserSharingDAO";
+
+    private OrganizationUserSharingServiceImpl organizationUserSharingService;
+    private OrganizationUserSharingDAO organizationUserSharingDAO;
+    private AbstractUserStoreManager userStoreManager;
+    private MockedStatic<IdentityTenantUtil> identityTenantUtilMockedStatic;
+    private MockedStatic<IdentityUtil> identityUtilMockedStatic;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        organizationUserSharingService = new OrganizationUserSharingServiceImpl();
+        organizationUserSharingDAO = mock(OrganizationUserSharingDAO.class);
+        Field daoField =
+                OrganizationUserSharingServiceImpl.class.getDeclaredField(FIELD_ORGANIZATION_USER_SHARING_DAO);
+        daoField.setAccessible(true);
+        daoField.set(organizationUserSharingService, organizationUserSharingDAO);
+
+        identityTenantUtilMockedStatic = mockStatic(IdentityTenantUtil.class);
+        identityTenantUtilMockedStatic.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(TENANT_ID);
+        identityUtilMockedStatic = mockStatic(IdentityUtil.class);
+        identityUtilMockedStatic.when(() -> IdentityUtil.getProperty(PRIMARY_USER_DOMAIN_PROPERTY))
+                .thenReturn(USER_DOMAIN_PRIMARY);
+
+        OrganizationManager organizationManager = mock(OrganizationManager.class);
+        when(organizationManager.resolveTenantDomain(anyString())).thenReturn(SUPER_TENANT_DOMAIN_NAME);
+        OrganizationUserSharingDataHolder.getInstance().setOrganizationManager(organizationManager);
+
+        User associatedUser = mock(User.class);
+        when(associatedUser.getUsername()).thenReturn(USER_NAME_PREFIX + USER_1_ID);
+        userStoreManager = mock(AbstractUserStoreManager.class);
+        when(userStoreManager.getUser(USER_1_ID, null)).thenReturn(associatedUser);
+        when(userStoreManager.getUserIDFromUserName(anyString())).thenReturn(USER_2_ID, USER_3_ID, USER_4_ID);
+        UserRealm userRealm = mock(UserRealm.class);
+        when(userRealm.getUserStoreManager()).thenReturn(userStoreManager);
+        RealmService realmService = mock(RealmService.class);
+        when(realmService.getTenantUserRealm(anyInt())).thenReturn(userRealm);
+        OrganizationUserSharingDataHolder.getInstance().setRealmService(realmService);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        identityTenantUtilMockedStatic.close();
+        identityUtilMockedStatic.close();
+    }
+
+    @Test
+    public void testShareOrganizationUserWithOrganizations() throws Exception {
+
+        List<String> orgIds = Arrays.asList(ORG_1_ID, ORG_2_ID, ORG_3_ID);
+        List<UserAssociation> storedUserAssociations = Arrays.asList(
+                buildUserAssociation(USER_2_ID, ORG_1_ID), buildUserAssociation(USER_3_ID, ORG_2_ID),
+                buildUserAssociation(USER_4_ID, ORG_3_ID));
+        when(organizationUserSharingDAO.getUserAssociationsOfGivenUserOnGivenOrgs(USER_1_ID, orgIds))
+                .thenReturn(Collections.emptyList(), storedUserAssociations);
+
+        List<UserAssociation> userAssociations = organizationUserSharingService.shareOrganizationUser(orgIds,
+                USER_1_ID, ORG_SUPER_ID, SharedType.SHARED);
+
+        assertEquals(userAssociations, storedUserAssociations);
+        ArgumentCaptor<List<UserAssociation>> userAssociationsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(organizationUserSharingDAO).createOrganizationUserAssociations(userAssociationsCaptor.capture());
+        assertEquals(userAssociationsCaptor.getValue().stream().map(UserAssociation::getUserId)
+                .collect(Collectors.toList()), Arrays.asList(USER_2_ID, USER_3_ID, USER_4_ID));
+        verify(userStoreManager, never()).deleteUserWithID(anyString());
+    }
+
+    @Test
+    public void testShareOrganizationUserReportsFailedOrganizations() throws Exception {
+
+        List<String> orgIds = Arrays.asList(ORG_1_ID, ORG_2_ID, ORG_3_ID);
+        List<UserAssociation> storedUserAssociations = Arrays.asList(
+                buildUserAssociation(USER_2_ID, ORG_1_ID), buildUserAssociation(USER_3_ID, ORG_3_ID));
+        when(organizationUserSharingDAO.getUserAssociationsOfGivenUserOnGivenOrgs(USER_1_ID, orgIds))
+                .thenReturn(Collections.emptyList());
+        when(organizationUserSharingDAO.getUserAssociationsOfGivenUserOnGivenOrgs(USER_1_ID,
+                Arrays.asList(ORG_1_ID, ORG_3_ID))).thenReturn(storedUserAssociations);
+        when(OrganizationUserSharingDataHolder.getInstance().getOrganizationManager().resolveTenantDomain(ORG_2_ID))
+                .thenThrow(OrganizationManagementServerException.class);
+
+        PartialUserSharingException exception = expectThrows(PartialUserSharingException.class,
+                () -> organizationUserSharingService.shareOrganizationUser(orgIds, USER_1_ID, ORG_SUPER_ID,
+                        SharedType.SHARED));
+
+        assertEquals(exception.getFailedOrgIds(), Collections.singletonList(ORG_2_ID));
+        assertEquals(exception.getCreatedUserAssociations(), storedUserAssociations);
+        ArgumentCaptor<List<UserAssociation>> userAssociationsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(organizationUserSharingDAO).createOrganizationUserAssociations(userAssociationsCaptor.capture());
+        assertEquals(userAssociationsCaptor.getValue().stream().map(UserAssociation::getOrganizationId)
+                .collect(Collectors.toList()), Arrays.asList(ORG_1_ID, ORG_3_ID));
+        verify(userStoreManager, never()).deleteUserWithID(anyString());
+    }
+
+    @Test
+    public void testShareOrganizationUserRemovesSharedUsersWhenAssociationsFail() throws Exception {
+
+        List<String> orgIds = Arrays.asList(ORG_1_ID, ORG_2_ID, ORG_3_ID);
+        when(organizationUserSharingDAO.getUserAssociationsOfGivenUserOnGivenOrgs(USER_1_ID, orgIds))
+                .thenReturn(Collections.emptyList());
+        doThrow(OrganizationManagementServerException.class).when(organizationUserSharingDAO)
+                .createOrganizationUserAssociations(anyList());
+
+        assertThrows(OrganizationManagementServerException.class,
+                () -> organizationUserSharingService.shareOrganizationUser(orgIds, USER_1_ID, ORG_SUPER_ID,
+                        SharedType.SHARED));
+
+        verify(userStoreManager).deleteUserWithID(USER_2_ID);
+        verify(userStoreManager).deleteUserWithID(USER_3_ID);
+        verify(userStoreManager).deleteUserWithID(USER_4_ID);
+    }
+
+    @Test
+    public void testShareOrganizationUserRemovesRemainingSharedUsersWhenRemovalFails() throws Exception {
+
+        List<String> orgIds = Arrays.asList(ORG_1_ID, ORG_2_ID, ORG_3_ID);
+        when(organizationUserSharingDAO.getUserAssociationsOfGivenUserOnGivenOrgs(USER_1_ID, orgIds))
+                .thenReturn(Collections.emptyList());
+        doThrow(OrganizationManagementServerException.class).when(organizationUserSharingDAO)
+                .createOrganizationUserAssociations(anyList());
+        doThrow(new UserStoreException(VALIDATE_MSG_EXCEPTION)).when(userStoreManager).deleteUserWithID(USER_2_ID);
+
+        assertThrows(OrganizationManagementServerException.class,
+                () -> organizationUserSharingService.shareOrganizationUser(orgIds, USER_1_ID, ORG_SUPER_ID,
+                        SharedType.SHARED));
+
+        verify(userStoreManager).deleteUserWithID(USER_3_ID);
+        verify(userStoreManager).deleteUserWithID(USER_4_ID);
+    }
+
+    private UserAssociation buildUserAssociation(String userId, String orgId) {
+
+        UserAssociation userAssociation = new UserAssociation();
+        userAssociation.setUserId(userId);
+        userAssociation.setOrganizationId(orgId);
+        userAssociation.setAssociatedUserId(USER_1_ID);
+        userAssociation.setUserResidentOrganizationId(ORG_SUPER_ID);
+        userAssociation.setSharedType(SharedType.SHARED);
+        return userAssociation;
+    }
+}
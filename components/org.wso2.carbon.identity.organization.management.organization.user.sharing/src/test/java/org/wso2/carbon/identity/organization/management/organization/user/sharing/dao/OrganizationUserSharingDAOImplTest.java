@@ -0,0 +1,467 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.dao;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.UserAssociationCache;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.UserAssociationCacheEntry;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.UserAssociationCacheKey;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.EditOperation;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SharedType;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.TestUtils;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.ASC_SORT_ORDER;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.DESC_SORT_ORDER;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.ORG_1_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.ORG_2_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.ORG_3_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.ORG_SUPER_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.TENANT_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_1_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_2_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_3_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_4_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_5_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_DOMAIN_PRIMARY;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARE_BATCH_SIZE;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+
+/**
+ * Unit tests for OrganizationUserSharingDAOImpl.
+ */
+public class OrganizationUserSharingDAOImplTest {
+
+    private static final String SHARED_USER_ID_PREFIX = "shared-user-";
+    private static final String ASSOCIATED_USER_ID_PREFIX = "associated-user-";
+    private static final String ORG_ID_PREFIX = "org-";
+    private static final String ROLE_1_ID = "5d1b8e1c-6f7a-4b2d-9c3e-8a4f0b6d2e11";
+    private static final String ROLE_2_ID = "9e3c7a2b-1d4f-4e6a-8b5c-2f7d0a9c4b33";
+
+    private final OrganizationUserSharingDAO organizationUserSharingDAO = new OrganizationUserSharingDAOImpl();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        TestUtils.initiateH2Base();
+        TestUtils.mockDataSource();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+
+        TestUtils.closeH2Base();
+        UserAssociationCache.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    @Test
+    public void testCreateOrganizationUserAssociations() throws Exception {
+
+        organizationUserSharingDAO.createOrganizationUserAssociations(Arrays.asList(
+                buildUserAssociation(USER_2_ID, ORG_1_ID, USER_1_ID, SharedType.SHARED),
+                buildUserAssociation(USER_3_ID, ORG_2_ID, USER_1_ID, SharedType.SHARED),
+                buildUserAssociation(USER_4_ID, ORG_3_ID, USER_1_ID, SharedType.OWNER)));
+
+        Map<String, UserAssociation> userAssociations = organizationUserSharingDAO
+                .getUserAssociationsOfGivenUserOnGivenOrgs(USER_1_ID, Arrays.asList(ORG_1_ID, ORG_2_ID, ORG_3_ID))
+                .stream()
+                .collect(Collectors.toMap(UserAssociation::getOrganizationId, Function.identity()));
+        assertEquals(userAssociations.size(), 3);
+        assertEquals(userAssociations.get(ORG_1_ID).getUserId(), USER_2_ID);
+        assertEquals(userAssociations.get(ORG_1_ID).getUserResidentOrganizationId(), ORG_SUPER_ID);
+        assertEquals(userAssociations.get(ORG_1_ID).getSharedType(), SharedType.SHARED);
+        assertEquals(userAssociations.get(ORG_2_ID).getUserId(), USER_3_ID);
+        assertEquals(userAssociations.get(ORG_3_ID).getUserId(), USER_4_ID);
+        assertEquals(userAssociations.get(ORG_3_ID).getSharedType(), SharedType.OWNER);
+    }
+
+    @Test
+    public void testCreateOrganizationUserAssociationsRollsBackBatchOnFailure() throws Exception {
+
+        organizationUserSharingDAO.createOrganizationUserAssociation(USER_4_ID, ORG_3_ID, USER_2_ID, ORG_SUPER_ID,
+                SharedType.SHARED);
+
+        // The last association conflicts with the existing association of the shared user in the organization.
+        List<UserAssociation> userAssociations = Arrays.asList(
+                buildUserAssociation(USER_2_ID, ORG_1_ID, USER_1_ID, SharedType.SHARED),
+                buildUserAssociation(USER_3_ID, ORG_2_ID, USER_1_ID, SharedType.SHARED),
+                buildUserAssociation(USER_4_ID, ORG_3_ID, USER_1_ID, SharedType.SHARED));
+        assertThrows(OrganizationManagementServerException.class,
+                () -> organizationUserSharingDAO.createOrganizationUserAssociations(userAssociations));
+
+        assertTrue(organizationUserSharingDAO.getUserAssociationsOfGivenUserOnGivenOrgs(USER_1_ID,
+                Arrays.asList(ORG_1_ID, ORG_2_ID, ORG_3_ID)).isEmpty());
+        assertEquals(organizationUserSharingDAO.getUserAssociation(USER_4_ID, ORG_3_ID).getAssociatedUserId(),
+                USER_2_ID);
+    }
+
+    @Test
+    public void testGetUserAssociationsOfSharedUsersAcrossBatches() throws Exception {
+
+        List<UserAssociation> userAssociations = new ArrayList<>();
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < 2 * USER_SHARE_BATCH_SIZE + 1; i++) {
+            String userId = SHARED_USER_ID_PREFIX + i;
+            userIds.add(userId);
+            userAssociations.add(buildUserAssociation(userId, ORG_1_ID, ASSOCIATED_USER_ID_PREFIX + i,
+                    SharedType.SHARED));
+        }
+        organizationUserSharingDAO.createOrganizationUserAssociations(userAssociations);
+        // Users which are not shared with the organization are not resolved.
+        userIds.add(USER_1_ID);
+
+        List<String> resolvedUserIds = organizationUserSharingDAO.getUserAssociationsOfSharedUsers(userIds, ORG_1_ID)
+                .stream()
+                .map(UserAssociation::getUserId)
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(resolvedUserIds, userAssociations.stream()
+                .map(UserAssociation::getUserId)
+                .sorted()
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testGetUserAssociationsOfGivenUsersOnGivenOrgsAcrossBatches() throws Exception {
+
+        List<UserAssociation> userAssociations = new ArrayList<>();
+        List<String> associatedUserIds = new ArrayList<>();
+        List<String> orgIds = new ArrayList<>();
+        for (int i = 0; i < USER_SHARE_BATCH_SIZE + 1; i++) {
+            String associatedUserId = ASSOCIATED_USER_ID_PREFIX + i;
+            String orgId = ORG_ID_PREFIX + i;
+            associatedUserIds.add(associatedUserId);
+            orgIds.add(orgId);
+            userAssociations.add(buildUserAssociation(SHARED_USER_ID_PREFIX + i, orgId, associatedUserId,
+                    SharedType.SHARED));
+        }
+        // The association of a user which is not requested is not resolved.
+        userAssociations.add(buildUserAssociation(USER_2_ID, ORG_ID_PREFIX + 0, USER_1_ID, SharedType.SHARED));
+        organizationUserSharingDAO.createOrganizationUserAssociations(userAssociations);
+
+        List<UserAssociation> resolvedUserAssociations =
+                organizationUserSharingDAO.getUserAssociationsOfGivenUsersOnGivenOrgs(associatedUserIds, orgIds);
+        assertEquals(resolvedUserAssociations.size(), USER_SHARE_BATCH_SIZE + 1);
+        for (UserAssociation userAssociation : resolvedUserAssociations) {
+            assertEquals(userAssociation.getOrganizationId().substring(ORG_ID_PREFIX.length()),
+                    userAssociation.getAssociatedUserId().substring(ASSOCIATED_USER_ID_PREFIX.length()));
+        }
+    }
+
+    @Test
+    public void testGetUserAssociationServedFromCache() throws Exception {
+
+        organizationUserSharingDAO.createOrganizationUserAssociation(USER_2_ID, ORG_1_ID, USER_1_ID, ORG_SUPER_ID,
+                SharedType.SHARED);
+        organizationUserSharingDAO.getUserAssociation(USER_2_ID, ORG_1_ID);
+        // The association is cached against both the shared user and the associated user.
+        assertNotNull(getCacheEntry(UserAssociationCacheKey.forSharedUser(USER_2_ID, ORG_1_ID)));
+        assertNotNull(getCacheEntry(UserAssociationCacheKey.forAssociatedUser(USER_1_ID, ORG_1_ID)));
+
+        // Remove the association bypassing the DAO, so that the association can be resolved only from the cache.
+        executeUpdate("DELETE FROM UM_ORG_USER_ASSOCIATION");
+
+        assertEquals(organizationUserSharingDAO.getUserAssociation(USER_2_ID, ORG_1_ID).getAssociatedUserId(),
+                USER_1_ID);
+        assertEquals(organizationUserSharingDAO.getUserAssociationOfAssociatedUserByOrgId(USER_1_ID, ORG_1_ID)
+                .getUserId(), USER_2_ID);
+    }
+
+    @Test
+    public void testAbsentUserAssociationCachedAsNegativeEntry() throws Exception {
+
+        assertNull(organizationUserSharingDAO.getUserAssociation(USER_2_ID, ORG_1_ID));
+        UserAssociationCacheEntry cacheEntry =
+                getCacheEntry(UserAssociationCacheKey.forSharedUser(USER_2_ID, ORG_1_ID));
+        assertNotNull(cacheEntry);
+        assertNull(cacheEntry.getUserAssociation());
+
+        // An association added bypassing the DAO is not visible until the negative entry is cleared.
+        executeUpdate("INSERT INTO UM_ORG_USER_ASSOCIATION (UM_USER_ID, UM_ORG_ID, UM_ASSOCIATED_USER_ID, " +
+                "UM_ASSOCIATED_ORG_ID) VALUES ('" + USER_2_ID + "', '" + ORG_1_ID + "', '" + USER_1_ID + "', '" +
+                ORG_SUPER_ID + "')");
+        assertNull(organizationUserSharingDAO.getUserAssociation(USER_2_ID, ORG_1_ID));
+
+        executeUpdate("DELETE FROM UM_ORG_USER_ASSOCIATION");
+        organizationUserSharingDAO.createOrganizationUserAssociation(USER_2_ID, ORG_1_ID, USER_1_ID, ORG_SUPER_ID,
+                SharedType.SHARED);
+        assertEquals(organizationUserSharingDAO.getUserAssociation(USER_2_ID, ORG_1_ID).getAssociatedUserId(),
+                USER_1_ID);
+    }
+
+    @Test
+    public void testDeleteUserAssociationOfUserByAssociatedOrgClearsOnlyAffectedEntries() throws Exception {
+
+        createAndCacheUserAssociations();
+
+        organizationUserSharingDAO.deleteUserAssociationOfUserByAssociatedOrg(USER_2_ID, ORG_SUPER_ID);
+
+        assertNull(getCacheEntry(UserAssociationCacheKey.forSharedUser(USER_2_ID, ORG_1_ID)));
+        assertNull(getCacheEntry(UserAssociationCacheKey.forAssociatedUser(USER_1_ID, ORG_1_ID)));
+        assertNotNull(getCacheEntry(UserAssociationCacheKey.forSharedUser(USER_3_ID, ORG_2_ID)));
+        assertNotNull(getCacheEntry(UserAssociationCacheKey.forSharedUser(USER_5_ID, ORG_1_ID)));
+        assertNull(organizationUserSharingDAO.getUserAssociation(USER_2_ID, ORG_1_ID));
+    }
+
+    @Test
+    public void testDeleteUserAssociationsOfAssociatedUserClearsOnlyAffectedEntries() throws Exception {
+
+        createAndCacheUserAssociations();
+
+        organizationUserSharingDAO.deleteUserAssociationsOfAssociatedUser(USER_1_ID, ORG_SUPER_ID);
+
+        assertNull(getCacheEntry(UserAssociationCacheKey.forSharedUser(USER_2_ID, ORG_1_ID)));
+        assertNull(getCacheEntry(UserAssociationCacheKey.forAssociatedUser(USER_1_ID, ORG_1_ID)));
+        assertNull(getCacheEntry(UserAssociationCacheKey.forSharedUser(USER_3_ID, ORG_2_ID)));
+        assertNull(getCacheEntry(UserAssociationCacheKey.forAssociatedUser(USER_1_ID, ORG_2_ID)));
+        assertNotNull(getCacheEntry(UserAssociationCacheKey.forSharedUser(USER_5_ID, ORG_1_ID)));
+        assertNull(organizationUserSharingDAO.getUserAssociation(USER_3_ID, ORG_2_ID));
+    }
+
+    @Test
+    public void testUpdateSharedTypeOfUserAssociationClearsOnlyAffectedEntries() throws Exception {
+
+        createAndCacheUserAssociations();
+        UserAssociation userAssociation = organizationUserSharingDAO.getUserAssociation(USER_2_ID, ORG_1_ID);
+
+        organizationUserSharingDAO.updateSharedTypeOfUserAssociation(userAssociation.getId(), SharedType.OWNER);
+
+        assertNull(getCacheEntry(UserAssociationCacheKey.forSharedUser(USER_2_ID, ORG_1_ID)));
+        assertNull(getCacheEntry(UserAssociationCacheKey.forAssociatedUser(USER_1_ID, ORG_1_ID)));
+        assertNotNull(getCacheEntry(UserAssociationCacheKey.forSharedUser(USER_3_ID, ORG_2_ID)));
+        assertNotNull(getCacheEntry(UserAssociationCacheKey.forSharedUser(USER_5_ID, ORG_1_ID)));
+        assertEquals(organizationUserSharingDAO.getUserAssociation(USER_2_ID, ORG_1_ID).getSharedType(),
+                SharedType.OWNER);
+    }
+
+    @Test
+    public void testAddEditRestrictionsForSharedUserRolesSkipsMissingRoleAssignments() throws Exception {
+
+        executeUpdate("INSERT INTO UM_DOMAIN (UM_DOMAIN_ID, UM_DOMAIN_NAME, UM_TENANT_ID) VALUES (1, '" +
+                USER_DOMAIN_PRIMARY + "', " + TENANT_ID + ")");
+        executeUpdate("INSERT INTO UM_HYBRID_ROLE (UM_ID, UM_ROLE_NAME, UM_TENANT_ID, UM_UUID) VALUES " +
+                "(1, 'role-1', " + TENANT_ID + ", '" + ROLE_1_ID + "'), " +
+                "(2, 'role-2', " + TENANT_ID + ", '" + ROLE_2_ID + "')");
+        // The usernames of the role assignments differ in case from the usernames given for the restrictions.
+        executeUpdate("INSERT INTO UM_HYBRID_USER_ROLE (UM_ID, UM_USER_NAME, UM_ROLE_ID, UM_TENANT_ID, " +
+                "UM_DOMAIN_ID) VALUES " +
+                "(11, 'John', 1, " + TENANT_ID + ", 1), " +
+                "(12, 'John', 2, " + TENANT_ID + ", 1), " +
+                "(13, 'jane', 1, " + TENANT_ID + ", 1)");
+
+        Map<String, List<String>> roleIdsOfSharedUsers = new LinkedHashMap<>();
+        roleIdsOfSharedUsers.put("john", Arrays.asList(ROLE_1_ID, ROLE_2_ID));
+        // The second role has not been assigned to the user. Hence, its restriction is skipped.
+        roleIdsOfSharedUsers.put("Jane", Arrays.asList(ROLE_1_ID, ROLE_2_ID));
+        try (MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class)) {
+            identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(SUPER_TENANT_DOMAIN_NAME))
+                    .thenReturn(TENANT_ID);
+            organizationUserSharingDAO.addEditRestrictionsForSharedUserRoles(roleIdsOfSharedUsers,
+                    SUPER_TENANT_DOMAIN_NAME, USER_DOMAIN_PRIMARY, EditOperation.DELETE, ORG_SUPER_ID);
+        }
+
+        assertEquals(getRestrictedUserRoleIds(), Arrays.asList(11, 12, 13));
+    }
+
+    @Test
+    public void testAddEditRestrictionsForSharedUserRolesWithoutRoleAssignments() throws Exception {
+
+        Map<String, List<String>> roleIdsOfSharedUsers = new LinkedHashMap<>();
+        roleIdsOfSharedUsers.put("john", Collections.singletonList(ROLE_1_ID));
+        try (MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class)) {
+            identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(SUPER_TENANT_DOMAIN_NAME))
+                    .thenReturn(TENANT_ID);
+            organizationUserSharingDAO.addEditRestrictionsForSharedUserRoles(roleIdsOfSharedUsers,
+                    SUPER_TENANT_DOMAIN_NAME, USER_DOMAIN_PRIMARY, EditOperation.DELETE, ORG_SUPER_ID);
+        }
+
+        assertTrue(getRestrictedUserRoleIds().isEmpty());
+    }
+
+    @Test
+    public void testAddEditRestrictionsForSharedUserRolesAcrossRoleBatches() throws Exception {
+
+        int roleCount = USER_SHARE_BATCH_SIZE + 1;
+        executeUpdate("INSERT INTO UM_DOMAIN (UM_DOMAIN_ID, UM_DOMAIN_NAME, UM_TENANT_ID) VALUES (1, '" +
+                USER_DOMAIN_PRIMARY + "', " + TENANT_ID + ")");
+        List<String> roleIds = new ArrayList<>();
+        List<Integer> userRoleIds = new ArrayList<>();
+        for (int index = 1; index <= roleCount; index++) {
+            String roleId = "role-" + index;
+            roleIds.add(roleId);
+            userRoleIds.add(1000 + index);
+            executeUpdate("INSERT INTO UM_HYBRID_ROLE (UM_ID, UM_ROLE_NAME, UM_TENANT_ID, UM_UUID) VALUES (" +
+                    index + ", '" + roleId + "', " + TENANT_ID + ", '" + roleId + "')");
+            executeUpdate("INSERT INTO UM_HYBRID_USER_ROLE (UM_ID, UM_USER_NAME, UM_ROLE_ID, UM_TENANT_ID, " +
+                    "UM_DOMAIN_ID) VALUES (" + (1000 + index) + ", 'john', " + index + ", " + TENANT_ID + ", 1)");
+        }
+
+        try (MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class)) {
+            identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(SUPER_TENANT_DOMAIN_NAME))
+                    .thenReturn(TENANT_ID);
+            organizationUserSharingDAO.addEditRestrictionsForSharedUserRoles(
+                    Collections.singletonMap("john", roleIds), SUPER_TENANT_DOMAIN_NAME, USER_DOMAIN_PRIMARY,
+                    EditOperation.DELETE, ORG_SUPER_ID);
+        }
+
+        assertEquals(getRestrictedUserRoleIds(), userRoleIds);
+    }
+
+    @DataProvider(name = "userAssociationsInOrgHierarchyTestData")
+    public Object[][] getUserAssociationsInOrgHierarchyTestData() {
+
+        return new Object[][]{
+                // All the descendants of the root organization. ORG_3_ID is outside the hierarchy.
+                {ORG_SUPER_ID, true, Arrays.asList(ORG_1_ID, ORG_2_ID)},
+                // Only the immediate children of the root organization.
+                {ORG_SUPER_ID, false, Collections.singletonList(ORG_1_ID)},
+                // All the descendants of a sub organization.
+                {ORG_1_ID, true, Collections.singletonList(ORG_2_ID)},
+                // A leaf organization does not have descendants.
+                {ORG_2_ID, true, Collections.emptyList()},
+        };
+    }
+
+    @Test(dataProvider = "userAssociationsInOrgHierarchyTestData")
+    public void testGetUserAssociationsOfAssociatedUserInOrgHierarchy(String parentOrgId, boolean recursive,
+                                                                      List<String> expectedOrgIds)
+            throws Exception {
+
+        createUserAssociationsInOrgHierarchy();
+
+        List<UserAssociation> userAssociations =
+                organizationUserSharingDAO.getUserAssociationsOfAssociatedUserInOrgHierarchy(USER_1_ID, ORG_SUPER_ID,
+                        parentOrgId, recursive, Collections.emptyList(), ASC_SORT_ORDER, 0);
+
+        assertEquals(userAssociations.stream().map(UserAssociation::getOrganizationId).collect(Collectors.toList()),
+                expectedOrgIds);
+        assertTrue(userAssociations.stream()
+                .allMatch(userAssociation -> USER_1_ID.equals(userAssociation.getAssociatedUserId())));
+    }
+
+    @Test
+    public void testGetUserAssociationsOfAssociatedUserInOrgHierarchyWithLimit() throws Exception {
+
+        createUserAssociationsInOrgHierarchy();
+
+        List<UserAssociation> firstPage =
+                organizationUserSharingDAO.getUserAssociationsOfAssociatedUserInOrgHierarchy(USER_1_ID, ORG_SUPER_ID,
+                        ORG_SUPER_ID, true, Collections.emptyList(), DESC_SORT_ORDER, 1);
+
+        assertEquals(firstPage.size(), 1);
+        assertEquals(firstPage.get(0).getOrganizationId(), ORG_2_ID);
+    }
+
+    /**
+     * Create the organization hierarchy ORG_SUPER_ID -> ORG_1_ID -> ORG_2_ID, and share USER_1_ID with ORG_1_ID,
+     * ORG_2_ID and ORG_3_ID, which is outside the hierarchy. USER_4_ID is shared with ORG_1_ID as well.
+     */
+    private void createUserAssociationsInOrgHierarchy() throws Exception {
+
+        executeUpdate("INSERT INTO UM_ORG_HIERARCHY (UM_PARENT_ID, UM_ID, DEPTH) VALUES ('" + ORG_SUPER_ID + "', '" +
+                ORG_1_ID + "', 1)");
+        executeUpdate("INSERT INTO UM_ORG_HIERARCHY (UM_PARENT_ID, UM_ID, DEPTH) VALUES ('" + ORG_SUPER_ID + "', '" +
+                ORG_2_ID + "', 2)");
+        executeUpdate("INSERT INTO UM_ORG_HIERARCHY (UM_PARENT_ID, UM_ID, DEPTH) VALUES ('" + ORG_1_ID + "', '" +
+                ORG_2_ID + "', 1)");
+        organizationUserSharingDAO.createOrganizationUserAssociations(Arrays.asList(
+                buildUserAssociation(USER_2_ID, ORG_1_ID, USER_1_ID, SharedType.SHARED),
+                buildUserAssociation(USER_3_ID, ORG_2_ID, USER_1_ID, SharedType.SHARED),
+                buildUserAssociation(USER_5_ID, ORG_3_ID, USER_1_ID, SharedType.SHARED),
+                buildUserAssociation(SHARED_USER_ID_PREFIX + USER_4_ID, ORG_1_ID, USER_4_ID, SharedType.SHARED)));
+    }
+
+    /**
+     * Create two associations of USER_1_ID and an association of USER_4_ID, and cache all of them.
+     */
+    private void createAndCacheUserAssociations() throws Exception {
+
+        organizationUserSharingDAO.createOrganizationUserAssociations(Arrays.asList(
+                buildUserAssociation(USER_2_ID, ORG_1_ID, USER_1_ID, SharedType.SHARED),
+                buildUserAssociation(USER_3_ID, ORG_2_ID, USER_1_ID, SharedType.SHARED),
+                buildUserAssociation(USER_5_ID, ORG_1_ID, USER_4_ID, SharedType.SHARED)));
+        organizationUserSharingDAO.getUserAssociation(USER_2_ID, ORG_1_ID);
+        organizationUserSharingDAO.getUserAssociation(USER_3_ID, ORG_2_ID);
+        organizationUserSharingDAO.getUserAssociation(USER_5_ID, ORG_1_ID);
+    }
+
+    private UserAssociationCacheEntry getCacheEntry(UserAssociationCacheKey cacheKey) {
+
+        return UserAssociationCache.getInstance().getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    private List<Integer> getRestrictedUserRoleIds() throws Exception {
+
+        List<Integer> restrictedUserRoleIds = new ArrayList<>();
+        try (Connection connection = TestUtils.dataSourceMap.get(TestUtils.DB_NAME).getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT UM_HYBRID_USER_ROLE_ID FROM " +
+                     "UM_HYBRID_USER_ROLE_RESTRICTED_EDIT_PERMISSIONS ORDER BY UM_HYBRID_USER_ROLE_ID")) {
+            while (resultSet.next()) {
+                restrictedUserRoleIds.add(resultSet.getInt(1));
+            }
+        }
+        return restrictedUserRoleIds;
+    }
+
+    private void executeUpdate(String sql) throws Exception {
+
+        try (Connection connection = TestUtils.dataSourceMap.get(TestUtils.DB_NAME).getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate(sql);
+        }
+    }
+
+    private UserAssociation buildUserAssociation(String userId, String orgId, String associatedUserId,
+                                                 SharedType sharedType) {
+
+        UserAssociation userAssociation = new UserAssociation();
+        userAssociation.setUserId(userId);
+        userAssociation.setOrganizationId(orgId);
+        userAssociation.setAssociatedUserId(associatedUserId);
+        userAssociation.setUserResidentOrganizationId(ORG_SUPER_ID);
+        userAssociation.setSharedType(sharedType);
+        return userAssociation;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.dao;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.RoleAssignmentMode;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingJobStatus;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingJobType;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserSharingJob;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserSharingJobTarget;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.TestUtils;
+import org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.PolicyEnum;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.ORG_1_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.ORG_2_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.ORG_SUPER_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.TENANT_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_1_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_2_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_3_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_4_ID;
+
+/**
+ * Unit tests for UserSharingJobDAOImpl.
+ */
+public class UserSharingJobDAOImplTest {
+
+    private static final String JOB_1_ID = "2c1f6f3e-6a4b-4d8e-9a55-0f1d3c7b9e21";
+    private static final String JOB_2_ID = "7b9e4a12-3c5d-4e6f-8a1b-2c3d4e5f6a7b";
+    private static final String JOB_3_ID = "d4e5f6a7-b8c9-4d0e-9f1a-2b3c4d5e6f70";
+    private static final String NODE_1_ID = "node-1";
+    private static final String NODE_2_ID = "node-2";
+    private static final String NODE_3_ID = "node-3";
+    private static final String ROLE_1_ID = "role-1";
+    private static final String ROLE_2_ID = "role-2";
+    private static final long HEARTBEAT = 1000L;
+    private static final long REFRESHED_HEARTBEAT = 5000L;
+    private static final long HEARTBEAT_THRESHOLD = 3000L;
+
+    private final UserSharingJobDAO userSharingJobDAO = new UserSharingJobDAOImpl();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        TestUtils.initiateH2Base();
+        TestUtils.mockDataSource();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+
+        TestUtils.closeH2Base();
+    }
+
+    @Test
+    public void testCheckUserSharingJobTables() throws Exception {
+
+        // The tables are defined in the test schema, hence the check passes.
+        userSharingJobDAO.checkUserSharingJobTables();
+    }
+
+    @Test
+    public void testAddUserSharingJob() throws Exception {
+
+        userSharingJobDAO.addUserSharingJob(buildUserSharingJob(JOB_1_ID, USER_1_ID, USER_2_ID), NODE_1_ID,
+                HEARTBEAT);
+
+        Map<String, UserSharingJobTarget> targets = userSharingJobDAO.getUserSharingJobTargets(JOB_1_ID).stream()
+                .collect(Collectors.toMap(UserSharingJobTarget::getOrganizationId, Function.identity()));
+        assertEquals(targets.size(), 2);
+        assertEquals(targets.get(ORG_1_ID).getPolicy(), PolicyEnum.SELECTED_ORG_ONLY);
+        assertEquals(targets.get(ORG_1_ID).getRoleIds(), Arrays.asList(ROLE_1_ID, ROLE_2_ID));
+        assertEquals(targets.get(ORG_1_ID).getRoleAssignmentMode(), RoleAssignmentMode.SELECTED);
+        assertNull(targets.get(ORG_2_ID).getPolicy());
+        assertTrue(targets.get(ORG_2_ID).getRoleIds().isEmpty());
+        assertNull(targets.get(ORG_2_ID).getRoleAssignmentMode());
+        assertEquals(userSharingJobDAO.getUserSharingJobUnits(JOB_1_ID, UserSharingJobStatus.PENDING).stream()
+                .sorted().collect(Collectors.toList()), Arrays.asList(USER_1_ID, USER_2_ID));
+    }
+
+    @Test
+    public void testUpdateUserSharingJobUnitStatus() throws Exception {
+
+        userSharingJobDAO.addUserSharingJob(buildUserSharingJob(JOB_1_ID, USER_1_ID, USER_2_ID, USER_3_ID),
+                NODE_1_ID, HEARTBEAT);
+
+        userSharingJobDAO.updateUserSharingJobUnitStatus(JOB_1_ID, USER_1_ID, UserSharingJobStatus.SUCCESS);
+        userSharingJobDAO.updateUserSharingJobUnitStatus(JOB_1_ID, USER_2_ID, UserSharingJobStatus.FAILED);
+
+        assertEquals(userSharingJobDAO.getUserSharingJobUnits(JOB_1_ID, UserSharingJobStatus.PENDING),
+                Collections.singletonList(USER_3_ID));
+        assertEquals(userSharingJobDAO.getUserSharingJobUnits(JOB_1_ID, UserSharingJobStatus.SUCCESS),
+                Collections.singletonList(USER_1_ID));
+        assertEquals(userSharingJobDAO.getUserSharingJobUnits(JOB_1_ID, UserSharingJobStatus.FAILED),
+                Collections.singletonList(USER_2_ID));
+    }
+
+    @Test
+    public void testGetUserSharingJobsWithExpiredHeartbeat() throws Exception {
+
+        userSharingJobDAO.addUserSharingJob(buildUserSharingJob(JOB_1_ID, USER_1_ID), NODE_1_ID, HEARTBEAT);
+        userSharingJobDAO.addUserSharingJob(buildUserSharingJob(JOB_2_ID, USER_2_ID), NODE_2_ID,
+                REFRESHED_HEARTBEAT);
+        userSharingJobDAO.addUserSharingJob(buildUserSharingJob(JOB_3_ID, USER_3_ID), NODE_1_ID, HEARTBEAT);
+        // A completed job is not resumed, even though its heartbeat is not refreshed anymore.
+        userSharingJobDAO.updateUserSharingJobStatus(JOB_3_ID, UserSharingJobStatus.SUCCESS);
+
+        List<UserSharingJob> expiredJobs = userSharingJobDAO.getUserSharingJobsWithExpiredHeartbeat(
+                HEARTBEAT_THRESHOLD);
+
+        assertEquals(expiredJobs.size(), 1);
+        UserSharingJob expiredJob = expiredJobs.get(0);
+        assertEquals(expiredJob.getJobId(), JOB_1_ID);
+        assertEquals(expiredJob.getJobType(), UserSharingJobType.SELECTIVE_USER_SHARE);
+        assertEquals(expiredJob.getTenantId(), TENANT_ID);
+        assertEquals(expiredJob.getInitiatedOrgId(), ORG_SUPER_ID);
+        assertEquals(expiredJob.getLastHeartbeat(), HEARTBEAT);
+    }
+
+    @Test
+    public void testUpdateUserSharingJobHeartbeatsOfOwnedJobs() throws Exception {
+
+        userSharingJobDAO.addUserSharingJob(buildUserSharingJob(JOB_1_ID, USER_1_ID), NODE_1_ID, HEARTBEAT);
+        userSharingJobDAO.addUserSharingJob(buildUserSharingJob(JOB_2_ID, USER_2_ID), NODE_2_ID, HEARTBEAT);
+
+        userSharingJobDAO.updateUserSharingJobHeartbeats(NODE_1_ID, REFRESHED_HEARTBEAT);
+
+        // Only the jobs of the node refreshing the heartbeat are kept alive.
+        List<String> expiredJobIds = userSharingJobDAO.getUserSharingJobsWithExpiredHeartbeat(HEARTBEAT_THRESHOLD)
+                .stream()
+                .map(UserSharingJob::getJobId)
+                .collect(Collectors.toList());
+        assertEquals(expiredJobIds, Collections.singletonList(JOB_2_ID));
+    }
+
+    @Test
+    public void testClaimUserSharingJob() throws Exception {
+
+        userSharingJobDAO.addUserSharingJob(buildUserSharingJob(JOB_1_ID, USER_1_ID), NODE_1_ID, HEARTBEAT);
+        UserSharingJob expiredJob =
+                userSharingJobDAO.getUserSharingJobsWithExpiredHeartbeat(HEARTBEAT_THRESHOLD).get(0);
+
+        assertTrue(userSharingJobDAO.claimUserSharingJob(expiredJob, NODE_2_ID, REFRESHED_HEARTBEAT));
+        // The heartbeat read by another node is stale once the job is claimed. Hence, the job is not claimed again.
+        assertFalse(userSharingJobDAO.claimUserSharingJob(expiredJob, NODE_3_ID, REFRESHED_HEARTBEAT));
+        assertTrue(userSharingJobDAO.getUserSharingJobsWithExpiredHeartbeat(HEARTBEAT_THRESHOLD).isEmpty());
+
+        // The claimed job is kept alive by the heartbeat of the claiming node.
+        userSharingJobDAO.updateUserSharingJobHeartbeats(NODE_2_ID, REFRESHED_HEARTBEAT + HEARTBEAT_THRESHOLD);
+        assertTrue(userSharingJobDAO.getUserSharingJobsWithExpiredHeartbeat(REFRESHED_HEARTBEAT + 1).isEmpty());
+    }
+
+    @Test
+    public void testClaimCompletedUserSharingJobFails() throws Exception {
+
+        userSharingJobDAO.addUserSharingJob(buildUserSharingJob(JOB_1_ID, USER_1_ID), NODE_1_ID, HEARTBEAT);
+        UserSharingJob expiredJob =
+                userSharingJobDAO.getUserSharingJobsWithExpiredHeartbeat(HEARTBEAT_THRESHOLD).get(0);
+        userSharingJobDAO.updateUserSharingJobStatus(JOB_1_ID, UserSharingJobStatus.SUCCESS);
+
+        assertFalse(userSharingJobDAO.claimUserSharingJob(expiredJob, NODE_2_ID, REFRESHED_HEARTBEAT));
+    }
+
+    private UserSharingJob buildUserSharingJob(String jobId, String... userIds) {
+
+        UserSharingJob userSharingJob = new UserSharingJob();
+        userSharingJob.setJobId(jobId);
+        userSharingJob.setJobType(UserSharingJobType.SELECTIVE_USER_SHARE);
+        userSharingJob.setTenantId(TENANT_ID);
+        userSharingJob.setInitiatedOrgId(ORG_SUPER_ID);
+        userSharingJob.setInitiatedUserId(USER_4_ID);
+        userSharingJob.setInitiatedUsername("admin");
+        userSharingJob.setTargets(Arrays.asList(
+                new UserSharingJobTarget(ORG_1_ID, PolicyEnum.SELECTED_ORG_ONLY,
+                        new ArrayList<>(Arrays.asList(ROLE_1_ID, ROLE_2_ID)), RoleAssignmentMode.SELECTED),
+                new UserSharingJobTarget(ORG_2_ID, null, null, null)));
+        userSharingJob.setUserIds(new ArrayList<>(Arrays.asList(userIds)));
+        return userSharingJob;
+    }
+}
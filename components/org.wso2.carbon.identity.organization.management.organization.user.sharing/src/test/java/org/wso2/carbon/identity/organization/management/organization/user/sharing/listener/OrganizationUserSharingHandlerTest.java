@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.listener;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.organization.management.ext.Constants;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.OrganizationUserSharingService;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.EditOperation;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SharedType;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.internal.OrganizationUserSharingDataHolder;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.UserSharingExecutor;
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.organization.management.service.model.Organization;
+import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
+import org.wso2.carbon.identity.organization.management.service.util.Utils;
+import org.wso2.carbon.identity.organization.resource.sharing.policy.management.ResourceSharingPolicyHandlerService;
+import org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.PolicyEnum;
+import org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.ResourceType;
+import org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.SharedAttributeType;
+import org.wso2.carbon.identity.organization.resource.sharing.policy.management.model.ResourceSharingPolicy;
+import org.wso2.carbon.identity.organization.resource.sharing.policy.management.model.SharedResourceAttribute;
+import org.wso2.carbon.identity.role.v2.mgt.core.RoleManagementService;
+import org.wso2.carbon.identity.role.v2.mgt.core.util.UserIDResolver;
+import org.wso2.carbon.user.core.util.UserCoreUtil;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.ORG_1_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.ORG_2_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.ORG_SUPER_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_1_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_2_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_DOMAIN_PRIMARY;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARE_BATCH_SIZE;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+
+/**
+ * Unit tests for sharing the users with a newly created organization by the OrganizationUserSharingHandler.
+ */
+public class OrganizationUserSharingHandlerTest {
+
+    private static final String ORGANIZATION_HANDLE = "created-org";
+    private static final String CREATED_ORG_TENANT_DOMAIN = "created-org-tenant";
+    private static final String ROLE_1_ID = "role-1";
+    private static final String ROLE_2_ID = "role-2";
+    private static final String SHARED_ROLE_1_ID = "shared-role-1";
+    private static final String SHARED_ROLE_2_ID = "shared-role-2";
+    private static final String USERNAME = "john";
+    private static final String USER_ID_PREFIX = "user-";
+    private static final String SHARED_USER_ID_PREFIX = "shared-";
+
+    private OrganizationUserSharingHandler organizationUserSharingHandler;
+    private OrganizationUserSharingService userSharingService;
+    private OrganizationUserSharingService organizationUserSharingService;
+    private ResourceSharingPolicyHandlerService resourceSharingPolicyHandlerService;
+    private RoleManagementService roleManagementService;
+    private MockedStatic<OrganizationManagementUtil> organizationManagementUtilMockedStatic;
+    private MockedStatic<Utils> utilsMockedStatic;
+    private MockedStatic<PrivilegedCarbonContext> privilegedCarbonContextMockedStatic;
+    private MockedStatic<UserSharingExecutor> userSharingExecutorMockedStatic;
+    private MockedStatic<UserCoreUtil> userCoreUtilMockedStatic;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        organizationUserSharingHandler = new OrganizationUserSharingHandler();
+        userSharingService = mock(OrganizationUserSharingService.class);
+        setField("userSharingService", userSharingService);
+        UserIDResolver userIDResolver = mock(UserIDResolver.class);
+        when(userIDResolver.getNameByID(anyString(), eq(CREATED_ORG_TENANT_DOMAIN)))
+                .thenReturn(USER_DOMAIN_PRIMARY + "/" + USERNAME);
+        setField("userIDResolver", userIDResolver);
+
+        OrganizationManager organizationManager = mock(OrganizationManager.class);
+        // The ancestor chain of the created organization, starting from the created organization itself.
+        when(organizationManager.getAncestorOrganizationIds(ORG_1_ID))
+                .thenReturn(Arrays.asList(ORG_1_ID, ORG_2_ID, ORG_SUPER_ID));
+        when(organizationManager.resolveTenantDomain(ORG_1_ID)).thenReturn(CREATED_ORG_TENANT_DOMAIN);
+        resourceSharingPolicyHandlerService = mock(ResourceSharingPolicyHandlerService.class);
+        roleManagementService = mock(RoleManagementService.class);
+        Map<String, String> mainRoleToSharedRoleMappings = new HashMap<>();
+        mainRoleToSharedRoleMappings.put(ROLE_1_ID, SHARED_ROLE_1_ID);
+        mainRoleToSharedRoleMappings.put(ROLE_2_ID, SHARED_ROLE_2_ID);
+        when(roleManagementService.getMainRoleToSharedRoleMappingsBySubOrg(anyList(), eq(CREATED_ORG_TENANT_DOMAIN)))
+                .thenReturn(mainRoleToSharedRoleMappings);
+        when(roleManagementService.getRoleIdListOfUser(anyString(), eq(CREATED_ORG_TENANT_DOMAIN)))
+                .thenReturn(Collections.emptyList());
+        organizationUserSharingService = mock(OrganizationUserSharingService.class);
+        OrganizationUserSharingDataHolder.getInstance().setOrganizationManager(organizationManager);
+        OrganizationUserSharingDataHolder.getInstance()
+                .setResourceSharingPolicyHandlerService(resourceSharingPolicyHandlerService);
+        OrganizationUserSharingDataHolder.getInstance().setRoleManagementService(roleManagementService);
+        OrganizationUserSharingDataHolder.getInstance()
+                .setOrganizationUserSharingService(organizationUserSharingService);
+
+        organizationManagementUtilMockedStatic = mockStatic(OrganizationManagementUtil.class);
+        organizationManagementUtilMockedStatic.when(
+                () -> OrganizationManagementUtil.isOrganization(ORGANIZATION_HANDLE)).thenReturn(true);
+        utilsMockedStatic = mockStatic(Utils.class);
+        utilsMockedStatic.when(Utils::getSubOrgStartLevel).thenReturn(1);
+        PrivilegedCarbonContext carbonContext = mock(PrivilegedCarbonContext.class);
+        when(carbonContext.getTenantDomain()).thenReturn(SUPER_TENANT_DOMAIN_NAME);
+        privilegedCarbonContextMockedStatic = mockStatic(PrivilegedCarbonContext.class);
+        privilegedCarbonContextMockedStatic.when(PrivilegedCarbonContext::getThreadLocalCarbonContext)
+                .thenReturn(carbonContext);
+        // The chunks of users are shared in the calling thread, so that the outcome can be verified synchronously.
+        UserSharingExecutor userSharingExecutor = mock(UserSharingExecutor.class);
+        when(userSharingExecutor.forTenant(anyString())).thenReturn(Runnable::run);
+        userSharingExecutorMockedStatic = mockStatic(UserSharingExecutor.class);
+        userSharingExecutorMockedStatic.when(UserSharingExecutor::getInstance).thenReturn(userSharingExecutor);
+        userCoreUtilMockedStatic = mockStatic(UserCoreUtil.class);
+        userCoreUtilMockedStatic.when(() -> UserCoreUtil.removeDomainFromName(anyString())).thenReturn(USERNAME);
+        userCoreUtilMockedStatic.when(() -> UserCoreUtil.extractDomainFromName(anyString()))
+                .thenReturn(USER_DOMAIN_PRIMARY);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        organizationManagementUtilMockedStatic.close();
+        utilsMockedStatic.close();
+        privilegedCarbonContextMockedStatic.close();
+        userSharingExecutorMockedStatic.close();
+        userCoreUtilMockedStatic.close();
+    }
+
+    @Test
+    public void testUserWithSeveralPoliciesSharedOnceWithMergedRoles() throws Exception {
+
+        // The user is shared with all the descendants of the root, and with the immediate children of the parent.
+        Map<String, Map<ResourceSharingPolicy, List<SharedResourceAttribute>>> resourcesGroupedByOrganization =
+                new LinkedHashMap<>();
+        resourcesGroupedByOrganization.put(ORG_SUPER_ID, Collections.singletonMap(
+                buildUserResource(USER_1_ID, ORG_SUPER_ID, PolicyEnum.ALL_EXISTING_AND_FUTURE_ORGS),
+                Collections.singletonList(buildRoleAttribute(ROLE_1_ID))));
+        Map<ResourceSharingPolicy, List<SharedResourceAttribute>> resourcesOfParentOrg = new LinkedHashMap<>();
+        resourcesOfParentOrg.put(buildUserResource(USER_1_ID, ORG_2_ID, PolicyEnum.IMMEDIATE_EXISTING_AND_FUTURE_ORGS),
+                Arrays.asList(buildRoleAttribute(ROLE_1_ID), buildRoleAttribute(ROLE_2_ID)));
+        resourcesOfParentOrg.put(buildUserResource(USER_2_ID, ORG_2_ID, PolicyEnum.ALL_EXISTING_AND_FUTURE_ORGS),
+                Collections.emptyList());
+        resourcesGroupedByOrganization.put(ORG_2_ID, resourcesOfParentOrg);
+        when(resourceSharingPolicyHandlerService.getResourceSharingPoliciesWithSharedAttributes(
+                Arrays.asList(ORG_2_ID, ORG_SUPER_ID))).thenReturn(resourcesGroupedByOrganization);
+        mockUserAssociation(USER_1_ID);
+        mockUserAssociation(USER_2_ID);
+
+        organizationUserSharingHandler.handleEvent(buildOrganizationCreationEvent());
+
+        verify(userSharingService, times(1)).shareOrganizationUser(ORG_1_ID, USER_1_ID, ORG_SUPER_ID,
+                SharedType.SHARED);
+        verify(userSharingService, times(1)).shareOrganizationUser(ORG_1_ID, USER_2_ID, ORG_SUPER_ID,
+                SharedType.SHARED);
+        String sharedUserId = SHARED_USER_ID_PREFIX + USER_1_ID;
+        verify(roleManagementService, times(1)).updateUserListOfRole(SHARED_ROLE_1_ID,
+                Collections.singletonList(sharedUserId), Collections.emptyList(), CREATED_ORG_TENANT_DOMAIN);
+        verify(roleManagementService, times(1)).updateUserListOfRole(SHARED_ROLE_2_ID,
+                Collections.singletonList(sharedUserId), Collections.emptyList(), CREATED_ORG_TENANT_DOMAIN);
+        verify(organizationUserSharingService, times(1)).addEditRestrictionsForSharedUserRoles(
+                Collections.singletonMap(USERNAME, Arrays.asList(SHARED_ROLE_1_ID, SHARED_ROLE_2_ID)),
+                CREATED_ORG_TENANT_DOMAIN, USER_DOMAIN_PRIMARY, EditOperation.DELETE, ORG_SUPER_ID);
+    }
+
+    @Test
+    public void testUsersWithSeveralPoliciesSharedOnceAcrossChunks() throws Exception {
+
+        Map<ResourceSharingPolicy, List<SharedResourceAttribute>> resourcesOfRootOrg = new LinkedHashMap<>();
+        Map<ResourceSharingPolicy, List<SharedResourceAttribute>> resourcesOfParentOrg = new LinkedHashMap<>();
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < USER_SHARE_BATCH_SIZE + 1; i++) {
+            String userId = USER_ID_PREFIX + i;
+            userIds.add(userId);
+            resourcesOfRootOrg.put(buildUserResource(userId, ORG_SUPER_ID, PolicyEnum.ALL_EXISTING_AND_FUTURE_ORGS),
+                    Collections.emptyList());
+        }
+        // The policies of the parent are listed in reverse, so that they would fall into other chunks if not merged.
+        for (int i = userIds.size() - 1; i >= 0; i--) {
+            resourcesOfParentOrg.put(buildUserResource(userIds.get(i), ORG_2_ID,
+                    PolicyEnum.ALL_EXISTING_AND_FUTURE_ORGS), Collections.emptyList());
+        }
+        Map<String, Map<ResourceSharingPolicy, List<SharedResourceAttribute>>> resourcesGroupedByOrganization =
+                new LinkedHashMap<>();
+        resourcesGroupedByOrganization.put(ORG_SUPER_ID, resourcesOfRootOrg);
+        resourcesGroupedByOrganization.put(ORG_2_ID, resourcesOfParentOrg);
+        when(resourceSharingPolicyHandlerService.getResourceSharingPoliciesWithSharedAttributes(
+                Arrays.asList(ORG_2_ID, ORG_SUPER_ID))).thenReturn(resourcesGroupedByOrganization);
+
+        organizationUserSharingHandler.handleEvent(buildOrganizationCreationEvent());
+
+        for (String userId : userIds) {
+            verify(userSharingService, times(1)).shareOrganizationUser(ORG_1_ID, userId, ORG_SUPER_ID,
+                    SharedType.SHARED);
+        }
+    }
+
+    private void mockUserAssociation(String userId) throws Exception {
+
+        UserAssociation userAssociation = new UserAssociation();
+        userAssociation.setUserId(SHARED_USER_ID_PREFIX + userId);
+        userAssociation.setOrganizationId(ORG_1_ID);
+        userAssociation.setAssociatedUserId(userId);
+        // The user is not shared until the first policy of the user is applied.
+        when(userSharingService.getUserAssociationOfAssociatedUserByOrgId(userId, ORG_1_ID))
+                .thenReturn(null, userAssociation);
+    }
+
+    private ResourceSharingPolicy buildUserResource(String userId, String policyHoldingOrgId, PolicyEnum policy)
+            throws Exception {
+
+        return ResourceSharingPolicy.builder()
+                .withResourceType(ResourceType.USER)
+                .withResourceId(userId)
+                .withInitiatingOrgId(ORG_SUPER_ID)
+                .withPolicyHoldingOrgId(policyHoldingOrgId)
+                .withSharingPolicy(policy)
+                .build();
+    }
+
+    private SharedResourceAttribute buildRoleAttribute(String roleId) throws Exception {
+
+        return SharedResourceAttribute.builder()
+                .withSharedAttributeType(SharedAttributeType.ROLE)
+                .withSharedAttributeId(roleId)
+                .build();
+    }
+
+    private Event buildOrganizationCreationEvent() {
+
+        Organization organization = mock(Organization.class);
+        when(organization.getId()).thenReturn(ORG_1_ID);
+        when(organization.getOrganizationHandle()).thenReturn(ORGANIZATION_HANDLE);
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put(Constants.EVENT_PROP_ORGANIZATION, organization);
+        return new Event(Constants.EVENT_POST_ADD_ORGANIZATION, eventProperties);
+    }
+
+    private void setField(String fieldName, Object value) throws Exception {
+
+        Field field = OrganizationUserSharingHandler.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(organizationUserSharingHandler, value);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.listener;
+
+import org.mockito.Mock;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.SharedProfileValueResolvingMethodCache;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.SharedProfileValueResolvingMethodCacheEntry;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.SharedProfileValueResolvingMethodCacheKey;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.internal.OrganizationUserSharingDataHolder;
+
+import java.lang.reflect.Method;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants.SHARED_PROFILE_VALUE_RESOLVING_METHOD;
+import static org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants.SharedProfileValueResolvingMethod.FROM_ORIGIN;
+import static org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants.SharedProfileValueResolvingMethod.FROM_SHARED_PROFILE;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+
+/**
+ * Unit tests for the shared profile value resolving method caching of the SharedUserOperationEventListener and its
+ * invalidation by the SharedProfileValueResolvingMethodCacheInvalidationHandler, against the real cache.
+ */
+public class SharedProfileValueResolvingMethodCacheInvalidationHandlerTest {
+
+    private static final String ROOT_TENANT_DOMAIN = "carbon.super";
+    private static final String L1_ORG_TENANT_DOMAIN = "93d996f9-a5ba-4275-a52b-adaad9eba869";
+    private static final String GIVEN_NAME_CLAIM = "http://wso2.org/claims/givenname";
+    private static final String GROUPS_CLAIM = "http://wso2.org/claims/groups";
+
+    @Mock
+    ClaimMetadataManagementService claimManagementService;
+
+    private final SharedProfileValueResolvingMethodCacheInvalidationHandler invalidationHandler =
+            new SharedProfileValueResolvingMethodCacheInvalidationHandler();
+
+    @BeforeMethod
+    public void init() throws Exception {
+
+        openMocks(this);
+        String carbonHome = Paths.get(System.getProperty("user.dir"), "target", "test-classes").toString();
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, carbonHome);
+        OrganizationUserSharingDataHolder.getInstance().setClaimManagementService(claimManagementService);
+
+        Map<String, String> claimPropertiesWithFromSharedProfileResolvingMethod = new HashMap<>();
+        claimPropertiesWithFromSharedProfileResolvingMethod.put(SHARED_PROFILE_VALUE_RESOLVING_METHOD,
+                FROM_SHARED_PROFILE.getName());
+        LocalClaim givenNameClaim = new LocalClaim(GIVEN_NAME_CLAIM, new ArrayList<>(), new HashMap<>());
+        LocalClaim groupsClaim = new LocalClaim(GROUPS_CLAIM, new ArrayList<>(),
+                claimPropertiesWithFromSharedProfileResolvingMethod);
+        when(claimManagementService.getLocalClaims(ROOT_TENANT_DOMAIN)).thenReturn(
+                new ArrayList<>(Arrays.asList(givenNameClaim, groupsClaim)));
+        when(claimManagementService.getLocalClaims(L1_ORG_TENANT_DOMAIN)).thenReturn(
+                new ArrayList<>(Collections.singletonList(groupsClaim)));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        reset(claimManagementService);
+        SharedProfileValueResolvingMethodCache.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    @DataProvider(name = "eventDataProvider")
+    public Object[][] eventDataProvider() {
+
+        return new Object[][]{
+                {IdentityEventConstants.Event.POST_ADD_LOCAL_CLAIM, true},
+                {IdentityEventConstants.Event.POST_UPDATE_LOCAL_CLAIM, true},
+                {IdentityEventConstants.Event.POST_DELETE_LOCAL_CLAIM, true},
+                {IdentityEventConstants.Event.POST_ADD_USER, false},
+        };
+    }
+
+    @Test(dataProvider = "eventDataProvider")
+    public void testCanHandle(String eventName, boolean expected) {
+
+        IdentityEventMessageContext messageContext = mock(IdentityEventMessageContext.class);
+        when(messageContext.getEvent()).thenReturn(new Event(eventName, new HashMap<>()));
+
+        assertEquals(invalidationHandler.canHandle(messageContext), expected);
+    }
+
+    @Test
+    public void testResolvingMethodsServedFromCache() throws Exception {
+
+        SharedProfileValueResolvingMethodCacheEntry firstLookup = getResolvingMethods(ROOT_TENANT_DOMAIN);
+        SharedProfileValueResolvingMethodCacheEntry secondLookup = getResolvingMethods(ROOT_TENANT_DOMAIN);
+
+        assertEquals(firstLookup.getResolvingMethod(GIVEN_NAME_CLAIM), FROM_ORIGIN.getName());
+        assertEquals(firstLookup.getResolvingMethod(GROUPS_CLAIM), FROM_SHARED_PROFILE.getName());
+        assertEquals(secondLookup.getResolvingMethod(GIVEN_NAME_CLAIM), FROM_ORIGIN.getName());
+        assertEquals(secondLookup.getResolvingMethod(GROUPS_CLAIM), FROM_SHARED_PROFILE.getName());
+        verify(claimManagementService, times(1)).getLocalClaims(ROOT_TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testLocalClaimUpdateClearsResolvingMethodsOfAllTenants() throws Exception {
+
+        getResolvingMethods(ROOT_TENANT_DOMAIN);
+        getResolvingMethods(L1_ORG_TENANT_DOMAIN);
+        assertNotNull(getCacheEntry(ROOT_TENANT_DOMAIN));
+        assertNotNull(getCacheEntry(L1_ORG_TENANT_DOMAIN));
+
+        // The claim is updated in the root organization, and is inherited by the L1 organization.
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put(IdentityEventConstants.EventProperty.TENANT_ID, -1234);
+        invalidationHandler.handleEvent(new Event(IdentityEventConstants.Event.POST_UPDATE_LOCAL_CLAIM,
+                eventProperties));
+
+        assertNull(getCacheEntry(ROOT_TENANT_DOMAIN));
+        assertNull(getCacheEntry(L1_ORG_TENANT_DOMAIN));
+        getResolvingMethods(ROOT_TENANT_DOMAIN);
+        getResolvingMethods(L1_ORG_TENANT_DOMAIN);
+        verify(claimManagementService, times(2)).getLocalClaims(ROOT_TENANT_DOMAIN);
+        verify(claimManagementService, times(2)).getLocalClaims(L1_ORG_TENANT_DOMAIN);
+    }
+
+    private SharedProfileValueResolvingMethodCacheEntry getResolvingMethods(String tenantDomain) throws Exception {
+
+        Method method = SharedUserOperationEventListener.class.getDeclaredMethod(
+                "getSharedProfileValueResolvingMethods", String.class);
+        method.setAccessible(true);
+        return (SharedProfileValueResolvingMethodCacheEntry) method.invoke(new SharedUserOperationEventListener(),
+                tenantDomain);
+    }
+
+    private SharedProfileValueResolvingMethodCacheEntry getCacheEntry(String tenantDomain) {
+
+        return SharedProfileValueResolvingMethodCache.getInstance().getValueFromCache(
+                new SharedProfileValueResolvingMethodCacheKey(tenantDomain), SUPER_TENANT_DOMAIN_NAME);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.organization.management.organization.user.sharing.listener;
 
 import org.apache.commons.lang.StringUtils;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -36,6 +37,7 @@ import org.wso2.carbon.identity.core.model.IdentityEventListenerConfig;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.OrganizationUserSharingService;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.cache.SharedProfileValueResolvingMethodCache;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SharedType;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.internal.OrganizationUserSharingDataHolder;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
@@ -55,16 +57,20 @@ import org.wso2.carbon.user.core.service.RealmService;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -94,6 +100,9 @@ public class SharedUserOperationEventListenerTest {
     private static final String SHARED_USER_OF_USER_1_IN_L1_ORG = "user-id-1-L1";
     private static final String SHARED_USER_OF_USER_1_IN_L2_ORG = "user-id-1-L2";
     private static final String USER_2_IN_L1_ORG = "user-id-2-L1";
+    private static final String SHARED_USER_OF_USER_2_IN_L1_ORG = "user-id-2-shared-L1";
+    private static final String USER_3_IN_L1_ORG = "user-id-3-L1";
+    private static final String USER_2_USER_GIVEN_NAME = "Jane";
     private static final String GROUPS_CLAIM = "http://wso2.org/claims/groups";
     private static final String GIVEN_NAME_CLAIM = "http://wso2.org/claims/givenname";
     private static final String CUSTOM_CLAIM_1 = "http://wso2.org/claims/customAttribute1";
@@ -122,6 +131,7 @@ public class SharedUserOperationEventListenerTest {
     private MockedStatic<OrganizationManagementUtil> organizationManagementUtilMockedStatic;
     private MockedStatic<PrivilegedCarbonContext> privilegedCarbonContext;
     private MockedStatic<IdentityTenantUtil> identityTenantUtil;
+    private MockedStatic<SharedProfileValueResolvingMethodCache> sharedProfileValueResolvingMethodCache;
 
     @BeforeMethod
     public void init() {
@@ -142,6 +152,10 @@ public class SharedUserOperationEventListenerTest {
         setUpCarbonHome();
         privilegedCarbonContext = mockStatic(PrivilegedCarbonContext.class);
         identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+        // Resolve the shared profile value resolving methods from the claim metadata in each test.
+        sharedProfileValueResolvingMethodCache = mockStatic(SharedProfileValueResolvingMethodCache.class);
+        sharedProfileValueResolvingMethodCache.when(SharedProfileValueResolvingMethodCache::getInstance)
+                .thenReturn(mock(SharedProfileValueResolvingMethodCache.class));
     }
 
     /**
@@ -158,6 +172,7 @@ public class SharedUserOperationEventListenerTest {
         organizationManagementUtilMockedStatic.close();
         privilegedCarbonContext.close();
         identityTenantUtil.close();
+        sharedProfileValueResolvingMethodCache.close();
     }
 
     @Test
@@ -396,14 +411,12 @@ public class SharedUserOperationEventListenerTest {
         userAssociation.setSharedType(sharedType);
         when(organizationUserSharingService.getUserAssociation(userId, organizationId)).thenReturn(userAssociation);
 
-        // Mock LocalClaim to return "FromSharedProfile" when getClaimProperty is called
-        LocalClaim mockLocalClaim = mock(LocalClaim.class);
-        when(mockLocalClaim.getClaimProperty(SHARED_PROFILE_VALUE_RESOLVING_METHOD))
-                .thenReturn("FromSharedProfile");
-
-        // Ensure claimManagementService.getLocalClaim(...) returns an Optional containing the mockLocalClaim
-        when(claimManagementService.getLocalClaim(anyString(), anyString()))
-                .thenReturn(Optional.of(mockLocalClaim));
+        // Resolve the shared type claim with the "FromSharedProfile" resolving method.
+        Map<String, String> claimProperties = new HashMap<>();
+        claimProperties.put(SHARED_PROFILE_VALUE_RESOLVING_METHOD, "FromSharedProfile");
+        LocalClaim sharedTypeClaim = new LocalClaim(USER_SHARED_TYPE_CLAIM, new ArrayList<>(), claimProperties);
+        when(claimManagementService.getLocalClaims(anyString()))
+                .thenReturn(Collections.singletonList(sharedTypeClaim));
 
         try (MockedStatic<IdentityUtil> identityUtil = Mockito.mockStatic(IdentityUtil.class)) {
             mockListenerEnabledStatus(true, true, identityUtil);
@@ -478,8 +491,8 @@ public class SharedUserOperationEventListenerTest {
             boolean listenerStatus =
                     sharedUserOperationEventListener.doPostGetUserClaimValuesWithID(userId, claimsSet, DEFAULT_PROFILE,
                             claimValues, userStoreManager);
-            verify(orgResourceResolverService, times(claimResolverCalledTimes)).getResourcesFromOrgHierarchy(
-                    anyString(), any(), any());
+            verify(orgResourceResolverService, times(claimResolverCalledTimes))
+                    .getResourcesFromOrgHierarchyInBatch(anyString(), any(), any());
             assertTrue(listenerStatus);
         }
     }
@@ -524,8 +537,10 @@ public class SharedUserOperationEventListenerTest {
         identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(1);
         when(realmService.getTenantUserRealm(anyInt())).thenReturn(tenantUserRealm);
         when(tenantUserRealm.getUserStoreManager()).thenReturn(userStoreManager);
-        when(orgResourceResolverService.getResourcesFromOrgHierarchy(anyString(), any(), any())).thenReturn(
-                resolvedValueForCustomClaim);
+        Map<String, String> resolvedClaimsFromHierarchy = resolvedValueForCustomClaim == null ? null :
+                Collections.singletonMap(CUSTOM_CLAIM_1, resolvedValueForCustomClaim);
+        when(orgResourceResolverService.getResourcesFromOrgHierarchyInBatch(anyString(), any(), any())).thenReturn(
+                resolvedClaimsFromHierarchy);
         String[] claimsSet = {GIVEN_NAME_CLAIM, GROUPS_CLAIM, CUSTOM_CLAIM_1};
 
         try (MockedStatic<IdentityUtil> identityUtil = Mockito.mockStatic(IdentityUtil.class)) {
@@ -535,7 +550,7 @@ public class SharedUserOperationEventListenerTest {
                     sharedUserOperationEventListener.doPostGetUserClaimValuesWithID(SHARED_USER_OF_USER_1_IN_L1_ORG,
                             claimsSet, DEFAULT_PROFILE,
                             claimValues, userStoreManager);
-            verify(orgResourceResolverService, times(1)).getResourcesFromOrgHierarchy(
+            verify(orgResourceResolverService, times(1)).getResourcesFromOrgHierarchyInBatch(
                     anyString(), any(), any());
             assertEquals(claimValues.size(), claimValuesAtTheEnd);
             assertTrue(listenerStatus);
@@ -624,12 +639,89 @@ public class SharedUserOperationEventListenerTest {
             boolean listenerStatus =
                     sharedUserOperationEventListener.doPostGetUsersClaimValuesWithID(userIds, claims,
                             DEFAULT_PROFILE, userClaims, userStoreManager);
-            verify(orgResourceResolverService, times(claimResolverCalledTimes)).getResourcesFromOrgHierarchy(
-                    anyString(), any(), any());
+            verify(orgResourceResolverService, times(claimResolverCalledTimes))
+                    .getResourcesFromOrgHierarchyInBatch(anyString(), any(), any());
             assertTrue(listenerStatus);
         }
     }
 
+    @Test
+    public void testDoPostGetUsersClaimValuesWithIDResolvesSharedUsersInBatch() throws Exception {
+
+        setUpClaims();
+        mockCarbonContextForTenant(L1_ORG_TENANT_DOMAIN, L1_ORG_ID, privilegedCarbonContext);
+        organizationManagementUtilMockedStatic.when(() -> OrganizationManagementUtil.isOrganization(anyString()))
+                .thenReturn(true);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(1);
+        when(organizationManager.resolveTenantDomain(ROOT_ORG_ID)).thenReturn(ROOT_TENANT_DOMAIN);
+        when(realmService.getTenantUserRealm(anyInt())).thenReturn(tenantUserRealm);
+        when(tenantUserRealm.getUserStoreManager()).thenReturn(userStoreManager);
+
+        UserAssociation userAssociationOfUser1 = new UserAssociation();
+        userAssociationOfUser1.setUserId(SHARED_USER_OF_USER_1_IN_L1_ORG);
+        userAssociationOfUser1.setOrganizationId(L1_ORG_ID);
+        userAssociationOfUser1.setAssociatedUserId(USER_1_IN_ROOT);
+        userAssociationOfUser1.setUserResidentOrganizationId(ROOT_ORG_ID);
+        userAssociationOfUser1.setSharedType(SharedType.SHARED);
+        UserAssociation userAssociationOfUser2 = new UserAssociation();
+        userAssociationOfUser2.setUserId(SHARED_USER_OF_USER_2_IN_L1_ORG);
+        userAssociationOfUser2.setOrganizationId(L1_ORG_ID);
+        userAssociationOfUser2.setAssociatedUserId(USER_2_IN_ROOT);
+        userAssociationOfUser2.setUserResidentOrganizationId(ROOT_ORG_ID);
+        userAssociationOfUser2.setSharedType(SharedType.SHARED);
+        when(organizationUserSharingService.getUserAssociationsOfSharedUsers(anyList(), eq(L1_ORG_ID)))
+                .thenReturn(Arrays.asList(userAssociationOfUser1, userAssociationOfUser2));
+
+        List<UniqueIDUserClaimSearchEntry> claimsOfRootUsers = Arrays.asList(
+                buildUserClaimSearchEntry(USER_1_IN_ROOT, Collections.singletonMap(GIVEN_NAME_CLAIM,
+                        USER_1_USER_GIVEN_NAME)),
+                buildUserClaimSearchEntry(USER_2_IN_ROOT, Collections.singletonMap(GIVEN_NAME_CLAIM,
+                        USER_2_USER_GIVEN_NAME)));
+        when(userStoreManager.getUsersClaimValuesWithID(anyList(), anyList(), eq(DEFAULT_PROFILE)))
+                .thenReturn(claimsOfRootUsers);
+
+        List<UniqueIDUserClaimSearchEntry> userClaims = Arrays.asList(
+                buildUserClaimSearchEntry(SHARED_USER_OF_USER_1_IN_L1_ORG,
+                        Collections.singletonMap(GROUPS_CLAIM, "group1")),
+                buildUserClaimSearchEntry(SHARED_USER_OF_USER_2_IN_L1_ORG,
+                        Collections.singletonMap(GROUPS_CLAIM, "group2")),
+                buildUserClaimSearchEntry(USER_3_IN_L1_ORG, Collections.singletonMap(GROUPS_CLAIM, "group3")));
+        List<String> userIds = Arrays.asList(SHARED_USER_OF_USER_1_IN_L1_ORG, SHARED_USER_OF_USER_2_IN_L1_ORG,
+                USER_3_IN_L1_ORG);
+        try (MockedStatic<IdentityUtil> identityUtil = Mockito.mockStatic(IdentityUtil.class)) {
+            mockListenerEnabledStatus(true, true, identityUtil);
+            SharedUserOperationEventListener sharedUserOperationEventListener = new SharedUserOperationEventListener();
+            assertTrue(sharedUserOperationEventListener.doPostGetUsersClaimValuesWithID(userIds,
+                    Arrays.asList(GIVEN_NAME_CLAIM, GROUPS_CLAIM), DEFAULT_PROFILE, userClaims, userStoreManager));
+        }
+
+        // The associations and the claims from origin of all the users are resolved with a single lookup each.
+        verify(organizationUserSharingService, times(1)).getUserAssociationsOfSharedUsers(anyList(),
+                eq(L1_ORG_ID));
+        verify(organizationUserSharingService, never()).getUserAssociation(anyString(), anyString());
+        ArgumentCaptor<List<String>> originUserIdsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(userStoreManager, times(1)).getUsersClaimValuesWithID(originUserIdsCaptor.capture(), anyList(),
+                eq(DEFAULT_PROFILE));
+        assertEquals(new HashSet<>(originUserIdsCaptor.getValue()),
+                new HashSet<>(Arrays.asList(USER_1_IN_ROOT, USER_2_IN_ROOT)));
+
+        assertEquals(userClaims.get(0).getClaims().get(GIVEN_NAME_CLAIM), USER_1_USER_GIVEN_NAME);
+        assertEquals(userClaims.get(0).getClaims().get(GROUPS_CLAIM), "group1");
+        assertEquals(userClaims.get(1).getClaims().get(GIVEN_NAME_CLAIM), USER_2_USER_GIVEN_NAME);
+        assertEquals(userClaims.get(1).getClaims().get(GROUPS_CLAIM), "group2");
+        assertEquals(userClaims.get(1).getClaims().get(USER_SHARED_TYPE_CLAIM), SharedType.SHARED.name());
+        // The claims of a user which is not shared are not changed.
+        assertEquals(userClaims.get(2).getClaims(), Collections.singletonMap(GROUPS_CLAIM, "group3"));
+    }
+
+    private UniqueIDUserClaimSearchEntry buildUserClaimSearchEntry(String userId, Map<String, String> claims) {
+
+        UniqueIDUserClaimSearchEntry userClaimSearchEntry = new UniqueIDUserClaimSearchEntry();
+        userClaimSearchEntry.setUser(new User(userId));
+        userClaimSearchEntry.setClaims(new HashMap<>(claims));
+        return userClaimSearchEntry;
+    }
+
     private void mockOrgIdResolverByTenantDomain() throws OrganizationManagementException {
 
         when(organizationManager.resolveOrganizationId(ROOT_TENANT_DOMAIN)).thenReturn(ROOT_ORG_ID);
@@ -708,30 +800,10 @@ public class SharedUserOperationEventListenerTest {
                 claimPropertiesWithFromHierarchyResolvingMethod);
         LocalClaim customClaim2 = new LocalClaim(CUSTOM_CLAIM_2, new ArrayList<>(), new HashMap<>());
 
-        when(claimManagementService.getLocalClaim(GIVEN_NAME_CLAIM, ROOT_TENANT_DOMAIN)).thenReturn(
-                Optional.of(givenNameClaim));
-        when(claimManagementService.getLocalClaim(GIVEN_NAME_CLAIM, L1_ORG_TENANT_DOMAIN)).thenReturn(
-                Optional.of(givenNameClaim));
-        when(claimManagementService.getLocalClaim(GIVEN_NAME_CLAIM, L2_ORG_TENANT_DOMAIN)).thenReturn(
-                Optional.of(givenNameClaim));
-        when(claimManagementService.getLocalClaim(GROUPS_CLAIM, ROOT_TENANT_DOMAIN)).thenReturn(
-                Optional.of(groupsClaim));
-        when(claimManagementService.getLocalClaim(GROUPS_CLAIM, L1_ORG_TENANT_DOMAIN)).thenReturn(
-                Optional.of(groupsClaim));
-        when(claimManagementService.getLocalClaim(GROUPS_CLAIM, L2_ORG_TENANT_DOMAIN)).thenReturn(
-                Optional.of(groupsClaim));
-        when(claimManagementService.getLocalClaim(CUSTOM_CLAIM_1, ROOT_TENANT_DOMAIN)).thenReturn(
-                Optional.of(customClaim1));
-        when(claimManagementService.getLocalClaim(CUSTOM_CLAIM_1, L1_ORG_TENANT_DOMAIN)).thenReturn(
-                Optional.of(customClaim1));
-        when(claimManagementService.getLocalClaim(CUSTOM_CLAIM_1, L2_ORG_TENANT_DOMAIN)).thenReturn(
-                Optional.of(customClaim1));
-        when(claimManagementService.getLocalClaim(CUSTOM_CLAIM_2, ROOT_TENANT_DOMAIN)).thenReturn(
-                Optional.of(customClaim2));
-        when(claimManagementService.getLocalClaim(CUSTOM_CLAIM_2, L1_ORG_TENANT_DOMAIN)).thenReturn(
-                Optional.of(customClaim2));
-        when(claimManagementService.getLocalClaim(CUSTOM_CLAIM_2, L2_ORG_TENANT_DOMAIN)).thenReturn(
-                Optional.of(customClaim2));
+        List<LocalClaim> localClaims = Arrays.asList(givenNameClaim, groupsClaim, customClaim1, customClaim2);
+        when(claimManagementService.getLocalClaims(ROOT_TENANT_DOMAIN)).thenReturn(localClaims);
+        when(claimManagementService.getLocalClaims(L1_ORG_TENANT_DOMAIN)).thenReturn(localClaims);
+        when(claimManagementService.getLocalClaims(L2_ORG_TENANT_DOMAIN)).thenReturn(localClaims);
     }
 
     private void setUpUserSharing() throws OrganizationManagementException {
@@ -744,6 +816,8 @@ public class SharedUserOperationEventListenerTest {
         userAssociationOfUser1InOrgL1.setSharedType(SharedType.NOT_SPECIFIED);
         when(organizationUserSharingService.getUserAssociation(SHARED_USER_OF_USER_1_IN_L1_ORG, L1_ORG_ID)).thenReturn(
                 userAssociationOfUser1InOrgL1);
+        when(organizationUserSharingService.getUserAssociationsOfSharedUsers(anyList(), eq(L1_ORG_ID))).thenReturn(
+                Collections.singletonList(userAssociationOfUser1InOrgL1));
 
         UserAssociation userAssociationOfUser1InOrgL2 = new UserAssociation();
         userAssociationOfUser1InOrgL2.setUserId(SHARED_USER_OF_USER_1_IN_L2_ORG);
@@ -753,6 +827,8 @@ public class SharedUserOperationEventListenerTest {
         userAssociationOfUser1InOrgL2.setSharedType(SharedType.SHARED);
         when(organizationUserSharingService.getUserAssociation(SHARED_USER_OF_USER_1_IN_L2_ORG, L2_ORG_ID)).thenReturn(
                 userAssociationOfUser1InOrgL2);
+        when(organizationUserSharingService.getUserAssociationsOfSharedUsers(anyList(), eq(L2_ORG_ID))).thenReturn(
+                Collections.singletonList(userAssociationOfUser1InOrgL2));
 
         when(organizationUserSharingService.getUserAssociation(USER_1_IN_ROOT, ROOT_ORG_ID)).thenReturn(null);
     }
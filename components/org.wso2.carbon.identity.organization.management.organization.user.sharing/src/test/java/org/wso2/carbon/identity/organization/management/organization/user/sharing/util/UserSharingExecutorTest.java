@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.util;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test cases for the UserSharingExecutor.
+ */
+public class UserSharingExecutorTest {
+
+    private static final String TENANT_A = "a.com";
+    private static final String TENANT_B = "b.com";
+    private static final String MBEAN_NAME =
+            "org.wso2.carbon.identity.organization.management:type=UserSharingExecutor";
+
+    private UserSharingExecutor executor;
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testOperationsOfTenantsAreServedInRoundRobin() throws InterruptedException {
+
+        executor = UserSharingExecutor.create(1, 10);
+        CountDownLatch blockerStarted = new CountDownLatch(1);
+        CountDownLatch releaseBlocker = new CountDownLatch(1);
+        CountDownLatch operationsCompleted = new CountDownLatch(4);
+        List<String> executionOrder = Collections.synchronizedList(new ArrayList<>());
+
+        executor.forTenant(TENANT_A).execute(() -> {
+            blockerStarted.countDown();
+            awaitQuietly(releaseBlocker);
+        });
+        assertTrue(blockerStarted.await(5, TimeUnit.SECONDS));
+
+        executor.forTenant(TENANT_A).execute(recordingOperation("a1", executionOrder, operationsCompleted));
+        executor.forTenant(TENANT_A).execute(recordingOperation("a2", executionOrder, operationsCompleted));
+        executor.forTenant(TENANT_A).execute(recordingOperation("a3", executionOrder, operationsCompleted));
+        executor.forTenant(TENANT_B).execute(recordingOperation("b1", executionOrder, operationsCompleted));
+        assertEquals(executor.getQueuedOperationCount(), 4);
+        assertEquals(executor.getQueuedTenantCount(), 2);
+
+        releaseBlocker.countDown();
+        assertTrue(operationsCompleted.await(5, TimeUnit.SECONDS));
+        assertEquals(executionOrder, Arrays.asList("a1", "b1", "a2", "a3"));
+    }
+
+    @Test
+    public void testOperationIsRejectedWhenQueueIsFull() throws InterruptedException {
+
+        executor = UserSharingExecutor.create(1, 1);
+        CountDownLatch blockerStarted = new CountDownLatch(1);
+        CountDownLatch releaseBlocker = new CountDownLatch(1);
+
+        executor.forTenant(TENANT_A).execute(() -> {
+            blockerStarted.countDown();
+            awaitQuietly(releaseBlocker);
+        });
+        assertTrue(blockerStarted.await(5, TimeUnit.SECONDS));
+        executor.forTenant(TENANT_A).execute(() -> { });
+
+        try {
+            executor.forTenant(TENANT_B).execute(() -> { });
+            throw new AssertionError("Expected the operation to be rejected.");
+        } catch (RejectedExecutionException e) {
+            assertEquals(executor.getRejectedOperationCount(), 1);
+            assertEquals(executor.getActiveOperationCount(), 1);
+        } finally {
+            releaseBlocker.countDown();
+        }
+    }
+
+    @Test
+    public void testWorkerSurvivesErrorOfOperation() throws InterruptedException {
+
+        executor = UserSharingExecutor.create(1, 10);
+        CountDownLatch operationsCompleted = new CountDownLatch(1);
+        List<String> executionOrder = Collections.synchronizedList(new ArrayList<>());
+
+        executor.forTenant(TENANT_A).execute(() -> {
+            throw new StackOverflowError();
+        });
+        executor.forTenant(TENANT_B).execute(recordingOperation("b1", executionOrder, operationsCompleted));
+
+        assertTrue(operationsCompleted.await(5, TimeUnit.SECONDS));
+        assertEquals(executionOrder, Collections.singletonList("b1"));
+    }
+
+    @Test
+    public void testOperationIsRejectedAfterShutdown() throws InterruptedException {
+
+        executor = UserSharingExecutor.create(1, 10);
+        CountDownLatch blockerStarted = new CountDownLatch(1);
+        CountDownLatch releaseBlocker = new CountDownLatch(1);
+        List<String> executionOrder = Collections.synchronizedList(new ArrayList<>());
+
+        executor.forTenant(TENANT_A).execute(() -> {
+            blockerStarted.countDown();
+            awaitQuietly(releaseBlocker);
+        });
+        assertTrue(blockerStarted.await(5, TimeUnit.SECONDS));
+        executor.forTenant(TENANT_A).execute(recordingOperation("a1", executionOrder, new CountDownLatch(1)));
+
+        executor.shutdown();
+        releaseBlocker.countDown();
+        assertEquals(executor.getQueuedOperationCount(), 0);
+        assertThrows(RejectedExecutionException.class, () -> executor.forTenant(TENANT_B).execute(() -> { }));
+        assertEquals(executor.getRejectedOperationCount(), 1);
+        assertTrue(executionOrder.isEmpty());
+    }
+
+    @Test
+    public void testSharedInstanceIsUnregisteredOnShutdown() throws Exception {
+
+        ObjectName objectName = new ObjectName(MBEAN_NAME);
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            UserSharingExecutor sharedExecutor = UserSharingExecutor.getInstance();
+            assertSame(UserSharingExecutor.getInstance(), sharedExecutor);
+            assertTrue(mBeanServer.isRegistered(objectName));
+
+            UserSharingExecutor.shutdownInstance();
+            assertFalse(mBeanServer.isRegistered(objectName));
+            assertThrows(RejectedExecutionException.class,
+                    () -> sharedExecutor.forTenant(TENANT_A).execute(() -> { }));
+
+            // A new executor is created once the shared instance is requested again.
+            assertNotSame(UserSharingExecutor.getInstance(), sharedExecutor);
+            assertTrue(mBeanServer.isRegistered(objectName));
+        } finally {
+            UserSharingExecutor.shutdownInstance();
+        }
+    }
+
+    private Runnable recordingOperation(String name, List<String> executionOrder, CountDownLatch completed) {
+
+        return () -> {
+            executionOrder.add(name);
+            completed.countDown();
+        };
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
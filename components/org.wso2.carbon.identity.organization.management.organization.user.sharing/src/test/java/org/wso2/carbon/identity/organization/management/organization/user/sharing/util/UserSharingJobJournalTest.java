@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.util;
+
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.UserSharingPolicyHandlerServiceImplV2;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.RoleAssignmentMode;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingJobStatus;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingJobType;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.dao.UserSharingJobDAO;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.dao.UserSharingJobDAOImpl;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtClientException;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtServerException;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserSharingJob;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserSharingJobTarget;
+import org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.PolicyEnum;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.ORG_1_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.ORG_SUPER_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.TENANT_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_1_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_2_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_3_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.USER_4_ID;
+
+/**
+ * Test cases for resuming the interrupted user sharing jobs of the UserSharingPolicyHandlerServiceImplV2 through the
+ * UserSharingJobJournal.
+ */
+public class UserSharingJobJournalTest {
+
+    private static final String JOB_ID = "2c1f6f3e-6a4b-4d8e-9a55-0f1d3c7b9e21";
+    private static final String INTERRUPTED_NODE_ID = "interrupted-node";
+    private static final String ROLE_ID = "role-1";
+    private static final long LEASE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final UserSharingJobDAO userSharingJobDAO = new UserSharingJobDAOImpl();
+    private UserSharingJobJournal userSharingJobJournal;
+    private UserSharingPolicyHandlerServiceImplV2 userSharingPolicyHandlerService;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        TestUtils.initiateH2Base();
+        TestUtils.mockDataSource();
+        userSharingJobJournal = new UserSharingJobJournal(userSharingJobDAO, true, LEASE_TIMEOUT_MILLIS, 1);
+        userSharingPolicyHandlerService = mock(UserSharingPolicyHandlerServiceImplV2.class);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+
+        TestUtils.closeH2Base();
+    }
+
+    @Test
+    public void testInterruptedJobResumedWithPendingUnits() throws Exception {
+
+        // The job was run by a node which went down after sharing the first user.
+        userSharingJobDAO.addUserSharingJob(buildUserSharingJob(), INTERRUPTED_NODE_ID, 0L);
+        userSharingJobDAO.updateUserSharingJobUnitStatus(JOB_ID, USER_1_ID, UserSharingJobStatus.SUCCESS);
+
+        userSharingJobJournal.recoverInterruptedJobs(userSharingPolicyHandlerService::resumeUserSharingJob);
+
+        ArgumentCaptor<UserSharingJob> resumedJobCaptor = ArgumentCaptor.forClass(UserSharingJob.class);
+        verify(userSharingPolicyHandlerService).resumeUserSharingJob(resumedJobCaptor.capture());
+        UserSharingJob resumedJob = resumedJobCaptor.getValue();
+        assertEquals(resumedJob.getJobId(), JOB_ID);
+        assertEquals(resumedJob.getJobType(), UserSharingJobType.SELECTIVE_USER_SHARE);
+        assertEquals(resumedJob.getTenantId(), TENANT_ID);
+        assertEquals(resumedJob.getInitiatedOrgId(), ORG_SUPER_ID);
+        assertEquals(resumedJob.getInitiatedUserId(), USER_4_ID);
+        assertEquals(resumedJob.getUserIds().stream().sorted().toArray(), new String[]{USER_2_ID, USER_3_ID});
+        assertEquals(resumedJob.getTargets().size(), 1);
+        UserSharingJobTarget resumedTarget = resumedJob.getTargets().get(0);
+        assertEquals(resumedTarget.getOrganizationId(), ORG_1_ID);
+        assertEquals(resumedTarget.getPolicy(), PolicyEnum.SELECTED_ORG_ONLY);
+        assertEquals(resumedTarget.getRoleIds(), Collections.singletonList(ROLE_ID));
+        assertEquals(resumedTarget.getRoleAssignmentMode(), RoleAssignmentMode.SELECTED);
+
+        // The claimed job is kept alive by this node. Hence, it is not resumed again.
+        userSharingJobJournal.recoverInterruptedJobs(userSharingPolicyHandlerService::resumeUserSharingJob);
+        verify(userSharingPolicyHandlerService, times(1)).resumeUserSharingJob(any());
+    }
+
+    @Test
+    public void testRunningJobNotResumed() throws Exception {
+
+        userSharingJobJournal.addJob(buildUserSharingJob());
+
+        userSharingJobJournal.recoverInterruptedJobs(userSharingPolicyHandlerService::resumeUserSharingJob);
+
+        verify(userSharingPolicyHandlerService, never()).resumeUserSharingJob(any());
+    }
+
+    @Test
+    public void testCompletedJobNotResumed() throws Exception {
+
+        userSharingJobDAO.addUserSharingJob(buildUserSharingJob(), INTERRUPTED_NODE_ID, 0L);
+        userSharingJobDAO.updateUserSharingJobStatus(JOB_ID, UserSharingJobStatus.SUCCESS);
+
+        userSharingJobJournal.recoverInterruptedJobs(userSharingPolicyHandlerService::resumeUserSharingJob);
+
+        verify(userSharingPolicyHandlerService, never()).resumeUserSharingJob(any());
+    }
+
+    @Test
+    public void testJobReleasedWhenItCannotBeResumed() throws Exception {
+
+        userSharingJobDAO.addUserSharingJob(buildUserSharingJob(), INTERRUPTED_NODE_ID, 0L);
+        doThrow(UserSharingMgtClientException.class).when(userSharingPolicyHandlerService)
+                .resumeUserSharingJob(any());
+
+        userSharingJobJournal.recoverInterruptedJobs(userSharingPolicyHandlerService::resumeUserSharingJob);
+
+        // The released job is claimed and resumed again in a subsequent recovery run.
+        assertTrue(userSharingJobDAO.getUserSharingJobsWithExpiredHeartbeat(System.currentTimeMillis()).stream()
+                .anyMatch(userSharingJob -> JOB_ID.equals(userSharingJob.getJobId())));
+        reset(userSharingPolicyHandlerService);
+        userSharingJobJournal.recoverInterruptedJobs(userSharingPolicyHandlerService::resumeUserSharingJob);
+        verify(userSharingPolicyHandlerService).resumeUserSharingJob(any());
+    }
+
+    @Test
+    public void testRecoveryStartedWhenTablesAvailable() {
+
+        userSharingJobJournal.startRecovery(userSharingPolicyHandlerService::resumeUserSharingJob);
+        try {
+            assertTrue(userSharingJobJournal.isEnabled());
+        } finally {
+            userSharingJobJournal.stopRecovery();
+        }
+    }
+
+    @Test
+    public void testJournalDisabledWhenTablesNotAvailable() throws Exception {
+
+        UserSharingJobDAO userSharingJobDAOWithoutTables = mock(UserSharingJobDAO.class);
+        doThrow(UserSharingMgtServerException.class).when(userSharingJobDAOWithoutTables)
+                .checkUserSharingJobTables();
+        UserSharingJobJournal journalWithoutTables =
+                new UserSharingJobJournal(userSharingJobDAOWithoutTables, true, LEASE_TIMEOUT_MILLIS, 1);
+
+        journalWithoutTables.startRecovery(userSharingPolicyHandlerService::resumeUserSharingJob);
+
+        assertFalse(journalWithoutTables.isEnabled());
+        journalWithoutTables.addJob(buildUserSharingJob());
+        verify(userSharingJobDAOWithoutTables, never()).addUserSharingJob(any(), any(), anyLong());
+    }
+
+    private UserSharingJob buildUserSharingJob() {
+
+        UserSharingJob userSharingJob = new UserSharingJob();
+        userSharingJob.setJobId(JOB_ID);
+        userSharingJob.setJobType(UserSharingJobType.SELECTIVE_USER_SHARE);
+        userSharingJob.setTenantId(TENANT_ID);
+        userSharingJob.setInitiatedOrgId(ORG_SUPER_ID);
+        userSharingJob.setInitiatedUserId(USER_4_ID);
+        userSharingJob.setInitiatedUsername("admin");
+        userSharingJob.setTargets(Collections.singletonList(new UserSharingJobTarget(ORG_1_ID,
+                PolicyEnum.SELECTED_ORG_ONLY, new ArrayList<>(Collections.singletonList(ROLE_ID)),
+                RoleAssignmentMode.SELECTED)));
+        userSharingJob.setUserIds(new ArrayList<>(Arrays.asList(USER_1_ID, USER_2_ID, USER_3_ID)));
+        return userSharingJob;
+    }
+}
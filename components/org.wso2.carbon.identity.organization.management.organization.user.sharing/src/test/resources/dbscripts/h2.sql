@@ -0,0 +1,87 @@
+CREATE TABLE IF NOT EXISTS UM_ORG_USER_ASSOCIATION (
+    UM_ID INTEGER NOT NULL AUTO_INCREMENT,
+    UM_USER_ID VARCHAR(255) NOT NULL,
+    UM_ORG_ID VARCHAR(36) NOT NULL,
+    UM_ASSOCIATED_USER_ID VARCHAR(255) NOT NULL,
+    UM_ASSOCIATED_ORG_ID VARCHAR(36) NOT NULL,
+    UM_SHARED_TYPE VARCHAR(255) DEFAULT 'NOT SPECIFIED' NOT NULL,
+    PRIMARY KEY (UM_ID),
+    UNIQUE (UM_USER_ID, UM_ORG_ID)
+);
+
+CREATE TABLE IF NOT EXISTS UM_ORG_HIERARCHY (
+    UM_PARENT_ID VARCHAR(255) NOT NULL,
+    UM_ID VARCHAR(255) NOT NULL,
+    DEPTH INTEGER,
+    PRIMARY KEY (UM_PARENT_ID, UM_ID)
+);
+
+CREATE TABLE IF NOT EXISTS UM_ORG_USER_SHARING_JOB (
+    UM_ID VARCHAR(36) NOT NULL,
+    UM_JOB_TYPE VARCHAR(50) NOT NULL,
+    UM_TENANT_ID INTEGER NOT NULL,
+    UM_INITIATED_ORG_ID VARCHAR(36) NOT NULL,
+    UM_INITIATED_USER_ID VARCHAR(255),
+    UM_INITIATED_USER_NAME VARCHAR(255),
+    UM_STATUS VARCHAR(20) NOT NULL,
+    UM_OWNER_NODE_ID VARCHAR(36),
+    UM_LAST_HEARTBEAT BIGINT NOT NULL,
+    PRIMARY KEY (UM_ID)
+);
+
+CREATE INDEX IF NOT EXISTS IDX_UM_USJ_STATUS_HEARTBEAT ON UM_ORG_USER_SHARING_JOB (UM_STATUS, UM_LAST_HEARTBEAT);
+
+CREATE TABLE IF NOT EXISTS UM_ORG_USER_SHARING_JOB_TARGET (
+    UM_ID INTEGER NOT NULL AUTO_INCREMENT,
+    UM_JOB_ID VARCHAR(36) NOT NULL,
+    UM_ORG_ID VARCHAR(36) NOT NULL,
+    UM_POLICY VARCHAR(255),
+    UM_ROLE_IDS CLOB,
+    UM_ROLE_ASSIGNMENT_MODE VARCHAR(20),
+    PRIMARY KEY (UM_ID),
+    FOREIGN KEY (UM_JOB_ID) REFERENCES UM_ORG_USER_SHARING_JOB(UM_ID) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS UM_ORG_USER_SHARING_JOB_UNIT (
+    UM_ID INTEGER NOT NULL AUTO_INCREMENT,
+    UM_JOB_ID VARCHAR(36) NOT NULL,
+    UM_USER_ID VARCHAR(255) NOT NULL,
+    UM_STATUS VARCHAR(20) NOT NULL,
+    PRIMARY KEY (UM_ID),
+    UNIQUE (UM_JOB_ID, UM_USER_ID),
+    FOREIGN KEY (UM_JOB_ID) REFERENCES UM_ORG_USER_SHARING_JOB(UM_ID) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS UM_DOMAIN (
+    UM_DOMAIN_ID INTEGER NOT NULL AUTO_INCREMENT,
+    UM_DOMAIN_NAME VARCHAR(255),
+    UM_TENANT_ID INTEGER DEFAULT 0,
+    PRIMARY KEY (UM_DOMAIN_ID, UM_TENANT_ID)
+);
+
+CREATE TABLE IF NOT EXISTS UM_HYBRID_ROLE (
+    UM_ID INTEGER NOT NULL AUTO_INCREMENT,
+    UM_ROLE_NAME VARCHAR(255),
+    UM_TENANT_ID INTEGER DEFAULT 0,
+    UM_UUID VARCHAR(255),
+    PRIMARY KEY (UM_ID, UM_TENANT_ID)
+);
+
+-- Usernames are compared case-insensitively, as with the default collation of MySQL.
+CREATE TABLE IF NOT EXISTS UM_HYBRID_USER_ROLE (
+    UM_ID INTEGER NOT NULL AUTO_INCREMENT,
+    UM_USER_NAME VARCHAR_IGNORECASE(255),
+    UM_ROLE_ID INTEGER NOT NULL,
+    UM_TENANT_ID INTEGER DEFAULT 0,
+    UM_DOMAIN_ID INTEGER,
+    PRIMARY KEY (UM_ID, UM_TENANT_ID)
+);
+
+CREATE TABLE IF NOT EXISTS UM_HYBRID_USER_ROLE_RESTRICTED_EDIT_PERMISSIONS (
+    UM_ID INTEGER NOT NULL AUTO_INCREMENT,
+    UM_HYBRID_USER_ROLE_ID INTEGER NOT NULL,
+    UM_HYBRID_USER_ROLE_TENANT_ID INTEGER NOT NULL,
+    UM_EDIT_OPERATION VARCHAR(10) NOT NULL,
+    UM_PERMITTED_ORG_ID VARCHAR(255) NOT NULL,
+    PRIMARY KEY (UM_ID)
+);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2023, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -20,16 +20,27 @@ package org.wso2.carbon.identity.organization.management.tomcat.ext.tenant.resol
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
 import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.organization.management.tomcat.ext.tenant.resolver.internal.OrganizationManagementTomcatDataHolder;
 import org.wso2.carbon.tomcat.ext.utils.URLMappingHolder;
+import org.wso2.carbon.tomcat.ext.valves.CompositeValve;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
-import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.PATH_SEPARATOR;
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletResponse;
+
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.SUPER_ORG_ID;
+import static org.wso2.carbon.identity.organization.management.tomcat.ext.tenant.resolver.util.Util.getOrganizationIdFromRequestPath;
 import static org.wso2.carbon.identity.organization.management.tomcat.ext.tenant.resolver.util.Util.getTenantDomain;
 import static org.wso2.carbon.identity.organization.management.tomcat.ext.tenant.resolver.util.Util.getTenantDomainFromURLMapping;
+import static org.wso2.carbon.identity.organization.management.tomcat.ext.tenant.resolver.util.Util.isActiveOrganization;
+import static org.wso2.carbon.identity.organization.management.tomcat.ext.tenant.resolver.util.Util.isInvalidOrganizationRequestRejectionEnabled;
 import static org.wso2.carbon.tomcat.ext.constants.Constants.TENANT_DOMAIN_FROM_REQUEST_PATH;
 
 /**
@@ -39,8 +50,33 @@ import static org.wso2.carbon.tomcat.ext.constants.Constants.TENANT_DOMAIN_FROM_
 @SuppressFBWarnings(value = "NM_SAME_SIMPLE_NAME_AS_SUPERCLASS")
 public class CarbonContextCreatorValve extends org.wso2.carbon.tomcat.ext.valves.CarbonContextCreatorValve {
 
+    private static final Log LOG = LogFactory.getLog(CarbonContextCreatorValve.class);
     private static final String ORGANIZATION_PATH_PARAM = "/o/";
 
+    @Override
+    public void invoke(Request request, Response response, CompositeValve compositeValve) {
+
+        String requestURI = request.getRequestURI();
+        if (OrganizationManagementTomcatDataHolder.getInstance().isOrganizationManagementEnabled() &&
+                StringUtils.startsWith(requestURI, ORGANIZATION_PATH_PARAM) &&
+                isInvalidOrganizationRequestRejectionEnabled()) {
+            String organizationId = getOrganizationIdFromRequestPath(requestURI);
+            if (StringUtils.isNotEmpty(organizationId) && !isResolvableOrganization(organizationId)) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Rejecting the request as the organization: " + organizationId +
+                            " does not exist or is disabled.");
+                }
+                try {
+                    response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                } catch (IOException e) {
+                    LOG.error("Error while rejecting the request: " + requestURI, e);
+                }
+                return;
+            }
+        }
+        super.invoke(request, response, compositeValve);
+    }
+
     @Override
     public void initCarbonContext(Request request) throws Exception {
 
@@ -72,13 +108,19 @@ public class CarbonContextCreatorValve extends org.wso2.carbon.tomcat.ext.valves
         }
     }
 
-    private static void setOrganizationIdToCarbonContext(PrivilegedCarbonContext carbonContext, String requestURI) {
+    private static boolean isResolvableOrganization(String organizationId) {
 
-        String organizationIdInRequestPath = requestURI.substring(requestURI.indexOf(ORGANIZATION_PATH_PARAM) + 3);
-        if (organizationIdInRequestPath.contains(PATH_SEPARATOR)) {
-            organizationIdInRequestPath = organizationIdInRequestPath.substring(0,
-                    organizationIdInRequestPath.indexOf(PATH_SEPARATOR));
+        try {
+            return isActiveOrganization(organizationId);
+        } catch (OrganizationManagementException e) {
+            // Let the request through so that the organization is resolved the same way as before validation.
+            LOG.error("Error while validating the organization: " + organizationId, e);
+            return true;
         }
-        carbonContext.setOrganizationId(organizationIdInRequestPath);
+    }
+
+    private static void setOrganizationIdToCarbonContext(PrivilegedCarbonContext carbonContext, String requestURI) {
+
+        carbonContext.setOrganizationId(getOrganizationIdFromRequestPath(requestURI));
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.tomcat.ext.tenant.resolver.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache which maps organization IDs found in organization specific request paths to the tenant domain and the status
+ * of the organization, so that the tenant resolver valve does not hit the database on every request.
+ * <p>
+ * Size, expiry and cluster wide invalidation of this cache are governed by the carbon caching configuration. The
+ * cache can be disabled through the cache configuration of the identity.xml file.
+ */
+public class OrganizationContextCache extends BaseCache<OrganizationContextCacheKey, OrganizationContextCacheEntry> {
+
+    private static final String CACHE_NAME = "OrganizationContextCache";
+    private static final OrganizationContextCache INSTANCE = new OrganizationContextCache();
+
+    private OrganizationContextCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get the singleton instance of the organization context cache.
+     *
+     * @return The {@link OrganizationContextCache} instance.
+     */
+    public static OrganizationContextCache getInstance() {
+
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.tomcat.ext.tenant.resolver.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+/**
+ * Cache entry for the organization context cache. Holds the tenant domain and the status of an organization. The
+ * status is null until it is resolved to reject the requests to disabled organizations.
+ */
+public class OrganizationContextCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -2859376310495817462L;
+
+    private final String tenantDomain;
+    private final String status;
+
+    public OrganizationContextCacheEntry(String tenantDomain, String status) {
+
+        this.tenantDomain = tenantDomain;
+        this.status = status;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    public String getStatus() {
+
+        return status;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.tomcat.ext.tenant.resolver.handler;
+
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.organization.management.ext.Constants;
+import org.wso2.carbon.identity.organization.management.service.model.Organization;
+import org.wso2.carbon.identity.organization.management.tomcat.ext.tenant.resolver.util.Util;
+
+import java.util.Map;
+
+/**
+ * Event handler which clears the cached tenant domain and status of an organization when the organization is
+ * created, updated, patched or deleted.
+ */
+public class OrganizationContextCacheInvalidationHandler extends AbstractEventHandler {
+
+    @Override
+    public String getName() {
+
+        return "OrganizationContextCacheInvalidationHandler";
+    }
+
+    @Override
+    public int getPriority(MessageContext messageContext) {
+
+        return 10;
+    }
+
+    @Override
+    public boolean canHandle(MessageContext messageContext) throws IdentityRuntimeException {
+
+        String eventName = ((IdentityEventMessageContext) messageContext).getEvent().getEventName();
+        return Constants.EVENT_POST_ADD_ORGANIZATION.equals(eventName) ||
+                Constants.EVENT_POST_UPDATE_ORGANIZATION.equals(eventName) ||
+                Constants.EVENT_POST_PATCH_ORGANIZATION.equals(eventName) ||
+                Constants.EVENT_POST_DELETE_ORGANIZATION.equals(eventName);
+    }
+
+    @Override
+    public void handleEvent(Event event) throws IdentityEventException {
+
+        Map<String, Object> eventProperties = event.getEventProperties();
+        String organizationId;
+        if (Constants.EVENT_POST_ADD_ORGANIZATION.equals(event.getEventName())) {
+            Organization organization = (Organization) eventProperties.get(Constants.EVENT_PROP_ORGANIZATION);
+            organizationId = organization != null ? organization.getId() : null;
+        } else {
+            organizationId = (String) eventProperties.get(Constants.EVENT_PROP_ORGANIZATION_ID);
+        }
+        if (organizationId != null) {
+            Util.clearOrganizationContextCacheEntry(organizationId);
+        }
+    }
+}
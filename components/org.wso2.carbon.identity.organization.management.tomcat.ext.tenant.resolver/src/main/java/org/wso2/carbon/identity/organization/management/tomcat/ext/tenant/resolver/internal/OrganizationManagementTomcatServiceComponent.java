@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 Inc. (http://www.wso2.com).
  *
  * WSO2 Inc. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -20,14 +20,17 @@ package org.wso2.carbon.identity.organization.management.tomcat.ext.tenant.resol
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.osgi.framework.BundleContext;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManagementInitialize;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.organization.management.tomcat.ext.tenant.resolver.handler.OrganizationContextCacheInvalidationHandler;
 
 /**
  * Service component class for organization management tomcat valve.
@@ -42,6 +45,9 @@ public class OrganizationManagementTomcatServiceComponent {
     @Activate
     protected void activate(ComponentContext cxt) {
 
+        BundleContext bundleContext = cxt.getBundleContext();
+        bundleContext.registerService(AbstractEventHandler.class.getName(),
+                new OrganizationContextCacheInvalidationHandler(), null);
         if (LOG.isDebugEnabled()) {
             LOG.debug("OrganizationManagementTomcatServiceComponent is activated");
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2023, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -20,20 +20,31 @@ package org.wso2.carbon.identity.organization.management.tomcat.ext.tenant.resol
 
 import org.apache.catalina.connector.Request;
 import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.model.Organization;
+import org.wso2.carbon.identity.organization.management.tomcat.ext.tenant.resolver.cache.OrganizationContextCache;
+import org.wso2.carbon.identity.organization.management.tomcat.ext.tenant.resolver.cache.OrganizationContextCacheEntry;
+import org.wso2.carbon.identity.organization.management.tomcat.ext.tenant.resolver.cache.OrganizationContextCacheKey;
 import org.wso2.carbon.identity.organization.management.tomcat.ext.tenant.resolver.internal.OrganizationManagementTomcatDataHolder;
 import org.wso2.carbon.tomcat.ext.utils.URLMappingHolder;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import javax.servlet.http.HttpServletRequest;
 
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.OrganizationStatus;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+
 /**
  * This class provides utility functions for the organization management tenant derivation.
  */
 public class Util {
 
     private static final String ORGANIZATION_PATH_PARAM = "/o/";
+    private static final char PATH_SEPARATOR = '/';
+    private static final String REJECT_INVALID_ORGANIZATION_REQUESTS =
+            "OrganizationManagement.TenantResolver.RejectInvalidOrganizationRequests";
 
     /**
      * Retrieve the tenant domain from request.
@@ -73,19 +84,117 @@ public class Util {
         return getTenantDomainFromOrganizationSpecificURI(requestURI, domain);
     }
 
+    /**
+     * Retrieve the organization ID from an organization specific request path of the form /o/{organization-id}/...
+     * The path is scanned in place, so that the only allocation is the returned organization ID.
+     *
+     * @param requestURI The request URI.
+     * @return The organization ID in the request path, or null if the path is not organization specific.
+     */
+    public static String getOrganizationIdFromRequestPath(String requestURI) {
+
+        int organizationIdStartIndex = getOrganizationIdStartIndex(requestURI);
+        if (organizationIdStartIndex == -1) {
+            return null;
+        }
+        int organizationIdEndIndex = requestURI.indexOf(PATH_SEPARATOR, organizationIdStartIndex);
+        if (organizationIdEndIndex == -1) {
+            organizationIdEndIndex = requestURI.length();
+        }
+        return requestURI.substring(organizationIdStartIndex, organizationIdEndIndex);
+    }
+
+    /**
+     * Check whether requests to unknown or disabled organizations should be rejected by the tenant resolver valve.
+     *
+     * @return True if such requests should be rejected.
+     */
+    public static boolean isInvalidOrganizationRequestRejectionEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(REJECT_INVALID_ORGANIZATION_REQUESTS));
+    }
+
+    /**
+     * Check whether the given organization exists and is active.
+     *
+     * @param organizationId The organization ID.
+     * @return True if the organization exists and is not disabled.
+     * @throws OrganizationManagementException The exception thrown when resolving the organization.
+     */
+    public static boolean isActiveOrganization(String organizationId) throws OrganizationManagementException {
+
+        OrganizationContextCacheKey cacheKey = new OrganizationContextCacheKey(organizationId);
+        OrganizationContextCacheEntry cacheEntry =
+                OrganizationContextCache.getInstance().getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN_NAME);
+        if (cacheEntry == null || cacheEntry.getStatus() == null) {
+            String tenantDomain = cacheEntry != null ? cacheEntry.getTenantDomain() :
+                    getOrganizationManager().resolveTenantDomain(organizationId);
+            if (StringUtils.isEmpty(tenantDomain)) {
+                return false;
+            }
+            Organization organization = getOrganizationManager().getOrganization(organizationId, false, false);
+            cacheEntry = new OrganizationContextCacheEntry(tenantDomain, organization.getStatus());
+            OrganizationContextCache.getInstance().addToCache(cacheKey, cacheEntry, SUPER_TENANT_DOMAIN_NAME);
+        }
+        return !OrganizationStatus.DISABLED.name().equals(cacheEntry.getStatus());
+    }
+
+    /**
+     * Clear the cached tenant domain and status of the given organization.
+     *
+     * @param organizationId The organization ID.
+     */
+    public static void clearOrganizationContextCacheEntry(String organizationId) {
+
+        OrganizationContextCache.getInstance().clearCacheEntry(new OrganizationContextCacheKey(organizationId),
+                SUPER_TENANT_DOMAIN_NAME);
+    }
+
     private static String getTenantDomainFromOrganizationSpecificURI(String requestURI, String domain) throws
             OrganizationManagementException {
 
-        String domainInRequestPath = requestURI.substring(requestURI.indexOf(ORGANIZATION_PATH_PARAM) + 3);
-        if (domainInRequestPath.indexOf('/') != -1) {
-            domainInRequestPath = domainInRequestPath.substring(0, domainInRequestPath.indexOf('/'));
-            OrganizationManager organizationManager = OrganizationManagementTomcatDataHolder.getInstance()
-                    .getOrganizationManager();
-            domain = organizationManager.resolveTenantDomain(domainInRequestPath);
+        int organizationIdStartIndex = getOrganizationIdStartIndex(requestURI);
+        if (organizationIdStartIndex == -1) {
+            return domain;
+        }
+        int organizationIdEndIndex = requestURI.indexOf(PATH_SEPARATOR, organizationIdStartIndex);
+        if (organizationIdEndIndex != -1) {
+            String domainInRequestPath = requestURI.substring(organizationIdStartIndex, organizationIdEndIndex);
+            domain = getTenantDomainOfOrganization(domainInRequestPath);
             if (StringUtils.isEmpty(domain)) {
                 return MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
             }
         }
         return domain;
     }
+
+    private static int getOrganizationIdStartIndex(String requestURI) {
+
+        int organizationPathIndex = requestURI.indexOf(ORGANIZATION_PATH_PARAM);
+        return organizationPathIndex == -1 ? -1 : organizationPathIndex + ORGANIZATION_PATH_PARAM.length();
+    }
+
+    private static String getTenantDomainOfOrganization(String organizationId)
+            throws OrganizationManagementException {
+
+        OrganizationContextCacheKey cacheKey = new OrganizationContextCacheKey(organizationId);
+        OrganizationContextCacheEntry cacheEntry =
+                OrganizationContextCache.getInstance().getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN_NAME);
+        if (cacheEntry != null) {
+            return cacheEntry.getTenantDomain();
+        }
+        String tenantDomain = getOrganizationManager().resolveTenantDomain(organizationId);
+        // Unknown organizations are not cached, so that an organization is resolved as soon as it is created.
+        if (StringUtils.isNotEmpty(tenantDomain)) {
+            // The status is only resolved when it is required to reject the requests to disabled organizations.
+            OrganizationContextCache.getInstance().addToCache(cacheKey,
+                    new OrganizationContextCacheEntry(tenantDomain, null), SUPER_TENANT_DOMAIN_NAME);
+        }
+        return tenantDomain;
+    }
+
+    private static OrganizationManager getOrganizationManager() {
+
+        return OrganizationManagementTomcatDataHolder.getInstance().getOrganizationManager();
+    }
 }
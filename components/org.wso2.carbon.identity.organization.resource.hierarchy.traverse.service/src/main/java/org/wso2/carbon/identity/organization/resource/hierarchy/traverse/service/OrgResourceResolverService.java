@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2024-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -21,6 +21,8 @@ package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.servic
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.AggregationStrategy;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -52,4 +54,24 @@ public interface OrgResourceResolverService {
                                        Function<String, Optional<T>> resourceRetriever,
                                        AggregationStrategy<T> aggregationStrategy)
             throws OrgResourceHierarchyTraverseException;
+
+    /**
+     * Retrieves resources by traversing the hierarchy of a given organization, where the resources of all the
+     * organizations in the hierarchy are retrieved with a single invocation of the given retriever.
+     *
+     * @param organizationId         The unique identifier of the organization.
+     * @param batchResourceRetriever A function that defines how to fetch the resources of a list of organization
+     *                               IDs at once. The function must return a map of organization ID to the resource
+     *                               of that organization, omitting the organizations without a resource.
+     * @param aggregationStrategy    A strategy defining how to aggregate resources retrieved from
+     *                               different levels of the hierarchy.
+     * @param <T>                    The type of the resource being retrieved and aggregated.
+     * @return An aggregated resource of type <T> obtained from the organization hierarchy.
+     * @throws OrgResourceHierarchyTraverseException If any errors occur during resource retrieval
+     *                                               or aggregation.
+     */
+    <T> T getResourcesFromOrgHierarchyInBatch(String organizationId,
+                                              Function<List<String>, Map<String, T>> batchResourceRetriever,
+                                              AggregationStrategy<T> aggregationStrategy)
+            throws OrgResourceHierarchyTraverseException;
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2024-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -30,6 +30,7 @@ import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util.OrgResourceHierarchyTraverseUtil;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -52,17 +53,55 @@ public class OrgResourceResolverServiceImpl implements OrgResourceResolverServic
                                               AggregationStrategy<T> aggregationStrategy)
             throws OrgResourceHierarchyTraverseException {
 
+        validateOrganizationId(organizationId);
+        List<String> cachedOrganizationIds =
+                OrgResourceHierarchyTraverseUtil.getAncestorOrganizationIdsFromCache(organizationId);
+        if (CollectionUtils.isNotEmpty(cachedOrganizationIds)) {
+            return aggregationStrategy.aggregate(cachedOrganizationIds, resourceRetriever);
+        }
         List<String> organizationIds = getAncestorOrganizationsIds(organizationId);
-        return aggregationStrategy.aggregate(organizationIds, resourceRetriever);
+        T resources = aggregationStrategy.aggregate(organizationIds, resourceRetriever);
+        OrgResourceHierarchyTraverseUtil.addAncestorOrganizationIdsToCache(organizationIds);
+        return resources;
     }
 
-    private List<String> getAncestorOrganizationsIds(String organizationId)
-            throws OrgResourceHierarchyTraverseServerException {
+    @Override
+    public <T> T getResourcesFromOrgHierarchyInBatch(String organizationId,
+                                                     Function<List<String>, Map<String, T>> batchResourceRetriever,
+                                                     AggregationStrategy<T> aggregationStrategy)
+            throws OrgResourceHierarchyTraverseException {
+
+        validateOrganizationId(organizationId);
+        List<String> cachedOrganizationIds =
+                OrgResourceHierarchyTraverseUtil.getAncestorOrganizationIdsFromCache(organizationId);
+        if (CollectionUtils.isNotEmpty(cachedOrganizationIds)) {
+            return aggregationStrategy.aggregateInBatch(cachedOrganizationIds, batchResourceRetriever);
+        }
+        List<String> organizationIds = getAncestorOrganizationsIds(organizationId);
+        T resources = aggregationStrategy.aggregateInBatch(organizationIds, batchResourceRetriever);
+        OrgResourceHierarchyTraverseUtil.addAncestorOrganizationIdsToCache(organizationIds);
+        return resources;
+    }
+
+    private void validateOrganizationId(String organizationId) throws OrgResourceHierarchyTraverseServerException {
 
         if (StringUtils.isEmpty(organizationId)) {
             throw OrgResourceHierarchyTraverseUtil.handleServerException(
                     OrgResourceHierarchyTraverseConstants.ErrorMessages.ERROR_CODE_EMPTY_ORGANIZATION_ID);
         }
+    }
+
+    /**
+     * Resolve the ancestor organization IDs of the given organization from the organization manager. The resolved
+     * hierarchy is cached only after it has been traversed, so that the first traversal validates the depths of the
+     * organizations against the organization manager and the subsequent traversals are served from the cache.
+     *
+     * @param organizationId The ID of the organization.
+     * @return The ancestor organization IDs starting from the given organization.
+     * @throws OrgResourceHierarchyTraverseServerException If the ancestor organizations cannot be resolved.
+     */
+    private List<String> getAncestorOrganizationsIds(String organizationId)
+            throws OrgResourceHierarchyTraverseServerException {
 
         try {
             OrganizationManager organizationManager = OrgResourceHierarchyTraverseUtil.getOrganizationManager();
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cache entry for the organization hierarchy cache. Holds the ancestor chain of an organization, starting from the
+ * organization itself and ending at the top most ancestor, together with the depth of the organization in the
+ * hierarchy.
+ */
+public class OrgHierarchyCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -6403781127520364823L;
+
+    private final ArrayList<String> ancestorOrganizationIds;
+    private final int depthInHierarchy;
+
+    public OrgHierarchyCacheEntry(List<String> ancestorOrganizationIds, int depthInHierarchy) {
+
+        this.ancestorOrganizationIds = new ArrayList<>(ancestorOrganizationIds);
+        this.depthInHierarchy = depthInHierarchy;
+    }
+
+    public List<String> getAncestorOrganizationIds() {
+
+        return Collections.unmodifiableList(ancestorOrganizationIds);
+    }
+
+    public int getDepthInHierarchy() {
+
+        return depthInHierarchy;
+    }
+}
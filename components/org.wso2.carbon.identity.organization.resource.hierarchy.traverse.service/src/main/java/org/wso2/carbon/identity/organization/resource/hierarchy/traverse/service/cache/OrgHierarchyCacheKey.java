@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+/**
+ * Cache key for the organization hierarchy cache. The key is the ID of the organization whose ancestor chain
+ * and hierarchy depth are cached.
+ */
+public class OrgHierarchyCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 3207654371946253411L;
+
+    private final String organizationId;
+
+    public OrgHierarchyCacheKey(String organizationId) {
+
+        this.organizationId = organizationId;
+    }
+
+    public String getOrganizationId() {
+
+        return organizationId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OrgHierarchyCacheKey)) {
+            return false;
+        }
+        return organizationId.equals(((OrgHierarchyCacheKey) o).getOrganizationId());
+    }
+
+    @Override
+    public int hashCode() {
+
+        return organizationId.hashCode();
+    }
+}
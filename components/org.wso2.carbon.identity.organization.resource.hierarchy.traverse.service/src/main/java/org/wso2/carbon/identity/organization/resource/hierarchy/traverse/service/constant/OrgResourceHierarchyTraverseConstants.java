@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2024-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -58,7 +58,11 @@ public class OrgResourceHierarchyTraverseConstants {
                 "65004",
                 "Unable to resolve ancestor applications.",
                 "Unexpected server error occurred while resolving ancestor applications for organization " +
-                        "with id: %s for application with id: %s.");
+                        "with id: %s for application with id: %s."),
+        ERROR_CODE_SERVER_ERROR_WHILE_RETRIEVING_RESOURCES_CONCURRENTLY(
+                "65005",
+                "Unable to retrieve resources concurrently.",
+                "The concurrent retrieval of resources failed for the organizations: %s.");
 
         private final String code;
         private final String message;
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.handler;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.organization.management.ext.Constants;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.model.Organization;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util.OrgResourceHierarchyTraverseUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Event handler which keeps the organization hierarchy cache consistent with organization create, delete and
+ * update operations.
+ */
+public class OrgHierarchyCacheInvalidationHandler extends AbstractEventHandler {
+
+    private static final Log LOG = LogFactory.getLog(OrgHierarchyCacheInvalidationHandler.class);
+
+    @Override
+    public String getName() {
+
+        return "OrgHierarchyCacheInvalidationHandler";
+    }
+
+    @Override
+    public int getPriority(MessageContext messageContext) {
+
+        return 10;
+    }
+
+    @Override
+    public boolean canHandle(MessageContext messageContext) throws IdentityRuntimeException {
+
+        String eventName = ((IdentityEventMessageContext) messageContext).getEvent().getEventName();
+        return Constants.EVENT_POST_ADD_ORGANIZATION.equals(eventName) ||
+                Constants.EVENT_POST_DELETE_ORGANIZATION.equals(eventName) ||
+                Constants.EVENT_PRE_UPDATE_ORGANIZATION.equals(eventName) ||
+                Constants.EVENT_POST_UPDATE_ORGANIZATION.equals(eventName);
+    }
+
+    @Override
+    public void handleEvent(Event event) throws IdentityEventException {
+
+        String eventName = event.getEventName();
+        Map<String, Object> eventProperties = event.getEventProperties();
+        switch (eventName) {
+            case Constants.EVENT_POST_ADD_ORGANIZATION:
+                Organization addedOrganization = (Organization) eventProperties.get(Constants.EVENT_PROP_ORGANIZATION);
+                if (addedOrganization != null) {
+                    OrgResourceHierarchyTraverseUtil.clearOrgHierarchyCacheEntry(addedOrganization.getId());
+                }
+                break;
+            case Constants.EVENT_POST_DELETE_ORGANIZATION:
+                String deletedOrganizationId = (String) eventProperties.get(Constants.EVENT_PROP_ORGANIZATION_ID);
+                if (deletedOrganizationId != null) {
+                    OrgResourceHierarchyTraverseUtil.clearOrgHierarchyCacheEntry(deletedOrganizationId);
+                }
+                break;
+            case Constants.EVENT_PRE_UPDATE_ORGANIZATION:
+                String organizationId = (String) eventProperties.get(Constants.EVENT_PROP_ORGANIZATION_ID);
+                Organization organization = (Organization) eventProperties.get(Constants.EVENT_PROP_ORGANIZATION);
+                if (isOrganizationMoved(organizationId, organization)) {
+                    clearOrgHierarchyCacheEntriesOfSubtree(organizationId);
+                }
+                break;
+            case Constants.EVENT_POST_UPDATE_ORGANIZATION:
+                String updatedOrganizationId = (String) eventProperties.get(Constants.EVENT_PROP_ORGANIZATION_ID);
+                Organization updatedOrganization =
+                        (Organization) eventProperties.get(Constants.EVENT_PROP_ORGANIZATION);
+                if (isCachedHierarchyStale(updatedOrganizationId, updatedOrganization)) {
+                    clearOrgHierarchyCacheEntriesOfSubtree(updatedOrganizationId);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private boolean isOrganizationMoved(String organizationId, Organization organization) {
+
+        if (organizationId == null || organization == null || organization.getParent() == null) {
+            return false;
+        }
+        try {
+            String currentParentId = OrgResourceHierarchyTraverseUtil.getOrganizationManager()
+                    .getParentOrganizationId(organizationId);
+            return !Objects.equals(currentParentId, organization.getParent().getId());
+        } catch (OrganizationManagementException e) {
+            LOG.warn("Error while resolving the parent of the organization: " + organizationId +
+                    ". The organization is considered as moved.", e);
+            return true;
+        }
+    }
+
+    /**
+     * Check whether the cached hierarchy of an updated organization still points to a previous parent. The
+     * hierarchies may be cached again with the previous ancestors after they are cleared before the update, until the
+     * update is completed. As a descendant hierarchy is cached along with the hierarchy of each of its ancestors, the
+     * cached hierarchy of the updated organization tells whether its subtree needs to be cleared again.
+     *
+     * @param organizationId The ID of the updated organization.
+     * @param organization   The updated organization.
+     * @return true if the cached hierarchy of the organization has a different parent.
+     */
+    private boolean isCachedHierarchyStale(String organizationId, Organization organization) {
+
+        if (organizationId == null || organization == null || organization.getParent() == null) {
+            return false;
+        }
+        List<String> ancestorOrganizationIds =
+                OrgResourceHierarchyTraverseUtil.getAncestorOrganizationIdsFromCache(organizationId);
+        if (ancestorOrganizationIds == null || ancestorOrganizationIds.size() < 2) {
+            return false;
+        }
+        return !Objects.equals(ancestorOrganizationIds.get(1), organization.getParent().getId());
+    }
+
+    /**
+     * Clear the cached hierarchies of the given organization and all of its descendants, as their ancestor chains
+     * contain the previous ancestors of the organization.
+     *
+     * @param organizationId The ID of the moved organization.
+     */
+    private void clearOrgHierarchyCacheEntriesOfSubtree(String organizationId) {
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Clearing the cached hierarchies of the organization: " + organizationId +
+                    " and its descendants as the parent of the organization has changed.");
+        }
+        List<String> descendantOrganizationIds;
+        try {
+            descendantOrganizationIds = OrgResourceHierarchyTraverseUtil.getOrganizationManager()
+                    .getChildOrganizationsIds(organizationId, true);
+        } catch (OrganizationManagementException e) {
+            LOG.warn("Error while resolving the descendants of the organization: " + organizationId +
+                    ". Clearing the organization hierarchy cache.", e);
+            OrgResourceHierarchyTraverseUtil.clearOrgHierarchyCache();
+            return;
+        }
+        OrgResourceHierarchyTraverseUtil.clearOrgHierarchyCacheEntry(organizationId);
+        for (String descendantOrganizationId : descendantOrganizationIds) {
+            OrgResourceHierarchyTraverseUtil.clearOrgHierarchyCacheEntry(descendantOrganizationId);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2024-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -27,9 +27,12 @@ import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.OrgResourceResolverService;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.OrgResourceResolverServiceImpl;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.handler.OrgHierarchyCacheInvalidationHandler;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util.ParallelResourceRetriever;
 
 /**
  * OSGi component responsible for managing the activation and deactivation of the organization resource hierarchy
@@ -57,6 +60,8 @@ public class OrgResourceHierarchyTraverseServiceComponent {
             BundleContext bundleContext = context.getBundleContext();
             bundleContext.registerService(OrgResourceResolverService.class.getName(),
                     new OrgResourceResolverServiceImpl(), null);
+            bundleContext.registerService(AbstractEventHandler.class.getName(),
+                    new OrgHierarchyCacheInvalidationHandler(), null);
             if (LOG.isDebugEnabled()) {
                 LOG.debug("OrgResourceResolverService bundle is activated successfully.");
             }
@@ -74,6 +79,7 @@ public class OrgResourceHierarchyTraverseServiceComponent {
     @Deactivate
     protected void deactivate(ComponentContext context) {
 
+        ParallelResourceRetriever.shutdown();
         if (LOG.isDebugEnabled()) {
             LOG.debug("OrgResourceResolverService bundle is deactivated");
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2024-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -62,6 +62,31 @@ public interface AggregationStrategy<T> {
         throw new NotImplementedException("aggregate method is not implemented in " + this.getClass());
     }
 
+    /**
+     * Aggregates resources resolved from an organization's hierarchical structure, where the resources of all the
+     * organizations in the hierarchy are retrieved at once.
+     * <p>
+     * This method provides a default implementation that throws a
+     * {@link NotImplementedException}. Subclasses must override this method to define
+     * specific aggregation logic for organization hierarchies with batch retrieval.
+     *
+     * @param organizationHierarchy  A list representing the organization hierarchy,
+     *                               where the first element is the root organization
+     *                               and subsequent elements represent child organizations.
+     * @param batchResourceRetriever A function that retrieves the resources of a list of organization IDs in a
+     *                               single invocation. Returns a map of organization ID to the resource of that
+     *                               organization, where organizations without a resource are omitted.
+     * @return The aggregated resource of type <T>.
+     * @throws OrgResourceHierarchyTraverseException If any error occurs during resource
+     *                                               retrieval or aggregation.
+     */
+    default T aggregateInBatch(List<String> organizationHierarchy,
+                               Function<List<String>, Map<String, T>> batchResourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        throw new NotImplementedException("aggregateInBatch method is not implemented in " + this.getClass());
+    }
+
     /**
      * Aggregates resources resolved from an organization's and application's hierarchical structure.
      * <p>
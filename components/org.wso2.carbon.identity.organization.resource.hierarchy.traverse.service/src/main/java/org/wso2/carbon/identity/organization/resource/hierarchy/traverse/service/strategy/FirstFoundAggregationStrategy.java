@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2024-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -19,8 +19,10 @@
 package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy;
 
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.collections.MapUtils;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util.OrgResourceHierarchyTraverseUtil;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util.ParallelResourceRetriever;
 
 import java.util.List;
 import java.util.Map;
@@ -32,11 +34,36 @@ import java.util.function.Function;
  * Aggregation strategy that can be used to traverse the organization hierarchy and retrieve the first resource found.
  * This strategy is commonly applied when multiple resources might exist at different levels of the hierarchy,
  * and only the first one encountered at the bottom of the hierarchy needs to be returned.
+ * <p>
+ * The strategy can optionally retrieve the resources of a number of hierarchy levels speculatively, where the
+ * resources of those levels are retrieved concurrently and the resource of the nearest level is returned.
  *
  * @param <T> The type of the resource being retrieved from the organization/ application hierarchy.
  */
 public class FirstFoundAggregationStrategy<T> implements AggregationStrategy<T> {
 
+    private final int speculativeLevels;
+
+    /**
+     * Constructor to initialize the aggregation strategy, which retrieves the resources level by level.
+     */
+    public FirstFoundAggregationStrategy() {
+
+        this(1);
+    }
+
+    /**
+     * Constructor to initialize the aggregation strategy with the number of hierarchy levels of which the
+     * resources are retrieved concurrently.
+     *
+     * @param speculativeLevels Number of hierarchy levels of which the resources are retrieved concurrently.
+     *                          The resources are retrieved level by level if the value is less than two.
+     */
+    public FirstFoundAggregationStrategy(int speculativeLevels) {
+
+        this.speculativeLevels = speculativeLevels;
+    }
+
     @Override
     public T aggregate(List<String> organizationHierarchy, Function<String, Optional<T>> resourceRetriever)
             throws OrgResourceHierarchyTraverseException {
@@ -44,6 +71,9 @@ public class FirstFoundAggregationStrategy<T> implements AggregationStrategy<T>
         if (CollectionUtils.isEmpty(organizationHierarchy)) {
             return null;
         }
+        if (speculativeLevels > 1) {
+            return aggregateSpeculatively(organizationHierarchy, resourceRetriever);
+        }
 
         for (String orgId : organizationHierarchy) {
             if (organizationHierarchy.size() != 1 &&
@@ -59,6 +89,34 @@ public class FirstFoundAggregationStrategy<T> implements AggregationStrategy<T>
         return null;
     }
 
+    @Override
+    public T aggregateInBatch(List<String> organizationHierarchy,
+                              Function<List<String>, Map<String, T>> batchResourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        if (CollectionUtils.isEmpty(organizationHierarchy)) {
+            return null;
+        }
+
+        List<String> traversableOrgIds =
+                OrgResourceHierarchyTraverseUtil.getTraversableOrganizationIds(organizationHierarchy);
+        if (traversableOrgIds.isEmpty()) {
+            return null;
+        }
+
+        Map<String, T> resources = batchResourceRetriever.apply(traversableOrgIds);
+        if (MapUtils.isEmpty(resources)) {
+            return null;
+        }
+        for (String orgId : traversableOrgIds) {
+            T resource = resources.get(orgId);
+            if (resource != null) {
+                return resource;
+            }
+        }
+        return null;
+    }
+
     @Override
     public T aggregate(List<String> organizationHierarchy, Map<String, String> applicationHierarchy,
                        BiFunction<String, String, Optional<T>> resourceRetriever)
@@ -67,6 +125,10 @@ public class FirstFoundAggregationStrategy<T> implements AggregationStrategy<T>
         if (CollectionUtils.isEmpty(organizationHierarchy)) {
             return null;
         }
+        if (speculativeLevels > 1) {
+            return aggregateSpeculatively(organizationHierarchy,
+                    orgId -> resourceRetriever.apply(orgId, applicationHierarchy.get(orgId)));
+        }
 
         for (String orgId : organizationHierarchy) {
             if (organizationHierarchy.size() != 1 &&
@@ -82,4 +144,14 @@ public class FirstFoundAggregationStrategy<T> implements AggregationStrategy<T>
         }
         return null;
     }
+
+    private T aggregateSpeculatively(List<String> organizationHierarchy,
+                                     Function<String, Optional<T>> resourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        List<String> traversableOrgIds =
+                OrgResourceHierarchyTraverseUtil.getTraversableOrganizationIds(organizationHierarchy);
+        return ParallelResourceRetriever.retrieveNearest(traversableOrgIds, resourceRetriever, speculativeLevels)
+                .orElse(null);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2024-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -19,8 +19,10 @@
 package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy;
 
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.collections.MapUtils;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util.OrgResourceHierarchyTraverseUtil;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util.ParallelResourceRetriever;
 
 import java.util.List;
 import java.util.Map;
@@ -36,12 +38,16 @@ import java.util.function.Function;
  * to combine the resources at each level. It ensures that the resources are merged according to the
  * logic defined by the merger function, which could involve combining attributes, performing calculations, or
  * resolving conflicts between resources.
+ * <p>
+ * The resources of the organizations can optionally be retrieved concurrently. The resources are still merged in
+ * the order of the hierarchy, hence the aggregated resource is the same as the one of a sequential traversal.
  *
  * @param <T> The type of the resources being merged in the organization/ application hierarchy.
  */
 public class MergeAllAggregationStrategy<T> implements AggregationStrategy<T> {
 
     private final BiFunction<T, T, T> resourceMerger;
+    private final boolean parallelRetrieval;
 
     /**
      * Constructor to initialize the aggregation strategy with the resource merger function.
@@ -50,7 +56,19 @@ public class MergeAllAggregationStrategy<T> implements AggregationStrategy<T> {
      */
     public MergeAllAggregationStrategy(BiFunction<T, T, T> resourceMerger) {
 
+        this(resourceMerger, false);
+    }
+
+    /**
+     * Constructor to initialize the aggregation strategy with the resource merger function and the retrieval mode.
+     *
+     * @param resourceMerger    Resource merger function.
+     * @param parallelRetrieval Whether the resources of the organizations should be retrieved concurrently.
+     */
+    public MergeAllAggregationStrategy(BiFunction<T, T, T> resourceMerger, boolean parallelRetrieval) {
+
         this.resourceMerger = resourceMerger;
+        this.parallelRetrieval = parallelRetrieval;
     }
 
     @Override
@@ -61,6 +79,9 @@ public class MergeAllAggregationStrategy<T> implements AggregationStrategy<T> {
         if (CollectionUtils.isEmpty(organizationHierarchy)) {
             return aggregatedResource;
         }
+        if (parallelRetrieval) {
+            return aggregateConcurrently(organizationHierarchy, resourceRetriever);
+        }
 
         for (String orgId : organizationHierarchy) {
             if (organizationHierarchy.size() != 1 &&
@@ -80,6 +101,39 @@ public class MergeAllAggregationStrategy<T> implements AggregationStrategy<T> {
         return aggregatedResource;
     }
 
+    @Override
+    public T aggregateInBatch(List<String> organizationHierarchy,
+                              Function<List<String>, Map<String, T>> batchResourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        T aggregatedResource = null;
+        if (CollectionUtils.isEmpty(organizationHierarchy)) {
+            return aggregatedResource;
+        }
+
+        List<String> traversableOrgIds =
+                OrgResourceHierarchyTraverseUtil.getTraversableOrganizationIds(organizationHierarchy);
+        if (traversableOrgIds.isEmpty()) {
+            return aggregatedResource;
+        }
+
+        Map<String, T> resources = batchResourceRetriever.apply(traversableOrgIds);
+        if (MapUtils.isEmpty(resources)) {
+            return aggregatedResource;
+        }
+        for (String orgId : traversableOrgIds) {
+            T resource = resources.get(orgId);
+            if (resource != null) {
+                if (aggregatedResource == null) {
+                    aggregatedResource = resource;
+                } else {
+                    aggregatedResource = resourceMerger.apply(aggregatedResource, resource);
+                }
+            }
+        }
+        return aggregatedResource;
+    }
+
     @Override
     public T aggregate(List<String> organizationHierarchy, Map<String, String> applicationHierarchy,
                        BiFunction<String, String, Optional<T>> resourceRetriever)
@@ -89,6 +143,10 @@ public class MergeAllAggregationStrategy<T> implements AggregationStrategy<T> {
         if (CollectionUtils.isEmpty(organizationHierarchy)) {
             return aggregatedResource;
         }
+        if (parallelRetrieval) {
+            return aggregateConcurrently(organizationHierarchy,
+                    orgId -> resourceRetriever.apply(orgId, applicationHierarchy.get(orgId)));
+        }
 
         for (String orgId : organizationHierarchy) {
             if (organizationHierarchy.size() != 1 &&
@@ -108,4 +166,28 @@ public class MergeAllAggregationStrategy<T> implements AggregationStrategy<T> {
         }
         return aggregatedResource;
     }
+
+    private T aggregateConcurrently(List<String> organizationHierarchy,
+                                    Function<String, Optional<T>> resourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        T aggregatedResource = null;
+        List<String> traversableOrgIds =
+                OrgResourceHierarchyTraverseUtil.getTraversableOrganizationIds(organizationHierarchy);
+        if (traversableOrgIds.isEmpty()) {
+            return aggregatedResource;
+        }
+
+        List<Optional<T>> resources = ParallelResourceRetriever.retrieveAll(traversableOrgIds, resourceRetriever);
+        for (Optional<T> resource : resources) {
+            if (resource.isPresent()) {
+                if (aggregatedResource == null) {
+                    aggregatedResource = resource.get();
+                } else {
+                    aggregatedResource = resourceMerger.apply(aggregatedResource, resource.get());
+                }
+            }
+        }
+        return aggregatedResource;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2024-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -22,10 +22,18 @@ import org.apache.commons.lang.ArrayUtils;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
 import org.wso2.carbon.identity.organization.management.service.util.Utils;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.OrgHierarchyCache;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.OrgHierarchyCacheEntry;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.OrgHierarchyCacheKey;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.constant.OrgResourceHierarchyTraverseConstants;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseServerException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.internal.OrgResourceHierarchyTraverseServiceDataHolder;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+
 /**
  * Utility class for the Organization Resource Hierarchy Traverse Service.
  * <p>
@@ -55,7 +63,9 @@ public class OrgResourceHierarchyTraverseUtil {
      * Verify if the organization hierarchy depth has reached the minimum required level.
      * <p>
      * This method obtains the depth of the specified organization in the hierarchy and compares it
-     * with the configured minimum depth. An exception is thrown if an error occurs during the depth calculation.
+     * with the configured minimum depth. The depth is taken from the organization hierarchy cache when available,
+     * and resolved from the organization manager otherwise. An exception is thrown if an error occurs during the
+     * depth calculation.
      *
      * @param orgId The ID of the organization to check.
      * @return {@code true} if the hierarchy depth is less than the minimum required depth, {@code false} otherwise.
@@ -65,6 +75,11 @@ public class OrgResourceHierarchyTraverseUtil {
             OrgResourceHierarchyTraverseServerException {
 
         int minHierarchyDepth = Utils.getSubOrgStartLevel() - 1;
+        OrgHierarchyCacheEntry orgHierarchyCacheEntry = OrgHierarchyCache.getInstance()
+                .getValueFromCache(new OrgHierarchyCacheKey(orgId), SUPER_TENANT_DOMAIN_NAME);
+        if (orgHierarchyCacheEntry != null) {
+            return orgHierarchyCacheEntry.getDepthInHierarchy() < minHierarchyDepth;
+        }
         try {
             int depthInHierarchy = getOrganizationManager().getOrganizationDepthInHierarchy(orgId);
             return depthInHierarchy < minHierarchyDepth;
@@ -74,6 +89,87 @@ public class OrgResourceHierarchyTraverseUtil {
         }
     }
 
+    /**
+     * Resolve the organizations of the given hierarchy which should be considered when aggregating resources.
+     * <p>
+     * The hierarchy is traversed from the bottom and the traversal stops at the first organization for which the
+     * minimum hierarchy depth is reached. A hierarchy with a single organization is always considered as a whole.
+     *
+     * @param organizationHierarchy The organization hierarchy starting from the bottom most organization.
+     * @return The organization IDs to be considered, in the same order as the given hierarchy.
+     * @throws OrgResourceHierarchyTraverseServerException If an error occurs while retrieving an organization's depth.
+     */
+    public static List<String> getTraversableOrganizationIds(List<String> organizationHierarchy)
+            throws OrgResourceHierarchyTraverseServerException {
+
+        if (organizationHierarchy.size() == 1) {
+            return organizationHierarchy;
+        }
+        List<String> traversableOrganizationIds = new ArrayList<>();
+        for (String orgId : organizationHierarchy) {
+            if (isMinOrgHierarchyDepthReached(orgId)) {
+                break;
+            }
+            traversableOrganizationIds.add(orgId);
+        }
+        return traversableOrganizationIds;
+    }
+
+    /**
+     * Retrieve the ancestor organization IDs of the given organization from the organization hierarchy cache.
+     *
+     * @param orgId The ID of the organization.
+     * @return The ancestor organization IDs starting from the given organization, or {@code null} if the
+     * hierarchy of the organization is not cached.
+     */
+    public static List<String> getAncestorOrganizationIdsFromCache(String orgId) {
+
+        OrgHierarchyCacheEntry orgHierarchyCacheEntry = OrgHierarchyCache.getInstance()
+                .getValueFromCache(new OrgHierarchyCacheKey(orgId), SUPER_TENANT_DOMAIN_NAME);
+        if (orgHierarchyCacheEntry == null) {
+            return null;
+        }
+        return orgHierarchyCacheEntry.getAncestorOrganizationIds();
+    }
+
+    /**
+     * Add the given ancestor chain to the organization hierarchy cache.
+     * <p>
+     * The chain starts from an organization and ends at the top most ancestor which sits at depth zero. Every
+     * suffix of the chain is therefore the ancestor chain of its first organization, and the position of an
+     * organization in the chain gives its depth. Hence, the chain and the depth of every organization in it are
+     * cached, which allows the subsequent depth checks of the traversal to be served without database lookups.
+     *
+     * @param ancestorOrganizationIds The ancestor organization IDs starting from the organization itself.
+     */
+    public static void addAncestorOrganizationIdsToCache(List<String> ancestorOrganizationIds) {
+
+        int chainLength = ancestorOrganizationIds.size();
+        for (int i = 0; i < chainLength; i++) {
+            OrgHierarchyCache.getInstance().addToCache(new OrgHierarchyCacheKey(ancestorOrganizationIds.get(i)),
+                    new OrgHierarchyCacheEntry(ancestorOrganizationIds.subList(i, chainLength), chainLength - 1 - i),
+                    SUPER_TENANT_DOMAIN_NAME);
+        }
+    }
+
+    /**
+     * Clear the organization hierarchy cache entry of the given organization.
+     *
+     * @param orgId The ID of the organization.
+     */
+    public static void clearOrgHierarchyCacheEntry(String orgId) {
+
+        OrgHierarchyCache.getInstance().clearCacheEntry(new OrgHierarchyCacheKey(orgId), SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    /**
+     * Clear all the entries of the organization hierarchy cache.
+     */
+    public static void clearOrgHierarchyCache() {
+
+        OrgHierarchyCache.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+    }
+
     /**
      * Create an {@link OrgResourceHierarchyTraverseServerException} to handle server-side errors.
      * <p>
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseServerException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.constant.OrgResourceHierarchyTraverseConstants.ErrorMessages.ERROR_CODE_SERVER_ERROR_WHILE_RETRIEVING_RESOURCES_CONCURRENTLY;
+import static org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util.OrgResourceHierarchyTraverseUtil.handleServerException;
+
+/**
+ * Retrieves the resources of the organizations in a hierarchy concurrently on a bounded executor shared by all the
+ * hierarchy traversals.
+ * <p>
+ * The carbon context and the identity thread local properties of the invoking thread are propagated to the worker
+ * threads, so that resource retrievers behave the same as when they are invoked by the traversing thread. A
+ * traversal which is started from a worker thread is executed sequentially on that thread, to prevent nested
+ * traversals from waiting on the capacity of the executor they are holding.
+ */
+public class ParallelResourceRetriever {
+
+    private static final Log LOG = LogFactory.getLog(ParallelResourceRetriever.class);
+
+    private static final String POOL_SIZE_CONFIG = "OrgResourceHierarchyTraverse.ParallelRetrieval.PoolSize";
+    private static final String QUEUE_SIZE_CONFIG = "OrgResourceHierarchyTraverse.ParallelRetrieval.QueueSize";
+    private static final int DEFAULT_POOL_SIZE = 10;
+    private static final int DEFAULT_QUEUE_SIZE = 100;
+    private static final String WORKER_THREAD_NAME_PREFIX = "org-hierarchy-resource-retriever-";
+
+    private static final ThreadLocal<Boolean> IS_WORKER_THREAD = ThreadLocal.withInitial(() -> false);
+    private static volatile ExecutorService executorService;
+
+    /**
+     * Private constructor to prevent instantiation of the utility class.
+     */
+    private ParallelResourceRetriever() {
+
+    }
+
+    /**
+     * Retrieve the resources of the given organizations concurrently.
+     *
+     * @param orgIds            The organization IDs to retrieve the resources of.
+     * @param resourceRetriever The function which retrieves the resource of an organization.
+     * @param <T>               The type of the resource.
+     * @return The retrieved resources, in the same order as the given organization IDs.
+     * @throws OrgResourceHierarchyTraverseServerException If the retrieval fails or is interrupted.
+     */
+    public static <T> List<Optional<T>> retrieveAll(List<String> orgIds,
+                                                     Function<String, Optional<T>> resourceRetriever)
+            throws OrgResourceHierarchyTraverseServerException {
+
+        List<Optional<T>> resources = new ArrayList<>(orgIds.size());
+        if (orgIds.size() == 1 || IS_WORKER_THREAD.get()) {
+            for (String orgId : orgIds) {
+                resources.add(resourceRetriever.apply(orgId));
+            }
+            return resources;
+        }
+        List<Future<Optional<T>>> futures = submit(orgIds, resourceRetriever);
+        try {
+            for (Future<Optional<T>> future : futures) {
+                resources.add(await(future, orgIds));
+            }
+        } finally {
+            cancel(futures);
+        }
+        return resources;
+    }
+
+    /**
+     * Retrieve the resource of the nearest organization in the given hierarchy which has a resource. The
+     * resources of a window of organizations are retrieved concurrently and the windows are processed from the
+     * bottom of the hierarchy, until a resource is found.
+     *
+     * @param orgIds            The organization IDs starting from the bottom most organization.
+     * @param resourceRetriever The function which retrieves the resource of an organization.
+     * @param windowSize        The number of organizations of which the resources are retrieved concurrently.
+     * @param <T>               The type of the resource.
+     * @return The resource of the nearest organization which has a resource, or empty if none has.
+     * @throws OrgResourceHierarchyTraverseServerException If the retrieval fails or is interrupted.
+     */
+    public static <T> Optional<T> retrieveNearest(List<String> orgIds, Function<String, Optional<T>> resourceRetriever,
+                                                  int windowSize)
+            throws OrgResourceHierarchyTraverseServerException {
+
+        if (windowSize <= 1 || IS_WORKER_THREAD.get()) {
+            for (String orgId : orgIds) {
+                Optional<T> resource = resourceRetriever.apply(orgId);
+                if (resource.isPresent()) {
+                    return resource;
+                }
+            }
+            return Optional.empty();
+        }
+        for (int start = 0; start < orgIds.size(); start += windowSize) {
+            List<String> window = orgIds.subList(start, Math.min(start + windowSize, orgIds.size()));
+            List<Future<Optional<T>>> futures = submit(window, resourceRetriever);
+            try {
+                for (Future<Optional<T>> future : futures) {
+                    Optional<T> resource = await(future, window);
+                    if (resource.isPresent()) {
+                        return resource;
+                    }
+                }
+            } finally {
+                // Retrievals of the farther organizations are not required once a nearer resource is found.
+                cancel(futures);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Shut down the executor used for the concurrent retrievals, if it has been started.
+     */
+    public static synchronized void shutdown() {
+
+        if (executorService != null) {
+            executorService.shutdownNow();
+            executorService = null;
+        }
+    }
+
+    private static <T> List<Future<Optional<T>>> submit(List<String> orgIds,
+                                                        Function<String, Optional<T>> resourceRetriever) {
+
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        String tenantDomain = carbonContext.getTenantDomain();
+        int tenantId = carbonContext.getTenantId();
+        String username = carbonContext.getUsername();
+        String userId = carbonContext.getUserId();
+        String organizationId = carbonContext.getOrganizationId();
+        Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
+
+        ExecutorService executor = getExecutorService();
+        List<Future<Optional<T>>> futures = new ArrayList<>(orgIds.size());
+        for (String orgId : orgIds) {
+            futures.add(executor.submit(() -> {
+                // The task runs on the traversing thread itself when the executor is saturated.
+                boolean isWorkerThread = IS_WORKER_THREAD.get();
+                Map<String, Object> previousThreadLocalProperties =
+                        new HashMap<>(IdentityUtil.threadLocalProperties.get());
+                try {
+                    PrivilegedCarbonContext.startTenantFlow();
+                    PrivilegedCarbonContext workerCarbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                    if (StringUtils.isNotBlank(tenantDomain)) {
+                        workerCarbonContext.setTenantDomain(tenantDomain);
+                    }
+                    workerCarbonContext.setTenantId(tenantId);
+                    workerCarbonContext.setUsername(username);
+                    workerCarbonContext.setUserId(userId);
+                    workerCarbonContext.setOrganizationId(organizationId);
+                    IdentityUtil.threadLocalProperties.get().putAll(threadLocalProperties);
+                    IS_WORKER_THREAD.set(true);
+                    return resourceRetriever.apply(orgId);
+                } finally {
+                    IS_WORKER_THREAD.set(isWorkerThread);
+                    IdentityUtil.threadLocalProperties.get().clear();
+                    IdentityUtil.threadLocalProperties.get().putAll(previousThreadLocalProperties);
+                    PrivilegedCarbonContext.endTenantFlow();
+                }
+            }));
+        }
+        return futures;
+    }
+
+    private static <T> Optional<T> await(Future<Optional<T>> future, List<String> orgIds)
+            throws OrgResourceHierarchyTraverseServerException {
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw handleServerException(ERROR_CODE_SERVER_ERROR_WHILE_RETRIEVING_RESOURCES_CONCURRENTLY, e,
+                    String.join(",", orgIds));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw handleServerException(ERROR_CODE_SERVER_ERROR_WHILE_RETRIEVING_RESOURCES_CONCURRENTLY,
+                    e.getCause(), String.join(",", orgIds));
+        }
+    }
+
+    private static <T> void cancel(List<Future<Optional<T>>> futures) {
+
+        for (Future<Optional<T>> future : futures) {
+            if (!future.isDone()) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    private static ExecutorService getExecutorService() {
+
+        if (executorService == null) {
+            synchronized (ParallelResourceRetriever.class) {
+                if (executorService == null) {
+                    int poolSize = getConfiguredSize(POOL_SIZE_CONFIG, DEFAULT_POOL_SIZE);
+                    int queueSize = getConfiguredSize(QUEUE_SIZE_CONFIG, DEFAULT_QUEUE_SIZE);
+                    AtomicInteger threadCount = new AtomicInteger();
+                    ThreadFactory threadFactory = runnable -> {
+                        Thread thread = new Thread(runnable, WORKER_THREAD_NAME_PREFIX +
+                                threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    };
+                    executorService = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                            new ArrayBlockingQueue<>(queueSize), threadFactory,
+                            new ThreadPoolExecutor.CallerRunsPolicy());
+                }
+            }
+        }
+        return executorService;
+    }
+
+    private static int getConfiguredSize(String config, int defaultSize) {
+
+        String configuredSize = IdentityUtil.getProperty(config);
+        if (StringUtils.isBlank(configuredSize)) {
+            return defaultSize;
+        }
+        try {
+            int size = Integer.parseInt(configuredSize.trim());
+            if (size > 0) {
+                return size;
+            }
+        } catch (NumberFormatException e) {
+            // Falls back to the default size below.
+        }
+        LOG.warn("Invalid value: " + configuredSize + " configured for " + config + ". Using the default value: " +
+                defaultSize);
+        return defaultSize;
+    }
+}
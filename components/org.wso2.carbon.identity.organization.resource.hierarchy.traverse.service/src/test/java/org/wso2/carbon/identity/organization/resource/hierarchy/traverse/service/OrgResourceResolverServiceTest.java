@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2024-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -24,26 +24,43 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.organization.management.ext.Constants;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
+import org.wso2.carbon.identity.organization.management.service.model.Organization;
+import org.wso2.carbon.identity.organization.management.service.model.ParentOrganizationDO;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseServerException;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.handler.OrgHierarchyCacheInvalidationHandler;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.internal.OrgResourceHierarchyTraverseServiceDataHolder;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.mock.resource.impl.MockResourceManagementService;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.mock.resource.impl.model.MockResource;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.AggregationStrategy;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.FirstFoundAggregationStrategy;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.MergeAllAggregationStrategy;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util.OrgResourceHierarchyTraverseUtil;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 import static org.testng.Assert.assertEquals;
@@ -54,11 +71,14 @@ import static org.testng.Assert.assertThrows;
 /**
  * Unit tests for the OrgResourceResolverService.
  */
+@WithCarbonHome
 public class OrgResourceResolverServiceTest {
 
     private static final String ROOT_ORG_ID = "10084a8d-113f-4211-a0d5-efe36b082211";
     private static final String L1_ORG_ID = "93d996f9-a5ba-4275-a52b-adaad9eba869";
     private static final String L2_ORG_ID = "30b701c6-e309-4241-b047-0c299c45d1a0";
+    private static final String L2_ORG_TENANT_DOMAIN = "l2-org-tenant";
+    private static final String NEW_PARENT_ORG_ID = "6c2ed3f4-5a1b-4e7d-9f8a-2b3c4d5e6f70";
     private static final String INVALID_ORG_ID = "invalid-org-id";
     private static final String INVALID_APP_ID = "invalid-app-id";
 
@@ -66,6 +86,8 @@ public class OrgResourceResolverServiceTest {
     private MockResourceManagementService mockResourceManagementService;
     private AggregationStrategy<MockResource> firstFoundAggregationStrategy;
     private AggregationStrategy<MockResource> mergeAllAggregationStrategy;
+    private AggregationStrategy<MockResource> speculativeFirstFoundAggregationStrategy;
+    private AggregationStrategy<MockResource> parallelMergeAllAggregationStrategy;
 
     @Mock
     OrganizationManager organizationManager;
@@ -86,6 +108,8 @@ public class OrgResourceResolverServiceTest {
         // Initialize the aggregation strategies with the appropriate strategy types.
         firstFoundAggregationStrategy = new FirstFoundAggregationStrategy<>();
         mergeAllAggregationStrategy = new MergeAllAggregationStrategy<>(this::resourceMerger);
+        speculativeFirstFoundAggregationStrategy = new FirstFoundAggregationStrategy<>(3);
+        parallelMergeAllAggregationStrategy = new MergeAllAggregationStrategy<>(this::resourceMerger, true);
     }
 
     /**
@@ -115,6 +139,9 @@ public class OrgResourceResolverServiceTest {
 
         // Reset the mock services to their default state after each test.
         reset(organizationManager);
+
+        // Clear the cached organization hierarchies to avoid leaking them across tests.
+        OrgResourceHierarchyTraverseUtil.clearOrgHierarchyCache();
     }
 
     @DataProvider(name = "AggregationStrategyDataProvider")
@@ -122,7 +149,9 @@ public class OrgResourceResolverServiceTest {
 
         return new Object[][]{
                 {firstFoundAggregationStrategy},
-                {mergeAllAggregationStrategy}
+                {mergeAllAggregationStrategy},
+                {speculativeFirstFoundAggregationStrategy},
+                {parallelMergeAllAggregationStrategy}
         };
     }
 
@@ -303,6 +332,219 @@ public class OrgResourceResolverServiceTest {
                 () -> invokeOrgLevelResourceResolver(aggregationStrategy, L2_ORG_ID));
     }
 
+    /**
+     * Tests that the organization hierarchy is resolved from the organization manager only once and the subsequent
+     * traversals, including the ones starting from the ancestors, are served from the organization hierarchy cache.
+     *
+     * @param aggregationStrategy The aggregation strategy used for resolving resources.
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test(dataProvider = "AggregationStrategyDataProvider")
+    public void testGetOrgLevelResourcesFromOrgHierarchyWithCachedHierarchy(
+            AggregationStrategy<MockResource> aggregationStrategy) throws Exception {
+
+        List<MockResource> createdOrgResources = addOrgResources(Collections.singletonList(ROOT_ORG_ID));
+
+        assertResolvedResponse(invokeOrgLevelResourceResolver(aggregationStrategy, L2_ORG_ID),
+                createdOrgResources.get(0));
+        verify(organizationManager, times(1)).getAncestorOrganizationIds(L2_ORG_ID);
+        clearInvocations(organizationManager);
+
+        assertResolvedResponse(invokeOrgLevelResourceResolver(aggregationStrategy, L2_ORG_ID),
+                createdOrgResources.get(0));
+        assertResolvedResponse(invokeOrgLevelResourceResolver(aggregationStrategy, L1_ORG_ID),
+                createdOrgResources.get(0));
+
+        verify(organizationManager, never()).getAncestorOrganizationIds(anyString());
+        verify(organizationManager, never()).getOrganizationDepthInHierarchy(anyString());
+        assertEquals(OrgResourceHierarchyTraverseUtil.getAncestorOrganizationIdsFromCache(L1_ORG_ID),
+                Arrays.asList(L1_ORG_ID, ROOT_ORG_ID));
+    }
+
+    /**
+     * Tests that the carbon context of the traversing thread is available to the resource retrievers when the
+     * resources are retrieved concurrently.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testCarbonContextPropagationOnParallelRetrieval() throws Exception {
+
+        Map<String, String> tenantDomainsOfRetrievals = new ConcurrentHashMap<>();
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(L2_ORG_TENANT_DOMAIN);
+            orgResourceResolverService.getResourcesFromOrgHierarchy(L2_ORG_ID,
+                    orgId -> {
+                        tenantDomainsOfRetrievals.put(orgId,
+                                PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+                        return Optional.ofNullable(mockResourceManagementService.getOrgResource(orgId));
+                    },
+                    parallelMergeAllAggregationStrategy);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+
+        assertEquals(tenantDomainsOfRetrievals.keySet(),
+                new HashSet<>(Arrays.asList(L2_ORG_ID, L1_ORG_ID, ROOT_ORG_ID)));
+        for (String tenantDomain : tenantDomainsOfRetrievals.values()) {
+            assertEquals(tenantDomain, L2_ORG_TENANT_DOMAIN);
+        }
+    }
+
+    /**
+     * Tests that the cached hierarchy of an organization is removed when the organization is deleted.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testOrgHierarchyCacheInvalidationOnOrganizationDeletion() throws Exception {
+
+        invokeOrgLevelResourceResolver(firstFoundAggregationStrategy, L2_ORG_ID);
+        assertNotNull(OrgResourceHierarchyTraverseUtil.getAncestorOrganizationIdsFromCache(L2_ORG_ID));
+
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put(Constants.EVENT_PROP_ORGANIZATION_ID, L2_ORG_ID);
+        new OrgHierarchyCacheInvalidationHandler().handleEvent(
+                new Event(Constants.EVENT_POST_DELETE_ORGANIZATION, eventProperties));
+
+        assertNull(OrgResourceHierarchyTraverseUtil.getAncestorOrganizationIdsFromCache(L2_ORG_ID));
+        assertNotNull(OrgResourceHierarchyTraverseUtil.getAncestorOrganizationIdsFromCache(L1_ORG_ID));
+    }
+
+    /**
+     * Tests that the hierarchy of an organization is not cached when its traversal fails, so that the next
+     * traversal resolves it again from the organization manager.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testOrgHierarchyNotCachedWhenTraversalFails() throws Exception {
+
+        when(organizationManager.getOrganizationDepthInHierarchy(anyString()))
+                .thenThrow(OrganizationManagementServerException.class);
+        assertThrows(OrgResourceHierarchyTraverseServerException.class,
+                () -> invokeOrgLevelResourceResolver(firstFoundAggregationStrategy, L2_ORG_ID));
+
+        assertNull(OrgResourceHierarchyTraverseUtil.getAncestorOrganizationIdsFromCache(L2_ORG_ID));
+        assertNull(OrgResourceHierarchyTraverseUtil.getAncestorOrganizationIdsFromCache(L1_ORG_ID));
+    }
+
+    /**
+     * Tests that the cached hierarchies of an organization and its descendants are removed when the organization
+     * is moved under a different parent, including when the organization's own hierarchy is not cached.
+     *
+     * @param isMovedOrganizationCached Whether the hierarchy of the moved organization is cached.
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test(dataProvider = "movedOrganizationCacheStateDataProvider")
+    public void testOrgHierarchyCacheInvalidationOnOrganizationMove(boolean isMovedOrganizationCached)
+            throws Exception {
+
+        invokeOrgLevelResourceResolver(firstFoundAggregationStrategy, L2_ORG_ID);
+        if (!isMovedOrganizationCached) {
+            OrgResourceHierarchyTraverseUtil.clearOrgHierarchyCacheEntry(L1_ORG_ID);
+        }
+        when(organizationManager.getParentOrganizationId(L1_ORG_ID)).thenReturn(ROOT_ORG_ID);
+        when(organizationManager.getChildOrganizationsIds(L1_ORG_ID, true))
+                .thenReturn(Collections.singletonList(L2_ORG_ID));
+
+        fireOrganizationUpdateEvents(L1_ORG_ID, NEW_PARENT_ORG_ID);
+
+        assertNull(OrgResourceHierarchyTraverseUtil.getAncestorOrganizationIdsFromCache(L1_ORG_ID));
+        assertNull(OrgResourceHierarchyTraverseUtil.getAncestorOrganizationIdsFromCache(L2_ORG_ID));
+        assertNotNull(OrgResourceHierarchyTraverseUtil.getAncestorOrganizationIdsFromCache(ROOT_ORG_ID));
+    }
+
+    @DataProvider(name = "movedOrganizationCacheStateDataProvider")
+    public Object[][] provideMovedOrganizationCacheStates() {
+
+        return new Object[][]{
+                {true},
+                {false}
+        };
+    }
+
+    /**
+     * Tests that the cached hierarchies of a moved organization and its descendants are removed after the update,
+     * when they are cached again with the previous ancestors while the update is in progress.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testOrgHierarchyCacheInvalidationWhenCachedAgainDuringOrganizationMove() throws Exception {
+
+        invokeOrgLevelResourceResolver(firstFoundAggregationStrategy, L2_ORG_ID);
+        when(organizationManager.getParentOrganizationId(L1_ORG_ID)).thenReturn(ROOT_ORG_ID);
+        when(organizationManager.getChildOrganizationsIds(L1_ORG_ID, true))
+                .thenReturn(Collections.singletonList(L2_ORG_ID));
+        Map<String, Object> eventProperties = buildOrganizationUpdateEventProperties(L1_ORG_ID, NEW_PARENT_ORG_ID);
+        OrgHierarchyCacheInvalidationHandler handler = new OrgHierarchyCacheInvalidationHandler();
+
+        handler.handleEvent(new Event(Constants.EVENT_PRE_UPDATE_ORGANIZATION, eventProperties));
+        assertNull(OrgResourceHierarchyTraverseUtil.getAncestorOrganizationIdsFromCache(L2_ORG_ID));
+        invokeOrgLevelResourceResolver(firstFoundAggregationStrategy, L2_ORG_ID);
+        assertNotNull(OrgResourceHierarchyTraverseUtil.getAncestorOrganizationIdsFromCache(L2_ORG_ID));
+        handler.handleEvent(new Event(Constants.EVENT_POST_UPDATE_ORGANIZATION, eventProperties));
+
+        assertNull(OrgResourceHierarchyTraverseUtil.getAncestorOrganizationIdsFromCache(L1_ORG_ID));
+        assertNull(OrgResourceHierarchyTraverseUtil.getAncestorOrganizationIdsFromCache(L2_ORG_ID));
+    }
+
+    /**
+     * Tests that the cached hierarchies are retained when an organization is updated without changing its parent.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testOrgHierarchyCacheRetainedOnOrganizationUpdateWithoutMove() throws Exception {
+
+        invokeOrgLevelResourceResolver(firstFoundAggregationStrategy, L2_ORG_ID);
+        when(organizationManager.getParentOrganizationId(L1_ORG_ID)).thenReturn(ROOT_ORG_ID);
+
+        fireOrganizationUpdateEvents(L1_ORG_ID, ROOT_ORG_ID);
+
+        assertNotNull(OrgResourceHierarchyTraverseUtil.getAncestorOrganizationIdsFromCache(L1_ORG_ID));
+        assertNotNull(OrgResourceHierarchyTraverseUtil.getAncestorOrganizationIdsFromCache(L2_ORG_ID));
+        verify(organizationManager, never()).getChildOrganizationsIds(anyString(), anyBoolean());
+    }
+
+    /**
+     * Fire the pre and post update events of an organization through the organization hierarchy cache
+     * invalidation handler.
+     *
+     * @param organizationId The ID of the updated organization.
+     * @param parentOrgId    The ID of the parent organization after the update.
+     * @throws Exception If an error occurs while handling the events.
+     */
+    private void fireOrganizationUpdateEvents(String organizationId, String parentOrgId) throws Exception {
+
+        Map<String, Object> eventProperties = buildOrganizationUpdateEventProperties(organizationId, parentOrgId);
+        OrgHierarchyCacheInvalidationHandler handler = new OrgHierarchyCacheInvalidationHandler();
+        handler.handleEvent(new Event(Constants.EVENT_PRE_UPDATE_ORGANIZATION, eventProperties));
+        handler.handleEvent(new Event(Constants.EVENT_POST_UPDATE_ORGANIZATION, eventProperties));
+    }
+
+    /**
+     * Build the properties of the update events of an organization.
+     *
+     * @param organizationId The ID of the updated organization.
+     * @param parentOrgId    The ID of the parent organization after the update.
+     * @return The event properties.
+     */
+    private Map<String, Object> buildOrganizationUpdateEventProperties(String organizationId, String parentOrgId) {
+
+        Organization organization = new Organization();
+        organization.setId(organizationId);
+        ParentOrganizationDO parentOrganization = new ParentOrganizationDO();
+        parentOrganization.setId(parentOrgId);
+        organization.setParent(parentOrganization);
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put(Constants.EVENT_PROP_ORGANIZATION_ID, organizationId);
+        eventProperties.put(Constants.EVENT_PROP_ORGANIZATION, organization);
+        return eventProperties;
+    }
+
     /**
      * Mock the retrieval of ancestor organization IDs.
      *
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy;
+
+import org.mockito.Mock;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseServerException;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.internal.OrgResourceHierarchyTraverseServiceDataHolder;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.mock.resource.impl.model.MockResource;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util.OrgResourceHierarchyTraverseUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Unit tests for the batch aggregation of the organization hierarchy aggregation strategies.
+ */
+@WithCarbonHome
+public class AggregationStrategyTest {
+
+    private static final String ROOT_ORG_ID = "10084a8d-113f-4211-a0d5-efe36b082211";
+    private static final String L1_ORG_ID = "93d996f9-a5ba-4275-a52b-adaad9eba869";
+    private static final String L2_ORG_ID = "30b701c6-e309-4241-b047-0c299c45d1a0";
+    private static final List<String> ORGANIZATION_HIERARCHY = Arrays.asList(L2_ORG_ID, L1_ORG_ID, ROOT_ORG_ID);
+
+    private AggregationStrategy<MockResource> firstFoundAggregationStrategy;
+    private AggregationStrategy<MockResource> mergeAllAggregationStrategy;
+    private List<List<String>> requestedOrgIdBatches;
+
+    @Mock
+    OrganizationManager organizationManager;
+
+    @BeforeClass
+    public void init() {
+
+        openMocks(this);
+        OrgResourceHierarchyTraverseServiceDataHolder.getInstance().setOrganizationManager(organizationManager);
+
+        firstFoundAggregationStrategy = new FirstFoundAggregationStrategy<>();
+        mergeAllAggregationStrategy = new MergeAllAggregationStrategy<>(this::resourceMerger);
+    }
+
+    @BeforeMethod
+    public void setUp() {
+
+        requestedOrgIdBatches = new ArrayList<>();
+        OrgResourceHierarchyTraverseUtil.clearOrgHierarchyCache();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        reset(organizationManager);
+    }
+
+    @DataProvider(name = "aggregationStrategyDataProvider")
+    public Object[][] provideAggregationStrategies() {
+
+        return new Object[][]{
+                {firstFoundAggregationStrategy},
+                {mergeAllAggregationStrategy}
+        };
+    }
+
+    /**
+     * Tests that the first found strategy returns the resource of the nearest organization while retrieving the
+     * resources of the whole hierarchy in a single batch, ordered from the bottom of the hierarchy.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testFirstFoundAggregateInBatchReturnsNearestResource() throws Exception {
+
+        Map<String, MockResource> resources = createResources(Arrays.asList(L1_ORG_ID, ROOT_ORG_ID));
+
+        MockResource resource = firstFoundAggregationStrategy.aggregateInBatch(ORGANIZATION_HIERARCHY,
+                batchRetriever(resources));
+
+        assertEquals(resource.getOrgId(), L1_ORG_ID);
+        assertEquals(requestedOrgIdBatches, Collections.singletonList(ORGANIZATION_HIERARCHY));
+    }
+
+    /**
+     * Tests that the merge all strategy merges the resources from the bottom of the hierarchy upwards and skips the
+     * organizations without a resource.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testMergeAllAggregateInBatchMergesFromBottomUp() throws Exception {
+
+        Map<String, MockResource> resources = createResources(Arrays.asList(L2_ORG_ID, ROOT_ORG_ID));
+
+        MockResource resource = mergeAllAggregationStrategy.aggregateInBatch(ORGANIZATION_HIERARCHY,
+                batchRetriever(resources));
+
+        assertEquals(resource.getResourceName(), L2_ORG_ID + "," + ROOT_ORG_ID);
+        assertEquals(requestedOrgIdBatches, Collections.singletonList(ORGANIZATION_HIERARCHY));
+    }
+
+    /**
+     * Tests that the batch aggregation resolves the same resource as the level by level aggregation.
+     *
+     * @param aggregationStrategy Aggregation strategy.
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test(dataProvider = "aggregationStrategyDataProvider")
+    public void testAggregateInBatchMatchesAggregate(AggregationStrategy<MockResource> aggregationStrategy)
+            throws Exception {
+
+        Map<String, MockResource> resources = createResources(ORGANIZATION_HIERARCHY);
+
+        MockResource batchResource = aggregationStrategy.aggregateInBatch(ORGANIZATION_HIERARCHY,
+                batchRetriever(resources));
+        MockResource resource = aggregationStrategy.aggregate(ORGANIZATION_HIERARCHY,
+                orgId -> Optional.ofNullable(resources.get(orgId)));
+
+        assertEquals(batchResource.getResourceName(), resource.getResourceName());
+    }
+
+    /**
+     * Tests that the organizations beyond the minimum hierarchy depth are neither requested nor aggregated.
+     *
+     * @param aggregationStrategy Aggregation strategy.
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test(dataProvider = "aggregationStrategyDataProvider")
+    public void testAggregateInBatchStopsAtMinHierarchyDepth(AggregationStrategy<MockResource> aggregationStrategy)
+            throws Exception {
+
+        when(organizationManager.getOrganizationDepthInHierarchy(ROOT_ORG_ID)).thenReturn(-1);
+        Map<String, MockResource> resources = createResources(Collections.singletonList(ROOT_ORG_ID));
+
+        MockResource resource = aggregationStrategy.aggregateInBatch(ORGANIZATION_HIERARCHY,
+                batchRetriever(resources));
+
+        assertNull(resource);
+        assertEquals(requestedOrgIdBatches, Collections.singletonList(Arrays.asList(L2_ORG_ID, L1_ORG_ID)));
+    }
+
+    /**
+     * Tests that a hierarchy with a single organization is aggregated regardless of the minimum hierarchy depth.
+     *
+     * @param aggregationStrategy Aggregation strategy.
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test(dataProvider = "aggregationStrategyDataProvider")
+    public void testAggregateInBatchWithSingleOrganization(AggregationStrategy<MockResource> aggregationStrategy)
+            throws Exception {
+
+        when(organizationManager.getOrganizationDepthInHierarchy(ROOT_ORG_ID)).thenReturn(-1);
+        Map<String, MockResource> resources = createResources(Collections.singletonList(ROOT_ORG_ID));
+
+        MockResource resource = aggregationStrategy.aggregateInBatch(Collections.singletonList(ROOT_ORG_ID),
+                batchRetriever(resources));
+
+        assertEquals(resource.getOrgId(), ROOT_ORG_ID);
+    }
+
+    /**
+     * Tests that the batch retriever is not invoked for an empty hierarchy and that an empty batch result
+     * resolves to no resource.
+     *
+     * @param aggregationStrategy Aggregation strategy.
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test(dataProvider = "aggregationStrategyDataProvider")
+    public void testAggregateInBatchWithoutResources(AggregationStrategy<MockResource> aggregationStrategy)
+            throws Exception {
+
+        assertNull(aggregationStrategy.aggregateInBatch(Collections.emptyList(),
+                batchRetriever(Collections.emptyMap())));
+        assertTrue(requestedOrgIdBatches.isEmpty());
+
+        assertNull(aggregationStrategy.aggregateInBatch(ORGANIZATION_HIERARCHY, orgIds -> null));
+        assertNull(aggregationStrategy.aggregateInBatch(ORGANIZATION_HIERARCHY,
+                batchRetriever(Collections.emptyMap())));
+    }
+
+    /**
+     * Tests that a failure of a concurrently invoked resource retriever is surfaced as a server exception of the
+     * traverse service.
+     *
+     * @param aggregationStrategy Aggregation strategy retrieving the resources concurrently.
+     */
+    @Test(dataProvider = "concurrentAggregationStrategyDataProvider")
+    public void testConcurrentAggregationWrapsRetrieverFailure(AggregationStrategy<MockResource> aggregationStrategy) {
+
+        OrgResourceHierarchyTraverseServerException exception = expectThrows(
+                OrgResourceHierarchyTraverseServerException.class,
+                () -> aggregationStrategy.aggregate(ORGANIZATION_HIERARCHY, orgId -> {
+                    throw new IllegalStateException("Resource retrieval failed for: " + orgId);
+                }));
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+
+    @DataProvider(name = "concurrentAggregationStrategyDataProvider")
+    public Object[][] provideConcurrentAggregationStrategies() {
+
+        return new Object[][]{
+                {new FirstFoundAggregationStrategy<MockResource>(3)},
+                {new MergeAllAggregationStrategy<>(this::resourceMerger, true)}
+        };
+    }
+
+    /**
+     * Create a resource for each of the given organizations, named after the organization.
+     *
+     * @param orgIds Organization IDs.
+     * @return Resources mapped by organization ID.
+     */
+    private Map<String, MockResource> createResources(List<String> orgIds) {
+
+        Map<String, MockResource> resources = new HashMap<>();
+        int resourceId = 1;
+        for (String orgId : orgIds) {
+            resources.put(orgId, new MockResource(resourceId++, orgId, orgId));
+        }
+        return resources;
+    }
+
+    /**
+     * Create a batch resource retriever which records the requested organization IDs.
+     *
+     * @param resources Resources mapped by organization ID.
+     * @return Batch resource retriever.
+     */
+    private Function<List<String>, Map<String, MockResource>> batchRetriever(Map<String, MockResource> resources) {
+
+        return orgIds -> {
+            requestedOrgIdBatches.add(new ArrayList<>(orgIds));
+            Map<String, MockResource> requestedResources = new HashMap<>();
+            for (String orgId : orgIds) {
+                if (resources.containsKey(orgId)) {
+                    requestedResources.put(orgId, resources.get(orgId));
+                }
+            }
+            return requestedResources;
+        };
+    }
+
+    /**
+     * Merge the resources by appending the name of the new resource to the aggregated resource.
+     *
+     * @param aggregatedResource Aggregated resource.
+     * @param newResource        New resource.
+     * @return Merged resource.
+     */
+    private MockResource resourceMerger(MockResource aggregatedResource, MockResource newResource) {
+
+        return new MockResource(aggregatedResource.getId(),
+                aggregatedResource.getResourceName() + "," + newResource.getResourceName(),
+                aggregatedResource.getOrgId());
+    }
+}